@@ -0,0 +1,112 @@
+package com.itau.case_tecnico.carga;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Parâmetros do teste de carga: {@code carga.properties} do classpath, sobrescrito por
+ * propriedades de sistema com o mesmo nome (por exemplo {@code -Dcarga.threads=8,32}).
+ */
+final class ConfiguracaoCarga {
+    private final Properties propriedades;
+
+    private ConfiguracaoCarga(Properties propriedades) {
+        this.propriedades = propriedades;
+    }
+
+    static ConfiguracaoCarga carregar() {
+        Properties propriedades = new Properties();
+        try (InputStream entrada = ConfiguracaoCarga.class.getResourceAsStream("/carga.properties")) {
+            if (entrada != null) {
+                propriedades.load(entrada);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+            .filter(chave -> chave.startsWith("carga."))
+            .forEach(chave -> propriedades.setProperty(chave, System.getProperty(chave)));
+        return new ConfiguracaoCarga(propriedades);
+    }
+
+    int colaboradores() {
+        return Integer.parseInt(obrigatorio("carga.colaboradores"));
+    }
+
+    List<Integer> threads() {
+        return Arrays.stream(obrigatorio("carga.threads").split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .toList();
+    }
+
+    Duration aquecimento() {
+        return DurationStyle.detectAndParse(obrigatorio("carga.aquecimento"));
+    }
+
+    Duration duracao() {
+        return DurationStyle.detectAndParse(obrigatorio("carga.duracao"));
+    }
+
+    Duration latenciaBanco() {
+        return DurationStyle.detectAndParse(obrigatorio("carga.latencia-banco"));
+    }
+
+    int disputaColaboradores() {
+        return Integer.parseInt(valor("carga.disputa.colaboradores", "0"));
+    }
+
+    int disputaRequisicoes() {
+        return Integer.parseInt(obrigatorio("carga.disputa.requisicoes"));
+    }
+
+    Path saida() {
+        return Path.of(obrigatorio("carga.saida"));
+    }
+
+    int peso(Operacao operacao) {
+        return Integer.parseInt(valor("carga.peso." + operacao.getChave(), "0"));
+    }
+
+    double sloP50Ms(Operacao operacao) {
+        return slo(operacao, "p50-ms");
+    }
+
+    double sloP99Ms(Operacao operacao) {
+        return slo(operacao, "p99-ms");
+    }
+
+    double erroMaximo() {
+        return Double.parseDouble(obrigatorio("carga.slo.erro-maximo"));
+    }
+
+    private double slo(Operacao operacao, String percentil) {
+        String padrao = valor("carga.slo.padrao." + percentil, null);
+        String valor = valor("carga.slo." + operacao.getChave() + "." + percentil, padrao);
+        if (valor == null) {
+            throw new IllegalStateException("SLO não configurado: carga.slo.padrao." + percentil);
+        }
+        return Double.parseDouble(valor);
+    }
+
+    private String obrigatorio(String chave) {
+        String valor = valor(chave, null);
+        if (valor == null) {
+            throw new IllegalStateException("Propriedade de carga não configurada: " + chave);
+        }
+        return valor;
+    }
+
+    private String valor(String chave, String padrao) {
+        String valor = propriedades.getProperty(chave);
+        return valor == null || valor.isBlank() ? padrao : valor.trim();
+    }
+}
@@ -0,0 +1,126 @@
+package com.itau.case_tecnico.carga;
+
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Teste de estresse dos limites por colaborador: para cada colaborador novo dispara, ao mesmo tempo,
+ * mais POSTs de desafio e de avaliação do que os limites permitem (as avaliações repetem os 4 tipos)
+ * e confere que exatamente 4 de cada foram aceitos, nas respostas, nas tabelas e na nota_final.
+ * Com verificação seguida de gravação, requisições simultâneas passariam todas pela contagem.
+ */
+final class DisputaDeLimites {
+    private static final int MAXIMO_DESAFIOS = Desafio.MAXIMO_POR_COLABORADOR;
+    private static final int MAXIMO_AVALIACOES = TipoAvaliacao.values().length;
+
+    private final URI base;
+    private final HttpClient cliente = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final List<String> violacoes = new ArrayList<>();
+
+    DisputaDeLimites(URI base) {
+        this.base = base;
+    }
+
+    List<String> executar(ConfigurableApplicationContext contexto, int colaboradores, int requisicoes) throws InterruptedException {
+        List<Colaborador> novos = new ArrayList<>(colaboradores);
+        for (int i = 0; i < colaboradores; i++) {
+            novos.add(new Colaborador("DISPUTA" + i, "Disputa " + i, LocalDate.parse("2020-01-01"), MassaDeDados.CARGO));
+        }
+        List<Long> ids = contexto.getBean(ColaboradorRepositoryPort.class).salvarTodos(novos).stream()
+            .map(Colaborador::getId)
+            .toList();
+
+        Map<Long, AtomicInteger> desafiosAceitos = new ConcurrentHashMap<>();
+        Map<Long, AtomicInteger> avaliacoesAceitas = new ConcurrentHashMap<>();
+        List<Thread> clientes = new ArrayList<>();
+        CountDownLatch largada = new CountDownLatch(1);
+        for (Long id : ids) {
+            for (int r = 0; r < requisicoes; r++) {
+                HttpRequest desafio = Operacao.post(base, "/api/desafios", String.format(
+                    "{\"colaborador_id\":%d,\"descricao\":\"Disputa %d\",\"nota\":%d}", id, r, 1 + r % 5));
+                HttpRequest avaliacao = Operacao.post(base, "/api/avaliacoes-comportamentais", String.format(
+                    "{\"colaborador_id\":%d,\"tipo\":\"%s\",\"nota\":%d}", id, MassaDeDados.tipoDaVaga(r), 1 + r % 5));
+                clientes.add(Thread.ofVirtual().start(() -> enviar(largada, desafio, id, desafiosAceitos)));
+                clientes.add(Thread.ofVirtual().start(() -> enviar(largada, avaliacao, id, avaliacoesAceitas)));
+            }
+        }
+        largada.countDown();
+        for (Thread thread : clientes) {
+            thread.join();
+        }
+
+        Map<Long, ResumoNotas> resumos = contexto.getBean(NotaFinalRepositoryPort.class).buscarResumosPorColaboradorIds(ids).stream()
+            .collect(Collectors.toMap(ResumoNotas::getColaboradorId, Function.identity()));
+        DesafioRepositoryPort desafios = contexto.getBean(DesafioRepositoryPort.class);
+        AvaliacaoRepositoryPort avaliacoes = contexto.getBean(AvaliacaoRepositoryPort.class);
+        for (Long id : ids) {
+            List<AvaliacaoComportamental> gravadas = avaliacoes.buscarPorColaboradorId(id);
+            ResumoNotas resumo = resumos.get(id);
+            conferir(id, "desafios aceitos", desafiosAceitos.getOrDefault(id, new AtomicInteger()).get(), MAXIMO_DESAFIOS);
+            conferir(id, "desafios gravados", desafios.contarPorColaboradorId(id), MAXIMO_DESAFIOS);
+            conferir(id, "desafios na nota_final", resumo == null ? 0 : resumo.getQuantidadeDesafios(), MAXIMO_DESAFIOS);
+            conferir(id, "avaliações aceitas", avaliacoesAceitas.getOrDefault(id, new AtomicInteger()).get(), MAXIMO_AVALIACOES);
+            conferir(id, "avaliações gravadas", gravadas.size(), MAXIMO_AVALIACOES);
+            conferir(id, "tipos de avaliação distintos", gravadas.stream().map(AvaliacaoComportamental::getTipo).distinct().count(),
+                MAXIMO_AVALIACOES);
+            conferir(id, "avaliações na nota_final", resumo == null ? 0 : resumo.getQuantidadeAvaliacoes(), MAXIMO_AVALIACOES);
+        }
+        System.out.printf("Disputa de limites: %d colaboradores, %d POSTs simultâneos de desafio e de avaliação cada, %d violações%n",
+            ids.size(), requisicoes, violacoes.size());
+        return violacoes;
+    }
+
+    private void enviar(CountDownLatch largada, HttpRequest requisicao, Long colaboradorId, Map<Long, AtomicInteger> aceitos) {
+        try {
+            largada.await();
+            HttpResponse<String> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+            if (resposta.statusCode() == 201) {
+                aceitos.computeIfAbsent(colaboradorId, id -> new AtomicInteger()).incrementAndGet();
+            } else if (resposta.statusCode() != 400) {
+                registrar(String.format("colaborador %d: %s respondeu %d %s",
+                    colaboradorId, requisicao.uri().getPath(), resposta.statusCode(), resposta.body()));
+            }
+        } catch (IOException e) {
+            registrar(String.format("colaborador %d: %s falhou: %s", colaboradorId, requisicao.uri().getPath(), e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void conferir(Long colaboradorId, String descricao, long quantidade, int esperado) {
+        if (quantidade != esperado) {
+            registrar(String.format("colaborador %d: %d %s (esperado %d)", colaboradorId, quantidade, descricao, esperado));
+        }
+    }
+
+    private synchronized void registrar(String violacao) {
+        violacoes.add(violacao);
+    }
+}
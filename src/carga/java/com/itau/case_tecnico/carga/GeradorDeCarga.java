@@ -0,0 +1,112 @@
+package com.itau.case_tecnico.carga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Carga em laço fechado: cada cliente (uma thread virtual, para que milhares de clientes sejam
+ * baratos no gerador) envia uma requisição, espera a resposta e sorteia a próxima operação pelo
+ * peso configurado, sem tempo de pensamento. A vazão medida é, portanto, a que o servidor
+ * sustenta com aquele número de clientes simultâneos.
+ */
+final class GeradorDeCarga {
+    private static final Pattern COLABORADOR_ID = Pattern.compile("\"colaborador_id\"\\s*:\\s*(\\d+)");
+
+    private final URI base;
+    private final MassaDeDados massa;
+    private final HttpClient cliente;
+    private final Operacao[] operacoes;
+    private final int[] pesosAcumulados;
+
+    GeradorDeCarga(URI base, MassaDeDados massa, ConfiguracaoCarga configuracao) {
+        this.base = base;
+        this.massa = massa;
+        this.cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.operacoes = Arrays.stream(Operacao.values())
+            .filter(operacao -> configuracao.peso(operacao) > 0)
+            .toArray(Operacao[]::new);
+        if (operacoes.length == 0) {
+            throw new IllegalStateException("Nenhuma operação com carga.peso.<operação> maior que zero");
+        }
+        this.pesosAcumulados = new int[operacoes.length];
+        int acumulado = 0;
+        for (int i = 0; i < operacoes.length; i++) {
+            acumulado += configuracao.peso(operacoes[i]);
+            pesosAcumulados[i] = acumulado;
+        }
+    }
+
+    /**
+     * Roda {@code threads} clientes durante {@code duracao}. Com {@code relatorio} nulo as
+     * latências são descartadas (aquecimento do JIT, do pool de conexões e dos caches).
+     */
+    void executar(int threads, Duration duracao, RelatorioLatencia relatorio) throws InterruptedException {
+        long inicio = System.nanoTime();
+        long fim = inicio + duracao.toNanos();
+        List<Thread> clientes = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            clientes.add(Thread.ofVirtual().name("carga-" + i).start(() -> executarCliente(fim, relatorio)));
+        }
+        for (Thread cliente : clientes) {
+            cliente.join();
+        }
+        if (relatorio != null) {
+            relatorio.encerrar(Duration.ofNanos(System.nanoTime() - inicio));
+        }
+    }
+
+    private void executarCliente(long fim, RelatorioLatencia relatorio) {
+        while (System.nanoTime() < fim) {
+            Operacao operacao = sortear();
+            long inicio = System.nanoTime();
+            int status;
+            String corpo = null;
+            try {
+                HttpResponse<String> resposta = cliente.send(operacao.requisicao(base, massa),
+                    HttpResponse.BodyHandlers.ofString());
+                status = resposta.statusCode();
+                corpo = resposta.body();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (relatorio != null) {
+                relatorio.registrar(operacao, (System.nanoTime() - inicio) / 1000, status);
+            }
+            if (operacao == Operacao.COLABORADORES_CRIAR && status == 201) {
+                registrarColaboradorCriado(corpo);
+            }
+        }
+    }
+
+    private void registrarColaboradorCriado(String corpo) {
+        Matcher matcher = COLABORADOR_ID.matcher(corpo);
+        if (matcher.find()) {
+            massa.registrarColaboradorCriado(Long.valueOf(matcher.group(1)));
+        }
+    }
+
+    private Operacao sortear() {
+        int sorteio = ThreadLocalRandom.current().nextInt(pesosAcumulados[pesosAcumulados.length - 1]);
+        for (int i = 0; i < pesosAcumulados.length; i++) {
+            if (sorteio < pesosAcumulados[i]) {
+                return operacoes[i];
+            }
+        }
+        return operacoes[operacoes.length - 1];
+    }
+}
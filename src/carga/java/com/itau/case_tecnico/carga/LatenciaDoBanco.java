@@ -0,0 +1,69 @@
+package com.itau.case_tecnico.carga;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Simula a ida e volta de rede até o RDS sobre o H2 em memória: cada execução de comando e cada
+ * commit/rollback dorme {@code carga.latencia-banco} antes de chegar ao banco. Sem isso a requisição
+ * só gasta CPU e o teste não mostra o efeito de threads bloqueadas em JDBC.
+ */
+final class LatenciaDoBanco implements BeanPostProcessor {
+    private final Duration latencia;
+
+    LatenciaDoBanco(Duration latencia) {
+        this.latencia = latencia;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String nome) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return (Connection) envolver(Connection.class, super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String usuario, String senha) throws SQLException {
+                return (Connection) envolver(Connection.class, super.getConnection(usuario, senha));
+            }
+        };
+    }
+
+    private Object envolver(Class<?> tipo, Object alvo) {
+        InvocationHandler handler = (proxy, metodo, argumentos) -> {
+            if (idaAoBanco(metodo)) {
+                Thread.sleep(latencia);
+            }
+            Object retorno;
+            try {
+                retorno = metodo.invoke(alvo, argumentos);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (retorno != null && Statement.class.isAssignableFrom(metodo.getReturnType())) {
+                return envolver(metodo.getReturnType(), retorno);
+            }
+            return retorno;
+        };
+        return Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] {tipo}, handler);
+    }
+
+    private static boolean idaAoBanco(Method metodo) {
+        String nome = metodo.getName();
+        return nome.startsWith("execute") || nome.equals("commit") || nome.equals("rollback");
+    }
+}
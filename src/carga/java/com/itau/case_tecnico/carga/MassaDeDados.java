@@ -0,0 +1,114 @@
+package com.itau.case_tecnico.carga;
+
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Massa inicial gravada direto pelas portas antes da subida da carga.
+ * Metade dos colaboradores já tem 4 avaliações e 2 desafios (nota final válida, usados nas leituras);
+ * a outra metade começa vazia e recebe as escritas de desafios e avaliações, 4 vagas de cada por colaborador.
+ * Colaboradores criados durante a carga entram no fim da fila de vagas.
+ */
+final class MassaDeDados {
+    static final String CARGO = "Desenvolvedor";
+    static final List<TipoAvaliacao> TIPOS = List.of(TipoAvaliacao.values());
+    private static final int VAGAS_POR_COLABORADOR = 4;
+    private static final int TAMANHO_LOTE = 500;
+
+    private final List<Long> completos;
+    private final List<Long> comVagas;
+    private final AtomicLong proximaMatricula = new AtomicLong();
+    private final AtomicLong vagasDesafio = new AtomicLong();
+    private final AtomicLong vagasAvaliacao = new AtomicLong();
+
+    private MassaDeDados(List<Long> completos, List<Long> comVagas) {
+        this.completos = completos;
+        this.comVagas = Collections.synchronizedList(comVagas);
+    }
+
+    static MassaDeDados popular(ConfigurableApplicationContext contexto, int total) {
+        ColaboradorRepositoryPort colaboradores = contexto.getBean(ColaboradorRepositoryPort.class);
+        AvaliacaoRepositoryPort avaliacoes = contexto.getBean(AvaliacaoRepositoryPort.class);
+        DesafioRepositoryPort desafios = contexto.getBean(DesafioRepositoryPort.class);
+
+        List<Long> completos = new ArrayList<>();
+        List<Long> comVagas = new ArrayList<>();
+        for (int inicio = 0; inicio < total; inicio += TAMANHO_LOTE) {
+            List<Colaborador> lote = new ArrayList<>();
+            for (int i = inicio; i < Math.min(inicio + TAMANHO_LOTE, total); i++) {
+                lote.add(new Colaborador("SEED" + i, "Colaborador " + i, LocalDate.parse("2020-01-01"), CARGO));
+            }
+            List<AvaliacaoComportamental> novasAvaliacoes = new ArrayList<>();
+            List<Desafio> novosDesafios = new ArrayList<>();
+            for (Colaborador salvo : colaboradores.salvarTodos(lote)) {
+                if (completos.size() > comVagas.size()) {
+                    comVagas.add(salvo.getId());
+                    continue;
+                }
+                completos.add(salvo.getId());
+                for (int t = 0; t < TIPOS.size(); t++) {
+                    novasAvaliacoes.add(new AvaliacaoComportamental(salvo.getId(), TIPOS.get(t), 1 + t));
+                }
+                novosDesafios.add(new Desafio(salvo.getId(), "Desafio A", 4));
+                novosDesafios.add(new Desafio(salvo.getId(), "Desafio B", 5));
+            }
+            avaliacoes.salvarTodas(novasAvaliacoes);
+            desafios.salvarTodos(novosDesafios);
+        }
+        return new MassaDeDados(completos, comVagas);
+    }
+
+    int totalCompletos() {
+        return completos.size();
+    }
+
+    Long colaboradorCompleto() {
+        return completos.get(ThreadLocalRandom.current().nextInt(completos.size()));
+    }
+
+    List<Long> loteDeCompletos(int tamanho) {
+        int inicio = ThreadLocalRandom.current().nextInt(Math.max(1, completos.size() - tamanho));
+        return completos.subList(inicio, Math.min(inicio + tamanho, completos.size()));
+    }
+
+    String novaMatricula() {
+        return "CARGA" + proximaMatricula.incrementAndGet();
+    }
+
+    void registrarColaboradorCriado(Long id) {
+        comVagas.add(id);
+    }
+
+    // Quando as vagas acabam a escrita é repetida em um colaborador cheio e volta 400, contando como erro
+    Long colaboradorParaDesafio() {
+        return colaboradorDaVaga(vagasDesafio.getAndIncrement());
+    }
+
+    long proximaVagaAvaliacao() {
+        return vagasAvaliacao.getAndIncrement();
+    }
+
+    Long colaboradorDaVaga(long vaga) {
+        int indice = (int) (vaga / VAGAS_POR_COLABORADOR);
+        synchronized (comVagas) {
+            return comVagas.get(Math.min(indice, comVagas.size() - 1));
+        }
+    }
+
+    static String tipoDaVaga(long vaga) {
+        return TIPOS.get((int) (vaga % VAGAS_POR_COLABORADOR)).getDescricao();
+    }
+}
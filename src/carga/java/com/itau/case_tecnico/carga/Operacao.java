@@ -0,0 +1,127 @@
+package com.itau.case_tecnico.carga;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Operações do mix de carga, uma por endpoint. A chave é usada em {@code carga.properties}
+ * para o peso ({@code carga.peso.<chave>}) e para os SLOs ({@code carga.slo.<chave>.p99-ms}).
+ */
+enum Operacao {
+    COLABORADORES_CRIAR("colaboradores.criar", "POST /api/colaboradores") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            String matricula = massa.novaMatricula();
+            return post(base, "/api/colaboradores", String.format(
+                "{\"matricula\":\"%s\",\"nome\":\"Carga %s\",\"data_admissao\":\"2024-01-01\",\"cargo\":\"%s\"}",
+                matricula, matricula, MassaDeDados.CARGO));
+        }
+    },
+    COLABORADORES_BUSCAR("colaboradores.buscar", "GET /api/colaboradores/{id}") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            return get(base, "/api/colaboradores/" + massa.colaboradorCompleto());
+        }
+    },
+    COLABORADORES_LISTAR("colaboradores.listar", "GET /api/colaboradores") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            return get(base, "/api/colaboradores?limit=" + TAMANHO_PAGINA + "&after=" + cursor(massa));
+        }
+    },
+    COLABORADORES_NOTA_FINAL("colaboradores.nota-final", "GET /api/colaboradores/{id}/nota-final") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            return get(base, "/api/colaboradores/" + massa.colaboradorCompleto() + "/nota-final");
+        }
+    },
+    COLABORADORES_NOTAS_FINAIS("colaboradores.notas-finais", "POST /api/colaboradores/notas-finais") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            String ids = massa.loteDeCompletos(TAMANHO_PAGINA).stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+            return post(base, "/api/colaboradores/notas-finais", "{\"colaborador_ids\":[" + ids + "]}");
+        }
+    },
+    DESAFIOS_CRIAR("desafios.criar", "POST /api/desafios") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            return post(base, "/api/desafios", String.format(
+                "{\"colaborador_id\":%d,\"descricao\":\"Desafio de carga\",\"nota\":%d}",
+                massa.colaboradorParaDesafio(), 1 + ThreadLocalRandom.current().nextInt(5)));
+        }
+    },
+    DESAFIOS_LISTAR("desafios.listar", "GET /api/desafios") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            return get(base, "/api/desafios?limit=" + TAMANHO_PAGINA);
+        }
+    },
+    DESAFIOS_POR_COLABORADOR("desafios.por-colaborador", "GET /api/desafios/colaboradores/{id}") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            return get(base, "/api/desafios/colaboradores/" + massa.colaboradorCompleto());
+        }
+    },
+    AVALIACOES_CRIAR("avaliacoes.criar", "POST /api/avaliacoes-comportamentais") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            long vaga = massa.proximaVagaAvaliacao();
+            return post(base, "/api/avaliacoes-comportamentais", String.format(
+                "{\"colaborador_id\":%d,\"tipo\":\"%s\",\"nota\":%d}",
+                massa.colaboradorDaVaga(vaga), MassaDeDados.tipoDaVaga(vaga),
+                1 + ThreadLocalRandom.current().nextInt(5)));
+        }
+    },
+    AVALIACOES_LISTAR("avaliacoes.listar", "GET /api/avaliacoes-comportamentais") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            return get(base, "/api/avaliacoes-comportamentais?limit=" + TAMANHO_PAGINA);
+        }
+    },
+    AVALIACOES_POR_COLABORADOR("avaliacoes.por-colaborador", "GET /api/avaliacoes-comportamentais/colaboradores/{id}") {
+        @Override
+        HttpRequest requisicao(URI base, MassaDeDados massa) {
+            return get(base, "/api/avaliacoes-comportamentais/colaboradores/" + massa.colaboradorCompleto());
+        }
+    };
+
+    private static final int TAMANHO_PAGINA = 50;
+
+    private final String chave;
+    private final String descricao;
+
+    Operacao(String chave, String descricao) {
+        this.chave = chave;
+        this.descricao = descricao;
+    }
+
+    abstract HttpRequest requisicao(URI base, MassaDeDados massa);
+
+    String getChave() {
+        return chave;
+    }
+
+    String getDescricao() {
+        return descricao;
+    }
+
+    // Cursor logo antes de um colaborador da massa, para que as páginas não se concentrem no início da tabela
+    private static long cursor(MassaDeDados massa) {
+        return massa.colaboradorCompleto() - 1;
+    }
+
+    private static HttpRequest get(URI base, String caminho) {
+        return HttpRequest.newBuilder(base.resolve(caminho)).GET().build();
+    }
+
+    static HttpRequest post(URI base, String caminho, String json) {
+        return HttpRequest.newBuilder(base.resolve(caminho))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.itau.case_tecnico.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências de um estágio de carga, em microssegundos, com um histograma HDR por operação.
+ * Respostas fora de 2xx e falhas de conexão entram no histograma e também na contagem de erros.
+ */
+final class RelatorioLatencia {
+    private static final long LATENCIA_MAXIMA_US = Duration.ofMinutes(1).toNanos() / 1000;
+    private static final int DIGITOS_SIGNIFICATIVOS = 3;
+    private static final double US_POR_MS = 1000.0;
+
+    private final int threads;
+    private final Map<Operacao, Histogram> histogramas = new EnumMap<>(Operacao.class);
+    private final Map<Operacao, LongAdder> erros = new EnumMap<>(Operacao.class);
+    private Duration duracao = Duration.ZERO;
+
+    RelatorioLatencia(int threads) {
+        this.threads = threads;
+        for (Operacao operacao : Operacao.values()) {
+            histogramas.put(operacao, new ConcurrentHistogram(LATENCIA_MAXIMA_US, DIGITOS_SIGNIFICATIVOS));
+            erros.put(operacao, new LongAdder());
+        }
+    }
+
+    void registrar(Operacao operacao, long latenciaUs, int status) {
+        histogramas.get(operacao).recordValue(Math.min(latenciaUs, LATENCIA_MAXIMA_US));
+        if (status < 200 || status >= 300) {
+            erros.get(operacao).increment();
+        }
+    }
+
+    void encerrar(Duration duracao) {
+        this.duracao = duracao;
+    }
+
+    int getThreads() {
+        return threads;
+    }
+
+    double vazaoTotal() {
+        long total = histogramas.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        return total / segundos();
+    }
+
+    /**
+     * Compara cada operação executada com os SLOs configurados e devolve as violações,
+     * uma mensagem por limite estourado. Lista vazia significa estágio aprovado.
+     */
+    List<String> violacoes(ConfiguracaoCarga configuracao) {
+        List<String> violacoes = new ArrayList<>();
+        histogramas.forEach((operacao, histograma) -> {
+            if (histograma.getTotalCount() > 0) {
+                violacoes.addAll(violacoes(operacao, histograma, configuracao));
+            }
+        });
+        return violacoes;
+    }
+
+    void imprimir(PrintStream saida, ConfiguracaoCarga configuracao) {
+        saida.printf(Locale.ROOT, "%n=== %d threads, %.1f s, %.1f req/s ===%n", threads, segundos(), vazaoTotal());
+        saida.printf(Locale.ROOT, "%-28s %8s %9s %9s %9s %9s %9s %9s %7s  %s%n",
+            "operacao", "total", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "erros", "SLO");
+        histogramas.forEach((operacao, histograma) -> {
+            long total = histograma.getTotalCount();
+            if (total == 0) {
+                return;
+            }
+            boolean aprovado = violacoes(operacao, histograma, configuracao).isEmpty();
+            saida.printf(Locale.ROOT, "%-28s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d  %s%n",
+                operacao.getChave(), total, total / segundos(),
+                percentilMs(histograma, 50), percentilMs(histograma, 90), percentilMs(histograma, 99),
+                percentilMs(histograma, 99.9), histograma.getMaxValue() / US_POR_MS,
+                erros.get(operacao).sum(), aprovado ? "OK" : "FALHOU");
+        });
+    }
+
+    /**
+     * Grava a distribuição completa de cada operação no formato texto do HdrHistogram
+     * ({@code .hgrm}, valores em ms), que pode ser aberto no HdrHistogram plotter para comparar execuções.
+     */
+    void salvar(Path diretorio) {
+        try {
+            Path destino = Files.createDirectories(diretorio.resolve(threads + "-threads"));
+            for (Map.Entry<Operacao, Histogram> entrada : histogramas.entrySet()) {
+                if (entrada.getValue().getTotalCount() == 0) {
+                    continue;
+                }
+                try (PrintStream arquivo = new PrintStream(
+                        Files.newOutputStream(destino.resolve(entrada.getKey().getChave() + ".hgrm")))) {
+                    entrada.getValue().outputPercentileDistribution(arquivo, US_POR_MS);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> violacoes(Operacao operacao, Histogram histograma, ConfiguracaoCarga configuracao) {
+        List<String> violacoes = new ArrayList<>();
+        double p50 = percentilMs(histograma, 50);
+        double p99 = percentilMs(histograma, 99);
+        double taxaErro = (double) erros.get(operacao).sum() / histograma.getTotalCount();
+        if (p50 > configuracao.sloP50Ms(operacao)) {
+            violacoes.add(String.format(Locale.ROOT, "%s com %d threads: p50 %.2f ms > %.2f ms",
+                operacao.getChave(), threads, p50, configuracao.sloP50Ms(operacao)));
+        }
+        if (p99 > configuracao.sloP99Ms(operacao)) {
+            violacoes.add(String.format(Locale.ROOT, "%s com %d threads: p99 %.2f ms > %.2f ms",
+                operacao.getChave(), threads, p99, configuracao.sloP99Ms(operacao)));
+        }
+        if (taxaErro > configuracao.erroMaximo()) {
+            violacoes.add(String.format(Locale.ROOT, "%s com %d threads: erros %.2f%% > %.2f%%",
+                operacao.getChave(), threads, taxaErro * 100, configuracao.erroMaximo() * 100));
+        }
+        return violacoes;
+    }
+
+    private double segundos() {
+        return Math.max(duracao.toMillis(), 1) / 1000.0;
+    }
+
+    private static double percentilMs(Histogram histograma, double percentil) {
+        return histograma.getValueAtPercentile(percentil) / US_POR_MS;
+    }
+}
@@ -0,0 +1,72 @@
+package com.itau.case_tecnico.carga;
+
+import com.itau.case_tecnico.CaseTecnicoApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Teste de carga de ponta a ponta: sobe a aplicação no perfil {@code carga} (H2 em memória no lugar
+ * do MySQL, porta aleatória), grava a massa configurada e executa um estágio de carga mista por
+ * número de threads, cada um precedido de aquecimento. Antes da carga, a {@link DisputaDeLimites}
+ * confere que POSTs simultâneos não ultrapassam os limites por colaborador. Imprime o relatório por
+ * endpoint, grava os histogramas em {@code carga.saida} e falha se algum SLO ou limite for violado.
+ *
+ * Execução: mvn -Pcarga verify (parâmetros em carga.properties, sobrescritos com -Dcarga.*)
+ */
+public final class TesteDeCarga {
+
+    private TesteDeCarga() {}
+
+    public static void main(String[] args) throws InterruptedException {
+        ConfiguracaoCarga configuracao = ConfiguracaoCarga.carregar();
+        List<RelatorioLatencia> relatorios = new ArrayList<>();
+        List<String> violacoes = new ArrayList<>();
+
+        SpringApplication aplicacao = new SpringApplication(CaseTecnicoApplication.class);
+        aplicacao.setAdditionalProfiles("carga");
+        if (!configuracao.latenciaBanco().isZero()) {
+            aplicacao.addInitializers(contexto -> contexto.getBeanFactory()
+                .addBeanPostProcessor(new LatenciaDoBanco(configuracao.latenciaBanco())));
+        }
+        try (ConfigurableApplicationContext contexto = aplicacao.run(args)) {
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            MassaDeDados massa = MassaDeDados.popular(contexto, configuracao.colaboradores());
+            System.out.printf("Massa gravada: %d colaboradores (%d completos), porta %d, perfis %s, latência do banco %s%n",
+                configuracao.colaboradores(), massa.totalCompletos(), porta,
+                String.join(",", contexto.getEnvironment().getActiveProfiles()), configuracao.latenciaBanco());
+
+            URI base = URI.create("http://localhost:" + porta);
+            if (configuracao.disputaColaboradores() > 0) {
+                violacoes.addAll(new DisputaDeLimites(base).executar(contexto,
+                    configuracao.disputaColaboradores(), configuracao.disputaRequisicoes()));
+            }
+
+            GeradorDeCarga gerador = new GeradorDeCarga(base, massa, configuracao);
+            for (int threads : configuracao.threads()) {
+                gerador.executar(threads, configuracao.aquecimento(), null);
+                RelatorioLatencia relatorio = new RelatorioLatencia(threads);
+                gerador.executar(threads, configuracao.duracao(), relatorio);
+                relatorio.imprimir(System.out, configuracao);
+                relatorio.salvar(configuracao.saida());
+                relatorios.add(relatorio);
+                violacoes.addAll(relatorio.violacoes(configuracao));
+            }
+        }
+
+        relatorios.stream().max(Comparator.comparingDouble(RelatorioLatencia::vazaoTotal)).ifPresent(melhor ->
+            System.out.printf(Locale.ROOT, "%nVazão máxima: %.1f req/s com %d threads; histogramas em %s%n",
+                melhor.vazaoTotal(), melhor.getThreads(), configuracao.saida().toAbsolutePath()));
+        if (!violacoes.isEmpty()) {
+            throw new IllegalStateException("SLOs ou limites violados:" + System.lineSeparator()
+                + String.join(System.lineSeparator(), violacoes));
+        }
+        System.out.println("Todos os SLOs e limites atendidos");
+    }
+}
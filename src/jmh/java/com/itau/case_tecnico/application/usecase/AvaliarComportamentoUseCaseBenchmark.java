@@ -0,0 +1,66 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.benchmark.AmbienteH2;
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A massa do {@link AmbienteH2} já tem as 4 avaliações de cada colaborador, então a execução completa
+ * mede o caminho de rejeição (existência, campos e INSERT barrado pelo índice único de colaborador e tipo).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvaliarComportamentoUseCaseBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private AvaliarComportamentoUseCase useCase;
+    private AvaliacaoComportamental valida;
+    private AvaliacaoComportamental excedente;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = AmbienteH2.iniciar();
+        useCase = contexto.getBean(AvaliarComportamentoUseCase.class);
+        List<Long> ids = AmbienteH2.ids(contexto, 1);
+        valida = new AvaliacaoComportamental(ids.get(0), AmbienteH2.TIPOS.get(0), 5);
+        excedente = new AvaliacaoComportamental(ids.get(0), AmbienteH2.TIPOS.get(1), 5);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public AvaliacaoComportamental validarCampos() {
+        AvaliarComportamentoUseCase.validarCampos(valida);
+        return valida;
+    }
+
+    @Benchmark
+    public String rejeitarTipoInvalido() {
+        try {
+            return AvaliarComportamentoUseCase.converterTipo("Tipo inexistente").name();
+        } catch (ValidacaoException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String rejeitarQuintaAvaliacaoNoH2() {
+        try {
+            useCase.executar(excedente);
+            return null;
+        } catch (ValidacaoException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.benchmark.AmbienteH2;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalcularNotaFinalUseCaseBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private CalcularNotaFinalUseCase useCase;
+    private List<Long> ids;
+    private List<Long> lote;
+    private ResumoNotas resumo;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = AmbienteH2.iniciar();
+        useCase = contexto.getBean(CalcularNotaFinalUseCase.class);
+        ids = AmbienteH2.ids(contexto, AmbienteH2.TOTAL_COLABORADORES);
+        lote = ids.subList(0, 100);
+        resumo = new ResumoNotas(1L, 4, 14, 2, 2, 9);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public CalcularNotaFinalUseCase.NotaFinalDTO calcularEmMemoria() {
+        return useCase.calcular(resumo);
+    }
+
+    @Benchmark
+    public CalcularNotaFinalUseCase.NotaFinalDTO executarPorId() {
+        return useCase.executar(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    @Benchmark
+    public List<CalcularNotaFinalUseCase.ResultadoNotaFinal> executarLoteDeCemIds() {
+        return useCase.executarPorIds(lote);
+    }
+
+    @Benchmark
+    public List<CalcularNotaFinalUseCase.ResultadoNotaFinal> executarPorCargo() {
+        return useCase.executarPorCargo(AmbienteH2.CARGO);
+    }
+}
@@ -0,0 +1,62 @@
+package com.itau.case_tecnico.benchmark;
+
+import com.itau.case_tecnico.CaseTecnicoApplication;
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sobe a aplicação completa sobre H2 em memória (perfil {@code benchmark}) e popula uma massa
+ * de colaboradores que passam nas regras da nota final: 4 avaliações e 2 desafios cada.
+ */
+public final class AmbienteH2 {
+    public static final int TOTAL_COLABORADORES = 1000;
+    public static final String CARGO = "Desenvolvedor";
+    public static final List<TipoAvaliacao> TIPOS = List.of(TipoAvaliacao.values());
+
+    private AmbienteH2() {}
+
+    public static ConfigurableApplicationContext iniciar() {
+        SpringApplication aplicacao = new SpringApplication(CaseTecnicoApplication.class);
+        aplicacao.setAdditionalProfiles("benchmark");
+        ConfigurableApplicationContext contexto = aplicacao.run();
+        popular(contexto);
+        return contexto;
+    }
+
+    public static List<Long> ids(ConfigurableApplicationContext contexto, int quantidade) {
+        return contexto.getBean(ColaboradorRepositoryPort.class).listarPagina(0L, quantidade).stream()
+            .map(Colaborador::getId)
+            .toList();
+    }
+
+    private static void popular(ConfigurableApplicationContext contexto) {
+        List<Colaborador> colaboradores = new ArrayList<>(TOTAL_COLABORADORES);
+        for (int i = 0; i < TOTAL_COLABORADORES; i++) {
+            colaboradores.add(new Colaborador("BENCH" + i, "Colaborador " + i, LocalDate.parse("2020-01-01"), CARGO));
+        }
+        List<Colaborador> salvos = contexto.getBean(ColaboradorRepositoryPort.class).salvarTodos(colaboradores);
+
+        List<AvaliacaoComportamental> avaliacoes = new ArrayList<>();
+        List<Desafio> desafios = new ArrayList<>();
+        for (Colaborador colaborador : salvos) {
+            for (int t = 0; t < TIPOS.size(); t++) {
+                avaliacoes.add(new AvaliacaoComportamental(colaborador.getId(), TIPOS.get(t), 1 + (t % 5)));
+            }
+            desafios.add(new Desafio(colaborador.getId(), "Desafio A", 4));
+            desafios.add(new Desafio(colaborador.getId(), "Desafio B", 5));
+        }
+        contexto.getBean(AvaliacaoRepositoryPort.class).salvarTodas(avaliacoes);
+        contexto.getBean(DesafioRepositoryPort.class).salvarTodos(desafios);
+    }
+}
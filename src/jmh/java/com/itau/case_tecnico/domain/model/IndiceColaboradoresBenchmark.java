@@ -0,0 +1,87 @@
+package com.itau.case_tecnico.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca no índice em memória, sem Spring nem banco, com 100 mil colaboradores: prefixo curto (muitos
+ * resultados, corta no limite), prefixo longo com dois termos, só cargo e prefixo com 999 pendentes
+ * ainda fora do retrato (o pior caso antes da compactação).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndiceColaboradoresBenchmark {
+    private static final String[] NOMES = {"Ana", "André", "Beatriz", "Bruno", "Carla", "Carlos", "Daniela", "Diego",
+        "Eduarda", "Felipe", "Gabriela", "João", "José", "Júlia", "Luana", "Marcos", "Mariana", "Paulo", "Renata", "Tiago"};
+    private static final String[] SOBRENOMES = {"Silva", "Souza", "Oliveira", "Conceição", "Pereira", "Lima", "Araújo",
+        "Gonçalves", "Ribeiro", "Almeida", "Carvalho", "Gomes", "Martins", "Rocha", "Barbosa", "Cardoso"};
+    private static final String[] CARGOS = {"Desenvolvedor", "Analista", "Gerente", "Designer", "Arquiteto"};
+
+    @Param({"100000"})
+    public int colaboradores;
+
+    private IndiceColaboradores indice;
+    private IndiceColaboradores comPendentes;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        Random random = new Random(42);
+        List<Colaborador> todos = new ArrayList<>(colaboradores);
+        for (long id = 1; id <= colaboradores; id++) {
+            todos.add(colaborador(id, random));
+        }
+        indice = new IndiceColaboradores();
+        indice.recarregar(() -> todos);
+
+        comPendentes = new IndiceColaboradores();
+        comPendentes.recarregar(() -> todos);
+        List<Colaborador> novos = new ArrayList<>();
+        for (long id = colaboradores + 1; id < colaboradores + 1000; id++) {
+            novos.add(colaborador(id, random));
+        }
+        comPendentes.adicionar(novos);
+    }
+
+    private static Colaborador colaborador(long id, Random random) {
+        Colaborador colaborador = new Colaborador("MAT" + id,
+            NOMES[random.nextInt(NOMES.length)] + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " "
+                + SOBRENOMES[random.nextInt(SOBRENOMES.length)],
+            LocalDate.parse("2024-01-01"), CARGOS[random.nextInt(CARGOS.length)]);
+        colaborador.setId(id);
+        return colaborador;
+    }
+
+    @Benchmark
+    public List<Colaborador> prefixoCurto() {
+        return indice.buscar("ma", null, null, 100);
+    }
+
+    @Benchmark
+    public List<Colaborador> doisTermosComCargo() {
+        return indice.buscar("jose conc", "Analista", null, 100);
+    }
+
+    @Benchmark
+    public List<Colaborador> matricula() {
+        return indice.buscar("mat1234", null, null, 100);
+    }
+
+    @Benchmark
+    public List<Colaborador> soCargoAposCursor() {
+        return indice.buscar(null, "Gerente", 50_000L, 100);
+    }
+
+    @Benchmark
+    public List<Colaborador> prefixoComPendentes() {
+        return comPendentes.buscar("ma", null, (long) colaboradores - 50, 100);
+    }
+}
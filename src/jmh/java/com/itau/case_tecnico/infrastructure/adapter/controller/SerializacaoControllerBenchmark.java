@@ -0,0 +1,87 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.benchmark.AmbienteH2;
+import com.itau.case_tecnico.infrastructure.adapter.dto.NotaFinalResponse;
+import com.itau.case_tecnico.infrastructure.adapter.dto.NotasFinaisRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeamento para DTO e serialização JSON com o {@link ObjectMapper} configurado pela aplicação.
+ * Os métodos de controller chamam o endpoint direto (sem MockMvc/servlet) e serializam o corpo retornado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacaoControllerBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private ColaboradorController colaboradorController;
+    private DesafioController desafioController;
+    private ObjectMapper objectMapper;
+    private Long colaboradorId;
+    private NotasFinaisRequest notasFinaisRequest;
+    private List<NotaFinalResponse> notasFinais;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = AmbienteH2.iniciar();
+        colaboradorController = contexto.getBean(ColaboradorController.class);
+        desafioController = contexto.getBean(DesafioController.class);
+        objectMapper = contexto.getBean(ObjectMapper.class);
+
+        List<Long> ids = AmbienteH2.ids(contexto, 100);
+        colaboradorId = ids.get(0);
+        notasFinaisRequest = new NotasFinaisRequest();
+        notasFinaisRequest.setColaboradorIds(ids);
+
+        notasFinais = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            NotaFinalResponse response = new NotaFinalResponse();
+            response.setColaboradorId(id);
+            response.setNotaFinal(4.25);
+            response.setMediaComportamental(4.0);
+            response.setMediaDesafios(4.5);
+            notasFinais.add(response);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public byte[] serializarCemNotasFinais() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(notasFinais);
+    }
+
+    @Benchmark
+    public byte[] buscarColaborador() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(colaboradorController.buscarPorId(colaboradorId, null).getBody());
+    }
+
+    @Benchmark
+    public byte[] listarPaginaDeCemColaboradores() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(colaboradorController.listarTodos(0L, 100, null, null, null, null).getBody());
+    }
+
+    @Benchmark
+    public byte[] listarDesafiosDoColaborador() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(desafioController.listarPorColaborador(colaboradorId, null).getBody());
+    }
+
+    @Benchmark
+    public byte[] calcularCemNotasFinais() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(colaboradorController.calcularNotasFinais(notasFinaisRequest).getBody());
+    }
+}
@@ -0,0 +1,104 @@
+package com.itau.case_tecnico.infrastructure.adapter.log;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Custo de log de uma requisição com 4 threads disputando o appender, em um contexto Logback isolado
+ * gravando em arquivo temporário com flush a cada evento (como o console):
+ * {@code sincrono} e {@code assincrono} reproduzem os 3 INFO por requisição (controller, caso de uso,
+ * adaptador) com e sem AsyncAppender; {@code atual} é a configuração do logback-spring.xml, com o INFO do
+ * controller amostrado 1/100 e os demais em DEBUG.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LogAssincronoBenchmark {
+    private static final String PADRAO = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %t --- %-40.40logger{39} : %m%n";
+
+    @Param({"sincrono", "assincrono", "atual"})
+    public String modo;
+
+    private LoggerContext contexto;
+    private Path arquivo;
+    private Logger controller;
+    private Logger useCase;
+    private Logger adapter;
+    private final AtomicLong ids = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void iniciar() throws IOException {
+        arquivo = Files.createTempFile("log-benchmark", ".log");
+        contexto = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(contexto);
+        encoder.setPattern(PADRAO);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> destino = new FileAppender<>();
+        destino.setContext(contexto);
+        destino.setFile(arquivo.toString());
+        destino.setEncoder(encoder);
+        destino.start();
+
+        Appender<ILoggingEvent> appender = destino;
+        if (!modo.equals("sincrono")) {
+            AsyncAppender assincrono = new AsyncAppender();
+            assincrono.setContext(contexto);
+            assincrono.setQueueSize(8192);
+            assincrono.setNeverBlock(true);
+            assincrono.addAppender(destino);
+            assincrono.start();
+            appender = assincrono;
+        }
+        if (modo.equals("atual")) {
+            AmostragemTurboFilter amostragem = new AmostragemTurboFilter();
+            amostragem.setTaxa(100);
+            amostragem.start();
+            contexto.addTurboFilter(amostragem);
+        }
+
+        Logger raiz = contexto.getLogger(Logger.ROOT_LOGGER_NAME);
+        raiz.setLevel(ch.qos.logback.classic.Level.INFO);
+        raiz.addAppender(appender);
+        controller = contexto.getLogger("com.itau.case_tecnico.infrastructure.adapter.controller.ColaboradorController");
+        useCase = contexto.getLogger("com.itau.case_tecnico.application.usecase.BuscarPorIdUseCase");
+        adapter = contexto.getLogger("com.itau.case_tecnico.infrastructure.adapter.repository.SpringColaboradorRepositoryAdapter");
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws IOException {
+        contexto.stop();
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public void requisicao() {
+        long id = ids.incrementAndGet();
+        controller.info(AmostragemTurboFilter.POR_REQUISICAO, "Recebida requisição GET /api/colaboradores/{}", id);
+        if (modo.equals("atual")) {
+            useCase.debug("Buscando colaborador por ID: {}", id);
+            adapter.debug("Resultado da busca de colaborador ID {}: {}", id, "encontrado");
+        } else {
+            useCase.info("Buscando colaborador por ID: {}", id);
+            adapter.info("Resultado da busca de colaborador ID {}: {}", id, "encontrado");
+        }
+    }
+}
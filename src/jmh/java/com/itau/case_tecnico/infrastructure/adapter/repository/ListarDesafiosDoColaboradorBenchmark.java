@@ -0,0 +1,69 @@
+package com.itau.case_tecnico.infrastructure.adapter.repository;
+
+import com.itau.case_tecnico.benchmark.AmbienteH2;
+import com.itau.case_tecnico.domain.model.Desafio;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listagem dos desafios de um colaborador (a consulta de GET /api/desafios/colaboradores/{id}) com a
+ * tabela de desafios em tamanhos diferentes. O colaborador medido tem sempre os mesmos 2 desafios; o
+ * restante vai para os outros colaboradores, gravado direto por JDBC porque passa do máximo por
+ * colaborador. Com o índice (colaborador_id, desafio_id) o tempo não deve crescer com a tabela.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListarDesafiosDoColaboradorBenchmark {
+    private static final int LOTE = 1000;
+
+    // 2000 é a massa do AmbienteH2 (2 desafios por colaborador)
+    @Param({"2000", "20000", "200000"})
+    public int desafiosNaTabela;
+
+    private ConfigurableApplicationContext contexto;
+    private DesafioRepositoryAdapter desafios;
+    private Long colaboradorId;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = AmbienteH2.iniciar();
+        desafios = contexto.getBean(DesafioRepositoryAdapter.class);
+
+        List<Long> ids = AmbienteH2.ids(contexto, AmbienteH2.TOTAL_COLABORADORES);
+        colaboradorId = ids.get(0);
+        completarTabela(contexto.getBean(JdbcTemplate.class), ids.subList(1, ids.size()));
+    }
+
+    private void completarTabela(JdbcTemplate jdbc, List<Long> outros) {
+        long proximoId = jdbc.queryForObject("SELECT MAX(desafio_id) FROM desafio", Long.class) + 1;
+        int faltam = desafiosNaTabela - jdbc.queryForObject("SELECT COUNT(*) FROM desafio", Integer.class);
+        List<Object[]> lote = new ArrayList<>(LOTE);
+        for (int i = 0; i < faltam; i++) {
+            lote.add(new Object[]{proximoId++, outros.get(i % outros.size()), "Desafio extra " + i, 3});
+            if (lote.size() == LOTE || i == faltam - 1) {
+                jdbc.batchUpdate("INSERT INTO desafio (desafio_id, colaborador_id, descricao, nota) VALUES (?, ?, ?, ?)", lote);
+                lote.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Optional<List<Desafio>> listarPorColaborador() {
+        return desafios.listarPorColaborador(colaboradorId);
+    }
+}
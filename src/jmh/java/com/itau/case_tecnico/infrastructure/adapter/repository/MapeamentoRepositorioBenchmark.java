@@ -0,0 +1,105 @@
+package com.itau.case_tecnico.infrastructure.adapter.repository;
+
+import com.itau.case_tecnico.benchmark.AmbienteH2;
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.infrastructure.adapter.entity.AvaliacaoComportamentalEntity;
+import com.itau.case_tecnico.infrastructure.adapter.entity.ColaboradorEntity;
+import com.itau.case_tecnico.infrastructure.adapter.entity.DesafioEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões domínio/entidade dos adaptadores e as leituras que as usam. Os {@code toEntity} de
+ * desafio e avaliação incluem a referência ao colaborador obtida via {@code getReferenceById}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeamentoRepositorioBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private SpringColaboradorRepositoryAdapter colaboradores;
+    private DesafioRepositoryAdapter desafios;
+    private AvaliacaoRepositoryAdapter avaliacoes;
+
+    private Colaborador colaborador;
+    private ColaboradorEntity colaboradorEntity;
+    private Desafio desafio;
+    private DesafioEntity desafioEntity;
+    private AvaliacaoComportamental avaliacao;
+    private AvaliacaoComportamentalEntity avaliacaoEntity;
+    private Long colaboradorId;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = AmbienteH2.iniciar();
+        colaboradores = contexto.getBean(SpringColaboradorRepositoryAdapter.class);
+        desafios = contexto.getBean(DesafioRepositoryAdapter.class);
+        avaliacoes = contexto.getBean(AvaliacaoRepositoryAdapter.class);
+
+        colaboradorId = AmbienteH2.ids(contexto, 1).get(0);
+        colaborador = colaboradores.buscarPorId(colaboradorId).orElseThrow();
+        colaboradorEntity = colaboradores.toEntity(colaborador);
+        colaboradorEntity.setId(colaboradorId);
+        desafio = new Desafio(colaboradorId, "Desafio A", 4);
+        desafioEntity = desafios.toEntity(desafio);
+        desafioEntity.setColaborador(colaboradorEntity);
+        avaliacao = new AvaliacaoComportamental(colaboradorId, AmbienteH2.TIPOS.get(0), 5);
+        avaliacaoEntity = avaliacoes.toEntity(avaliacao);
+        avaliacaoEntity.setColaborador(colaboradorEntity);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public ColaboradorEntity colaboradorParaEntidade() {
+        return colaboradores.toEntity(colaborador);
+    }
+
+    @Benchmark
+    public Colaborador colaboradorParaDominio() {
+        return colaboradores.toDomain(colaboradorEntity);
+    }
+
+    @Benchmark
+    public DesafioEntity desafioParaEntidade() {
+        return desafios.toEntity(desafio);
+    }
+
+    @Benchmark
+    public Desafio desafioParaDominio() {
+        return desafios.toDomain(desafioEntity);
+    }
+
+    @Benchmark
+    public AvaliacaoComportamentalEntity avaliacaoParaEntidade() {
+        return avaliacoes.toEntity(avaliacao);
+    }
+
+    @Benchmark
+    public AvaliacaoComportamental avaliacaoParaDominio() {
+        return avaliacoes.toDomain(avaliacaoEntity);
+    }
+
+    @Benchmark
+    public Optional<Colaborador> buscarColaboradorNoH2() {
+        return colaboradores.buscarPorId(colaboradorId);
+    }
+
+    @Benchmark
+    public Optional<List<Desafio>> listarDesafiosDoColaboradorNoH2() {
+        return desafios.listarPorColaborador(colaboradorId);
+    }
+}
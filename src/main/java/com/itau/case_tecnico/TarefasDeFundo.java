@@ -0,0 +1,34 @@
+package com.itau.case_tecnico;
+
+import com.itau.case_tecnico.application.usecase.BuscarColaboradoresUseCase;
+import com.itau.case_tecnico.application.usecase.DistribuicaoNotasUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Trabalho que a aplicação faz sem ser chamada: os métodos {@code @Scheduled} e a carga dos modelos de
+ * leitura assim que ela sobe. Com {@code app.tarefas-de-fundo.habilitadas=false} (perfil de teste) nada
+ * disso roda; os modelos carregam na primeira consulta.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.tarefas-de-fundo.habilitadas", matchIfMissing = true)
+class TarefasDeFundo {
+    private final BuscarColaboradoresUseCase buscarColaboradoresUseCase;
+    private final DistribuicaoNotasUseCase distribuicaoNotasUseCase;
+
+    TarefasDeFundo(BuscarColaboradoresUseCase buscarColaboradoresUseCase,
+                   DistribuicaoNotasUseCase distribuicaoNotasUseCase) {
+        this.buscarColaboradoresUseCase = buscarColaboradoresUseCase;
+        this.distribuicaoNotasUseCase = distribuicaoNotasUseCase;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void carregarModelosDeLeitura() {
+        buscarColaboradoresUseCase.carregarNaInicializacao();
+        distribuicaoNotasUseCase.carregarNaInicializacao();
+    }
+}
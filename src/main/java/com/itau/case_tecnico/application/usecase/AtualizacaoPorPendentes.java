@@ -0,0 +1,109 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.NotasFinaisAlteradas;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Mantém um modelo de leitura em memória a partir da tabela nota_final. As escritas confirmadas só marcam
+ * o colaborador como pendente ({@link #marcar}); {@link #aplicarPendentes()} relê todos os pendentes numa
+ * única consulta e {@link #ressincronizar()} relê a tabela inteira, cobrindo escritas de outras instâncias.
+ * Carga, aplicação de pendentes e ressincronização são serializadas; {@code aplicar} devolve quantos
+ * registros tinham versão nova.
+ */
+class AtualizacaoPorPendentes<T> {
+    private static final Logger log = LoggerFactory.getLogger(AtualizacaoPorPendentes.class);
+
+    private final String nome;
+    private final Supplier<List<T>> listarTodos;
+    private final Function<List<Long>, List<T>> buscarPorIds;
+    private final ToIntFunction<List<T>> aplicar;
+    private final Set<Long> pendentes = ConcurrentHashMap.newKeySet();
+    private volatile boolean recarregarTodos;
+    // ativo: alterações passam a ser aplicadas; carregado: leituras não esperam mais pela carga
+    private volatile boolean ativo;
+    private volatile boolean carregado;
+
+    AtualizacaoPorPendentes(String nome, Supplier<List<T>> listarTodos,
+                            Function<List<Long>, List<T>> buscarPorIds, ToIntFunction<List<T>> aplicar) {
+        this.nome = nome;
+        this.listarTodos = listarTodos;
+        this.buscarPorIds = buscarPorIds;
+        this.aplicar = aplicar;
+    }
+
+    // Chamado depois do commit: só marca o pendente, sem consultar o banco na thread da requisição
+    void marcar(NotasFinaisAlteradas evento) {
+        if (evento.isTodas()) {
+            recarregarTodos = true;
+        } else {
+            pendentes.add(evento.getColaboradorId());
+        }
+    }
+
+    synchronized void aplicarPendentes() {
+        if (pendentes.isEmpty() && !recarregarTodos) {
+            return;
+        }
+        if (!ativo) {
+            // A primeira consulta carrega tudo, inclusive o que estava pendente
+            pendentes.clear();
+            recarregarTodos = false;
+            return;
+        }
+        if (recarregarTodos) {
+            recarregarTodos = false;
+            pendentes.clear();
+            aplicar.applyAsInt(listarTodos.get());
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pendentes);
+        pendentes.removeAll(ids);
+        log.debug("Atualizando {} para {} colaboradores alterados", nome, ids.size());
+        try {
+            aplicar.applyAsInt(buscarPorIds.apply(ids));
+        } catch (RuntimeException e) {
+            // Tenta de novo na próxima execução
+            pendentes.addAll(ids);
+            throw e;
+        }
+    }
+
+    synchronized void ressincronizar() {
+        if (!ativo) {
+            return;
+        }
+        log.debug("Ressincronizando {} com a tabela nota_final", nome);
+        aplicar.applyAsInt(listarTodos.get());
+    }
+
+    void garantirCarregado() {
+        if (!carregado) {
+            carregar();
+        }
+    }
+
+    private synchronized void carregar() {
+        if (carregado) {
+            return;
+        }
+        // Ativado antes da leitura: o que for confirmado durante a carga fica pendente e é aplicado depois
+        ativo = true;
+        try {
+            int aplicados = aplicar.applyAsInt(listarTodos.get());
+            log.info("Carga de {} concluída: {} colaboradores", nome, aplicados);
+        } catch (RuntimeException e) {
+            ativo = false;
+            throw e;
+        }
+        carregado = true;
+    }
+}
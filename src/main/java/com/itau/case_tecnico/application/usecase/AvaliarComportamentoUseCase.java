@@ -1,6 +1,7 @@
 package com.itau.case_tecnico.application.usecase;
 
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
 import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
 import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
 import org.slf4j.Logger;
@@ -8,7 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 public class AvaliarComportamentoUseCase {
@@ -16,12 +17,12 @@ public class AvaliarComportamentoUseCase {
     private final AvaliacaoRepositoryPort avaliacaoRepository;
     private final ColaboradorRepositoryPort colaboradorRepository;
 
-    private static final List<String> TIPOS_VALIDOS = Arrays.asList(
-        "Você promove um ambiente colaborativo?",
-        "Você se atualiza e aprende o tempo todo?",
-        "Você utiliza dados para tomar decisões?",
-        "Você trabalha com autonomia?"
-    );
+    private static final ValidacaoException TIPO_OBRIGATORIO =
+        new ValidacaoException(CodigoErro.CAMPO_OBRIGATORIO, "Tipo de avaliação é obrigatório");
+    private static final ValidacaoException TIPO_INVALIDO = new ValidacaoException(CodigoErro.TIPO_AVALIACAO_INVALIDO,
+        "Tipo de avaliação inválido. Tipos válidos: " + Arrays.stream(TipoAvaliacao.values())
+            .map(tipo -> tipo.getCodigo() + " - " + tipo.getDescricao())
+            .collect(Collectors.joining(", ")));
 
     public AvaliarComportamentoUseCase(AvaliacaoRepositoryPort avaliacaoRepository,
                                        ColaboradorRepositoryPort colaboradorRepository) {
@@ -30,56 +31,50 @@ public class AvaliarComportamentoUseCase {
     }
 
     public AvaliacaoComportamental executar(AvaliacaoComportamental avaliacao) {
-        log.info("Iniciando avaliação comportamental para colaborador ID: {}, tipo: {}", 
+        log.debug("Iniciando avaliação comportamental para colaborador ID: {}, tipo: {}", 
                  avaliacao.getColaboradorId(), avaliacao.getTipo());
         
         if (!colaboradorRepository.buscarPorId(avaliacao.getColaboradorId()).isPresent()) {
-            log.error("Colaborador não encontrado: ID {}", avaliacao.getColaboradorId());
-            throw new ValidacaoException("Colaborador não encontrado");
+            log.debug("Colaborador não encontrado: ID {}", avaliacao.getColaboradorId());
+            throw ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
         }
 
-        if (avaliacao.getTipo() == null || avaliacao.getTipo().isBlank()) {
-            log.error("Tentativa de criar avaliação sem tipo");
-            throw new ValidacaoException("Tipo de avaliação é obrigatório");
-        }
+        validarCampos(avaliacao);
 
-        if (!TIPOS_VALIDOS.contains(avaliacao.getTipo())) {
-            log.error("Tipo de avaliação inválido: {}", avaliacao.getTipo());
-            throw new ValidacaoException("Tipo de avaliação inválido. Tipos válidos: " + String.join(", ", TIPOS_VALIDOS));
-        }
+        // Tipo repetido é barrado pelo índice único (colaborador_id, tipo) no INSERT, sem ler as avaliações
+        // existentes; como são 4 tipos, o mesmo índice limita o colaborador a 4 avaliações
+        AvaliacaoComportamental avaliacaoSalva = avaliacaoRepository.salvar(avaliacao);
+        log.debug("Avaliação comportamental criada com sucesso: ID {}, Colaborador ID {}, Tipo: {}", 
+                 avaliacaoSalva.getId(), avaliacao.getColaboradorId(), avaliacao.getTipo());
+        return avaliacaoSalva;
+    }
 
-        validarNota(avaliacao.getNota());
-        
-        List<AvaliacaoComportamental> avaliacoesExistentes = 
-            avaliacaoRepository.buscarPorColaboradorId(avaliacao.getColaboradorId());
-        
-        log.debug("Colaborador ID {} possui {} avaliações comportamentais", 
-                  avaliacao.getColaboradorId(), avaliacoesExistentes.size());
-        
-        if (avaliacoesExistentes.size() >= 4) {
-            log.error("Colaborador ID {} já possui 4 avaliações comportamentais", avaliacao.getColaboradorId());
-            throw new ValidacaoException("Colaborador já possui 4 avaliações comportamentais");
+    /**
+     * Converte o tipo recebido na API: a pergunta completa (formato original), o código (1 a 4) ou o nome do tipo.
+     */
+    public static TipoAvaliacao converterTipo(String texto) {
+        if (texto == null || texto.isBlank()) {
+            throw TIPO_OBRIGATORIO;
         }
+        return TipoAvaliacao.deTexto(texto).orElseThrow(() -> {
+            log.debug("Tipo de avaliação inválido: {}", texto);
+            return TIPO_INVALIDO;
+        });
+    }
 
-        boolean tipoJaExiste = avaliacoesExistentes.stream()
-            .anyMatch(a -> a.getTipo().equals(avaliacao.getTipo()));
-        
-        if (tipoJaExiste) {
-            log.error("Colaborador ID {} já possui avaliação do tipo: {}", 
-                      avaliacao.getColaboradorId(), avaliacao.getTipo());
-            throw new ValidacaoException("Já existe avaliação do tipo: " + avaliacao.getTipo());
+    static void validarCampos(AvaliacaoComportamental avaliacao) {
+        if (avaliacao.getTipo() == null) {
+            log.debug("Tentativa de criar avaliação sem tipo");
+            throw TIPO_OBRIGATORIO;
         }
 
-        AvaliacaoComportamental avaliacaoSalva = avaliacaoRepository.salvar(avaliacao);
-        log.info("Avaliação comportamental criada com sucesso: ID {}, Colaborador ID {}, Tipo: {}", 
-                 avaliacaoSalva.getId(), avaliacao.getColaboradorId(), avaliacao.getTipo());
-        return avaliacaoSalva;
+        validarNota(avaliacao.getNota());
     }
 
-    private void validarNota(Integer nota) {
+    private static void validarNota(Integer nota) {
         if (nota == null || nota < 1 || nota > 5) {
-            log.error("Nota inválida: {}", nota);
-            throw new ValidacaoException("Nota deve estar entre 1 e 5");
+            log.debug("Nota inválida: {}", nota);
+            throw ValidacaoException.NOTA_INVALIDA;
         }
     }
 }
@@ -9,6 +9,10 @@ import org.springframework.stereotype.Service;
 @Service
 public class AvaliarDesafioUseCase {
     private static final Logger log = LoggerFactory.getLogger(AvaliarDesafioUseCase.class);
+    private static final ValidacaoException NOTA_INVALIDA =
+        new ValidacaoException(CodigoErro.NOTA_INVALIDA, "Nota do desafio deve estar entre 1 e 5");
+    private static final ValidacaoException DESAFIO_NAO_ENCONTRADO =
+        new ValidacaoException(CodigoErro.DESAFIO_NAO_ENCONTRADO, "Desafio não encontrado");
     private final DesafioRepositoryPort desafioRepository;
 
     public AvaliarDesafioUseCase(DesafioRepositoryPort desafioRepository) {
@@ -16,25 +20,20 @@ public class AvaliarDesafioUseCase {
     }
 
     public Desafio executar(Long desafioId, Integer nota) {
-        log.info("Iniciando avaliação do desafio ID: {} com nota: {}", desafioId, nota);
+        log.debug("Iniciando avaliação do desafio ID: {} com nota: {}", desafioId, nota);
         
         if (nota == null || nota < 1 || nota > 5) {
-            log.error("Nota inválida para desafio ID {}: {}", desafioId, nota);
-            throw new ValidacaoException("Nota do desafio deve estar entre 1 e 5");
+            log.debug("Nota inválida para desafio ID {}: {}", desafioId, nota);
+            throw NOTA_INVALIDA;
         }
 
-        Desafio desafio = desafioRepository.buscarPorColaboradorId(desafioId)
-            .stream()
-            .filter(d -> d.getId().equals(desafioId))
-            .findFirst()
+        // Atualiza só a nota pela chave primária, sem carregar a descrição nem o colaborador
+        Desafio desafioAtualizado = desafioRepository.atualizarNota(desafioId, nota)
             .orElseThrow(() -> {
-                log.error("Desafio não encontrado: ID {}", desafioId);
-                return new ValidacaoException("Desafio não encontrado");
+                log.debug("Desafio não encontrado: ID {}", desafioId);
+                return DESAFIO_NAO_ENCONTRADO;
             });
-
-        desafio.setNota(nota);
-        Desafio desafioAtualizado = desafioRepository.salvar(desafio);
-        log.info("Desafio ID {} avaliado com sucesso. Nota: {}", desafioId, nota);
+        log.debug("Desafio ID {} avaliado com sucesso. Nota: {}", desafioId, nota);
         return desafioAtualizado;
     }
 }
@@ -0,0 +1,112 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.ColaboradoresSalvos;
+import com.itau.case_tecnico.domain.model.IndiceColaboradores;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Busca de colaboradores por prefixo de nome ou matrícula e por cargo, servida do {@link IndiceColaboradores}.
+ * O índice é carregado na inicialização (ou na primeira busca, se a carga inicial falhar). Colaboradores
+ * gravados entram no índice assim que a transação é confirmada; a compactação periódica os incorpora ao
+ * retrato e a ressincronização relê a tabela para incluir gravações de outras instâncias.
+ */
+@Service
+public class BuscarColaboradoresUseCase {
+    private static final Logger log = LoggerFactory.getLogger(BuscarColaboradoresUseCase.class);
+    // Acima disso a conferência dos pendentes em cada busca passa a pesar mais que refazer o retrato
+    static final int MAXIMO_PENDENTES = 1000;
+    private static final ValidacaoException TERMO_OU_CARGO =
+        new ValidacaoException(CodigoErro.BUSCA_INVALIDA, "Informe o termo da busca (q) ou o cargo");
+    private static final ValidacaoException LIMITE_INVALIDO =
+        new ValidacaoException(CodigoErro.PAGINACAO_INVALIDA, "Limite deve estar entre 1 e " + ListarTodosUseCase.LIMITE_MAXIMO);
+
+    private final ColaboradorRepositoryPort colaboradorRepository;
+    private final IndiceColaboradores indice = new IndiceColaboradores();
+    private volatile boolean carregado;
+
+    public BuscarColaboradoresUseCase(ColaboradorRepositoryPort colaboradorRepository) {
+        this.colaboradorRepository = colaboradorRepository;
+    }
+
+    public List<Colaborador> buscar(String texto, String cargo, Long aposId, Integer limite) {
+        if (IndiceColaboradores.normalizar(texto).isEmpty() && IndiceColaboradores.normalizar(cargo).isEmpty()) {
+            throw TERMO_OU_CARGO;
+        }
+        int limiteValidado = validarLimite(limite);
+        log.debug("Buscando colaboradores (q: {}, cargo: {}, após ID: {}, limite: {})", texto, cargo, aposId, limiteValidado);
+        if (!carregado) {
+            carregar();
+        }
+        List<Colaborador> colaboradores = indice.buscar(texto, cargo, aposId, limiteValidado);
+        log.debug("Busca retornou {} colaboradores", colaboradores.size());
+        return colaboradores;
+    }
+
+    // Chamado por TarefasDeFundo quando a aplicação sobe
+    public void carregarNaInicializacao() {
+        try {
+            carregar();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao carregar o índice de busca de colaboradores na inicialização; nova tentativa na primeira busca", e);
+        }
+    }
+
+    // Depois do commit: um colaborador de uma transação desfeita nunca aparece na busca
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoSalvarColaboradores(ColaboradoresSalvos evento) {
+        indice.adicionar(evento.getColaboradores());
+    }
+
+    @Scheduled(fixedDelayString = "${app.busca.compactacao:PT1S}")
+    public void compactar() {
+        if (!carregado || indice.getPendentes() < MAXIMO_PENDENTES) {
+            return;
+        }
+        log.debug("Compactando índice de busca com {} colaboradores pendentes", indice.getPendentes());
+        indice.compactar();
+    }
+
+    @Scheduled(fixedDelayString = "${app.busca.ressincronizacao:PT5M}", initialDelayString = "${app.busca.ressincronizacao:PT5M}")
+    public void ressincronizar() {
+        if (!carregado) {
+            return;
+        }
+        log.debug("Ressincronizando índice de busca com a tabela colaborador");
+        indice.recarregar(this::lerTodos);
+    }
+
+    private synchronized void carregar() {
+        if (carregado) {
+            return;
+        }
+        indice.recarregar(this::lerTodos);
+        carregado = true;
+        log.info("Índice de busca de colaboradores carregado: {} colaboradores", indice.getTamanho());
+    }
+
+    private List<Colaborador> lerTodos() {
+        List<Colaborador> colaboradores = new ArrayList<>();
+        colaboradorRepository.percorrerTodos(colaboradores::add);
+        return colaboradores;
+    }
+
+    private int validarLimite(Integer limite) {
+        if (limite == null) {
+            return ListarTodosUseCase.LIMITE_PADRAO;
+        }
+        if (limite < 1 || limite > ListarTodosUseCase.LIMITE_MAXIMO) {
+            log.debug("Limite da busca inválido: {}", limite);
+            throw LIMITE_INVALIDO;
+        }
+        return limite;
+    }
+}
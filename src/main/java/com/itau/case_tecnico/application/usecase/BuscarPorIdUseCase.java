@@ -6,6 +6,7 @@ import com.itau.case_tecnico.domain.model.Desafio;
 import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
 import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
 import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -18,33 +19,43 @@ public class BuscarPorIdUseCase {
     private final ColaboradorRepositoryPort colaboradorRepository;
     private final AvaliacaoRepositoryPort avaliacaoRepository;
     private final DesafioRepositoryPort desafioRepository;
+    private final NotaFinalRepositoryPort notaFinalRepository;
 
     public BuscarPorIdUseCase(ColaboradorRepositoryPort colaboradorRepository,
                               AvaliacaoRepositoryPort avaliacaoRepository,
-                              DesafioRepositoryPort desafioRepository) {
+                              DesafioRepositoryPort desafioRepository,
+                              NotaFinalRepositoryPort notaFinalRepository) {
         this.colaboradorRepository = colaboradorRepository;
         this.avaliacaoRepository = avaliacaoRepository;
         this.desafioRepository = desafioRepository;
+        this.notaFinalRepository = notaFinalRepository;
     }
 
     public Optional<Colaborador> buscarColaborador(Long id) {
-        log.info("Buscando colaborador por ID: {}", id);
+        log.debug("Buscando colaborador por ID: {}", id);
         Optional<Colaborador> colaborador = colaboradorRepository.buscarPorId(id);
         log.debug("Colaborador ID {}: {}", id, colaborador.isPresent() ? "encontrado" : "não encontrado");
         return colaborador;
     }
 
     public Optional<AvaliacaoComportamental> buscarAvaliacao(Long id) {
-        log.info("Buscando avaliação por ID: {}", id);
+        log.debug("Buscando avaliação por ID: {}", id);
         Optional<AvaliacaoComportamental> avaliacao = avaliacaoRepository.buscarPorId(id);
         log.debug("Avaliação ID {}: {}", id, avaliacao.isPresent() ? "encontrada" : "não encontrada");
         return avaliacao;
     }
 
     public Optional<Desafio> buscarDesafio(Long id) {
-        log.info("Buscando desafio por ID: {}", id);
+        log.debug("Buscando desafio por ID: {}", id);
         Optional<Desafio> desafio = desafioRepository.buscarPorId(id);
         log.debug("Desafio ID {}: {}", id, desafio.isPresent() ? "encontrado" : "não encontrado");
         return desafio;
     }
+
+    // Uma leitura pela chave primária da nota_final, sem consultar as tabelas de detalhe
+    public Optional<Long> buscarVersaoDoColaborador(Long colaboradorId) {
+        Optional<Long> versao = notaFinalRepository.buscarVersao(colaboradorId);
+        log.debug("Versão dos dados do colaborador ID {}: {}", colaboradorId, versao.orElse(null));
+        return versao;
+    }
 }
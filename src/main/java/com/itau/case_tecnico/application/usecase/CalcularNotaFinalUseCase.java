@@ -1,68 +1,122 @@
 package com.itau.case_tecnico.application.usecase;
 
-import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
-import com.itau.case_tecnico.domain.model.Desafio;
-import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
-import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
-import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class CalcularNotaFinalUseCase {
     private static final Logger log = LoggerFactory.getLogger(CalcularNotaFinalUseCase.class);
-    private final ColaboradorRepositoryPort colaboradorRepository;
-    private final AvaliacaoRepositoryPort avaliacaoRepository;
-    private final DesafioRepositoryPort desafioRepository;
-
-    public CalcularNotaFinalUseCase(ColaboradorRepositoryPort colaboradorRepository,
-                                    AvaliacaoRepositoryPort avaliacaoRepository,
-                                    DesafioRepositoryPort desafioRepository) {
-        this.colaboradorRepository = colaboradorRepository;
-        this.avaliacaoRepository = avaliacaoRepository;
-        this.desafioRepository = desafioRepository;
+    public static final int MAXIMO_IDS_POR_LOTE = 1000;
+    private static final ValidacaoException IDS_OBRIGATORIOS =
+        new ValidacaoException(CodigoErro.LOTE_INVALIDO, "Informe ao menos um colaborador_id");
+    private static final ValidacaoException IDS_NULOS =
+        new ValidacaoException(CodigoErro.LOTE_INVALIDO, "colaborador_ids não pode conter valores nulos");
+    private static final ValidacaoException LOTE_EXCEDIDO =
+        new ValidacaoException(CodigoErro.LOTE_INVALIDO, "Máximo de " + MAXIMO_IDS_POR_LOTE + " colaboradores por requisição");
+    private static final ValidacaoException AVALIACOES_INCOMPLETAS =
+        new ValidacaoException(CodigoErro.AVALIACOES_INCOMPLETAS, "Colaborador deve ter exatamente 4 avaliações comportamentais");
+    private static final ValidacaoException QUANTIDADE_DESAFIOS_INVALIDA =
+        new ValidacaoException(CodigoErro.QUANTIDADE_DESAFIOS_INVALIDA, "Colaborador deve ter entre 2 e 4 desafios");
+    private final NotaFinalRepositoryPort notaFinalRepository;
+
+    public CalcularNotaFinalUseCase(NotaFinalRepositoryPort notaFinalRepository) {
+        this.notaFinalRepository = notaFinalRepository;
     }
 
     public NotaFinalDTO executar(Long colaboradorId) {
-        log.info("Iniciando cálculo de nota final para colaborador ID: {}", colaboradorId);
+        log.debug("Iniciando cálculo de nota final para colaborador ID: {}", colaboradorId);
         
-        if (!colaboradorRepository.buscarPorId(colaboradorId).isPresent()) {
-            log.error("Colaborador não encontrado: ID {}", colaboradorId);
-            throw new ValidacaoException("Colaborador não encontrado");
+        ResumoNotas resumo = notaFinalRepository.buscarResumoPorColaboradorId(colaboradorId)
+            .orElseThrow(() -> {
+                log.debug("Colaborador não encontrado: ID {}", colaboradorId);
+                return ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
+            });
+
+        return calcular(resumo);
+    }
+
+    public List<ResultadoNotaFinal> executarPorIds(List<Long> colaboradorIds) {
+        if (colaboradorIds == null || colaboradorIds.isEmpty()) {
+            throw IDS_OBRIGATORIOS;
+        }
+        if (colaboradorIds.contains(null)) {
+            throw IDS_NULOS;
+        }
+        Set<Long> ids = new LinkedHashSet<>(colaboradorIds);
+        if (ids.size() > MAXIMO_IDS_POR_LOTE) {
+            throw LOTE_EXCEDIDO;
+        }
+        log.debug("Iniciando cálculo de nota final em lote para {} colaboradores", ids.size());
+
+        Map<Long, ResumoNotas> resumos = notaFinalRepository.buscarResumosPorColaboradorIds(ids).stream()
+            .collect(Collectors.toMap(ResumoNotas::getColaboradorId, Function.identity()));
+
+        List<ResultadoNotaFinal> resultados = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ResumoNotas resumo = resumos.get(id);
+            resultados.add(resumo == null
+                ? ResultadoNotaFinal.erro(id, "Colaborador não encontrado")
+                : calcularResultado(resumo));
         }
+        log.debug("Cálculo em lote concluído: {} colaboradores", resultados.size());
+        return resultados;
+    }
 
-        List<AvaliacaoComportamental> avaliacoes = avaliacaoRepository.buscarPorColaboradorId(colaboradorId);
-        List<Desafio> desafios = desafioRepository.buscarPorColaboradorId(colaboradorId);
+    public List<ResultadoNotaFinal> executarPorCargo(String cargo) {
+        if (cargo == null || cargo.isBlank()) {
+            throw ValidacaoException.CARGO_OBRIGATORIO;
+        }
+        log.debug("Iniciando cálculo de nota final em lote para o cargo: {}", cargo);
+        List<ResultadoNotaFinal> resultados = notaFinalRepository.buscarResumosPorCargo(cargo).stream()
+            .map(this::calcularResultado)
+            .collect(Collectors.toList());
+        log.debug("Cálculo em lote concluído para o cargo {}: {} colaboradores", cargo, resultados.size());
+        return resultados;
+    }
+
+    private ResultadoNotaFinal calcularResultado(ResumoNotas resumo) {
+        try {
+            return ResultadoNotaFinal.sucesso(calcular(resumo));
+        } catch (ValidacaoException e) {
+            return ResultadoNotaFinal.erro(resumo.getColaboradorId(), e.getMessage());
+        }
+    }
 
-        log.debug("Colaborador ID {} possui {} avaliações e {} desafios", colaboradorId, avaliacoes.size(), desafios.size());
+    public NotaFinalDTO calcular(ResumoNotas resumo) {
+        Long colaboradorId = resumo.getColaboradorId();
+        log.debug("Colaborador ID {} possui {} avaliações e {} desafios", 
+                  colaboradorId, resumo.getQuantidadeAvaliacoes(), resumo.getQuantidadeDesafios());
 
-        if (avaliacoes.size() != 4) {
-            log.error("Colaborador ID {} possui {} avaliações (esperado: 4)", colaboradorId, avaliacoes.size());
-            throw new ValidacaoException("Colaborador deve ter exatamente 4 avaliações comportamentais");
+        if (resumo.getQuantidadeAvaliacoes() != 4) {
+            log.debug("Colaborador ID {} possui {} avaliações (esperado: 4)", colaboradorId, resumo.getQuantidadeAvaliacoes());
+            throw AVALIACOES_INCOMPLETAS;
         }
 
-        if (desafios.size() < 2 || desafios.size() > 4) {
-            log.error("Colaborador ID {} possui {} desafios (esperado: entre 2 e 4)", colaboradorId, desafios.size());
-            throw new ValidacaoException("Colaborador deve ter entre 2 e 4 desafios");
+        if (resumo.getQuantidadeDesafios() < 2 || resumo.getQuantidadeDesafios() > 4) {
+            log.debug("Colaborador ID {} possui {} desafios (esperado: entre 2 e 4)", colaboradorId, resumo.getQuantidadeDesafios());
+            throw QUANTIDADE_DESAFIOS_INVALIDA;
         }
 
-        Double mediaComportamental = avaliacoes.stream()
-            .mapToInt(AvaliacaoComportamental::getNota)
-            .average()
-            .orElse(0.0);
+        Double mediaComportamental = (double) resumo.getSomaAvaliacoes() / resumo.getQuantidadeAvaliacoes();
 
-        Double mediaDesafios = desafios.stream()
-            .filter(d -> d.getNota() != null)
-            .mapToInt(Desafio::getNota)
-            .average()
-            .orElse(0.0);
+        Double mediaDesafios = resumo.getQuantidadeDesafiosComNota() == 0
+            ? 0.0
+            : (double) resumo.getSomaDesafios() / resumo.getQuantidadeDesafiosComNota();
 
         Double notaFinal = (mediaComportamental + mediaDesafios) / 2.0;
         
-        log.info("Nota final calculada para colaborador ID {}: {} (Comportamental: {}, Desafios: {})", 
+        log.debug("Nota final calculada para colaborador ID {}: {} (Comportamental: {}, Desafios: {})", 
                  colaboradorId, notaFinal, mediaComportamental, mediaDesafios);
         
         return new NotaFinalDTO(colaboradorId, notaFinal, mediaComportamental, mediaDesafios);
@@ -86,4 +140,29 @@ public class CalcularNotaFinalUseCase {
         public Double getMediaComportamental() { return mediaComportamental; }
         public Double getMediaDesafios() { return mediaDesafios; }
     }
+
+    public static class ResultadoNotaFinal {
+        private final Long colaboradorId;
+        private final NotaFinalDTO notaFinal;
+        private final String erro;
+
+        private ResultadoNotaFinal(Long colaboradorId, NotaFinalDTO notaFinal, String erro) {
+            this.colaboradorId = colaboradorId;
+            this.notaFinal = notaFinal;
+            this.erro = erro;
+        }
+
+        public static ResultadoNotaFinal sucesso(NotaFinalDTO notaFinal) {
+            return new ResultadoNotaFinal(notaFinal.getColaboradorId(), notaFinal, null);
+        }
+
+        public static ResultadoNotaFinal erro(Long colaboradorId, String erro) {
+            return new ResultadoNotaFinal(colaboradorId, null, erro);
+        }
+
+        public Long getColaboradorId() { return colaboradorId; }
+        public NotaFinalDTO getNotaFinal() { return notaFinal; }
+        public String getErro() { return erro; }
+        public boolean isSucesso() { return erro == null; }
+    }
 }
@@ -0,0 +1,19 @@
+package com.itau.case_tecnico.application.usecase;
+
+/**
+ * Pedido válido recusado porque a instância está no limite de trabalho aceito. Vira 503 com
+ * {@code Retry-After}: o cliente pode repetir o mesmo pedido mais tarde. Como a
+ * {@link ValidacaoException}, não captura stack trace.
+ */
+public class CapacidadeEsgotadaException extends RuntimeException {
+    private final CodigoErro codigo;
+
+    public CapacidadeEsgotadaException(CodigoErro codigo, String mensagem) {
+        super(mensagem, null, false, false);
+        this.codigo = codigo;
+    }
+
+    public CodigoErro getCodigo() {
+        return codigo;
+    }
+}
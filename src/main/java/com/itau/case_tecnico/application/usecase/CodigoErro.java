@@ -0,0 +1,30 @@
+package com.itau.case_tecnico.application.usecase;
+
+/**
+ * Códigos estáveis devolvidos no corpo das respostas de erro, para que o cliente trate cada
+ * caso sem depender do texto da mensagem.
+ */
+public enum CodigoErro {
+    REQUISICAO_INVALIDA,
+    CAMPO_OBRIGATORIO,
+    NOTA_INVALIDA,
+    TIPO_AVALIACAO_INVALIDO,
+    DATA_ADMISSAO_INVALIDA,
+    COLABORADOR_NAO_ENCONTRADO,
+    DESAFIO_NAO_ENCONTRADO,
+    MATRICULA_DUPLICADA,
+    LIMITE_AVALIACOES_ATINGIDO,
+    LIMITE_DESAFIOS_ATINGIDO,
+    AVALIACAO_DUPLICADA,
+    AVALIACOES_INCOMPLETAS,
+    QUANTIDADE_DESAFIOS_INVALIDA,
+    LOTE_INVALIDO,
+    PAGINACAO_INVALIDA,
+    FILTRO_INVALIDO,
+    BUSCA_INVALIDA,
+    IMPORTACAO_INVALIDA,
+    EXPORTACAO_INVALIDA,
+    EXPORTACAO_NAO_CONCLUIDA,
+    LIMITE_EXPORTACOES_ATINGIDO,
+    ERRO_INTERNO
+}
@@ -0,0 +1,57 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.DataAdmissao;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Preenche a data de admissão (DATE) das linhas gravadas quando ela era texto livre, em lotes
+ * pela chave primária; cada lote é gravado na sua própria transação. Textos fora dos formatos
+ * de {@link DataAdmissao} ficam sem data e são reportados no log.
+ */
+@Service
+public class ConverterDataAdmissaoUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ConverterDataAdmissaoUseCase.class);
+    static final int TAMANHO_LOTE = 500;
+    private final ColaboradorRepositoryPort colaboradorRepository;
+
+    public ConverterDataAdmissaoUseCase(ColaboradorRepositoryPort colaboradorRepository) {
+        this.colaboradorRepository = colaboradorRepository;
+    }
+
+    public Resultado converter() {
+        log.info("Iniciando conversão das datas de admissão em texto (lotes de {})", TAMANHO_LOTE);
+        long aposId = 0;
+        int convertidas = 0;
+        int naoReconhecidas = 0;
+        Map<Long, String> textos;
+        while (!(textos = colaboradorRepository.buscarDatasAdmissaoEmTexto(aposId, TAMANHO_LOTE)).isEmpty()) {
+            Map<Long, LocalDate> datas = new LinkedHashMap<>();
+            for (Map.Entry<Long, String> linha : textos.entrySet()) {
+                Optional<LocalDate> data = DataAdmissao.deTexto(linha.getValue());
+                if (data.isPresent()) {
+                    datas.put(linha.getKey(), data.get());
+                } else {
+                    naoReconhecidas++;
+                    log.warn("Data de admissão não reconhecida para colaborador ID {}: '{}'", linha.getKey(), linha.getValue());
+                }
+                aposId = linha.getKey();
+            }
+            if (!datas.isEmpty()) {
+                convertidas += colaboradorRepository.gravarDatasAdmissao(datas);
+            }
+            log.debug("Lote convertido até o colaborador ID {}: {} convertidas até agora", aposId, convertidas);
+        }
+        log.info("Conversão das datas de admissão concluída: {} convertidas, {} não reconhecidas", convertidas, naoReconhecidas);
+        return new Resultado(convertidas, naoReconhecidas);
+    }
+
+    public record Resultado(int convertidas, int naoReconhecidas) {}
+}
@@ -1,14 +1,25 @@
 package com.itau.case_tecnico.application.usecase;
 
 import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.DataAdmissao;
 import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+
 @Service
 public class CriarColaboradorUseCase {
     private static final Logger log = LoggerFactory.getLogger(CriarColaboradorUseCase.class);
+    private static final ValidacaoException MATRICULA_OBRIGATORIA =
+        new ValidacaoException(CodigoErro.CAMPO_OBRIGATORIO, "Matrícula é obrigatória");
+    private static final ValidacaoException NOME_OBRIGATORIO =
+        new ValidacaoException(CodigoErro.CAMPO_OBRIGATORIO, "Nome é obrigatório");
+    private static final ValidacaoException DATA_ADMISSAO_OBRIGATORIA =
+        new ValidacaoException(CodigoErro.CAMPO_OBRIGATORIO, "Data de admissão é obrigatória");
+    private static final ValidacaoException DATA_ADMISSAO_INVALIDA = new ValidacaoException(CodigoErro.DATA_ADMISSAO_INVALIDA,
+        "Data de admissão inválida. Formatos aceitos: aaaa-mm-dd, dd/mm/aaaa, dd-mm-aaaa, dd.mm.aaaa, aaaa/mm/dd");
     private final ColaboradorRepositoryPort colaboradorRepository;
 
     public CriarColaboradorUseCase(ColaboradorRepositoryPort colaboradorRepository) {
@@ -16,25 +27,50 @@ public class CriarColaboradorUseCase {
     }
 
     public Colaborador executar(Colaborador colaborador) {
-        log.info("Iniciando criação de colaborador: matrícula {}", colaborador.getMatricula());
+        log.debug("Iniciando criação de colaborador: matrícula {}", colaborador.getMatricula());
         
-        if (colaboradorRepository.existePorMatricula(colaborador.getMatricula())) {
-            log.error("Tentativa de cadastrar matrícula já existente: {}", colaborador.getMatricula());
-            throw new ValidacaoException("Matrícula já cadastrada: " + colaborador.getMatricula());
-        }
+        validarCampos(colaborador);
         
+        // Matrícula duplicada é detectada pela restrição única no INSERT (ValidacaoException vinda do repositório)
+        Colaborador colaboradorSalvo = colaboradorRepository.salvar(colaborador);
+        log.debug("Colaborador criado com sucesso: ID {}, matrícula {}", colaboradorSalvo.getId(), colaboradorSalvo.getMatricula());
+        return colaboradorSalvo;
+    }
+
+    /**
+     * Converte a data de admissão recebida na API: ISO (aaaa-mm-dd, com ou sem horário) ou um dos formatos
+     * que a coluna de texto aceitava antes. Vazia é tratada como ausente.
+     */
+    public static LocalDate converterDataAdmissao(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return null;
+        }
+        return DataAdmissao.deTexto(texto).orElseThrow(() -> {
+            log.debug("Data de admissão inválida: {}", texto);
+            return DATA_ADMISSAO_INVALIDA;
+        });
+    }
+
+    static void validarCampos(Colaborador colaborador) {
         if (colaborador.getMatricula() == null || colaborador.getMatricula().isBlank()) {
-            log.error("Tentativa de criar colaborador sem matrícula");
-            throw new ValidacaoException("Matrícula é obrigatória");
+            log.debug("Tentativa de criar colaborador sem matrícula");
+            throw MATRICULA_OBRIGATORIA;
         }
         
         if (colaborador.getNome() == null || colaborador.getNome().isBlank()) {
-            log.error("Tentativa de criar colaborador sem nome");
-            throw new ValidacaoException("Nome é obrigatório");
+            log.debug("Tentativa de criar colaborador sem nome");
+            throw NOME_OBRIGATORIO;
+        }
+
+        // Sem estes campos o INSERT violaria NOT NULL e voltaria 500 em vez de 400
+        if (colaborador.getDataAdmissao() == null) {
+            log.debug("Tentativa de criar colaborador sem data de admissão");
+            throw DATA_ADMISSAO_OBRIGATORIA;
+        }
+
+        if (colaborador.getCargo() == null || colaborador.getCargo().isBlank()) {
+            log.debug("Tentativa de criar colaborador sem cargo");
+            throw ValidacaoException.CARGO_OBRIGATORIO;
         }
-        
-        Colaborador colaboradorSalvo = colaboradorRepository.salvar(colaborador);
-        log.info("Colaborador criado com sucesso: ID {}, matrícula {}", colaboradorSalvo.getId(), colaboradorSalvo.getMatricula());
-        return colaboradorSalvo;
     }
 }
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class CriarDesafioUseCase {
     private static final Logger log = LoggerFactory.getLogger(CriarDesafioUseCase.class);
+    private static final ValidacaoException DESCRICAO_OBRIGATORIA =
+        new ValidacaoException(CodigoErro.CAMPO_OBRIGATORIO, "Descrição do desafio é obrigatória");
     private final DesafioRepositoryPort desafioRepository;
     private final ColaboradorRepositoryPort colaboradorRepository;
 
@@ -20,37 +22,35 @@ public class CriarDesafioUseCase {
     }
 
     public Desafio executar(Desafio desafio) {
-        log.info("Iniciando criação de desafio para colaborador ID: {}", desafio.getColaboradorId());
+        log.debug("Iniciando criação de desafio para colaborador ID: {}", desafio.getColaboradorId());
         
         if (!colaboradorRepository.buscarPorId(desafio.getColaboradorId()).isPresent()) {
-            log.error("Colaborador não encontrado: ID {}", desafio.getColaboradorId());
-            throw new ValidacaoException("Colaborador não encontrado");
+            log.debug("Colaborador não encontrado: ID {}", desafio.getColaboradorId());
+            throw ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
         }
 
-        int quantidadeDesafios = desafioRepository.contarPorColaboradorId(desafio.getColaboradorId());
-        log.debug("Colaborador possui {} desafios cadastrados", quantidadeDesafios);
-        
-        if (quantidadeDesafios >= 4) {
-            log.error("Colaborador ID {} já possui {} desafios (máximo: 4)", desafio.getColaboradorId(), quantidadeDesafios);
-            throw new ValidacaoException("Colaborador já possui 4 desafios (máximo permitido)");
-        }
+        validarCampos(desafio);
 
+        // O limite de desafios por colaborador é aplicado na gravação, sob o lock da linha do colaborador
+        // em nota_final: sem contagem prévia, POSTs concorrentes não conseguem ultrapassá-lo
+        Desafio desafioSalvo = desafioRepository.salvar(desafio);
+        log.debug("Desafio criado com sucesso: ID {}, Colaborador ID {}", desafioSalvo.getId(), desafio.getColaboradorId());
+        return desafioSalvo;
+    }
+
+    static void validarCampos(Desafio desafio) {
         if (desafio.getDescricao() == null || desafio.getDescricao().isBlank()) {
-            log.error("Tentativa de criar desafio sem descrição");
-            throw new ValidacaoException("Descrição do desafio é obrigatória");
+            log.debug("Tentativa de criar desafio sem descrição");
+            throw DESCRICAO_OBRIGATORIA;
         }
 
         validarNota(desafio.getNota());
-
-        Desafio desafioSalvo = desafioRepository.salvar(desafio);
-        log.info("Desafio criado com sucesso: ID {}, Colaborador ID {}", desafioSalvo.getId(), desafio.getColaboradorId());
-        return desafioSalvo;
     }
 
-    private void validarNota(Integer nota) {
+    private static void validarNota(Integer nota) {
         if (nota == null || nota < 1 || nota > 5) {
-            log.error("Nota inválida: {}", nota);
-            throw new ValidacaoException("Nota deve estar entre 1 e 5");
+            log.debug("Nota inválida: {}", nota);
+            throw ValidacaoException.NOTA_INVALIDA;
         }
     }
 }
@@ -0,0 +1,89 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.Distribuicao;
+import com.itau.case_tecnico.domain.model.DistribuicaoNotas;
+import com.itau.case_tecnico.domain.model.NotasDoColaborador;
+import com.itau.case_tecnico.domain.model.NotasFinaisAlteradas;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Distribuição das notas por cargo servida da memória ({@link DistribuicaoNotas}).
+ * Carregada do banco na inicialização (ou na primeira consulta, se a carga inicial falhar) e mantida
+ * como o ranking, por {@link AtualizacaoPorPendentes}.
+ */
+@Service
+public class DistribuicaoNotasUseCase {
+    private static final Logger log = LoggerFactory.getLogger(DistribuicaoNotasUseCase.class);
+
+    private final CalcularNotaFinalUseCase calcularNotaFinalUseCase;
+    private final DistribuicaoNotas distribuicao = new DistribuicaoNotas();
+    private final AtualizacaoPorPendentes<NotasDoColaborador> atualizacao;
+
+    public DistribuicaoNotasUseCase(NotaFinalRepositoryPort notaFinalRepository,
+                                    CalcularNotaFinalUseCase calcularNotaFinalUseCase) {
+        this.calcularNotaFinalUseCase = calcularNotaFinalUseCase;
+        this.atualizacao = new AtualizacaoPorPendentes<>("distribuição das notas",
+            notaFinalRepository::listarNotasPorColaborador, notaFinalRepository::buscarNotasPorColaborador, this::aplicar);
+    }
+
+    public Distribuicao consultar(String cargo) {
+        String cargoFiltro = cargo == null || cargo.isBlank() ? null : cargo;
+        log.debug("Consultando distribuição das notas (cargo: {})", cargoFiltro);
+        atualizacao.garantirCarregado();
+        return distribuicao.consultar(cargoFiltro);
+    }
+
+    // Chamado por TarefasDeFundo quando a aplicação sobe
+    public void carregarNaInicializacao() {
+        try {
+            atualizacao.garantirCarregado();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao carregar a distribuição das notas na inicialização; nova tentativa na primeira consulta", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarNotasFinais(NotasFinaisAlteradas evento) {
+        atualizacao.marcar(evento);
+    }
+
+    @Scheduled(fixedDelayString = "${app.estatisticas.atualizacao:PT0.5S}")
+    public void aplicarPendentes() {
+        atualizacao.aplicarPendentes();
+    }
+
+    @Scheduled(fixedDelayString = "${app.estatisticas.ressincronizacao:PT5M}", initialDelayString = "${app.estatisticas.ressincronizacao:PT5M}")
+    public void ressincronizar() {
+        atualizacao.ressincronizar();
+    }
+
+    private int aplicar(List<NotasDoColaborador> notas) {
+        int aplicados = 0;
+        for (NotasDoColaborador notasDoColaborador : notas) {
+            if (aplicar(notasDoColaborador)) {
+                aplicados++;
+            }
+        }
+        log.debug("Distribuição atualizada: {} de {} colaboradores com versão nova", aplicados, notas.size());
+        return aplicados;
+    }
+
+    // Colaboradores sem as avaliações e desafios exigidos só entram nas contagens por nota
+    private boolean aplicar(NotasDoColaborador notas) {
+        CalcularNotaFinalUseCase.NotaFinalDTO notaFinal;
+        try {
+            notaFinal = calcularNotaFinalUseCase.calcular(notas.getResumo());
+        } catch (ValidacaoException e) {
+            return distribuicao.atualizar(notas, null, null, null);
+        }
+        return distribuicao.atualizar(notas, notaFinal.getNotaFinal(), notaFinal.getMediaComportamental(),
+            notaFinal.getMediaDesafios());
+    }
+}
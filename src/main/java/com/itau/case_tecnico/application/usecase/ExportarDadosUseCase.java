@@ -0,0 +1,211 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.Exportacao;
+import com.itau.case_tecnico.domain.model.FormatoExportacao;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.model.StatusExportacao;
+import com.itau.case_tecnico.domain.model.TipoExportacao;
+import com.itau.case_tecnico.domain.port.ArquivoExportacaoPort;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Exportações em segundo plano. Cada exportação percorre a tabela por cursor (a nota final é calculada
+ * linha a linha a partir do resumo materializado) e grava no arquivo sem acumular linhas, então a memória
+ * usada não depende do tamanho da tabela. No máximo {@code app.exportacao.simultaneas} exportações rodam ao
+ * mesmo tempo, cada uma ocupando uma conexão do pool; até {@code app.exportacao.pendentes} esperam na fila
+ * como pendentes, e além disso o pedido é recusado com {@link CapacidadeEsgotadaException}.
+ * O estado fica na memória da instância e some, com o arquivo, depois de {@code app.exportacao.retencao}.
+ */
+@Service
+public class ExportarDadosUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ExportarDadosUseCase.class);
+    static final List<String> COLUNAS_NOTAS_FINAIS = List.of("colaborador_id", "matricula", "nome", "cargo",
+        "nota_final", "media_comportamental", "media_desafios", "erro");
+    static final List<String> COLUNAS_COLABORADORES = List.of("colaborador_id", "matricula", "nome", "data_admissao", "cargo");
+    static final List<String> COLUNAS_AVALIACOES = List.of("avaliacao_comportamental_id", "colaborador_id", "tipo", "nota");
+    static final List<String> COLUNAS_DESAFIOS = List.of("desafio_id", "colaborador_id", "descricao", "nota");
+    static final String FALHA_NA_GERACAO = "Falha ao gerar o arquivo da exportação";
+    private static final CapacidadeEsgotadaException LIMITE_EXPORTACOES_ATINGIDO = new CapacidadeEsgotadaException(
+        CodigoErro.LIMITE_EXPORTACOES_ATINGIDO, "Limite de exportações pendentes atingido, tente novamente mais tarde");
+    private static final String TIPOS_ACEITOS = Arrays.stream(TipoExportacao.values())
+        .map(TipoExportacao::getCodigo).collect(Collectors.joining(", "));
+    private static final String FORMATOS_ACEITOS = Arrays.stream(FormatoExportacao.values())
+        .map(FormatoExportacao::getCodigo).collect(Collectors.joining(", "));
+
+    private final ColaboradorRepositoryPort colaboradorRepository;
+    private final AvaliacaoRepositoryPort avaliacaoRepository;
+    private final DesafioRepositoryPort desafioRepository;
+    private final NotaFinalRepositoryPort notaFinalRepository;
+    private final CalcularNotaFinalUseCase calcularNotaFinalUseCase;
+    private final ArquivoExportacaoPort arquivos;
+    private final ExecutorService executor;
+    private final Duration retencao;
+    private final Map<String, Exportacao> exportacoes = new ConcurrentHashMap<>();
+
+    public ExportarDadosUseCase(ColaboradorRepositoryPort colaboradorRepository,
+                                AvaliacaoRepositoryPort avaliacaoRepository,
+                                DesafioRepositoryPort desafioRepository,
+                                NotaFinalRepositoryPort notaFinalRepository,
+                                CalcularNotaFinalUseCase calcularNotaFinalUseCase,
+                                ArquivoExportacaoPort arquivos,
+                                @Value("${app.exportacao.simultaneas:2}") int simultaneas,
+                                @Value("${app.exportacao.pendentes:20}") int pendentes,
+                                @Value("${app.exportacao.retencao:PT1H}") Duration retencao) {
+        this.colaboradorRepository = colaboradorRepository;
+        this.avaliacaoRepository = avaliacaoRepository;
+        this.desafioRepository = desafioRepository;
+        this.notaFinalRepository = notaFinalRepository;
+        this.calcularNotaFinalUseCase = calcularNotaFinalUseCase;
+        this.arquivos = arquivos;
+        // Fila limitada: com ela cheia, execute() lança RejectedExecutionException em vez de acumular pedidos
+        this.executor = new ThreadPoolExecutor(simultaneas, simultaneas, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(pendentes), Thread.ofPlatform().name("exportacao-", 1).daemon(true).factory());
+        this.retencao = retencao;
+    }
+
+    public Exportacao iniciar(String tipo, String formato) {
+        TipoExportacao tipoExportacao = TipoExportacao.deCodigo(tipo)
+            .orElseThrow(() -> new ValidacaoException(CodigoErro.EXPORTACAO_INVALIDA,
+                "Tipo de exportação inválido: " + tipo + ". Valores aceitos: " + TIPOS_ACEITOS));
+        FormatoExportacao formatoExportacao = formato == null || formato.isBlank()
+            ? FormatoExportacao.CSV
+            : FormatoExportacao.deCodigo(formato)
+                .orElseThrow(() -> new ValidacaoException(CodigoErro.EXPORTACAO_INVALIDA,
+                    "Formato de exportação inválido: " + formato + ". Valores aceitos: " + FORMATOS_ACEITOS));
+        Exportacao exportacao = new Exportacao(UUID.randomUUID().toString(), tipoExportacao, formatoExportacao, Instant.now());
+        exportacoes.put(exportacao.getId(), exportacao);
+        try {
+            executor.execute(() -> executar(exportacao));
+        } catch (RejectedExecutionException e) {
+            exportacoes.remove(exportacao.getId());
+            log.warn("Exportação de {} recusada: fila de exportações pendentes cheia", tipoExportacao.getCodigo());
+            throw LIMITE_EXPORTACOES_ATINGIDO;
+        }
+        log.info("Exportação {} de {} ({}) enfileirada", exportacao.getId(), tipoExportacao.getCodigo(), formatoExportacao.getCodigo());
+        return exportacao;
+    }
+
+    public Optional<Exportacao> buscar(String id) {
+        return Optional.ofNullable(exportacoes.get(id));
+    }
+
+    /**
+     * Arquivo de uma exportação concluída; vazio se a exportação não existir (ou já tiver sido removida).
+     */
+    public Optional<Path> buscarArquivo(String id) {
+        Exportacao exportacao = exportacoes.get(id);
+        if (exportacao == null) {
+            return Optional.empty();
+        }
+        if (exportacao.getStatus() != StatusExportacao.CONCLUIDA) {
+            throw new ValidacaoException(CodigoErro.EXPORTACAO_NAO_CONCLUIDA,
+                "Exportação " + id + " ainda não foi concluída (status: " + exportacao.getStatus() + ")");
+        }
+        return arquivos.buscar(exportacao);
+    }
+
+    @Scheduled(fixedDelayString = "${app.exportacao.limpeza:PT10M}", initialDelayString = "${app.exportacao.limpeza:PT10M}")
+    public void removerExpiradas() {
+        Instant limite = Instant.now().minus(retencao);
+        exportacoes.values().removeIf(exportacao -> exportacao.getStatus().isFinalizada()
+            && exportacao.getFinalizadaEm().isBefore(limite));
+        int arquivosRemovidos = arquivos.excluirAnterioresA(limite);
+        log.debug("Limpeza de exportações: {} em andamento ou retidas, {} arquivos removidos", exportacoes.size(), arquivosRemovidos);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    private void executar(Exportacao exportacao) {
+        exportacao.iniciar();
+        log.info("Exportação {} iniciada", exportacao.getId());
+        try (ArquivoExportacaoPort.Escritor escritor = arquivos.criar(exportacao, colunas(exportacao.getTipo()))) {
+            long[] linhas = {0};
+            Consumer<List<?>> gravar = valores -> {
+                escritor.escrever(valores);
+                exportacao.registrarProgresso(++linhas[0], escritor.getBytesEscritos());
+            };
+            switch (exportacao.getTipo()) {
+                case NOTAS_FINAIS -> notaFinalRepository.percorrerComColaborador(
+                    (colaborador, resumo) -> gravar.accept(linhaNotaFinal(colaborador, resumo)));
+                case COLABORADORES -> colaboradorRepository.percorrerTodos(colaborador -> gravar.accept(linha(colaborador)));
+                case AVALIACOES -> avaliacaoRepository.percorrerTodas(avaliacao -> gravar.accept(linha(avaliacao)));
+                case DESAFIOS -> desafioRepository.percorrerTodos(desafio -> gravar.accept(linha(desafio)));
+            }
+            escritor.concluir();
+            exportacao.concluir(escritor.getBytesEscritos(), Instant.now());
+            log.info("Exportação {} concluída: {} linhas, {} bytes", exportacao.getId(), linhas[0], exportacao.getBytes());
+        } catch (RuntimeException e) {
+            // O detalhe fica no log; o cliente recebe só a indicação da falha, como nos erros 500
+            log.error("Falha na exportação {}", exportacao.getId(), e);
+            exportacao.falhar(FALHA_NA_GERACAO, Instant.now());
+        }
+    }
+
+    private static List<String> colunas(TipoExportacao tipo) {
+        return switch (tipo) {
+            case NOTAS_FINAIS -> COLUNAS_NOTAS_FINAIS;
+            case COLABORADORES -> COLUNAS_COLABORADORES;
+            case AVALIACOES -> COLUNAS_AVALIACOES;
+            case DESAFIOS -> COLUNAS_DESAFIOS;
+        };
+    }
+
+    // Colaboradores que ainda não atendem às regras saem com as notas vazias e o motivo em "erro"
+    private List<?> linhaNotaFinal(Colaborador colaborador, ResumoNotas resumo) {
+        try {
+            CalcularNotaFinalUseCase.NotaFinalDTO notaFinal = calcularNotaFinalUseCase.calcular(resumo);
+            return Arrays.asList(colaborador.getId(), colaborador.getMatricula(), colaborador.getNome(), colaborador.getCargo(),
+                notaFinal.getNotaFinal(), notaFinal.getMediaComportamental(), notaFinal.getMediaDesafios(), null);
+        } catch (ValidacaoException e) {
+            return Arrays.asList(colaborador.getId(), colaborador.getMatricula(), colaborador.getNome(), colaborador.getCargo(),
+                null, null, null, e.getMessage());
+        }
+    }
+
+    private static List<?> linha(Colaborador colaborador) {
+        return Arrays.asList(colaborador.getId(), colaborador.getMatricula(), colaborador.getNome(),
+            Objects.toString(colaborador.getDataAdmissao(), null), colaborador.getCargo());
+    }
+
+    private static List<?> linha(AvaliacaoComportamental avaliacao) {
+        return Arrays.asList(avaliacao.getId(), avaliacao.getColaboradorId(),
+            avaliacao.getTipo() == null ? null : avaliacao.getTipo().getDescricao(), avaliacao.getNota());
+    }
+
+    private static List<?> linha(Desafio desafio) {
+        return Arrays.asList(desafio.getId(), desafio.getColaboradorId(), desafio.getDescricao(), desafio.getNota());
+    }
+}
@@ -0,0 +1,284 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em massa: as linhas chegam por um iterador (lidas sob demanda do corpo da requisição),
+ * são validadas em lotes com uma consulta por lote e gravadas com uma transação por lote.
+ * Linhas inválidas não interrompem a importação; cada uma gera um erro com o número da linha.
+ */
+@Service
+public class ImportarRegistrosUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ImportarRegistrosUseCase.class);
+    public static final int TAMANHO_LOTE = 500;
+    public static final int MAXIMO_ERROS_REPORTADOS = 1000;
+    static final String FALHA_NA_GRAVACAO = "Erro ao gravar lote; nenhuma linha do lote foi importada";
+
+    private final ColaboradorRepositoryPort colaboradorRepository;
+    private final DesafioRepositoryPort desafioRepository;
+    private final AvaliacaoRepositoryPort avaliacaoRepository;
+    private final NotaFinalRepositoryPort notaFinalRepository;
+
+    public ImportarRegistrosUseCase(ColaboradorRepositoryPort colaboradorRepository,
+                                    DesafioRepositoryPort desafioRepository,
+                                    AvaliacaoRepositoryPort avaliacaoRepository,
+                                    NotaFinalRepositoryPort notaFinalRepository) {
+        this.colaboradorRepository = colaboradorRepository;
+        this.desafioRepository = desafioRepository;
+        this.avaliacaoRepository = avaliacaoRepository;
+        this.notaFinalRepository = notaFinalRepository;
+    }
+
+    public ResultadoImportacao importarColaboradores(Iterator<Linha<Colaborador>> linhas) {
+        log.info("Iniciando importação de colaboradores");
+        Set<String> matriculasDoArquivo = new HashSet<>();
+        return importar(linhas,
+            (lote, resultado) -> validarColaboradores(lote, resultado, matriculasDoArquivo),
+            colaboradorRepository::salvarTodos);
+    }
+
+    public ResultadoImportacao importarDesafios(Iterator<Linha<Desafio>> linhas) {
+        log.info("Iniciando importação de desafios");
+        return importar(linhas, this::validarDesafios, desafioRepository::salvarTodos);
+    }
+
+    public ResultadoImportacao importarAvaliacoes(Iterator<Linha<AvaliacaoComportamental>> linhas) {
+        log.info("Iniciando importação de avaliações comportamentais");
+        return importar(linhas, this::validarAvaliacoes, avaliacaoRepository::salvarTodas);
+    }
+
+    private <T> ResultadoImportacao importar(Iterator<Linha<T>> linhas,
+                                             BiFunction<List<Linha<T>>, ResultadoImportacao, List<Linha<T>>> validador,
+                                             Function<List<T>, List<T>> gravador) {
+        ResultadoImportacao resultado = new ResultadoImportacao();
+        List<Linha<T>> lote = new ArrayList<>(TAMANHO_LOTE);
+        while (linhas.hasNext()) {
+            Linha<T> linha = linhas.next();
+            resultado.linhasProcessadas++;
+            if (linha.getErro() != null) {
+                resultado.registrarErro(linha.getNumero(), linha.getErro());
+                continue;
+            }
+            lote.add(linha);
+            if (lote.size() == TAMANHO_LOTE) {
+                processarLote(lote, resultado, validador, gravador);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            processarLote(lote, resultado, validador, gravador);
+        }
+        // Erros de leitura são registrados na hora e os de validação ao fechar o lote
+        resultado.erros.sort(Comparator.comparingLong(ErroLinha::getLinha));
+        log.info("Importação concluída: {} linhas processadas, {} importadas, {} erros",
+                 resultado.linhasProcessadas, resultado.importados, resultado.totalErros);
+        return resultado;
+    }
+
+    private <T> void processarLote(List<Linha<T>> lote, ResultadoImportacao resultado,
+                                   BiFunction<List<Linha<T>>, ResultadoImportacao, List<Linha<T>>> validador,
+                                   Function<List<T>, List<T>> gravador) {
+        List<Linha<T>> aceitas = validador.apply(lote, resultado);
+        if (aceitas.isEmpty()) {
+            return;
+        }
+        try {
+            gravador.apply(aceitas.stream().map(Linha::getRegistro).collect(Collectors.toList()));
+            resultado.importados += aceitas.size();
+            log.debug("Lote gravado: {} registros", aceitas.size());
+        } catch (ValidacaoException e) {
+            // Restrição violada por outra gravação concorrente: os adaptadores já traduzem para o código da regra
+            log.warn("Lote de {} registros recusado pelo banco: {}", aceitas.size(), e.getMessage());
+            aceitas.forEach(linha -> resultado.registrarErro(linha.getNumero(), e.getMessage()));
+        } catch (RuntimeException e) {
+            // O detalhe (SQL, driver) fica no log; o relatório por linha recebe só a indicação da falha
+            log.error("Erro ao gravar lote de {} registros", aceitas.size(), e);
+            aceitas.forEach(linha -> resultado.registrarErro(linha.getNumero(), FALHA_NA_GRAVACAO));
+        }
+    }
+
+    private List<Linha<Colaborador>> validarColaboradores(List<Linha<Colaborador>> lote, ResultadoImportacao resultado,
+                                                          Set<String> matriculasDoArquivo) {
+        Set<String> matriculas = lote.stream()
+            .map(linha -> linha.getRegistro().getMatricula())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<String> existentes = matriculas.isEmpty() ? Set.of() : colaboradorRepository.existemPorMatriculas(matriculas);
+
+        List<Linha<Colaborador>> aceitas = new ArrayList<>(lote.size());
+        for (Linha<Colaborador> linha : lote) {
+            Colaborador colaborador = linha.getRegistro();
+            try {
+                CriarColaboradorUseCase.validarCampos(colaborador);
+                if (existentes.contains(colaborador.getMatricula())) {
+                    throw new ValidacaoException(CodigoErro.MATRICULA_DUPLICADA, "Matrícula já cadastrada: " + colaborador.getMatricula());
+                }
+                // Por último: uma linha recusada não reserva a matrícula, e a versão corrigida mais adiante é aceita
+                if (!matriculasDoArquivo.add(colaborador.getMatricula())) {
+                    throw new ValidacaoException(CodigoErro.MATRICULA_DUPLICADA, "Matrícula duplicada no arquivo: " + colaborador.getMatricula());
+                }
+                aceitas.add(linha);
+            } catch (ValidacaoException e) {
+                resultado.registrarErro(linha.getNumero(), e.getMessage());
+            }
+        }
+        return aceitas;
+    }
+
+    private List<Linha<Desafio>> validarDesafios(List<Linha<Desafio>> lote, ResultadoImportacao resultado) {
+        Map<Long, ResumoNotas> resumos = buscarResumos(lote, Desafio::getColaboradorId);
+        Map<Long, Long> quantidadePorColaborador = new HashMap<>();
+        resumos.forEach((id, resumo) -> quantidadePorColaborador.put(id, resumo.getQuantidadeDesafios()));
+
+        List<Linha<Desafio>> aceitas = new ArrayList<>(lote.size());
+        for (Linha<Desafio> linha : lote) {
+            Desafio desafio = linha.getRegistro();
+            try {
+                if (!resumos.containsKey(desafio.getColaboradorId())) {
+                    throw ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
+                }
+                long quantidade = quantidadePorColaborador.get(desafio.getColaboradorId());
+                if (quantidade >= Desafio.MAXIMO_POR_COLABORADOR) {
+                    throw ValidacaoException.LIMITE_DESAFIOS_ATINGIDO;
+                }
+                CriarDesafioUseCase.validarCampos(desafio);
+                quantidadePorColaborador.put(desafio.getColaboradorId(), quantidade + 1);
+                aceitas.add(linha);
+            } catch (ValidacaoException e) {
+                resultado.registrarErro(linha.getNumero(), e.getMessage());
+            }
+        }
+        return aceitas;
+    }
+
+    private List<Linha<AvaliacaoComportamental>> validarAvaliacoes(List<Linha<AvaliacaoComportamental>> lote,
+                                                                   ResultadoImportacao resultado) {
+        Map<Long, ResumoNotas> resumos = buscarResumos(lote, AvaliacaoComportamental::getColaboradorId);
+        Set<Long> comAvaliacoes = resumos.values().stream()
+            .filter(resumo -> resumo.getQuantidadeAvaliacoes() > 0)
+            .map(ResumoNotas::getColaboradorId)
+            .collect(Collectors.toSet());
+        Map<Long, Set<TipoAvaliacao>> tiposPorColaborador = new HashMap<>();
+        resumos.keySet().forEach(id -> tiposPorColaborador.put(id, EnumSet.noneOf(TipoAvaliacao.class)));
+        if (!comAvaliacoes.isEmpty()) {
+            avaliacaoRepository.buscarPorColaboradorIds(comAvaliacoes)
+                .forEach(a -> tiposPorColaborador.get(a.getColaboradorId()).add(a.getTipo()));
+        }
+
+        List<Linha<AvaliacaoComportamental>> aceitas = new ArrayList<>(lote.size());
+        for (Linha<AvaliacaoComportamental> linha : lote) {
+            AvaliacaoComportamental avaliacao = linha.getRegistro();
+            try {
+                if (!resumos.containsKey(avaliacao.getColaboradorId())) {
+                    throw ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
+                }
+                AvaliarComportamentoUseCase.validarCampos(avaliacao);
+                Set<TipoAvaliacao> tipos = tiposPorColaborador.get(avaliacao.getColaboradorId());
+                if (tipos.size() >= 4) {
+                    throw ValidacaoException.LIMITE_AVALIACOES_ATINGIDO;
+                }
+                if (!tipos.add(avaliacao.getTipo())) {
+                    throw new ValidacaoException(CodigoErro.AVALIACAO_DUPLICADA, "Já existe avaliação do tipo: " + avaliacao.getTipo().getDescricao());
+                }
+                aceitas.add(linha);
+            } catch (ValidacaoException e) {
+                resultado.registrarErro(linha.getNumero(), e.getMessage());
+            }
+        }
+        return aceitas;
+    }
+
+    // Existência e contagens atuais de todos os colaboradores do lote em uma única consulta
+    private <T> Map<Long, ResumoNotas> buscarResumos(List<Linha<T>> lote, Function<T, Long> colaboradorId) {
+        Set<Long> ids = lote.stream()
+            .map(linha -> colaboradorId.apply(linha.getRegistro()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return notaFinalRepository.buscarResumosPorColaboradorIds(ids).stream()
+            .collect(Collectors.toMap(ResumoNotas::getColaboradorId, Function.identity()));
+    }
+
+    public static class Linha<T> {
+        private final long numero;
+        private final T registro;
+        private final String erro;
+
+        private Linha(long numero, T registro, String erro) {
+            this.numero = numero;
+            this.registro = registro;
+            this.erro = erro;
+        }
+
+        public static <T> Linha<T> registro(long numero, T registro) {
+            return new Linha<>(numero, registro, null);
+        }
+
+        public static <T> Linha<T> erro(long numero, String erro) {
+            return new Linha<>(numero, null, erro);
+        }
+
+        public long getNumero() { return numero; }
+        public T getRegistro() { return registro; }
+        public String getErro() { return erro; }
+    }
+
+    public static class ErroLinha {
+        private final long linha;
+        private final String mensagem;
+
+        public ErroLinha(long linha, String mensagem) {
+            this.linha = linha;
+            this.mensagem = mensagem;
+        }
+
+        public long getLinha() { return linha; }
+        public String getMensagem() { return mensagem; }
+    }
+
+    public static class ResultadoImportacao {
+        private long linhasProcessadas;
+        private long importados;
+        private long totalErros;
+        private final List<ErroLinha> erros = new ArrayList<>();
+
+        private void registrarErro(long linha, String mensagem) {
+            totalErros++;
+            if (erros.size() < MAXIMO_ERROS_REPORTADOS) {
+                erros.add(new ErroLinha(linha, mensagem));
+            }
+        }
+
+        public long getLinhasProcessadas() { return linhasProcessadas; }
+        public long getImportados() { return importados; }
+        public long getTotalErros() { return totalErros; }
+        public List<ErroLinha> getErros() { return erros; }
+    }
+}
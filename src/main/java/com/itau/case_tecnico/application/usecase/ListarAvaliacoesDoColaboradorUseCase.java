@@ -0,0 +1,28 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class ListarAvaliacoesDoColaboradorUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ListarAvaliacoesDoColaboradorUseCase.class);
+    private final AvaliacaoRepositoryPort avaliacaoRepository;
+
+    public ListarAvaliacoesDoColaboradorUseCase(AvaliacaoRepositoryPort avaliacaoRepository) {
+        this.avaliacaoRepository = avaliacaoRepository;
+    }
+
+    public Optional<List<AvaliacaoComportamental>> executar(Long colaboradorId) {
+        log.debug("Listando avaliações comportamentais do colaborador ID: {}", colaboradorId);
+        Optional<List<AvaliacaoComportamental>> avaliacoes = avaliacaoRepository.listarPorColaborador(colaboradorId);
+        log.debug("Colaborador ID {}: {}", colaboradorId,
+                  avaliacoes.map(lista -> lista.size() + " avaliações").orElse("não encontrado"));
+        return avaliacoes;
+    }
+}
@@ -0,0 +1,28 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class ListarDesafiosDoColaboradorUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ListarDesafiosDoColaboradorUseCase.class);
+    private final DesafioRepositoryPort desafioRepository;
+
+    public ListarDesafiosDoColaboradorUseCase(DesafioRepositoryPort desafioRepository) {
+        this.desafioRepository = desafioRepository;
+    }
+
+    public Optional<List<Desafio>> executar(Long colaboradorId) {
+        log.debug("Listando desafios do colaborador ID: {}", colaboradorId);
+        Optional<List<Desafio>> desafios = desafioRepository.listarPorColaborador(colaboradorId);
+        log.debug("Colaborador ID {}: {}", colaboradorId,
+                  desafios.map(lista -> lista.size() + " desafios").orElse("não encontrado"));
+        return desafios;
+    }
+}
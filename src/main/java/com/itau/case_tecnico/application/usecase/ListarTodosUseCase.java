@@ -2,7 +2,10 @@ package com.itau.case_tecnico.application.usecase;
 
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
 import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.DataAdmissao;
 import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.FiltroColaboradores;
+import com.itau.case_tecnico.domain.model.OrdemColaboradores;
 import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
 import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
 import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
@@ -10,11 +13,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 public class ListarTodosUseCase {
     private static final Logger log = LoggerFactory.getLogger(ListarTodosUseCase.class);
+    public static final int LIMITE_PADRAO = 100;
+    public static final int LIMITE_MAXIMO = 500;
+    private static final ValidacaoException LIMITE_INVALIDO =
+        new ValidacaoException(CodigoErro.PAGINACAO_INVALIDA, "Limite deve estar entre 1 e " + LIMITE_MAXIMO);
+    private static final ValidacaoException STREAM_PAGINADO = new ValidacaoException(CodigoErro.PAGINACAO_INVALIDA,
+        "stream=true percorre a listagem inteira e não aceita after, limit nem filtros");
+    private static final ValidacaoException INTERVALO_INVALIDO =
+        new ValidacaoException(CodigoErro.FILTRO_INVALIDO, "admitidoDe deve ser anterior ou igual a admitidoAte");
+    private static final String ORDENS_ACEITAS = Arrays.stream(OrdemColaboradores.values())
+        .map(OrdemColaboradores::getCodigo).collect(Collectors.joining(", "));
+
     private final ColaboradorRepositoryPort colaboradorRepository;
     private final AvaliacaoRepositoryPort avaliacaoRepository;
     private final DesafioRepositoryPort desafioRepository;
@@ -28,23 +46,118 @@ public class ListarTodosUseCase {
     }
 
     public List<Colaborador> listarColaboradores() {
-        log.info("Listando todos os colaboradores");
+        log.debug("Listando todos os colaboradores");
         List<Colaborador> colaboradores = colaboradorRepository.listarTodos();
-        log.info("Total de colaboradores encontrados: {}", colaboradores.size());
+        log.debug("Total de colaboradores encontrados: {}", colaboradores.size());
         return colaboradores;
     }
 
     public List<AvaliacaoComportamental> listarAvaliacoes() {
-        log.info("Listando todas as avaliações comportamentais");
+        log.debug("Listando todas as avaliações comportamentais");
         List<AvaliacaoComportamental> avaliacoes = avaliacaoRepository.listarTodas();
-        log.info("Total de avaliações encontradas: {}", avaliacoes.size());
+        log.debug("Total de avaliações encontradas: {}", avaliacoes.size());
         return avaliacoes;
     }
 
     public List<Desafio> listarDesafios() {
-        log.info("Listando todos os desafios");
+        log.debug("Listando todos os desafios");
         List<Desafio> desafios = desafioRepository.listarTodos();
-        log.info("Total de desafios encontrados: {}", desafios.size());
+        log.debug("Total de desafios encontrados: {}", desafios.size());
         return desafios;
     }
+
+    public List<Colaborador> listarColaboradores(Long aposId, Integer limite) {
+        log.debug("Listando página de colaboradores após ID {} (limite {})", aposId, limite);
+        List<Colaborador> colaboradores = colaboradorRepository.listarPagina(cursor(aposId), validarLimite(limite));
+        log.debug("Total de colaboradores na página: {}", colaboradores.size());
+        return colaboradores;
+    }
+
+    public List<Colaborador> listarColaboradores(FiltroColaboradores filtro, Long aposId, Integer limite) {
+        log.debug("Listando página de colaboradores após ID {} (limite {}) com filtro: cargo {}, admitidos de {} até {}, ordem {}",
+                  aposId, limite, filtro.getCargo(), filtro.getAdmitidoDe(), filtro.getAdmitidoAte(), filtro.getOrdem());
+        List<Colaborador> colaboradores = colaboradorRepository.listarPagina(filtro, cursor(aposId), validarLimite(limite));
+        log.debug("Total de colaboradores na página: {}", colaboradores.size());
+        return colaboradores;
+    }
+
+    /**
+     * Filtro da listagem a partir dos parâmetros da API; as datas aceitam os mesmos formatos da data de admissão.
+     */
+    public static FiltroColaboradores filtroDeColaboradores(String cargo, String admitidoDe, String admitidoAte, String ordenarPor) {
+        OrdemColaboradores ordem = ordenarPor == null || ordenarPor.isBlank()
+            ? OrdemColaboradores.ID
+            : OrdemColaboradores.deCodigo(ordenarPor)
+                .orElseThrow(() -> new ValidacaoException(CodigoErro.FILTRO_INVALIDO,
+                    "Ordenação inválida: " + ordenarPor + ". Valores aceitos: " + ORDENS_ACEITAS));
+        LocalDate de = data("admitidoDe", admitidoDe);
+        LocalDate ate = data("admitidoAte", admitidoAte);
+        if (de != null && ate != null && de.isAfter(ate)) {
+            throw INTERVALO_INVALIDO;
+        }
+        return new FiltroColaboradores(cargo == null || cargo.isBlank() ? null : cargo.trim(), de, ate, ordem);
+    }
+
+    private static LocalDate data(String parametro, String texto) {
+        if (texto == null || texto.isBlank()) {
+            return null;
+        }
+        return DataAdmissao.deTexto(texto).orElseThrow(() -> new ValidacaoException(CodigoErro.FILTRO_INVALIDO,
+            "Data inválida em " + parametro + ": " + texto));
+    }
+
+    public List<AvaliacaoComportamental> listarAvaliacoes(Long aposId, Integer limite) {
+        log.debug("Listando página de avaliações comportamentais após ID {} (limite {})", aposId, limite);
+        List<AvaliacaoComportamental> avaliacoes = avaliacaoRepository.listarPagina(cursor(aposId), validarLimite(limite));
+        log.debug("Total de avaliações na página: {}", avaliacoes.size());
+        return avaliacoes;
+    }
+
+    public List<Desafio> listarDesafios(Long aposId, Integer limite) {
+        log.debug("Listando página de desafios após ID {} (limite {})", aposId, limite);
+        List<Desafio> desafios = desafioRepository.listarPagina(cursor(aposId), validarLimite(limite));
+        log.debug("Total de desafios na página: {}", desafios.size());
+        return desafios;
+    }
+
+    // O streaming percorre a tabela inteira em ordem de ID: cursor, limite ou filtro seriam ignorados em silêncio
+    public static void validarStream(Long aposId, Integer limite, FiltroColaboradores filtro) {
+        if (aposId != null || limite != null || !filtro.isSemFiltro()) {
+            throw STREAM_PAGINADO;
+        }
+    }
+
+    public static void validarStream(Long aposId, Integer limite) {
+        validarStream(aposId, limite, FiltroColaboradores.TODOS);
+    }
+
+    public void percorrerColaboradores(Consumer<Colaborador> consumidor) {
+        log.debug("Percorrendo todos os colaboradores em modo streaming");
+        colaboradorRepository.percorrerTodos(consumidor);
+    }
+
+    public void percorrerAvaliacoes(Consumer<AvaliacaoComportamental> consumidor) {
+        log.debug("Percorrendo todas as avaliações comportamentais em modo streaming");
+        avaliacaoRepository.percorrerTodas(consumidor);
+    }
+
+    public void percorrerDesafios(Consumer<Desafio> consumidor) {
+        log.debug("Percorrendo todos os desafios em modo streaming");
+        desafioRepository.percorrerTodos(consumidor);
+    }
+
+    private Long cursor(Long aposId) {
+        return aposId == null ? 0L : aposId;
+    }
+
+    private int validarLimite(Integer limite) {
+        if (limite == null) {
+            return LIMITE_PADRAO;
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            log.debug("Limite de paginação inválido: {}", limite);
+            throw LIMITE_INVALIDO;
+        }
+        return limite;
+    }
 }
@@ -0,0 +1,104 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.NotasFinaisAlteradas;
+import com.itau.case_tecnico.domain.model.PosicaoRanking;
+import com.itau.case_tecnico.domain.model.RankingNotaFinal;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Ranking da nota final servido da memória ({@link RankingNotaFinal}), sem consultar o banco nas leituras.
+ * Carregado por inteiro na primeira consulta e mantido por {@link AtualizacaoPorPendentes}; a ressincronização
+ * periódica cobre também escritas feitas pela linha de comando.
+ */
+@Service
+public class RankingUseCase {
+    private static final Logger log = LoggerFactory.getLogger(RankingUseCase.class);
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+    private static final ValidacaoException LIMITE_INVALIDO =
+        new ValidacaoException(CodigoErro.PAGINACAO_INVALIDA, "Limite deve estar entre 1 e " + LIMITE_MAXIMO);
+
+    private final CalcularNotaFinalUseCase calcularNotaFinalUseCase;
+    private final RankingNotaFinal ranking = new RankingNotaFinal();
+    private final AtualizacaoPorPendentes<ResumoNotas> atualizacao;
+
+    public RankingUseCase(NotaFinalRepositoryPort notaFinalRepository,
+                          CalcularNotaFinalUseCase calcularNotaFinalUseCase) {
+        this.calcularNotaFinalUseCase = calcularNotaFinalUseCase;
+        this.atualizacao = new AtualizacaoPorPendentes<>("ranking da nota final", notaFinalRepository::listarParaRanking,
+            notaFinalRepository::buscarParaRanking, this::aplicar);
+    }
+
+    public List<PosicaoRanking> listar(String cargo, Integer limite) {
+        int limiteValidado = validarLimite(limite);
+        String cargoFiltro = cargo == null || cargo.isBlank() ? null : cargo;
+        log.debug("Listando ranking da nota final (cargo: {}, limite: {})", cargoFiltro, limiteValidado);
+        atualizacao.garantirCarregado();
+        return ranking.topo(cargoFiltro, limiteValidado);
+    }
+
+    public Optional<PosicaoRanking> posicaoGeral(Long colaboradorId) {
+        atualizacao.garantirCarregado();
+        return ranking.posicao(colaboradorId);
+    }
+
+    public Optional<PosicaoRanking> posicaoNoCargo(Long colaboradorId) {
+        atualizacao.garantirCarregado();
+        return ranking.posicaoNoCargo(colaboradorId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarNotasFinais(NotasFinaisAlteradas evento) {
+        atualizacao.marcar(evento);
+    }
+
+    @Scheduled(fixedDelayString = "${app.ranking.atualizacao:PT0.5S}")
+    public void aplicarPendentes() {
+        atualizacao.aplicarPendentes();
+    }
+
+    @Scheduled(fixedDelayString = "${app.ranking.ressincronizacao:PT5M}", initialDelayString = "${app.ranking.ressincronizacao:PT5M}")
+    public void ressincronizar() {
+        atualizacao.ressincronizar();
+    }
+
+    private int aplicar(List<ResumoNotas> resumos) {
+        int aplicados = 0;
+        for (ResumoNotas resumo : resumos) {
+            if (ranking.atualizar(resumo.getColaboradorId(), resumo.getCargo(), resumo.getVersao(), notaFinal(resumo))) {
+                aplicados++;
+            }
+        }
+        log.debug("Ranking atualizado: {} de {} colaboradores com versão nova", aplicados, resumos.size());
+        return aplicados;
+    }
+
+    // Colaboradores sem as avaliações e desafios exigidos ficam fora do ranking
+    private Double notaFinal(ResumoNotas resumo) {
+        try {
+            return calcularNotaFinalUseCase.calcular(resumo).getNotaFinal();
+        } catch (ValidacaoException e) {
+            return null;
+        }
+    }
+
+    private int validarLimite(Integer limite) {
+        if (limite == null) {
+            return LIMITE_PADRAO;
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            log.debug("Limite do ranking inválido: {}", limite);
+            throw LIMITE_INVALIDO;
+        }
+        return limite;
+    }
+}
@@ -0,0 +1,39 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ReconciliarNotaFinalUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ReconciliarNotaFinalUseCase.class);
+    private final NotaFinalRepositoryPort notaFinalRepository;
+
+    public ReconciliarNotaFinalUseCase(NotaFinalRepositoryPort notaFinalRepository) {
+        this.notaFinalRepository = notaFinalRepository;
+    }
+
+    public int reconstruir() {
+        log.info("Iniciando reconstrução da nota final a partir das avaliações e desafios");
+        int total = notaFinalRepository.reconstruirTodos();
+        log.info("Reconstrução da nota final concluída: {} colaboradores", total);
+        return total;
+    }
+
+    public List<ResumoNotas> verificar() {
+        log.info("Iniciando verificação de consistência da nota final");
+        List<ResumoNotas> divergencias = notaFinalRepository.listarDivergencias();
+        for (ResumoNotas esperado : divergencias) {
+            log.warn("Nota final divergente para colaborador ID {}: esperado {} avaliações (soma {}), {} desafios ({} com nota, soma {})",
+                     esperado.getColaboradorId(),
+                     esperado.getQuantidadeAvaliacoes(), esperado.getSomaAvaliacoes(),
+                     esperado.getQuantidadeDesafios(), esperado.getQuantidadeDesafiosComNota(), esperado.getSomaDesafios());
+        }
+        log.info("Verificação de consistência concluída: {} divergências", divergencias.size());
+        return divergencias;
+    }
+}
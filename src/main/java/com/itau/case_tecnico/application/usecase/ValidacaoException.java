@@ -1,7 +1,35 @@
 package com.itau.case_tecnico.application.usecase;
 
+/**
+ * Rejeição de regra de negócio. Não captura stack trace nem aceita exceções suprimidas: o ponto
+ * de lançamento não interessa a quem recebe o 400, e montar o trace dominava o custo de rajadas
+ * de requisições inválidas. Por ser imutável, a mesma instância pode ser lançada por várias
+ * threads — as de mensagem fixa ficam pré-alocadas como constantes.
+ */
 public class ValidacaoException extends RuntimeException {
+    public static final ValidacaoException COLABORADOR_NAO_ENCONTRADO =
+        new ValidacaoException(CodigoErro.COLABORADOR_NAO_ENCONTRADO, "Colaborador não encontrado");
+    public static final ValidacaoException NOTA_INVALIDA =
+        new ValidacaoException(CodigoErro.NOTA_INVALIDA, "Nota deve estar entre 1 e 5");
+    public static final ValidacaoException LIMITE_AVALIACOES_ATINGIDO =
+        new ValidacaoException(CodigoErro.LIMITE_AVALIACOES_ATINGIDO, "Colaborador já possui 4 avaliações comportamentais");
+    public static final ValidacaoException LIMITE_DESAFIOS_ATINGIDO =
+        new ValidacaoException(CodigoErro.LIMITE_DESAFIOS_ATINGIDO, "Colaborador já possui 4 desafios (máximo permitido)");
+    public static final ValidacaoException CARGO_OBRIGATORIO =
+        new ValidacaoException(CodigoErro.CAMPO_OBRIGATORIO, "Cargo é obrigatório");
+
+    private final CodigoErro codigo;
+
     public ValidacaoException(String mensagem) {
-        super(mensagem);
+        this(CodigoErro.REQUISICAO_INVALIDA, mensagem);
+    }
+
+    public ValidacaoException(CodigoErro codigo, String mensagem) {
+        super(mensagem, null, false, false);
+        this.codigo = codigo;
+    }
+
+    public CodigoErro getCodigo() {
+        return codigo;
     }
 }
@@ -8,12 +8,12 @@ import lombok.Setter;
 public class AvaliacaoComportamental {
     private Long id;
     private Long colaboradorId;
-    private String tipo;
+    private TipoAvaliacao tipo;
     private Integer nota;
 
     public AvaliacaoComportamental() {}
 
-    public AvaliacaoComportamental(Long colaboradorId, String tipo, Integer nota) {
+    public AvaliacaoComportamental(Long colaboradorId, TipoAvaliacao tipo, Integer nota) {
         this.colaboradorId = colaboradorId;
         this.tipo = tipo;
         this.nota = nota;
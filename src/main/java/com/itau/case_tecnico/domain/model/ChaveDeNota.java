@@ -0,0 +1,20 @@
+package com.itau.case_tecnico.domain.model;
+
+/**
+ * Chave inteira com que notas e médias são agrupadas e ordenadas. Valores iguais calculados por
+ * caminhos diferentes podem diferir no último bit; arredondados a 6 casas, caem na mesma chave.
+ */
+final class ChaveDeNota {
+    private static final double ESCALA = 1_000_000d;
+
+    private ChaveDeNota() {
+    }
+
+    static long de(double valor) {
+        return Math.round(valor * ESCALA);
+    }
+
+    static double valor(long chave) {
+        return chave / ESCALA;
+    }
+}
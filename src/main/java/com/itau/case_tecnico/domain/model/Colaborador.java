@@ -3,18 +3,20 @@ package com.itau.case_tecnico.domain.model;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDate;
+
 @Getter
 @Setter
 public class Colaborador {
     private Long id;
     private String matricula;
     private String nome;
-    private String dataAdmissao;
+    private LocalDate dataAdmissao;
     private String cargo;
 
     public Colaborador() {}
 
-    public Colaborador(String matricula, String nome, String dataAdmissao, String cargo) {
+    public Colaborador(String matricula, String nome, LocalDate dataAdmissao, String cargo) {
         this.matricula = matricula;
         this.nome = nome;
         this.dataAdmissao = dataAdmissao;
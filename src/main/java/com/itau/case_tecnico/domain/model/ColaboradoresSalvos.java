@@ -0,0 +1,17 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Publicado ao gravar colaboradores (um ou um lote), com os dados já com ID, para o índice de busca.
+ */
+@Getter
+public class ColaboradoresSalvos {
+    private final List<Colaborador> colaboradores;
+
+    public ColaboradoresSalvos(List<Colaborador> colaboradores) {
+        this.colaboradores = List.copyOf(colaboradores);
+    }
+}
@@ -0,0 +1,49 @@
+package com.itau.case_tecnico.domain.model;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Formatos de data de admissão aceitos na entrada. A coluna guarda um DATE; antes era um texto livre,
+ * e os formatos encontrados nele (ISO, dia/mês/ano com barra, hífen ou ponto, e ISO com horário)
+ * continuam valendo na API, na importação e na conversão das linhas antigas.
+ */
+public final class DataAdmissao {
+    private static final List<DateTimeFormatter> FORMATOS = List.of(
+        formato("uuuu-M-d"),
+        formato("d/M/uuuu"),
+        formato("d-M-uuuu"),
+        formato("d.M.uuuu"),
+        formato("uuuu/M/d")
+    );
+    // "2024-01-15T09:30:00", "2024-01-15 09:30:00": vale só a data
+    private static final int TAMANHO_DATA_ISO = 10;
+
+    private DataAdmissao() {}
+
+    private static DateTimeFormatter formato(String padrao) {
+        return DateTimeFormatter.ofPattern(padrao).withResolverStyle(ResolverStyle.STRICT);
+    }
+
+    public static Optional<LocalDate> deTexto(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return Optional.empty();
+        }
+        String valor = texto.trim();
+        if (valor.length() > TAMANHO_DATA_ISO && (valor.charAt(TAMANHO_DATA_ISO) == 'T' || valor.charAt(TAMANHO_DATA_ISO) == ' ')) {
+            valor = valor.substring(0, TAMANHO_DATA_ISO);
+        }
+        for (DateTimeFormatter formato : FORMATOS) {
+            try {
+                return Optional.of(LocalDate.parse(valor, formato));
+            } catch (DateTimeParseException e) {
+                // tenta o próximo formato
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -6,6 +6,8 @@ import lombok.Setter;
 @Getter
 @Setter
 public class Desafio {
+    public static final int MAXIMO_POR_COLABORADOR = 4;
+
     private Long id;
     private Long colaboradorId;
     private String descricao;
@@ -0,0 +1,29 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+/**
+ * Cópia da distribuição de um cargo (ou de todos, com {@code cargo} nulo) no momento da consulta.
+ * Os histogramas das médias e da nota final só contam colaboradores com nota final calculável;
+ * as contagens por nota incluem todas as avaliações e desafios avaliados.
+ */
+@Getter
+public class Distribuicao {
+    private final String cargo;
+    private final Histograma notaFinal;
+    private final Histograma mediaComportamental;
+    private final Histograma mediaDesafios;
+    // Índice nota - 1
+    private final long[] avaliacoesPorNota;
+    private final long[] desafiosPorNota;
+
+    public Distribuicao(String cargo, Histograma notaFinal, Histograma mediaComportamental, Histograma mediaDesafios,
+                        long[] avaliacoesPorNota, long[] desafiosPorNota) {
+        this.cargo = cargo;
+        this.notaFinal = notaFinal;
+        this.mediaComportamental = mediaComportamental;
+        this.mediaDesafios = mediaDesafios;
+        this.avaliacoesPorNota = avaliacoesPorNota;
+        this.desafiosPorNota = desafiosPorNota;
+    }
+}
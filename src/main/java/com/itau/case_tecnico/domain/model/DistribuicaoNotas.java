@@ -0,0 +1,92 @@
+package com.itau.case_tecnico.domain.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Distribuição das notas por cargo, mantida em memória: histogramas exatos da nota final e das médias
+ * e contagens fixas por nota (1 a 5) das avaliações e desafios. Guarda a contribuição de cada colaborador
+ * para poder retirá-la quando ele muda; como no ranking, uma atualização só vale se a versão for maior
+ * que a já registrada. A distribuição geral é a combinação dos cargos no momento da consulta.
+ */
+public class DistribuicaoNotas {
+    public static final int NOTA_MINIMA = 1;
+    public static final int NOTA_MAXIMA = 5;
+
+    private final Map<String, Particao> porCargo = new HashMap<>();
+    private final Map<Long, Contribuicao> porColaborador = new HashMap<>();
+
+    /**
+     * Substitui a contribuição do colaborador; médias nulas deixam o colaborador fora dos histogramas
+     * de nota final e médias (ainda sem as avaliações e desafios exigidos).
+     * @return falso se a versão já registrada for igual ou mais nova
+     */
+    public synchronized boolean atualizar(NotasDoColaborador notas, Double notaFinal,
+                                          Double mediaComportamental, Double mediaDesafios) {
+        ResumoNotas resumo = notas.getResumo();
+        Contribuicao atual = porColaborador.get(resumo.getColaboradorId());
+        if (atual != null && atual.versao() >= resumo.getVersao()) {
+            return false;
+        }
+        Contribuicao nova = new Contribuicao(resumo.getCargo(), resumo.getVersao(), notaFinal, mediaComportamental,
+            mediaDesafios, notas.getAvaliacoesPorNota(), notas.getDesafiosPorNota());
+        if (atual != null) {
+            porCargo.get(atual.cargo()).aplicar(atual, -1);
+        }
+        porCargo.computeIfAbsent(nova.cargo(), cargo -> new Particao()).aplicar(nova, 1);
+        porColaborador.put(resumo.getColaboradorId(), nova);
+        return true;
+    }
+
+    /** Distribuição do cargo, ou de todos os colaboradores com {@code cargo} nulo. */
+    public synchronized Distribuicao consultar(String cargo) {
+        Particao resultado = new Particao();
+        if (cargo == null) {
+            porCargo.values().forEach(resultado::mesclar);
+        } else if (porCargo.containsKey(cargo)) {
+            resultado.mesclar(porCargo.get(cargo));
+        }
+        return new Distribuicao(cargo, resultado.notaFinal, resultado.mediaComportamental, resultado.mediaDesafios,
+            resultado.avaliacoesPorNota, resultado.desafiosPorNota);
+    }
+
+    private record Contribuicao(String cargo, long versao, Double notaFinal, Double mediaComportamental,
+                                Double mediaDesafios, long[] avaliacoesPorNota, long[] desafiosPorNota) {}
+
+    private static final class Particao {
+        private final Histograma notaFinal = new Histograma();
+        private final Histograma mediaComportamental = new Histograma();
+        private final Histograma mediaDesafios = new Histograma();
+        private final long[] avaliacoesPorNota = new long[NOTA_MAXIMA];
+        private final long[] desafiosPorNota = new long[NOTA_MAXIMA];
+
+        // sinal 1 soma a contribuição, -1 retira
+        void aplicar(Contribuicao contribuicao, int sinal) {
+            if (contribuicao.notaFinal() != null) {
+                if (sinal > 0) {
+                    notaFinal.adicionar(contribuicao.notaFinal());
+                    mediaComportamental.adicionar(contribuicao.mediaComportamental());
+                    mediaDesafios.adicionar(contribuicao.mediaDesafios());
+                } else {
+                    notaFinal.remover(contribuicao.notaFinal());
+                    mediaComportamental.remover(contribuicao.mediaComportamental());
+                    mediaDesafios.remover(contribuicao.mediaDesafios());
+                }
+            }
+            for (int i = 0; i < NOTA_MAXIMA; i++) {
+                avaliacoesPorNota[i] += sinal * contribuicao.avaliacoesPorNota()[i];
+                desafiosPorNota[i] += sinal * contribuicao.desafiosPorNota()[i];
+            }
+        }
+
+        void mesclar(Particao outra) {
+            notaFinal.mesclar(outra.notaFinal);
+            mediaComportamental.mesclar(outra.mediaComportamental);
+            mediaDesafios.mesclar(outra.mediaDesafios);
+            for (int i = 0; i < NOTA_MAXIMA; i++) {
+                avaliacoesPorNota[i] += outra.avaliacoesPorNota[i];
+                desafiosPorNota[i] += outra.desafiosPorNota[i];
+            }
+        }
+    }
+}
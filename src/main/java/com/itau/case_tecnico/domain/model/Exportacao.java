@@ -0,0 +1,55 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Estado de uma exportação em segundo plano. Só a thread que executa a exportação altera o estado;
+ * os campos voláteis deixam as consultas de progresso lerem sem travar.
+ */
+@Getter
+public class Exportacao {
+    private final String id;
+    private final TipoExportacao tipo;
+    private final FormatoExportacao formato;
+    private final Instant criadaEm;
+    private volatile StatusExportacao status = StatusExportacao.PENDENTE;
+    private volatile long linhas;
+    private volatile long bytes;
+    private volatile String erro;
+    private volatile Instant finalizadaEm;
+
+    public Exportacao(String id, TipoExportacao tipo, FormatoExportacao formato, Instant criadaEm) {
+        this.id = id;
+        this.tipo = tipo;
+        this.formato = formato;
+        this.criadaEm = criadaEm;
+    }
+
+    public String getNomeArquivo() {
+        return tipo.getCodigo() + "-" + id + formato.getExtensao();
+    }
+
+    public void iniciar() {
+        status = StatusExportacao.EM_ANDAMENTO;
+    }
+
+    // bytes: tamanho já gravado no disco, depois da compactação
+    public void registrarProgresso(long linhas, long bytes) {
+        this.linhas = linhas;
+        this.bytes = bytes;
+    }
+
+    public void concluir(long bytes, Instant em) {
+        this.bytes = bytes;
+        this.finalizadaEm = em;
+        status = StatusExportacao.CONCLUIDA;
+    }
+
+    public void falhar(String erro, Instant em) {
+        this.erro = erro;
+        this.finalizadaEm = em;
+        status = StatusExportacao.FALHOU;
+    }
+}
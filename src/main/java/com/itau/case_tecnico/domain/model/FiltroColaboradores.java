@@ -0,0 +1,30 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros da listagem de colaboradores: cargo exato e intervalo fechado de data de admissão,
+ * cada um opcional (nulo não filtra).
+ */
+@Getter
+public class FiltroColaboradores {
+    public static final FiltroColaboradores TODOS = new FiltroColaboradores(null, null, null, OrdemColaboradores.ID);
+
+    private final String cargo;
+    private final LocalDate admitidoDe;
+    private final LocalDate admitidoAte;
+    private final OrdemColaboradores ordem;
+
+    public FiltroColaboradores(String cargo, LocalDate admitidoDe, LocalDate admitidoAte, OrdemColaboradores ordem) {
+        this.cargo = cargo;
+        this.admitidoDe = admitidoDe;
+        this.admitidoAte = admitidoAte;
+        this.ordem = ordem;
+    }
+
+    public boolean isSemFiltro() {
+        return cargo == null && admitidoDe == null && admitidoAte == null && ordem == OrdemColaboradores.ID;
+    }
+}
@@ -0,0 +1,31 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Formatos de arquivo da exportação, sempre compactados com gzip.
+ */
+@Getter
+public enum FormatoExportacao {
+    CSV("csv", ".csv.gz"),
+    NDJSON("ndjson", ".ndjson.gz");
+
+    private final String codigo;
+    private final String extensao;
+
+    FormatoExportacao(String codigo, String extensao) {
+        this.codigo = codigo;
+        this.extensao = extensao;
+    }
+
+    public static Optional<FormatoExportacao> deCodigo(String codigo) {
+        for (FormatoExportacao formato : values()) {
+            if (formato.codigo.equalsIgnoreCase(codigo == null ? "" : codigo.trim())) {
+                return Optional.of(formato);
+            }
+        }
+        return Optional.empty();
+    }
+}
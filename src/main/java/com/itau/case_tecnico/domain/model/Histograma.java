@@ -0,0 +1,53 @@
+package com.itau.case_tecnico.domain.model;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contagem exata por valor. As notas são inteiras de 1 a 5 e as médias são frações delas
+ * (quartos, terços, metades), então há poucos valores distintos: o histograma é pequeno,
+ * os percentis são exatos e dois histogramas se combinam somando as contagens.
+ * Não é thread-safe; quem o guarda sincroniza o acesso.
+ */
+public class Histograma {
+    private final TreeMap<Long, Long> quantidadePorValor = new TreeMap<>();
+    private long quantidade;
+
+    public void adicionar(double valor) {
+        quantidadePorValor.merge(ChaveDeNota.de(valor), 1L, Long::sum);
+        quantidade++;
+    }
+
+    public void remover(double valor) {
+        quantidadePorValor.computeIfPresent(ChaveDeNota.de(valor), (chave, atual) -> atual == 1 ? null : atual - 1);
+        quantidade--;
+    }
+
+    public void mesclar(Histograma outro) {
+        outro.quantidadePorValor.forEach((chave, atual) -> quantidadePorValor.merge(chave, atual, Long::sum));
+        quantidade += outro.quantidade;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Percentil pelo método do posto mais próximo: o menor valor com pelo menos {@code fracao}
+     * das observações abaixo ou iguais a ele. Nulo se o histograma estiver vazio.
+     */
+    public Double percentil(double fracao) {
+        if (quantidade == 0) {
+            return null;
+        }
+        long posto = Math.max(1, (long) Math.ceil(fracao * quantidade));
+        long acumulado = 0;
+        for (Map.Entry<Long, Long> entrada : quantidadePorValor.entrySet()) {
+            acumulado += entrada.getValue();
+            if (acumulado >= posto) {
+                return ChaveDeNota.valor(entrada.getKey());
+            }
+        }
+        return ChaveDeNota.valor(quantidadePorValor.lastKey());
+    }
+}
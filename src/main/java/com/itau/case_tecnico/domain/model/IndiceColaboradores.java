@@ -0,0 +1,269 @@
+package com.itau.case_tecnico.domain.model;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Índice em memória da busca de colaboradores por prefixo de nome ou matrícula, sem diferenciar acentos
+ * nem maiúsculas, com filtro opcional de cargo. A base é um retrato imutável ordenado por ID: cada termo
+ * aponta para as posições dos colaboradores que o contêm, e um prefixo é a união dos termos do intervalo
+ * [prefixo, prefixo + U+FFFF) num BitSet. Colaboradores salvos depois do retrato ficam em pendentes,
+ * conferidos um a um em cada busca, até a compactação gerar um retrato novo. Buscas não travam;
+ * compactação e recarga são serializadas.
+ */
+public class IndiceColaboradores {
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private volatile Retrato retrato = new Retrato(List.of());
+    private final ConcurrentSkipListMap<Long, Entrada> pendentes = new ConcurrentSkipListMap<>();
+    // Ordem de chegada dos pendentes: separa os que já estavam confirmados quando uma recarga começou
+    private final AtomicLong sequencia = new AtomicLong();
+
+    /** Minúsculas sem acentos, com tudo que não é letra ou dígito trocado por um espaço. */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    static List<String> termos(String texto) {
+        String normalizado = normalizar(texto);
+        return normalizado.isEmpty() ? List.of() : List.of(normalizado.split(" "));
+    }
+
+    /** Colaboradores gravados depois do retrato; visíveis na busca imediatamente. */
+    public void adicionar(Collection<Colaborador> colaboradores) {
+        for (Colaborador colaborador : colaboradores) {
+            pendentes.put(colaborador.getId(), Entrada.de(colaborador, sequencia.incrementAndGet()));
+        }
+    }
+
+    public int getPendentes() {
+        return pendentes.size();
+    }
+
+    public int getTamanho() {
+        return retrato.ids.length;
+    }
+
+    /**
+     * Troca o retrato pelo resultado da leitura. Os pendentes que chegaram antes da leitura começar
+     * já estão nela e são descartados; os que chegaram durante a leitura continuam valendo.
+     */
+    public synchronized void recarregar(Supplier<List<Colaborador>> leitura) {
+        long inicio = sequencia.get();
+        List<Colaborador> colaboradores = leitura.get();
+        List<Entrada> entradas = new ArrayList<>(colaboradores.size());
+        for (Colaborador colaborador : colaboradores) {
+            entradas.add(Entrada.de(colaborador, 0));
+        }
+        entradas.sort((a, b) -> Long.compare(a.id(), b.id()));
+        retrato = new Retrato(entradas);
+        for (Entrada pendente : pendentes.values()) {
+            if (pendente.sequencia() <= inicio) {
+                pendentes.remove(pendente.id(), pendente);
+            }
+        }
+    }
+
+    /** Incorpora os pendentes a um retrato novo. */
+    public synchronized void compactar() {
+        List<Entrada> novos = new ArrayList<>(pendentes.values());
+        if (novos.isEmpty()) {
+            return;
+        }
+        Retrato atual = retrato;
+        List<Entrada> entradas = new ArrayList<>(atual.entradas.length + novos.size());
+        int i = 0;
+        for (Entrada novo : novos) {
+            while (i < atual.entradas.length && atual.entradas[i].id() < novo.id()) {
+                entradas.add(atual.entradas[i++]);
+            }
+            if (i < atual.entradas.length && atual.entradas[i].id() == novo.id()) {
+                i++;
+            }
+            entradas.add(novo);
+        }
+        entradas.addAll(Arrays.asList(atual.entradas).subList(i, atual.entradas.length));
+        retrato = new Retrato(entradas);
+        // Só depois de publicar o retrato; um pendente substituído nesse meio tempo continua pendente
+        for (Entrada novo : novos) {
+            pendentes.remove(novo.id(), novo);
+        }
+    }
+
+    /**
+     * Até {@code limite} colaboradores em ordem de ID, a partir do primeiro ID maior que {@code aposId},
+     * em que cada termo de {@code texto} é prefixo de uma palavra do nome ou da matrícula.
+     * {@code texto} vazio não filtra; {@code cargo} nulo ou vazio também não.
+     */
+    public List<Colaborador> buscar(String texto, String cargo, Long aposId, int limite) {
+        List<String> termosBusca = termos(texto);
+        String cargoBusca = cargo == null || cargo.isBlank() ? null : normalizar(cargo);
+        Retrato atual = retrato;
+        BitSet filtro = atual.filtrar(termosBusca, cargoBusca);
+        Iterator<Entrada> novos = (aposId == null ? pendentes : pendentes.tailMap(aposId, false)).values().iterator();
+
+        List<Colaborador> resultado = new ArrayList<>(Math.min(limite, 64));
+        Entrada pendente = proximoPendente(novos, termosBusca, cargoBusca);
+        int posicao = atual.proxima(filtro, atual.primeiraApos(aposId));
+        while (resultado.size() < limite && (posicao >= 0 || pendente != null)) {
+            long idRetrato = posicao >= 0 ? atual.ids[posicao] : Long.MAX_VALUE;
+            if (pendente != null && pendente.id() <= idRetrato) {
+                resultado.add(pendente.colaborador());
+                if (pendente.id() == idRetrato) {
+                    posicao = atual.proxima(filtro, posicao + 1);
+                }
+                pendente = proximoPendente(novos, termosBusca, cargoBusca);
+            } else {
+                // Um pendente com o mesmo ID é a versão mais nova, mesmo que não corresponda à busca
+                if (!pendentes.containsKey(idRetrato)) {
+                    resultado.add(atual.entradas[posicao].colaborador());
+                }
+                posicao = atual.proxima(filtro, posicao + 1);
+            }
+        }
+        return resultado;
+    }
+
+    private static Entrada proximoPendente(Iterator<Entrada> novos, List<String> termosBusca, String cargoBusca) {
+        while (novos.hasNext()) {
+            Entrada entrada = novos.next();
+            if (entrada.corresponde(termosBusca, cargoBusca)) {
+                return entrada;
+            }
+        }
+        return null;
+    }
+
+    private record Entrada(long id, Colaborador colaborador, String[] termos, String cargo, long sequencia) {
+
+        // Cópia própria: o índice não acompanha alterações feitas depois no objeto de quem gravou
+        static Entrada de(Colaborador colaborador, long sequencia) {
+            Colaborador copia = new Colaborador(colaborador.getMatricula(), colaborador.getNome(),
+                colaborador.getDataAdmissao(), colaborador.getCargo());
+            copia.setId(colaborador.getId());
+            Set<String> termos = new LinkedHashSet<>(IndiceColaboradores.termos(colaborador.getNome()));
+            termos.addAll(IndiceColaboradores.termos(colaborador.getMatricula()));
+            return new Entrada(colaborador.getId(), copia, termos.toArray(String[]::new),
+                normalizar(colaborador.getCargo()), sequencia);
+        }
+
+        boolean corresponde(List<String> termosBusca, String cargoBusca) {
+            if (cargoBusca != null && !cargoBusca.equals(cargo)) {
+                return false;
+            }
+            for (String termoBusca : termosBusca) {
+                if (Arrays.stream(termos).noneMatch(termo -> termo.startsWith(termoBusca))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Retrato {
+        private final long[] ids;
+        private final Entrada[] entradas;
+        private final TreeMap<String, int[]> porTermo = new TreeMap<>();
+        private final Map<String, int[]> porCargo = new HashMap<>();
+
+        // entradas ordenadas por ID
+        Retrato(List<Entrada> entradas) {
+            this.entradas = entradas.toArray(Entrada[]::new);
+            this.ids = new long[this.entradas.length];
+            Map<String, Posicoes> termos = new HashMap<>();
+            Map<String, Posicoes> cargos = new HashMap<>();
+            for (int posicao = 0; posicao < this.entradas.length; posicao++) {
+                Entrada entrada = this.entradas[posicao];
+                ids[posicao] = entrada.id();
+                for (String termo : entrada.termos()) {
+                    termos.computeIfAbsent(termo, t -> new Posicoes()).adicionar(posicao);
+                }
+                cargos.computeIfAbsent(entrada.cargo(), c -> new Posicoes()).adicionar(posicao);
+            }
+            termos.forEach((termo, posicoes) -> porTermo.put(termo, posicoes.toArray()));
+            cargos.forEach((cargo, posicoes) -> porCargo.put(cargo, posicoes.toArray()));
+        }
+
+        // Nulo quando não há filtro: todas as posições valem
+        BitSet filtrar(List<String> termosBusca, String cargoBusca) {
+            BitSet filtro = null;
+            for (String termo : termosBusca) {
+                BitSet doTermo = new BitSet(ids.length);
+                for (int[] posicoes : porTermo.subMap(termo, true, termo + Character.MAX_VALUE, false).values()) {
+                    for (int posicao : posicoes) {
+                        doTermo.set(posicao);
+                    }
+                }
+                filtro = restringir(filtro, doTermo);
+            }
+            if (cargoBusca != null) {
+                BitSet doCargo = new BitSet(ids.length);
+                for (int posicao : porCargo.getOrDefault(cargoBusca, new int[0])) {
+                    doCargo.set(posicao);
+                }
+                filtro = restringir(filtro, doCargo);
+            }
+            return filtro;
+        }
+
+        private static BitSet restringir(BitSet filtro, BitSet outro) {
+            if (filtro == null) {
+                return outro;
+            }
+            filtro.and(outro);
+            return filtro;
+        }
+
+        int primeiraApos(Long aposId) {
+            if (aposId == null) {
+                return 0;
+            }
+            int posicao = Arrays.binarySearch(ids, aposId);
+            return posicao >= 0 ? posicao + 1 : -posicao - 1;
+        }
+
+        // Próxima posição aceita pelo filtro a partir de "desde", ou -1
+        int proxima(BitSet filtro, int desde) {
+            if (filtro == null) {
+                return desde < ids.length ? desde : -1;
+            }
+            return filtro.nextSetBit(desde);
+        }
+    }
+
+    private static final class Posicoes {
+        private int[] valores = new int[4];
+        private int tamanho;
+
+        void adicionar(int posicao) {
+            if (tamanho == valores.length) {
+                valores = Arrays.copyOf(valores, tamanho * 2);
+            }
+            valores[tamanho++] = posicao;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(valores, tamanho);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+/**
+ * Resumo da nota final do colaborador (com cargo e versão) e a quantidade de
+ * avaliações e de desafios por nota, no índice {@code nota - 1}.
+ */
+@Getter
+public class NotasDoColaborador {
+    private final ResumoNotas resumo;
+    private final long[] avaliacoesPorNota;
+    private final long[] desafiosPorNota;
+
+    public NotasDoColaborador(ResumoNotas resumo, long[] avaliacoesPorNota, long[] desafiosPorNota) {
+        this.resumo = resumo;
+        this.avaliacoesPorNota = avaliacoesPorNota;
+        this.desafiosPorNota = desafiosPorNota;
+    }
+}
@@ -0,0 +1,30 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+/**
+ * Publicado pelas escritas na nota_final: o colaborador afetado, ou todos quando a tabela foi reconstruída.
+ */
+@Getter
+public class NotasFinaisAlteradas {
+    private static final NotasFinaisAlteradas TODAS = new NotasFinaisAlteradas(null);
+
+    // Nulo quando todas as linhas foram alteradas
+    private final Long colaboradorId;
+
+    private NotasFinaisAlteradas(Long colaboradorId) {
+        this.colaboradorId = colaboradorId;
+    }
+
+    public static NotasFinaisAlteradas doColaborador(Long colaboradorId) {
+        return new NotasFinaisAlteradas(colaboradorId);
+    }
+
+    public static NotasFinaisAlteradas todas() {
+        return TODAS;
+    }
+
+    public boolean isTodas() {
+        return colaboradorId == null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Ordenação da listagem filtrada de colaboradores. O {@code codigo} é o valor aceito em {@code ordenarPor};
+ * nas duas ordens o ID desempata, e o cursor da próxima página continua sendo o ID do último colaborador.
+ */
+@Getter
+public enum OrdemColaboradores {
+    ID("id"),
+    DATA_ADMISSAO("data_admissao");
+
+    private final String codigo;
+
+    OrdemColaboradores(String codigo) {
+        this.codigo = codigo;
+    }
+
+    public static Optional<OrdemColaboradores> deCodigo(String codigo) {
+        for (OrdemColaboradores ordem : values()) {
+            if (ordem.codigo.equalsIgnoreCase(codigo == null ? "" : codigo.trim())) {
+                return Optional.of(ordem);
+            }
+        }
+        return Optional.empty();
+    }
+}
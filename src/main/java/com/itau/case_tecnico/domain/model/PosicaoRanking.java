@@ -0,0 +1,21 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+@Getter
+public class PosicaoRanking {
+    private final Long colaboradorId;
+    private final String cargo;
+    private final double notaFinal;
+    // Colaboradores com a mesma nota dividem a posição (1, 2, 2, 4)
+    private final int posicao;
+    private final int total;
+
+    public PosicaoRanking(Long colaboradorId, String cargo, double notaFinal, int posicao, int total) {
+        this.colaboradorId = colaboradorId;
+        this.cargo = cargo;
+        this.notaFinal = notaFinal;
+        this.posicao = posicao;
+        this.total = total;
+    }
+}
@@ -0,0 +1,128 @@
+package com.itau.case_tecnico.domain.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Ranking da nota final em memória, geral e por cargo. Cada partição guarda os colaboradores
+ * ordenados por nota (ConcurrentSkipListSet, para o top-N) e a quantidade de colaboradores por nota
+ * (ConcurrentSkipListMap, para a posição: 1 + quantos têm nota maior, somando só as notas distintas acima).
+ * Leituras não travam. Atualizações são serializadas e só valem se a versão for maior que a já
+ * registrada para o colaborador, então podem chegar em qualquer ordem.
+ */
+public class RankingNotaFinal {
+    private static final Comparator<Entrada> ORDEM = Comparator.comparingLong(Entrada::chave).reversed()
+        .thenComparing(Entrada::colaboradorId);
+
+    private final Particao geral = new Particao();
+    private final Map<String, Particao> porCargo = new ConcurrentHashMap<>();
+    private final Map<Long, Entrada> porColaborador = new ConcurrentHashMap<>();
+
+    /**
+     * Registra a nota final do colaborador na versão informada; {@code notaFinal} nulo tira o
+     * colaborador do ranking (ainda sem as avaliações e desafios exigidos).
+     * @return falso se a versão já registrada for igual ou mais nova
+     */
+    public synchronized boolean atualizar(Long colaboradorId, String cargo, long versao, Double notaFinal) {
+        Entrada atual = porColaborador.get(colaboradorId);
+        if (atual != null && atual.versao() >= versao) {
+            return false;
+        }
+        Entrada nova = new Entrada(colaboradorId, cargo, versao, notaFinal,
+            notaFinal == null ? 0 : ChaveDeNota.de(notaFinal));
+        if (atual != null && atual.notaFinal() != null) {
+            geral.remover(atual);
+            particao(atual.cargo()).ifPresent(particao -> particao.remover(atual));
+        }
+        if (notaFinal != null) {
+            geral.adicionar(nova);
+            if (cargo != null) {
+                porCargo.computeIfAbsent(cargo, c -> new Particao()).adicionar(nova);
+            }
+        }
+        porColaborador.put(colaboradorId, nova);
+        return true;
+    }
+
+    /** Os {@code limite} primeiros do cargo, ou do ranking geral com {@code cargo} nulo. */
+    public List<PosicaoRanking> topo(String cargo, int limite) {
+        Optional<Particao> particao = cargo == null ? Optional.of(geral) : particao(cargo);
+        if (particao.isEmpty()) {
+            return List.of();
+        }
+        int total = particao.get().tamanho;
+        List<PosicaoRanking> topo = new ArrayList<>(Math.min(limite, total));
+        int posicao = 0;
+        long chaveAnterior = 0;
+        for (Entrada entrada : particao.get().ordenadas) {
+            if (topo.size() == limite) {
+                break;
+            }
+            if (topo.isEmpty() || entrada.chave() != chaveAnterior) {
+                posicao = topo.size() + 1;
+                chaveAnterior = entrada.chave();
+            }
+            topo.add(new PosicaoRanking(entrada.colaboradorId(), entrada.cargo(), entrada.notaFinal(), posicao, total));
+        }
+        return topo;
+    }
+
+    /** Posição no ranking geral; vazio se o colaborador não estiver no ranking. */
+    public Optional<PosicaoRanking> posicao(Long colaboradorId) {
+        return posicaoEm(colaboradorId, false);
+    }
+
+    /** Posição entre os colaboradores do mesmo cargo; vazio se o colaborador não estiver no ranking. */
+    public Optional<PosicaoRanking> posicaoNoCargo(Long colaboradorId) {
+        return posicaoEm(colaboradorId, true);
+    }
+
+    private Optional<PosicaoRanking> posicaoEm(Long colaboradorId, boolean noCargo) {
+        Entrada entrada = porColaborador.get(colaboradorId);
+        if (entrada == null || entrada.notaFinal() == null) {
+            return Optional.empty();
+        }
+        Optional<Particao> particao = noCargo ? particao(entrada.cargo()) : Optional.of(geral);
+        return particao.map(p -> new PosicaoRanking(entrada.colaboradorId(), entrada.cargo(), entrada.notaFinal(),
+            p.posicao(entrada.chave()), p.tamanho));
+    }
+
+    private Optional<Particao> particao(String cargo) {
+        return cargo == null ? Optional.empty() : Optional.ofNullable(porCargo.get(cargo));
+    }
+
+    private record Entrada(Long colaboradorId, String cargo, long versao, Double notaFinal, long chave) {}
+
+    private static final class Particao {
+        private final ConcurrentSkipListSet<Entrada> ordenadas = new ConcurrentSkipListSet<>(ORDEM);
+        private final ConcurrentSkipListMap<Long, Integer> quantidadePorChave = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        // size() das coleções concorrentes percorre a coleção inteira
+        private volatile int tamanho;
+
+        void adicionar(Entrada entrada) {
+            ordenadas.add(entrada);
+            quantidadePorChave.merge(entrada.chave(), 1, Integer::sum);
+            tamanho++;
+        }
+
+        void remover(Entrada entrada) {
+            ordenadas.remove(entrada);
+            quantidadePorChave.computeIfPresent(entrada.chave(), (chave, quantidade) -> quantidade == 1 ? null : quantidade - 1);
+            tamanho--;
+        }
+
+        int posicao(long chave) {
+            int acima = 0;
+            for (int quantidade : quantidadePorChave.headMap(chave).values()) {
+                acima += quantidade;
+            }
+            return acima + 1;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+@Getter
+public class ResumoNotas {
+    private final Long colaboradorId;
+    private final long quantidadeAvaliacoes;
+    private final long somaAvaliacoes;
+    private final long quantidadeDesafios;
+    private final long quantidadeDesafiosComNota;
+    private final long somaDesafios;
+    // Preenchidos só nas leituras do ranking
+    private final String cargo;
+    private final long versao;
+
+    public ResumoNotas(Long colaboradorId, long quantidadeAvaliacoes, long somaAvaliacoes,
+                       long quantidadeDesafios, long quantidadeDesafiosComNota, long somaDesafios) {
+        this(colaboradorId, quantidadeAvaliacoes, somaAvaliacoes, quantidadeDesafios, quantidadeDesafiosComNota, somaDesafios, null, 0);
+    }
+
+    public ResumoNotas(Long colaboradorId, long quantidadeAvaliacoes, long somaAvaliacoes,
+                       long quantidadeDesafios, long quantidadeDesafiosComNota, long somaDesafios,
+                       String cargo, long versao) {
+        this.colaboradorId = colaboradorId;
+        this.quantidadeAvaliacoes = quantidadeAvaliacoes;
+        this.somaAvaliacoes = somaAvaliacoes;
+        this.quantidadeDesafios = quantidadeDesafios;
+        this.quantidadeDesafiosComNota = quantidadeDesafiosComNota;
+        this.somaDesafios = somaDesafios;
+        this.cargo = cargo;
+        this.versao = versao;
+    }
+}
@@ -0,0 +1,12 @@
+package com.itau.case_tecnico.domain.model;
+
+public enum StatusExportacao {
+    PENDENTE,
+    EM_ANDAMENTO,
+    CONCLUIDA,
+    FALHOU;
+
+    public boolean isFinalizada() {
+        return this == CONCLUIDA || this == FALHOU;
+    }
+}
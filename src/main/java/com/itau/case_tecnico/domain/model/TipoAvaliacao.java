@@ -0,0 +1,51 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Os quatro tipos de avaliação comportamental. No banco cada tipo ocupa apenas o {@code codigo};
+ * na API continua sendo aceita a pergunta completa ({@code descricao}), além do código e do nome.
+ */
+@Getter
+public enum TipoAvaliacao {
+    AMBIENTE_COLABORATIVO(1, "Você promove um ambiente colaborativo?"),
+    APRENDIZADO_CONTINUO(2, "Você se atualiza e aprende o tempo todo?"),
+    DECISAO_POR_DADOS(3, "Você utiliza dados para tomar decisões?"),
+    AUTONOMIA(4, "Você trabalha com autonomia?");
+
+    private static final TipoAvaliacao[] POR_CODIGO = new TipoAvaliacao[values().length + 1];
+    private static final Map<String, TipoAvaliacao> POR_TEXTO = new HashMap<>();
+
+    static {
+        for (TipoAvaliacao tipo : values()) {
+            POR_CODIGO[tipo.codigo] = tipo;
+            POR_TEXTO.put(tipo.descricao, tipo);
+            POR_TEXTO.put(String.valueOf(tipo.codigo), tipo);
+            POR_TEXTO.put(tipo.name(), tipo);
+        }
+    }
+
+    private final int codigo;
+    private final String descricao;
+
+    TipoAvaliacao(int codigo, String descricao) {
+        this.codigo = codigo;
+        this.descricao = descricao;
+    }
+
+    public static TipoAvaliacao deCodigo(int codigo) {
+        if (codigo < 1 || codigo >= POR_CODIGO.length) {
+            throw new IllegalArgumentException("Código de tipo de avaliação inexistente: " + codigo);
+        }
+        return POR_CODIGO[codigo];
+    }
+
+    // Pergunta completa (formato original), código numérico ou nome do tipo
+    public static Optional<TipoAvaliacao> deTexto(String texto) {
+        return texto == null ? Optional.empty() : Optional.ofNullable(POR_TEXTO.get(texto.trim()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.itau.case_tecnico.domain.model;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Conjuntos de dados exportáveis. O {@code codigo} é o valor aceito na API e o prefixo do nome do arquivo.
+ */
+@Getter
+public enum TipoExportacao {
+    NOTAS_FINAIS("notas-finais"),
+    COLABORADORES("colaboradores"),
+    AVALIACOES("avaliacoes"),
+    DESAFIOS("desafios");
+
+    private final String codigo;
+
+    TipoExportacao(String codigo) {
+        this.codigo = codigo;
+    }
+
+    public static Optional<TipoExportacao> deCodigo(String codigo) {
+        for (TipoExportacao tipo : values()) {
+            if (tipo.codigo.equalsIgnoreCase(codigo == null ? "" : codigo.trim())) {
+                return Optional.of(tipo);
+            }
+        }
+        return Optional.empty();
+    }
+}
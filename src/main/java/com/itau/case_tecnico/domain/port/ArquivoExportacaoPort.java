@@ -0,0 +1,25 @@
+package com.itau.case_tecnico.domain.port;
+
+import com.itau.case_tecnico.domain.model.Exportacao;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArquivoExportacaoPort {
+    // Arquivo temporário com as colunas informadas; só fica visível em buscar() depois de concluir()
+    Escritor criar(Exportacao exportacao, List<String> colunas);
+    Optional<Path> buscar(Exportacao exportacao);
+    // Remove os arquivos (concluídos ou abandonados) modificados antes do limite
+    int excluirAnterioresA(Instant limite);
+
+    interface Escritor extends AutoCloseable {
+        // Valores na ordem das colunas; nulos viram campo vazio (CSV) ou null (NDJSON)
+        void escrever(List<?> valores);
+        long getBytesEscritos();
+        void concluir();
+        // Sem concluir(), descarta o arquivo temporário
+        @Override
+        void close();
+    }
+}
@@ -1,12 +1,19 @@
 package com.itau.case_tecnico.domain.port;
 
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AvaliacaoRepositoryPort {
     AvaliacaoComportamental salvar(AvaliacaoComportamental avaliacao);
+    List<AvaliacaoComportamental> salvarTodas(List<AvaliacaoComportamental> avaliacoes);
     List<AvaliacaoComportamental> buscarPorColaboradorId(Long colaboradorId);
+    Optional<List<AvaliacaoComportamental>> listarPorColaborador(Long colaboradorId);
+    List<AvaliacaoComportamental> buscarPorColaboradorIds(Collection<Long> colaboradorIds);
     List<AvaliacaoComportamental> listarTodas();
+    List<AvaliacaoComportamental> listarPagina(Long aposId, int limite);
+    void percorrerTodas(Consumer<AvaliacaoComportamental> consumidor);
     Optional<AvaliacaoComportamental> buscarPorId(Long id);
 }
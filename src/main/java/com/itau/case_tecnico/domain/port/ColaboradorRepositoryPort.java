@@ -1,13 +1,28 @@
 package com.itau.case_tecnico.domain.port;
 
 import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.FiltroColaboradores;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ColaboradorRepositoryPort {
     Optional<Colaborador> buscarPorId(Long id);
     Colaborador salvar(Colaborador colaborador);
+    List<Colaborador> salvarTodos(List<Colaborador> colaboradores);
     List<Colaborador> listarTodos();
+    List<Colaborador> listarPagina(Long aposId, int limite);
+    List<Colaborador> listarPagina(FiltroColaboradores filtro, Long aposId, int limite);
+    void percorrerTodos(Consumer<Colaborador> consumidor);
     Optional<Colaborador> buscarPorMatricula(String matricula);
     boolean existePorMatricula(String matricula);
+    Set<String> existemPorMatriculas(Collection<String> matriculas);
+
+    /** Texto da data de admissão das linhas ainda sem a data convertida, em ordem de ID, após {@code aposId}. */
+    Map<Long, String> buscarDatasAdmissaoEmTexto(Long aposId, int limite);
+    int gravarDatasAdmissao(Map<Long, LocalDate> datas);
 }
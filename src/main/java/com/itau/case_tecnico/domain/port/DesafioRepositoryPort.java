@@ -3,11 +3,18 @@ package com.itau.case_tecnico.domain.port;
 import com.itau.case_tecnico.domain.model.Desafio;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface DesafioRepositoryPort {
     Desafio salvar(Desafio desafio);
+    List<Desafio> salvarTodos(List<Desafio> desafios);
     List<Desafio> buscarPorColaboradorId(Long colaboradorId);
+    Optional<List<Desafio>> listarPorColaborador(Long colaboradorId);
     int contarPorColaboradorId(Long colaboradorId);
     List<Desafio> listarTodos();
+    List<Desafio> listarPagina(Long aposId, int limite);
+    void percorrerTodos(Consumer<Desafio> consumidor);
     Optional<Desafio> buscarPorId(Long id);
+    // Desafio com ID, colaborador e a nova nota (sem descrição); vazio se o ID não existir
+    Optional<Desafio> atualizarNota(Long desafioId, Integer nota);
 }
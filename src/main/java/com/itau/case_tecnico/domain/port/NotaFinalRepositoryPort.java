@@ -0,0 +1,27 @@
+package com.itau.case_tecnico.domain.port;
+
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.NotasDoColaborador;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+public interface NotaFinalRepositoryPort {
+    Optional<ResumoNotas> buscarResumoPorColaboradorId(Long colaboradorId);
+    // Versão incrementada a cada escrita nos dados do colaborador; vazio se o colaborador não tiver linha
+    Optional<Long> buscarVersao(Long colaboradorId);
+    List<ResumoNotas> buscarResumosPorColaboradorIds(Collection<Long> colaboradorIds);
+    List<ResumoNotas> buscarResumosPorCargo(String cargo);
+    // Resumos com cargo e versão preenchidos, para o ranking em memória
+    List<ResumoNotas> listarParaRanking();
+    List<ResumoNotas> buscarParaRanking(Collection<Long> colaboradorIds);
+    // Os mesmos resumos com a quantidade de avaliações e desafios por nota, para a distribuição das notas
+    List<NotasDoColaborador> listarNotasPorColaborador();
+    List<NotasDoColaborador> buscarNotasPorColaborador(Collection<Long> colaboradorIds);
+    // Todos os colaboradores com o resumo (zerado se ainda não houver linha), por cursor e em ordem de ID
+    void percorrerComColaborador(BiConsumer<Colaborador, ResumoNotas> consumidor);
+    int reconstruirTodos();
+    List<ResumoNotas> listarDivergencias();
+}
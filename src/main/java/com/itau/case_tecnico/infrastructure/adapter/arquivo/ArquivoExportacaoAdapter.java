@@ -0,0 +1,262 @@
+package com.itau.case_tecnico.infrastructure.adapter.arquivo;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.domain.model.Exportacao;
+import com.itau.case_tecnico.domain.model.FormatoExportacao;
+import com.itau.case_tecnico.domain.port.ArquivoExportacaoPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Grava as exportações no disco local, compactadas com gzip. As linhas passam por buffers de tamanho
+ * fixo até o arquivo, então a memória usada não depende da quantidade de linhas. O arquivo é escrito
+ * com o sufixo {@code .parcial} e só recebe o nome final depois de concluído: um arquivo com o nome
+ * final está sempre completo.
+ */
+@Component
+class ArquivoExportacaoAdapter implements ArquivoExportacaoPort {
+    private static final Logger log = LoggerFactory.getLogger(ArquivoExportacaoAdapter.class);
+    static final String SUFIXO_PARCIAL = ".parcial";
+    static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final Path diretorio;
+    private final ObjectMapper objectMapper;
+
+    public ArquivoExportacaoAdapter(@Value("${app.exportacao.diretorio:${java.io.tmpdir}/case-tecnico-exportacoes}") String diretorio,
+                                    ObjectMapper objectMapper) {
+        this.diretorio = Path.of(diretorio);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Escritor criar(Exportacao exportacao, List<String> colunas) {
+        Path destino = diretorio.resolve(exportacao.getNomeArquivo());
+        Path parcial = diretorio.resolve(exportacao.getNomeArquivo() + SUFIXO_PARCIAL);
+        log.debug("Criando arquivo da exportação {} em {}", exportacao.getId(), parcial);
+        try {
+            Files.createDirectories(diretorio);
+            ContadorDeBytes arquivo = new ContadorDeBytes(Files.newOutputStream(parcial));
+            Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(arquivo, TAMANHO_BUFFER), StandardCharsets.UTF_8), TAMANHO_BUFFER);
+            EscritorGzip escritor = exportacao.getFormato() == FormatoExportacao.CSV
+                ? new EscritorCsv(parcial, destino, arquivo, writer, colunas)
+                : new EscritorNdjson(parcial, destino, arquivo, objectMapper.getFactory().createGenerator(writer), colunas);
+            escritor.iniciar();
+            return escritor;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar o arquivo da exportação " + exportacao.getId(), e);
+        }
+    }
+
+    @Override
+    public Optional<Path> buscar(Exportacao exportacao) {
+        Path destino = diretorio.resolve(exportacao.getNomeArquivo());
+        return Files.isRegularFile(destino) ? Optional.of(destino) : Optional.empty();
+    }
+
+    @Override
+    public int excluirAnterioresA(Instant limite) {
+        if (!Files.isDirectory(diretorio)) {
+            return 0;
+        }
+        int excluidos = 0;
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, "*.{gz,parcial}")) {
+            for (Path arquivo : arquivos) {
+                try {
+                    if (Files.getLastModifiedTime(arquivo).toInstant().isBefore(limite) && Files.deleteIfExists(arquivo)) {
+                        excluidos++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // Já removido por outra limpeza
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao limpar o diretório de exportações " + diretorio, e);
+        }
+        log.debug("Arquivos de exportação removidos: {}", excluidos);
+        return excluidos;
+    }
+
+    private abstract static class EscritorGzip implements Escritor {
+        private final Path parcial;
+        private final Path destino;
+        private final ContadorDeBytes arquivo;
+        private boolean concluido;
+
+        EscritorGzip(Path parcial, Path destino, ContadorDeBytes arquivo) {
+            this.parcial = parcial;
+            this.destino = destino;
+            this.arquivo = arquivo;
+        }
+
+        abstract void iniciar() throws IOException;
+
+        abstract void escreverLinha(List<?> valores) throws IOException;
+
+        // Encerra o gzip e fecha o arquivo
+        abstract void fechar() throws IOException;
+
+        @Override
+        public void escrever(List<?> valores) {
+            try {
+                escreverLinha(valores);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao gravar o arquivo " + parcial, e);
+            }
+        }
+
+        @Override
+        public long getBytesEscritos() {
+            return arquivo.quantidade;
+        }
+
+        @Override
+        public void concluir() {
+            try {
+                fechar();
+                Files.move(parcial, destino, StandardCopyOption.ATOMIC_MOVE);
+                concluido = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao concluir o arquivo " + destino, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (concluido) {
+                return;
+            }
+            try {
+                fechar();
+            } catch (IOException e) {
+                log.debug("Falha ao fechar o arquivo descartado {}", parcial, e);
+            }
+            try {
+                Files.deleteIfExists(parcial);
+            } catch (IOException e) {
+                log.warn("Não foi possível remover o arquivo parcial {}", parcial, e);
+            }
+        }
+    }
+
+    // RFC 4180: cabeçalho com os nomes das colunas; aspas só nos campos com vírgula, aspas ou quebra de linha
+    private static final class EscritorCsv extends EscritorGzip {
+        private final Writer writer;
+        private final List<String> colunas;
+
+        EscritorCsv(Path parcial, Path destino, ContadorDeBytes arquivo, Writer writer, List<String> colunas) {
+            super(parcial, destino, arquivo);
+            this.writer = writer;
+            this.colunas = colunas;
+        }
+
+        @Override
+        void iniciar() throws IOException {
+            escreverLinha(colunas);
+        }
+
+        @Override
+        void escreverLinha(List<?> valores) throws IOException {
+            for (int i = 0; i < valores.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object valor = valores.get(i);
+                if (valor != null) {
+                    writer.write(campo(valor.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void fechar() throws IOException {
+            writer.close();
+        }
+
+        static String campo(String valor) {
+            for (int i = 0; i < valor.length(); i++) {
+                char c = valor.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return '"' + valor.replace("\"", "\"\"") + '"';
+                }
+            }
+            return valor;
+        }
+    }
+
+    // Um objeto por linha, com as colunas como nomes dos campos
+    private static final class EscritorNdjson extends EscritorGzip {
+        private final JsonGenerator generator;
+        private final List<String> colunas;
+
+        EscritorNdjson(Path parcial, Path destino, ContadorDeBytes arquivo, JsonGenerator generator, List<String> colunas) {
+            super(parcial, destino, arquivo);
+            this.generator = generator;
+            this.colunas = colunas;
+        }
+
+        @Override
+        void iniciar() {
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void escreverLinha(List<?> valores) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < valores.size(); i++) {
+                generator.writeFieldName(colunas.get(i));
+                generator.writeObject(valores.get(i));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void fechar() throws IOException {
+            generator.close();
+        }
+    }
+
+    // Bytes já compactados que chegaram ao arquivo, para o progresso da exportação
+    private static final class ContadorDeBytes extends FilterOutputStream {
+        private volatile long quantidade;
+
+        ContadorDeBytes(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            quantidade++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            quantidade += len;
+        }
+    }
+}
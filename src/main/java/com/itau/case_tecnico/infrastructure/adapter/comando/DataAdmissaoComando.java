@@ -0,0 +1,32 @@
+package com.itau.case_tecnico.infrastructure.adapter.comando;
+
+import com.itau.case_tecnico.application.usecase.ConverterDataAdmissaoUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversão da data de admissão pela linha de comando ({@code --data-admissao.converter}):
+ * preenche a coluna DATE das linhas gravadas antes do script 006_data_admissao.sql.
+ */
+@Component
+public class DataAdmissaoComando implements ApplicationRunner {
+    static final String OPCAO_CONVERTER = "data-admissao.converter";
+
+    private static final Logger log = LoggerFactory.getLogger(DataAdmissaoComando.class);
+    private final ConverterDataAdmissaoUseCase converterDataAdmissaoUseCase;
+
+    public DataAdmissaoComando(ConverterDataAdmissaoUseCase converterDataAdmissaoUseCase) {
+        this.converterDataAdmissaoUseCase = converterDataAdmissaoUseCase;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPCAO_CONVERTER)) {
+            log.info("Comando --{} recebido", OPCAO_CONVERTER);
+            converterDataAdmissaoUseCase.converter();
+        }
+    }
+}
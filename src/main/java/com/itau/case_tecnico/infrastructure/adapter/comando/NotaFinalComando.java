@@ -0,0 +1,38 @@
+package com.itau.case_tecnico.infrastructure.adapter.comando;
+
+import com.itau.case_tecnico.application.usecase.ReconciliarNotaFinalUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Manutenção da tabela nota_final pela linha de comando:
+ * {@code --nota-final.reconstruir} recalcula a tabela inteira a partir das avaliações e desafios;
+ * {@code --nota-final.verificar} apenas reporta os colaboradores cuja linha diverge da origem.
+ */
+@Component
+public class NotaFinalComando implements ApplicationRunner {
+    static final String OPCAO_RECONSTRUIR = "nota-final.reconstruir";
+    static final String OPCAO_VERIFICAR = "nota-final.verificar";
+
+    private static final Logger log = LoggerFactory.getLogger(NotaFinalComando.class);
+    private final ReconciliarNotaFinalUseCase reconciliarNotaFinalUseCase;
+
+    public NotaFinalComando(ReconciliarNotaFinalUseCase reconciliarNotaFinalUseCase) {
+        this.reconciliarNotaFinalUseCase = reconciliarNotaFinalUseCase;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPCAO_RECONSTRUIR)) {
+            log.info("Comando --{} recebido", OPCAO_RECONSTRUIR);
+            reconciliarNotaFinalUseCase.reconstruir();
+        }
+        if (args.containsOption(OPCAO_VERIFICAR)) {
+            log.info("Comando --{} recebido", OPCAO_VERIFICAR);
+            reconciliarNotaFinalUseCase.verificar();
+        }
+    }
+}
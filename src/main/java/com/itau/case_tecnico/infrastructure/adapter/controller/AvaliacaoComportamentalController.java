@@ -1,21 +1,27 @@
 package com.itau.case_tecnico.infrastructure.adapter.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.case_tecnico.application.usecase.AvaliarComportamentoUseCase;
 import com.itau.case_tecnico.application.usecase.BuscarPorIdUseCase;
+import com.itau.case_tecnico.application.usecase.ListarAvaliacoesDoColaboradorUseCase;
 import com.itau.case_tecnico.application.usecase.ListarTodosUseCase;
-import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
 import com.itau.case_tecnico.infrastructure.adapter.dto.AvaliacaoComportamentalRequest;
 import com.itau.case_tecnico.infrastructure.adapter.dto.AvaliacaoComportamentalResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.itau.case_tecnico.infrastructure.adapter.log.AmostragemTurboFilter.POR_REQUISICAO;
+
 @RestController
 @RequestMapping("/api/avaliacoes-comportamentais")
 public class AvaliacaoComportamentalController {
@@ -23,91 +29,98 @@ public class AvaliacaoComportamentalController {
     
     private final AvaliarComportamentoUseCase avaliarComportamentoUseCase;
     private final ListarTodosUseCase listarTodosUseCase;
+    private final ListarAvaliacoesDoColaboradorUseCase listarAvaliacoesDoColaboradorUseCase;
     private final BuscarPorIdUseCase buscarPorIdUseCase;
+    private final ObjectMapper objectMapper;
 
     public AvaliacaoComportamentalController(AvaliarComportamentoUseCase avaliarComportamentoUseCase,
                                              ListarTodosUseCase listarTodosUseCase,
-                                             BuscarPorIdUseCase buscarPorIdUseCase) {
+                                             ListarAvaliacoesDoColaboradorUseCase listarAvaliacoesDoColaboradorUseCase,
+                                             BuscarPorIdUseCase buscarPorIdUseCase,
+                                             ObjectMapper objectMapper) {
         this.avaliarComportamentoUseCase = avaliarComportamentoUseCase;
         this.listarTodosUseCase = listarTodosUseCase;
+        this.listarAvaliacoesDoColaboradorUseCase = listarAvaliacoesDoColaboradorUseCase;
         this.buscarPorIdUseCase = buscarPorIdUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     public ResponseEntity<Object> avaliar(@RequestBody AvaliacaoComportamentalRequest request) {
-        log.info("Recebida requisição POST /api/avaliacoes-comportamentais - colaborador ID: {}, tipo: {}", 
+        log.info(POR_REQUISICAO, "Recebida requisição POST /api/avaliacoes-comportamentais - colaborador ID: {}, tipo: {}", 
                  request.getColaboradorId(), request.getTipo());
-        try {
-            AvaliacaoComportamental avaliacao = new AvaliacaoComportamental(
-                request.getColaboradorId(),
-                request.getTipo(),
-                request.getNota()
-            );
-            
-            AvaliacaoComportamental salva = avaliarComportamentoUseCase.executar(avaliacao);
-            log.info("Avaliação comportamental criada com sucesso via API: ID {}", salva.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(salva));
-        } catch (ValidacaoException e) {
-            log.warn("Erro de validação ao criar avaliação comportamental: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            log.error("Erro ao salvar avaliação comportamental", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao salvar avaliação: " + e.getMessage());
-        }
+        AvaliacaoComportamental avaliacao = new AvaliacaoComportamental(
+            request.getColaboradorId(),
+            AvaliarComportamentoUseCase.converterTipo(request.getTipo()),
+            request.getNota()
+        );
+
+        AvaliacaoComportamental salva = avaliarComportamentoUseCase.executar(avaliacao);
+        log.debug("Avaliação comportamental criada com sucesso via API: ID {}", salva.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(salva));
     }
 
     @GetMapping
-    public ResponseEntity<Object> listarTodas() {
-        log.info("Recebida requisição GET /api/avaliacoes-comportamentais");
-        try {
-            List<AvaliacaoComportamental> avaliacoes = listarTodosUseCase.listarAvaliacoes();
-            List<AvaliacaoComportamentalResponse> responses = avaliacoes.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-            log.info("Retornando {} avaliações comportamentais", responses.size());
-            return ResponseEntity.ok(responses);
-        } catch (Exception e) {
-            log.error("Erro ao listar avaliações comportamentais", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao listar avaliações: " + e.getMessage());
+    public ResponseEntity<Object> listarTodas(@RequestParam(value = "after", required = false) Long after,
+                                              @RequestParam(value = "limit", required = false) Integer limit) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/avaliacoes-comportamentais - after: {}, limit: {}", after, limit);
+        if (after != null || limit != null) {
+            return listarPagina(after, limit);
         }
+        List<AvaliacaoComportamental> avaliacoes = listarTodosUseCase.listarAvaliacoes();
+        List<AvaliacaoComportamentalResponse> responses = avaliacoes.stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+        log.debug("Retornando {} avaliações comportamentais", responses.size());
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> listarTodasStream(@RequestParam(value = "after", required = false) Long after,
+                                                                   @RequestParam(value = "limit", required = false) Integer limit) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/avaliacoes-comportamentais?stream=true");
+        ListarTodosUseCase.validarStream(after, limit);
+        return JsonStreaming.array(objectMapper, listarTodosUseCase::percorrerAvaliacoes, this::toResponse);
+    }
+
+    private ResponseEntity<Object> listarPagina(Long after, Integer limit) {
+        List<AvaliacaoComportamental> avaliacoes = listarTodosUseCase.listarAvaliacoes(after, limit);
+        List<AvaliacaoComportamentalResponse> responses = avaliacoes.stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+        log.debug("Retornando página com {} avaliações comportamentais", responses.size());
+        Long ultimoId = avaliacoes.isEmpty() ? null : avaliacoes.get(avaliacoes.size() - 1).getId();
+        return Paginacao.pagina(responses, ultimoId, limit);
     }
 
     @GetMapping("/colaboradores/{colaborador_id}")
-    public ResponseEntity<Object> listarPorColaborador(@PathVariable("colaborador_id") Long colaboradorId) {
-        log.info("Recebida requisição GET /api/avaliacoes-comportamentais/colaboradores/{}", colaboradorId);
-        try {
-            // Verificar se o colaborador existe antes de buscar avaliações
-            if (!buscarPorIdUseCase.buscarColaborador(colaboradorId).isPresent()) {
-                log.warn("Colaborador não encontrado: ID {}", colaboradorId);
-                return ResponseEntity.notFound().build();
-            }
-            
-            List<AvaliacaoComportamental> todasAvaliacoes = listarTodosUseCase.listarAvaliacoes();
-            List<AvaliacaoComportamental> avaliacoesDoColaborador = todasAvaliacoes.stream()
-                .filter(avaliacao -> avaliacao.getColaboradorId().equals(colaboradorId))
-                .collect(Collectors.toList());
-            
-            List<AvaliacaoComportamentalResponse> responses = avaliacoesDoColaborador.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-            
-            log.info("Retornando {} avaliações comportamentais do colaborador ID {}", responses.size(), colaboradorId);
-            return ResponseEntity.ok(responses);
-            
-        } catch (Exception e) {
-            log.error("Erro ao buscar avaliações do colaborador ID {}", colaboradorId, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao buscar avaliações: " + e.getMessage());
+    public ResponseEntity<Object> listarPorColaborador(@PathVariable("colaborador_id") Long colaboradorId,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/avaliacoes-comportamentais/colaboradores/{}", colaboradorId);
+        return RespostaCondicional.versionada(buscarPorIdUseCase.buscarVersaoDoColaborador(colaboradorId), ifNoneMatch,
+            () -> respostaAvaliacoesDoColaborador(colaboradorId));
+    }
+
+    private ResponseEntity<Object> respostaAvaliacoesDoColaborador(Long colaboradorId) {
+        Optional<List<AvaliacaoComportamental>> avaliacoesDoColaborador = listarAvaliacoesDoColaboradorUseCase.executar(colaboradorId);
+        if (avaliacoesDoColaborador.isEmpty()) {
+            log.warn("Colaborador não encontrado: ID {}", colaboradorId);
+            return ResponseEntity.notFound().build();
         }
+
+        List<AvaliacaoComportamentalResponse> responses = avaliacoesDoColaborador.get().stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+
+        log.debug("Retornando {} avaliações comportamentais do colaborador ID {}", responses.size(), colaboradorId);
+        return ResponseEntity.ok(responses);
     }
 
     private AvaliacaoComportamentalResponse toResponse(AvaliacaoComportamental avaliacao) {
         AvaliacaoComportamentalResponse response = new AvaliacaoComportamentalResponse();
         response.setId(avaliacao.getId());
         response.setColaboradorId(avaliacao.getColaboradorId());
-        response.setTipo(avaliacao.getTipo());
+        response.setTipo(avaliacao.getTipo().getDescricao());
         response.setNota(avaliacao.getNota());
         return response;
     }
@@ -1,129 +1,272 @@
 package com.itau.case_tecnico.infrastructure.adapter.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.application.usecase.BuscarColaboradoresUseCase;
 import com.itau.case_tecnico.application.usecase.CalcularNotaFinalUseCase;
+import com.itau.case_tecnico.application.usecase.CodigoErro;
 import com.itau.case_tecnico.application.usecase.CriarColaboradorUseCase;
 import com.itau.case_tecnico.application.usecase.ListarTodosUseCase;
 import com.itau.case_tecnico.application.usecase.BuscarPorIdUseCase;
+import com.itau.case_tecnico.application.usecase.RankingUseCase;
 import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.FiltroColaboradores;
+import com.itau.case_tecnico.domain.model.PosicaoRanking;
 import com.itau.case_tecnico.infrastructure.adapter.dto.ColaboradorRequest;
 import com.itau.case_tecnico.infrastructure.adapter.dto.ColaboradorResponse;
 import com.itau.case_tecnico.infrastructure.adapter.dto.NotaFinalResponse;
+import com.itau.case_tecnico.infrastructure.adapter.dto.NotasFinaisRequest;
+import com.itau.case_tecnico.infrastructure.adapter.dto.PosicaoRankingResponse;
+import com.itau.case_tecnico.infrastructure.adapter.dto.RankingResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.itau.case_tecnico.infrastructure.adapter.log.AmostragemTurboFilter.POR_REQUISICAO;
+
 @RestController
 @RequestMapping("/api/colaboradores")
 public class ColaboradorController {
     private static final Logger log = LoggerFactory.getLogger(ColaboradorController.class);
+    private static final ValidacaoException IDS_OU_CARGO =
+        new ValidacaoException(CodigoErro.LOTE_INVALIDO, "Informe colaborador_ids ou cargo");
     
     private final CriarColaboradorUseCase criarColaboradorUseCase;
     private final CalcularNotaFinalUseCase calcularNotaFinalUseCase;
     private final ListarTodosUseCase listarTodosUseCase;
     private final BuscarPorIdUseCase buscarPorIdUseCase;
+    private final RankingUseCase rankingUseCase;
+    private final BuscarColaboradoresUseCase buscarColaboradoresUseCase;
+    private final ObjectMapper objectMapper;
 
     public ColaboradorController(CriarColaboradorUseCase criarColaboradorUseCase,
                                  CalcularNotaFinalUseCase calcularNotaFinalUseCase,
                                  ListarTodosUseCase listarTodosUseCase,
-                                 BuscarPorIdUseCase buscarPorIdUseCase) {
+                                 BuscarPorIdUseCase buscarPorIdUseCase,
+                                 RankingUseCase rankingUseCase,
+                                 BuscarColaboradoresUseCase buscarColaboradoresUseCase,
+                                 ObjectMapper objectMapper) {
         this.criarColaboradorUseCase = criarColaboradorUseCase;
         this.calcularNotaFinalUseCase = calcularNotaFinalUseCase;
         this.listarTodosUseCase = listarTodosUseCase;
         this.buscarPorIdUseCase = buscarPorIdUseCase;
+        this.rankingUseCase = rankingUseCase;
+        this.buscarColaboradoresUseCase = buscarColaboradoresUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     public ResponseEntity<Object> criar(@RequestBody ColaboradorRequest request) {
-        log.info("Recebida requisição POST /api/colaboradores - matrícula: {}", request.getMatricula());
-        try {
-            Colaborador colaborador = new Colaborador(
-                request.getMatricula(),
-                request.getNome(),
-                request.getDataAdmissao(),
-                request.getCargo()
-            );
-            
-            Colaborador salvo = criarColaboradorUseCase.executar(colaborador);
-            log.info("Colaborador criado com sucesso via API: ID {}", salvo.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(salvo));
-        } catch (ValidacaoException e) {
-            log.warn("Erro de validação ao criar colaborador: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            log.error("Erro ao criar colaborador", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao criar colaborador: " + e.getMessage());
-        }
+        log.info(POR_REQUISICAO, "Recebida requisição POST /api/colaboradores - matrícula: {}", request.getMatricula());
+        Colaborador colaborador = new Colaborador(
+            request.getMatricula(),
+            request.getNome(),
+            CriarColaboradorUseCase.converterDataAdmissao(request.getDataAdmissao()),
+            request.getCargo()
+        );
+
+        Colaborador salvo = criarColaboradorUseCase.executar(colaborador);
+        log.debug("Colaborador criado com sucesso via API: ID {}", salvo.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(salvo));
     }
 
     @GetMapping
-    public ResponseEntity<Object> listarTodos() {
-        log.info("Recebida requisição GET /api/colaboradores");
-        try {
-            List<Colaborador> colaboradores = listarTodosUseCase.listarColaboradores();
-            List<ColaboradorResponse> responses = colaboradores.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-            log.info("Retornando {} colaboradores", responses.size());
-            return ResponseEntity.ok(responses);
-        } catch (Exception e) {
-            log.error("Erro ao listar colaboradores", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao listar colaboradores: " + e.getMessage());
+    public ResponseEntity<Object> listarTodos(@RequestParam(value = "after", required = false) Long after,
+                                              @RequestParam(value = "limit", required = false) Integer limit,
+                                              @RequestParam(value = "cargo", required = false) String cargo,
+                                              @RequestParam(value = "admitidoDe", required = false) String admitidoDe,
+                                              @RequestParam(value = "admitidoAte", required = false) String admitidoAte,
+                                              @RequestParam(value = "ordenarPor", required = false) String ordenarPor) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/colaboradores - after: {}, limit: {}, cargo: {}, admitidoDe: {}, admitidoAte: {}, ordenarPor: {}",
+                 after, limit, cargo, admitidoDe, admitidoAte, ordenarPor);
+        FiltroColaboradores filtro = ListarTodosUseCase.filtroDeColaboradores(cargo, admitidoDe, admitidoAte, ordenarPor);
+        if (!filtro.isSemFiltro()) {
+            return listarPagina(filtro, after, limit);
+        }
+        if (after != null || limit != null) {
+            return listarPagina(after, limit);
+        }
+        List<Colaborador> colaboradores = listarTodosUseCase.listarColaboradores();
+        List<ColaboradorResponse> responses = colaboradores.stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+        log.debug("Retornando {} colaboradores", responses.size());
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> listarTodosStream(@RequestParam(value = "after", required = false) Long after,
+                                                                   @RequestParam(value = "limit", required = false) Integer limit,
+                                                                   @RequestParam(value = "cargo", required = false) String cargo,
+                                                                   @RequestParam(value = "admitidoDe", required = false) String admitidoDe,
+                                                                   @RequestParam(value = "admitidoAte", required = false) String admitidoAte,
+                                                                   @RequestParam(value = "ordenarPor", required = false) String ordenarPor) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/colaboradores?stream=true");
+        ListarTodosUseCase.validarStream(after, limit,
+            ListarTodosUseCase.filtroDeColaboradores(cargo, admitidoDe, admitidoAte, ordenarPor));
+        return JsonStreaming.array(objectMapper, listarTodosUseCase::percorrerColaboradores, this::toResponse);
+    }
+
+    private ResponseEntity<Object> listarPagina(Long after, Integer limit) {
+        List<Colaborador> colaboradores = listarTodosUseCase.listarColaboradores(after, limit);
+        List<ColaboradorResponse> responses = colaboradores.stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+        log.debug("Retornando página com {} colaboradores", responses.size());
+        Long ultimoId = colaboradores.isEmpty() ? null : colaboradores.get(colaboradores.size() - 1).getId();
+        return Paginacao.pagina(responses, ultimoId, limit);
+    }
+
+    // Com filtros a listagem é sempre paginada: o cursor é o ID do último colaborador, também na ordem por data
+    private ResponseEntity<Object> listarPagina(FiltroColaboradores filtro, Long after, Integer limit) {
+        List<Colaborador> colaboradores = listarTodosUseCase.listarColaboradores(filtro, after, limit);
+        List<ColaboradorResponse> responses = colaboradores.stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+        log.debug("Retornando página filtrada com {} colaboradores", responses.size());
+        Long ultimoId = colaboradores.isEmpty() ? null : colaboradores.get(colaboradores.size() - 1).getId();
+        return Paginacao.pagina(responses, ultimoId, limit);
+    }
+
+    @GetMapping("/busca")
+    public ResponseEntity<Object> buscar(@RequestParam(value = "q", required = false) String q,
+                                         @RequestParam(value = "cargo", required = false) String cargo,
+                                         @RequestParam(value = "after", required = false) Long after,
+                                         @RequestParam(value = "limit", required = false) Integer limit) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/colaboradores/busca - q: {}, cargo: {}, after: {}, limit: {}",
+                 q, cargo, after, limit);
+        List<Colaborador> colaboradores = buscarColaboradoresUseCase.buscar(q, cargo, after, limit);
+        List<ColaboradorResponse> responses = colaboradores.stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+        log.debug("Retornando {} colaboradores encontrados na busca", responses.size());
+        Long ultimoId = colaboradores.isEmpty() ? null : colaboradores.get(colaboradores.size() - 1).getId();
+        return Paginacao.pagina(responses, ultimoId, limit);
+    }
+
+    @GetMapping("/ranking")
+    public ResponseEntity<Object> ranking(@RequestParam(value = "cargo", required = false) String cargo,
+                                          @RequestParam(value = "limit", required = false) Integer limit) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/colaboradores/ranking - cargo: {}, limit: {}", cargo, limit);
+        List<RankingResponse> responses = rankingUseCase.listar(cargo, limit).stream()
+            .map(this::toRankingResponse)
+            .collect(Collectors.toList());
+        log.debug("Retornando ranking com {} colaboradores", responses.size());
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/{colaborador_id}/ranking")
+    public ResponseEntity<Object> posicaoNoRanking(@PathVariable("colaborador_id") Long colaboradorId) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/colaboradores/{}/ranking", colaboradorId);
+        Optional<PosicaoRanking> posicao = rankingUseCase.posicaoGeral(colaboradorId);
+        if (posicao.isEmpty()) {
+            log.debug("Colaborador ID {} fora do ranking", colaboradorId);
+            return ResponseEntity.notFound().build();
         }
+        PosicaoRankingResponse response = new PosicaoRankingResponse();
+        response.setColaboradorId(colaboradorId);
+        response.setCargo(posicao.get().getCargo());
+        response.setNotaFinal(posicao.get().getNotaFinal());
+        response.setPosicao(posicao.get().getPosicao());
+        response.setTotal(posicao.get().getTotal());
+        rankingUseCase.posicaoNoCargo(colaboradorId).ifPresent(noCargo -> {
+            response.setPosicaoNoCargo(noCargo.getPosicao());
+            response.setTotalNoCargo(noCargo.getTotal());
+        });
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{colaborador_id}")
-    public ResponseEntity<Object> buscarPorId(@PathVariable("colaborador_id") Long colaboradorId) {
-        log.info("Recebida requisição GET /api/colaboradores/{}", colaboradorId);
-        try {
-            Optional<Colaborador> colaboradorOpt = buscarPorIdUseCase.buscarColaborador(colaboradorId);
-            
-            if (!colaboradorOpt.isPresent()) {
-                log.warn("Colaborador não encontrado: ID {}", colaboradorId);
-                return ResponseEntity.notFound().build();
-            }
-            
-            log.debug("Colaborador encontrado: ID {}", colaboradorId);
-            return ResponseEntity.ok(toResponse(colaboradorOpt.get()));
-        } catch (Exception e) {
-            log.error("Erro ao buscar colaborador ID {}", colaboradorId, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao buscar colaborador: " + e.getMessage());
+    public ResponseEntity<Object> buscarPorId(@PathVariable("colaborador_id") Long colaboradorId,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/colaboradores/{}", colaboradorId);
+        return RespostaCondicional.versionada(buscarPorIdUseCase.buscarVersaoDoColaborador(colaboradorId), ifNoneMatch,
+            () -> respostaColaborador(colaboradorId));
+    }
+
+    private ResponseEntity<Object> respostaColaborador(Long colaboradorId) {
+        Optional<Colaborador> colaboradorOpt = buscarPorIdUseCase.buscarColaborador(colaboradorId);
+
+        if (!colaboradorOpt.isPresent()) {
+            log.warn("Colaborador não encontrado: ID {}", colaboradorId);
+            return ResponseEntity.notFound().build();
         }
+
+        log.debug("Colaborador encontrado: ID {}", colaboradorId);
+        return ResponseEntity.ok(toResponse(colaboradorOpt.get()));
     }
 
     @GetMapping("/{colaborador_id}/nota-final")
-    public ResponseEntity<Object> calcularNotaFinal(@PathVariable("colaborador_id") Long colaboradorId) {
-        log.info("Recebida requisição GET /api/colaboradores/{}/nota-final", colaboradorId);
-        try {
-            CalcularNotaFinalUseCase.NotaFinalDTO resultado = calcularNotaFinalUseCase.executar(colaboradorId);
-            
-            NotaFinalResponse response = new NotaFinalResponse();
-            response.setColaboradorId(resultado.getColaboradorId());
-            response.setNotaFinal(resultado.getNotaFinal());
-            response.setMediaComportamental(resultado.getMediaComportamental());
-            response.setMediaDesafios(resultado.getMediaDesafios());
-            
-            log.info("Nota final calculada com sucesso para colaborador ID {}: {}", 
-                     colaboradorId, resultado.getNotaFinal());
-            return ResponseEntity.ok(response);
-        } catch (ValidacaoException e) {
-            log.warn("Erro de validação ao calcular nota final do colaborador ID {}: {}", 
-                     colaboradorId, e.getMessage());
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            log.error("Erro ao calcular nota final do colaborador ID {}", colaboradorId, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao calcular nota final: " + e.getMessage());
+    public ResponseEntity<Object> calcularNotaFinal(@PathVariable("colaborador_id") Long colaboradorId,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/colaboradores/{}/nota-final", colaboradorId);
+        return RespostaCondicional.versionada(buscarPorIdUseCase.buscarVersaoDoColaborador(colaboradorId), ifNoneMatch,
+            () -> respostaNotaFinal(colaboradorId));
+    }
+
+    private ResponseEntity<Object> respostaNotaFinal(Long colaboradorId) {
+        CalcularNotaFinalUseCase.NotaFinalDTO resultado = calcularNotaFinalUseCase.executar(colaboradorId);
+
+        NotaFinalResponse response = new NotaFinalResponse();
+        response.setColaboradorId(resultado.getColaboradorId());
+        response.setNotaFinal(resultado.getNotaFinal());
+        response.setMediaComportamental(resultado.getMediaComportamental());
+        response.setMediaDesafios(resultado.getMediaDesafios());
+
+        log.debug("Nota final calculada com sucesso para colaborador ID {}: {}",
+                 colaboradorId, resultado.getNotaFinal());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/notas-finais")
+    public ResponseEntity<Object> calcularNotasFinais(@RequestBody NotasFinaisRequest request) {
+        boolean porIds = request.getColaboradorIds() != null;
+        boolean porCargo = request.getCargo() != null;
+        log.info(POR_REQUISICAO, "Recebida requisição POST /api/colaboradores/notas-finais - ids: {}, cargo: {}",
+                 porIds ? request.getColaboradorIds().size() : null, request.getCargo());
+        if (porIds == porCargo) {
+            throw IDS_OU_CARGO;
         }
+        List<CalcularNotaFinalUseCase.ResultadoNotaFinal> resultados = porIds
+            ? calcularNotaFinalUseCase.executarPorIds(request.getColaboradorIds())
+            : calcularNotaFinalUseCase.executarPorCargo(request.getCargo());
+
+        List<NotaFinalResponse> responses = resultados.stream()
+            .map(this::toNotaFinalResponse)
+            .collect(Collectors.toList());
+        log.debug("Notas finais calculadas em lote: {} colaboradores", responses.size());
+        return ResponseEntity.ok(responses);
+    }
+
+    private NotaFinalResponse toNotaFinalResponse(CalcularNotaFinalUseCase.ResultadoNotaFinal resultado) {
+        NotaFinalResponse response = new NotaFinalResponse();
+        response.setColaboradorId(resultado.getColaboradorId());
+        if (resultado.isSucesso()) {
+            response.setNotaFinal(resultado.getNotaFinal().getNotaFinal());
+            response.setMediaComportamental(resultado.getNotaFinal().getMediaComportamental());
+            response.setMediaDesafios(resultado.getNotaFinal().getMediaDesafios());
+        } else {
+            response.setErro(resultado.getErro());
+        }
+        return response;
+    }
+
+    private RankingResponse toRankingResponse(PosicaoRanking posicao) {
+        RankingResponse response = new RankingResponse();
+        response.setPosicao(posicao.getPosicao());
+        response.setColaboradorId(posicao.getColaboradorId());
+        response.setCargo(posicao.getCargo());
+        response.setNotaFinal(posicao.getNotaFinal());
+        return response;
     }
 
     private ColaboradorResponse toResponse(Colaborador colaborador) {
@@ -131,7 +274,7 @@ public class ColaboradorController {
         response.setId(colaborador.getId());
         response.setMatricula(colaborador.getMatricula());
         response.setNome(colaborador.getNome());
-        response.setDataAdmissao(colaborador.getDataAdmissao());
+        response.setDataAdmissao(Objects.toString(colaborador.getDataAdmissao(), null));
         response.setCargo(colaborador.getCargo());
         return response;
     }
@@ -1,105 +1,133 @@
 package com.itau.case_tecnico.infrastructure.adapter.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.application.usecase.AvaliarDesafioUseCase;
 import com.itau.case_tecnico.application.usecase.BuscarPorIdUseCase;
 import com.itau.case_tecnico.application.usecase.CriarDesafioUseCase;
+import com.itau.case_tecnico.application.usecase.ListarDesafiosDoColaboradorUseCase;
 import com.itau.case_tecnico.application.usecase.ListarTodosUseCase;
-import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.Desafio;
 import com.itau.case_tecnico.infrastructure.adapter.dto.DesafioRequest;
 import com.itau.case_tecnico.infrastructure.adapter.dto.DesafioResponse;
+import com.itau.case_tecnico.infrastructure.adapter.dto.NotaDesafioRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.itau.case_tecnico.infrastructure.adapter.log.AmostragemTurboFilter.POR_REQUISICAO;
+
 @RestController
 @RequestMapping("/api/desafios")
 public class DesafioController {
     private static final Logger log = LoggerFactory.getLogger(DesafioController.class);
     
     private final CriarDesafioUseCase criarDesafioUseCase;
+    private final AvaliarDesafioUseCase avaliarDesafioUseCase;
     private final ListarTodosUseCase listarTodosUseCase;
+    private final ListarDesafiosDoColaboradorUseCase listarDesafiosDoColaboradorUseCase;
     private final BuscarPorIdUseCase buscarPorIdUseCase;
+    private final ObjectMapper objectMapper;
 
     public DesafioController(CriarDesafioUseCase criarDesafioUseCase,
+                             AvaliarDesafioUseCase avaliarDesafioUseCase,
                              ListarTodosUseCase listarTodosUseCase,
-                             BuscarPorIdUseCase buscarPorIdUseCase) {
+                             ListarDesafiosDoColaboradorUseCase listarDesafiosDoColaboradorUseCase,
+                             BuscarPorIdUseCase buscarPorIdUseCase,
+                             ObjectMapper objectMapper) {
         this.criarDesafioUseCase = criarDesafioUseCase;
+        this.avaliarDesafioUseCase = avaliarDesafioUseCase;
         this.listarTodosUseCase = listarTodosUseCase;
+        this.listarDesafiosDoColaboradorUseCase = listarDesafiosDoColaboradorUseCase;
         this.buscarPorIdUseCase = buscarPorIdUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     public ResponseEntity<Object> criar(@RequestBody DesafioRequest request) {
-        log.info("Recebida requisição POST /api/desafios - colaborador ID: {}", request.getColaboradorId());
-        try {
-            Desafio desafio = new Desafio(
-                request.getColaboradorId(),
-                request.getDescricao(),
-                request.getNota()
-            );
-            
-            Desafio salvo = criarDesafioUseCase.executar(desafio);
-            log.info("Desafio criado com sucesso via API: ID {}", salvo.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(salvo));
-        } catch (ValidacaoException e) {
-            log.warn("Erro de validação ao criar desafio: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            log.error("Erro ao criar desafio", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao criar desafio: " + e.getMessage());
-        }
+        log.info(POR_REQUISICAO, "Recebida requisição POST /api/desafios - colaborador ID: {}", request.getColaboradorId());
+        Desafio desafio = new Desafio(
+            request.getColaboradorId(),
+            request.getDescricao(),
+            request.getNota()
+        );
+
+        Desafio salvo = criarDesafioUseCase.executar(desafio);
+        log.debug("Desafio criado com sucesso via API: ID {}", salvo.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(salvo));
+    }
+
+    // Resposta sem a descrição: a atualização não lê o texto do desafio
+    @PatchMapping("/{desafio_id}/nota")
+    public ResponseEntity<Object> avaliar(@PathVariable("desafio_id") Long desafioId,
+                                          @RequestBody NotaDesafioRequest request) {
+        log.info(POR_REQUISICAO, "Recebida requisição PATCH /api/desafios/{}/nota - nota: {}", desafioId, request.getNota());
+        Desafio avaliado = avaliarDesafioUseCase.executar(desafioId, request.getNota());
+        log.debug("Desafio ID {} avaliado via API", avaliado.getId());
+        return ResponseEntity.ok(toResponse(avaliado));
     }
 
     @GetMapping
-    public ResponseEntity<Object> listarTodos() {
-        log.info("Recebida requisição GET /api/desafios");
-        try {
-            List<Desafio> desafios = listarTodosUseCase.listarDesafios();
-            List<DesafioResponse> responses = desafios.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-            log.info("Retornando {} desafios", responses.size());
-            return ResponseEntity.ok(responses);
-        } catch (Exception e) {
-            log.error("Erro ao listar desafios", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao listar desafios: " + e.getMessage());
+    public ResponseEntity<Object> listarTodos(@RequestParam(value = "after", required = false) Long after,
+                                              @RequestParam(value = "limit", required = false) Integer limit) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/desafios - after: {}, limit: {}", after, limit);
+        if (after != null || limit != null) {
+            return listarPagina(after, limit);
         }
+        List<Desafio> desafios = listarTodosUseCase.listarDesafios();
+        List<DesafioResponse> responses = desafios.stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+        log.debug("Retornando {} desafios", responses.size());
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> listarTodosStream(@RequestParam(value = "after", required = false) Long after,
+                                                                   @RequestParam(value = "limit", required = false) Integer limit) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/desafios?stream=true");
+        ListarTodosUseCase.validarStream(after, limit);
+        return JsonStreaming.array(objectMapper, listarTodosUseCase::percorrerDesafios, this::toResponse);
+    }
+
+    private ResponseEntity<Object> listarPagina(Long after, Integer limit) {
+        List<Desafio> desafios = listarTodosUseCase.listarDesafios(after, limit);
+        List<DesafioResponse> responses = desafios.stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+        log.debug("Retornando página com {} desafios", responses.size());
+        Long ultimoId = desafios.isEmpty() ? null : desafios.get(desafios.size() - 1).getId();
+        return Paginacao.pagina(responses, ultimoId, limit);
     }
 
     @GetMapping("/colaboradores/{colaborador_id}")
-    public ResponseEntity<Object> listarPorColaborador(@PathVariable("colaborador_id") Long colaboradorId) {
-        log.info("Recebida requisição GET /api/desafios/colaboradores/{}", colaboradorId);
-        try {
-            // Verificar se o colaborador existe antes de buscar desafios
-            if (!buscarPorIdUseCase.buscarColaborador(colaboradorId).isPresent()) {
-                log.warn("Colaborador não encontrado: ID {}", colaboradorId);
-                return ResponseEntity.notFound().build();
-            }
-            
-            List<Desafio> todosDesafios = listarTodosUseCase.listarDesafios();
-            List<Desafio> desafiosDoColaborador = todosDesafios.stream()
-                .filter(desafio -> desafio.getColaboradorId().equals(colaboradorId))
-                .collect(Collectors.toList());
-            
-            List<DesafioResponse> responses = desafiosDoColaborador.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-            
-            log.info("Retornando {} desafios do colaborador ID {}", responses.size(), colaboradorId);
-            return ResponseEntity.ok(responses);
-            
-        } catch (Exception e) {
-            log.error("Erro ao buscar desafios do colaborador ID {}", colaboradorId, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Erro ao buscar desafios: " + e.getMessage());
+    public ResponseEntity<Object> listarPorColaborador(@PathVariable("colaborador_id") Long colaboradorId,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/desafios/colaboradores/{}", colaboradorId);
+        return RespostaCondicional.versionada(buscarPorIdUseCase.buscarVersaoDoColaborador(colaboradorId), ifNoneMatch,
+            () -> respostaDesafiosDoColaborador(colaboradorId));
+    }
+
+    private ResponseEntity<Object> respostaDesafiosDoColaborador(Long colaboradorId) {
+        Optional<List<Desafio>> desafiosDoColaborador = listarDesafiosDoColaboradorUseCase.executar(colaboradorId);
+        if (desafiosDoColaborador.isEmpty()) {
+            log.warn("Colaborador não encontrado: ID {}", colaboradorId);
+            return ResponseEntity.notFound().build();
         }
+
+        List<DesafioResponse> responses = desafiosDoColaborador.get().stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+
+        log.debug("Retornando {} desafios do colaborador ID {}", responses.size(), colaboradorId);
+        return ResponseEntity.ok(responses);
     }
 
     private DesafioResponse toResponse(Desafio desafio) {
@@ -0,0 +1,64 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.itau.case_tecnico.application.usecase.DistribuicaoNotasUseCase;
+import com.itau.case_tecnico.domain.model.Distribuicao;
+import com.itau.case_tecnico.domain.model.DistribuicaoNotas;
+import com.itau.case_tecnico.domain.model.Histograma;
+import com.itau.case_tecnico.infrastructure.adapter.dto.DistribuicaoResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.itau.case_tecnico.infrastructure.adapter.log.AmostragemTurboFilter.POR_REQUISICAO;
+
+@RestController
+@RequestMapping("/api/estatisticas")
+public class EstatisticasController {
+    private static final Logger log = LoggerFactory.getLogger(EstatisticasController.class);
+
+    private final DistribuicaoNotasUseCase distribuicaoNotasUseCase;
+
+    public EstatisticasController(DistribuicaoNotasUseCase distribuicaoNotasUseCase) {
+        this.distribuicaoNotasUseCase = distribuicaoNotasUseCase;
+    }
+
+    @GetMapping("/distribuicao")
+    public ResponseEntity<Object> distribuicao(@RequestParam(value = "cargo", required = false) String cargo) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/estatisticas/distribuicao - cargo: {}", cargo);
+        Distribuicao distribuicao = distribuicaoNotasUseCase.consultar(cargo);
+
+        DistribuicaoResponse response = new DistribuicaoResponse();
+        response.setCargo(distribuicao.getCargo());
+        response.setNotaFinal(toPercentis(distribuicao.getNotaFinal()));
+        response.setMediaComportamental(toPercentis(distribuicao.getMediaComportamental()));
+        response.setMediaDesafios(toPercentis(distribuicao.getMediaDesafios()));
+        response.setNotasAvaliacoes(porNota(distribuicao.getAvaliacoesPorNota()));
+        response.setNotasDesafios(porNota(distribuicao.getDesafiosPorNota()));
+        log.debug("Distribuição das notas com {} colaboradores com nota final", distribuicao.getNotaFinal().getQuantidade());
+        return ResponseEntity.ok(response);
+    }
+
+    private DistribuicaoResponse.PercentisResponse toPercentis(Histograma histograma) {
+        DistribuicaoResponse.PercentisResponse response = new DistribuicaoResponse.PercentisResponse();
+        response.setQuantidade(histograma.getQuantidade());
+        response.setP10(histograma.percentil(0.10));
+        response.setP50(histograma.percentil(0.50));
+        response.setP90(histograma.percentil(0.90));
+        return response;
+    }
+
+    private Map<String, Long> porNota(long[] quantidades) {
+        Map<String, Long> porNota = new LinkedHashMap<>();
+        for (int nota = DistribuicaoNotas.NOTA_MINIMA; nota <= DistribuicaoNotas.NOTA_MAXIMA; nota++) {
+            porNota.put(String.valueOf(nota), quantidades[nota - 1]);
+        }
+        return porNota;
+    }
+}
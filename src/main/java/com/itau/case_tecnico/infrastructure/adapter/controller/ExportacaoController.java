@@ -0,0 +1,93 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.itau.case_tecnico.application.usecase.ExportarDadosUseCase;
+import com.itau.case_tecnico.domain.model.Exportacao;
+import com.itau.case_tecnico.domain.model.StatusExportacao;
+import com.itau.case_tecnico.infrastructure.adapter.dto.ExportacaoRequest;
+import com.itau.case_tecnico.infrastructure.adapter.dto.ExportacaoResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static com.itau.case_tecnico.infrastructure.adapter.log.AmostragemTurboFilter.POR_REQUISICAO;
+
+@RestController
+@RequestMapping("/api/exportacoes")
+public class ExportacaoController {
+    private static final Logger log = LoggerFactory.getLogger(ExportacaoController.class);
+    static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+    private static final String CAMINHO = "/api/exportacoes/";
+
+    private final ExportarDadosUseCase exportarDadosUseCase;
+
+    public ExportacaoController(ExportarDadosUseCase exportarDadosUseCase) {
+        this.exportarDadosUseCase = exportarDadosUseCase;
+    }
+
+    // 202: o arquivo é gerado em segundo plano; o progresso é consultado no Location
+    @PostMapping
+    public ResponseEntity<Object> iniciar(@RequestBody ExportacaoRequest request) {
+        log.info(POR_REQUISICAO, "Recebida requisição POST /api/exportacoes - tipo: {}, formato: {}",
+                 request.getTipo(), request.getFormato());
+        Exportacao exportacao = exportarDadosUseCase.iniciar(request.getTipo(), request.getFormato());
+        return ResponseEntity.accepted()
+            .location(URI.create(CAMINHO + exportacao.getId()))
+            .body(toResponse(exportacao));
+    }
+
+    @GetMapping("/{exportacao_id}")
+    public ResponseEntity<Object> buscar(@PathVariable("exportacao_id") String exportacaoId) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/exportacoes/{}", exportacaoId);
+        Optional<Exportacao> exportacao = exportarDadosUseCase.buscar(exportacaoId);
+        if (exportacao.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(toResponse(exportacao.get()));
+    }
+
+    // Resource no corpo: o Spring MVC responde Accept-Ranges e atende Range com 206 lendo só o trecho pedido
+    @GetMapping("/{exportacao_id}/arquivo")
+    public ResponseEntity<Resource> baixar(@PathVariable("exportacao_id") String exportacaoId) {
+        log.info(POR_REQUISICAO, "Recebida requisição GET /api/exportacoes/{}/arquivo", exportacaoId);
+        Optional<Path> arquivo = exportarDadosUseCase.buscarArquivo(exportacaoId);
+        if (arquivo.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // O arquivo concluído não muda: o ID da exportação serve de ETag forte
+        return ResponseEntity.ok()
+            .contentType(APPLICATION_GZIP)
+            .eTag('"' + exportacaoId + '"')
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(arquivo.get().getFileName().toString()).build().toString())
+            .body(new FileSystemResource(arquivo.get()));
+    }
+
+    private ExportacaoResponse toResponse(Exportacao exportacao) {
+        ExportacaoResponse response = new ExportacaoResponse();
+        response.setId(exportacao.getId());
+        response.setTipo(exportacao.getTipo().getCodigo());
+        response.setFormato(exportacao.getFormato().getCodigo());
+        response.setStatus(exportacao.getStatus().name());
+        response.setLinhas(exportacao.getLinhas());
+        response.setBytes(exportacao.getBytes());
+        response.setErro(exportacao.getErro());
+        response.setCriadaEm(exportacao.getCriadaEm().toString());
+        if (exportacao.getFinalizadaEm() != null) {
+            response.setFinalizadaEm(exportacao.getFinalizadaEm().toString());
+        }
+        if (exportacao.getStatus() == StatusExportacao.CONCLUIDA) {
+            response.setArquivo(CAMINHO + exportacao.getId() + "/arquivo");
+        }
+        return response;
+    }
+}
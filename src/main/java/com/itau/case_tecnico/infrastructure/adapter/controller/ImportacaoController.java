@@ -0,0 +1,104 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.application.usecase.AvaliarComportamentoUseCase;
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.CriarColaboradorUseCase;
+import com.itau.case_tecnico.application.usecase.ImportarRegistrosUseCase;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.infrastructure.adapter.dto.AvaliacaoComportamentalRequest;
+import com.itau.case_tecnico.infrastructure.adapter.dto.ColaboradorRequest;
+import com.itau.case_tecnico.infrastructure.adapter.dto.DesafioRequest;
+import com.itau.case_tecnico.infrastructure.adapter.dto.ImportacaoResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportacaoController {
+    private static final Logger log = LoggerFactory.getLogger(ImportacaoController.class);
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+    static final String TEXT_CSV = "text/csv";
+
+    private final ImportarRegistrosUseCase importarRegistrosUseCase;
+    private final ObjectMapper objectMapper;
+
+    public ImportacaoController(ImportarRegistrosUseCase importarRegistrosUseCase, ObjectMapper objectMapper) {
+        this.importarRegistrosUseCase = importarRegistrosUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    // O corpo é consumido como stream: cada linha é convertida só quando o caso de uso pede a próxima
+    @PostMapping(consumes = {APPLICATION_NDJSON, TEXT_CSV})
+    public ResponseEntity<Object> importar(@RequestParam("tipo") String tipo,
+                                           @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                           InputStream corpo) {
+        log.info("Recebida requisição POST /api/import - tipo: {}, content-type: {}", tipo, contentType);
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        LeitorImportacao.Formato formato = TEXT_CSV.equals(mediaType.getType() + "/" + mediaType.getSubtype())
+            ? LeitorImportacao.Formato.CSV
+            : LeitorImportacao.Formato.NDJSON;
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(corpo, charset));
+
+        ImportarRegistrosUseCase.ResultadoImportacao resultado = switch (tipo) {
+            case "colaboradores" -> importarRegistrosUseCase.importarColaboradores(
+                new LeitorImportacao<>(leitor, formato, objectMapper, ColaboradorRequest.class, this::toColaborador));
+            case "desafios" -> importarRegistrosUseCase.importarDesafios(
+                new LeitorImportacao<>(leitor, formato, objectMapper, DesafioRequest.class, this::toDesafio));
+            case "avaliacoes" -> importarRegistrosUseCase.importarAvaliacoes(
+                new LeitorImportacao<>(leitor, formato, objectMapper, AvaliacaoComportamentalRequest.class, this::toAvaliacao));
+            default -> throw new ValidacaoException(CodigoErro.IMPORTACAO_INVALIDA, "Tipo de importação inválido: " + tipo
+                + ". Valores aceitos: colaboradores, desafios, avaliacoes");
+        };
+
+        log.info("Importação de {} concluída via API: {} importados, {} erros",
+                 tipo, resultado.getImportados(), resultado.getTotalErros());
+        return ResponseEntity.ok(toResponse(tipo, resultado));
+    }
+
+    private Colaborador toColaborador(ColaboradorRequest request) {
+        return new Colaborador(request.getMatricula(), request.getNome(),
+            CriarColaboradorUseCase.converterDataAdmissao(request.getDataAdmissao()), request.getCargo());
+    }
+
+    private Desafio toDesafio(DesafioRequest request) {
+        return new Desafio(request.getColaboradorId(), request.getDescricao(), request.getNota());
+    }
+
+    private AvaliacaoComportamental toAvaliacao(AvaliacaoComportamentalRequest request) {
+        return new AvaliacaoComportamental(request.getColaboradorId(),
+            AvaliarComportamentoUseCase.converterTipo(request.getTipo()), request.getNota());
+    }
+
+    private ImportacaoResponse toResponse(String tipo, ImportarRegistrosUseCase.ResultadoImportacao resultado) {
+        ImportacaoResponse response = new ImportacaoResponse();
+        response.setTipo(tipo);
+        response.setLinhasProcessadas(resultado.getLinhasProcessadas());
+        response.setImportados(resultado.getImportados());
+        response.setTotalErros(resultado.getTotalErros());
+        response.setErros(resultado.getErros().stream()
+            .map(erro -> {
+                ImportacaoResponse.ErroLinhaResponse item = new ImportacaoResponse.ErroLinhaResponse();
+                item.setLinha(erro.getLinha());
+                item.setErro(erro.getMensagem());
+                return item;
+            })
+            .collect(Collectors.toList()));
+        return response;
+    }
+}
@@ -0,0 +1,41 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Escreve um array JSON elemento a elemento conforme a fonte entrega os registros,
+ * sem materializar a lista completa em memória.
+ */
+final class JsonStreaming {
+
+    private JsonStreaming() {}
+
+    static <T> ResponseEntity<StreamingResponseBody> array(ObjectMapper objectMapper,
+                                                           Consumer<Consumer<T>> fonte,
+                                                           Function<T, ?> mapeador) {
+        StreamingResponseBody corpo = saida -> {
+            JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida);
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gerador.writeStartArray();
+            fonte.accept(item -> {
+                try {
+                    gerador.writeObject(mapeador.apply(item));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            gerador.writeEndArray();
+            gerador.close();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(corpo);
+    }
+}
@@ -0,0 +1,164 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.ImportarRegistrosUseCase.Linha;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Lê o corpo da importação linha a linha conforme o caso de uso consome, sem carregar o arquivo
+ * inteiro em memória. Linhas em branco são ignoradas; linhas que não podem ser convertidas viram
+ * erro com o número da linha física (a partir de 1, contando o cabeçalho do CSV).
+ */
+final class LeitorImportacao<R, T> implements Iterator<Linha<T>> {
+
+    enum Formato { NDJSON, CSV }
+
+    private final BufferedReader leitor;
+    private final Formato formato;
+    private final ObjectMapper objectMapper;
+    private final Class<R> tipoRequisicao;
+    private final Function<R, T> conversor;
+
+    private List<String> cabecalho;
+    private long numeroLinha;
+    private Linha<T> proxima;
+
+    LeitorImportacao(BufferedReader leitor, Formato formato, ObjectMapper objectMapper,
+                     Class<R> tipoRequisicao, Function<R, T> conversor) {
+        this.leitor = leitor;
+        this.formato = formato;
+        this.objectMapper = objectMapper;
+        this.tipoRequisicao = tipoRequisicao;
+        this.conversor = conversor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (proxima == null) {
+            proxima = lerProxima();
+        }
+        return proxima != null;
+    }
+
+    @Override
+    public Linha<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Linha<T> linha = proxima;
+        proxima = null;
+        return linha;
+    }
+
+    private Linha<T> lerProxima() {
+        String conteudo;
+        while ((conteudo = lerLinha()) != null) {
+            if (numeroLinha == 1 && !conteudo.isEmpty() && conteudo.charAt(0) == '\uFEFF') {
+                conteudo = conteudo.substring(1);
+            }
+            if (conteudo.isBlank()) {
+                continue;
+            }
+            if (formato == Formato.CSV && cabecalho == null) {
+                cabecalho = lerCabecalho(conteudo);
+                continue;
+            }
+            return converter(conteudo);
+        }
+        return null;
+    }
+
+    private String lerLinha() {
+        try {
+            String linha = leitor.readLine();
+            if (linha != null) {
+                numeroLinha++;
+            }
+            return linha;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Linha<T> converter(String conteudo) {
+        try {
+            R requisicao = formato == Formato.NDJSON
+                ? objectMapper.readValue(conteudo, tipoRequisicao)
+                : objectMapper.convertValue(lerCsv(conteudo), tipoRequisicao);
+            return Linha.registro(numeroLinha, conversor.apply(requisicao));
+        } catch (JsonProcessingException e) {
+            return Linha.erro(numeroLinha, "Linha inválida: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return Linha.erro(numeroLinha, "Linha inválida: " + e.getMessage());
+        } catch (ValidacaoException e) {
+            // Campo que o conversor já valida (ex.: tipo de avaliação): erro da linha, não da importação
+            return Linha.erro(numeroLinha, e.getMessage());
+        }
+    }
+
+    private List<String> lerCabecalho(String conteudo) {
+        try {
+            return dividirCsv(conteudo).stream().map(String::trim).toList();
+        } catch (IllegalArgumentException e) {
+            throw new ValidacaoException(CodigoErro.IMPORTACAO_INVALIDA, "Cabeçalho CSV inválido: " + e.getMessage());
+        }
+    }
+
+    private Map<String, String> lerCsv(String conteudo) {
+        List<String> valores = dividirCsv(conteudo);
+        if (valores.size() != cabecalho.size()) {
+            throw new IllegalArgumentException("esperadas " + cabecalho.size() + " colunas, encontradas " + valores.size());
+        }
+        Map<String, String> campos = new LinkedHashMap<>();
+        for (int i = 0; i < valores.size(); i++) {
+            String valor = valores.get(i).trim();
+            campos.put(cabecalho.get(i), valor.isEmpty() ? null : valor);
+        }
+        return campos;
+    }
+
+    // Separação por vírgula respeitando aspas duplas ("" dentro de aspas é uma aspa literal)
+    static List<String> dividirCsv(String linha) {
+        List<String> valores = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                valores.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("aspas não fechadas");
+        }
+        valores.add(atual.toString());
+        return valores;
+    }
+}
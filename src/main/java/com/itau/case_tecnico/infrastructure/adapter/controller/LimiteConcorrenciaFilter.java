@@ -0,0 +1,123 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limita quantas requisições da API são processadas ao mesmo tempo. Com threads virtuais o Tomcat
+ * não tem mais o teto de 200 workers, e milhares de requisições simultâneas esperariam pelo pool do
+ * Hikari até estourar o timeout de conexão. Aqui o excedente espera no máximo
+ * {@code app.concorrencia.espera} e recebe 503 com {@code Retry-After}, sem ocupar o banco.
+ * Nas listagens com {@code ?stream=true} o corpo é escrito depois que a cadeia retorna, ainda com uma
+ * conexão do pool; a permissão só é devolvida quando a requisição assíncrona termina.
+ * Só é registrado quando {@code app.concorrencia.maximo} está configurado (perfil {@code virtual}).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty("app.concorrencia.maximo")
+class LimiteConcorrenciaFilter extends OncePerRequestFilter {
+    static final String REJEITADAS = "app.concorrencia.rejeitadas";
+
+    private static final Logger log = LoggerFactory.getLogger(LimiteConcorrenciaFilter.class);
+    private final Semaphore permissoes;
+    private final long esperaNanos;
+    private final Counter rejeitadas;
+
+    public LimiteConcorrenciaFilter(@Value("${app.concorrencia.maximo}") int maximo,
+                                    @Value("${app.concorrencia.espera:500ms}") Duration espera,
+                                    MeterRegistry registry) {
+        this.permissoes = new Semaphore(maximo, true);
+        this.esperaNanos = espera.toNanos();
+        this.rejeitadas = Counter.builder(REJEITADAS)
+            .description("Requisições recusadas com 503 pelo limite de concorrência")
+            .register(registry);
+        log.info("Limite de concorrência configurado: {} requisições simultâneas, espera máxima {}", maximo, espera);
+    }
+
+    // Health check e scrape de métricas não podem ser recusados justamente quando o servidor está saturado
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean adquirida;
+        try {
+            adquirida = permissoes.tryAcquire(esperaNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            adquirida = false;
+        }
+        if (!adquirida) {
+            rejeitadas.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Servidor ocupado, tente novamente");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new LiberarAoTerminar());
+            } else {
+                permissoes.release();
+            }
+        }
+    }
+
+    // onError e onTimeout são seguidos de onComplete; a permissão é devolvida uma única vez
+    private final class LiberarAoTerminar implements AsyncListener {
+        private final AtomicBoolean liberada = new AtomicBoolean();
+
+        private void liberar() {
+            if (liberada.compareAndSet(false, true)) {
+                permissoes.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
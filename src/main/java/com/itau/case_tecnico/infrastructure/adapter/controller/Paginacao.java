@@ -0,0 +1,25 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.itau.case_tecnico.application.usecase.ListarTodosUseCase;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Resposta de paginação por cursor (keyset): quando a página vem cheia, o ID do último
+ * registro é devolvido no cabeçalho {@value #CABECALHO_PROXIMO_CURSOR} para ser usado no próximo {@code after}.
+ */
+final class Paginacao {
+    static final String CABECALHO_PROXIMO_CURSOR = "X-Next-After";
+
+    private Paginacao() {}
+
+    static ResponseEntity<Object> pagina(List<?> responses, Long ultimoId, Integer limit) {
+        int limiteEfetivo = limit == null ? ListarTodosUseCase.LIMITE_PADRAO : limit;
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (!responses.isEmpty() && responses.size() == limiteEfetivo) {
+            resposta.header(CABECALHO_PROXIMO_CURSOR, String.valueOf(ultimoId));
+        }
+        return resposta.body(responses);
+    }
+}
@@ -0,0 +1,63 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional das leituras de um colaborador: o ETag forte é a versão do colaborador na nota_final,
+ * incrementada a cada escrita nos seus dados. Com {@code If-None-Match} igual à versão atual a resposta
+ * é 304 sem montar o corpo. A versão é lida antes do corpo: uma escrita entre as duas leituras deixa o
+ * ETag mais antigo que o corpo e o próximo GET volta 200, nunca um 304 com dado desatualizado.
+ */
+final class RespostaCondicional {
+    // Cliente pode guardar a resposta, mas revalida a cada uso; privado porque os dados são por colaborador
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private RespostaCondicional() {}
+
+    static ResponseEntity<Object> versionada(Optional<Long> versao, String ifNoneMatch,
+                                             Supplier<ResponseEntity<Object>> resposta) {
+        if (versao.isEmpty()) {
+            // Colaborador inexistente ou ainda sem linha na nota_final: resposta sem ETag
+            return resposta.get();
+        }
+        String etag = etag(versao.get());
+        if (corresponde(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+        ResponseEntity<Object> completa = resposta.get();
+        if (!completa.getStatusCode().is2xxSuccessful()) {
+            return completa;
+        }
+        return ResponseEntity.status(completa.getStatusCode())
+            .headers(completa.getHeaders())
+            .eTag(etag)
+            .cacheControl(CACHE_CONTROL)
+            .body(completa.getBody());
+    }
+
+    static String etag(long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    // Comparação fraca, como pede o If-None-Match: W/"3" também corresponde a "3"
+    static boolean corresponde(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String tag = candidato.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.itau.case_tecnico.application.usecase.CapacidadeEsgotadaException;
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import com.itau.case_tecnico.infrastructure.adapter.dto.ErroResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import static com.itau.case_tecnico.infrastructure.adapter.log.AmostragemTurboFilter.POR_REQUISICAO;
+
+/**
+ * Ponto único de conversão de exceções em respostas de erro {@code {"codigo", "mensagem"}}:
+ * {@link ValidacaoException} vira 400 com o código da regra violada, {@link CapacidadeEsgotadaException}
+ * vira 503 com {@code Retry-After}, erros do próprio Spring MVC
+ * (corpo ilegível, parâmetro ausente, método não suportado...) mantêm o status padrão e qualquer
+ * outra exceção vira 500. Os controllers só tratam o caminho feliz e o 404. No 500 a mensagem é fixa:
+ * texto de JDBC ou de restrição do banco fica só no log.
+ */
+@RestControllerAdvice
+class TratadorDeErros extends ResponseEntityExceptionHandler {
+    private static final Logger log = LoggerFactory.getLogger(TratadorDeErros.class);
+    static final String MENSAGEM_ERRO_INTERNO = "Erro interno ao processar a requisição";
+    static final String ESPERA_CAPACIDADE_ESGOTADA = "10";
+
+    // Rejeições de validação podem vir em rajadas do mesmo cliente: o log é amostrado como o das requisições
+    @ExceptionHandler(ValidacaoException.class)
+    ResponseEntity<ErroResponse> tratarValidacao(ValidacaoException e, HttpServletRequest request) {
+        log.warn(POR_REQUISICAO, "Erro de validação em {} {}: {}", request.getMethod(), request.getRequestURI(), e.getMessage());
+        return ResponseEntity.badRequest().body(new ErroResponse(e.getCodigo().name(), e.getMessage()));
+    }
+
+    @ExceptionHandler(CapacidadeEsgotadaException.class)
+    ResponseEntity<ErroResponse> tratarCapacidadeEsgotada(CapacidadeEsgotadaException e, HttpServletRequest request) {
+        log.warn(POR_REQUISICAO, "Pedido recusado em {} {}: {}", request.getMethod(), request.getRequestURI(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, ESPERA_CAPACIDADE_ESGOTADA)
+            .body(new ErroResponse(e.getCodigo().name(), e.getMessage()));
+    }
+
+    @ExceptionHandler(Exception.class)
+    ResponseEntity<ErroResponse> tratarErroInesperado(Exception e, HttpServletRequest request) {
+        log.error("Erro ao processar {} {}", request.getMethod(), request.getRequestURI(), e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(new ErroResponse(CodigoErro.ERRO_INTERNO.name(), MENSAGEM_ERRO_INTERNO));
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(Exception ex, Object body, HttpHeaders headers,
+                                                             HttpStatusCode statusCode, WebRequest request) {
+        ResponseEntity<Object> padrao = super.handleExceptionInternal(ex, body, headers, statusCode, request);
+        // Resposta já enviada, ou o cliente não aceita JSON: não há como devolver o corpo estruturado
+        if (padrao == null || ex instanceof HttpMediaTypeNotAcceptableException) {
+            return padrao;
+        }
+        if (statusCode.is5xxServerError()) {
+            log.error("Erro do Spring MVC com status {}", statusCode.value(), ex);
+            return ResponseEntity.status(statusCode)
+                .headers(padrao.getHeaders())
+                .body(new ErroResponse(CodigoErro.ERRO_INTERNO.name(), MENSAGEM_ERRO_INTERNO));
+        }
+        String mensagem = padrao.getBody() instanceof ProblemDetail detalhe && detalhe.getDetail() != null
+            ? detalhe.getDetail()
+            : ex.getMessage();
+        return ResponseEntity.status(statusCode)
+            .headers(padrao.getHeaders())
+            .body(new ErroResponse(CodigoErro.REQUISICAO_INVALIDA.name(), mensagem));
+    }
+}
@@ -0,0 +1,42 @@
+package com.itau.case_tecnico.infrastructure.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@JsonPropertyOrder({"cargo", "nota_final", "media_comportamental", "media_desafios", "notas_avaliacoes", "notas_desafios"})
+public class DistribuicaoResponse {
+    // Nulo na distribuição de todos os cargos
+    private String cargo;
+
+    @JsonProperty("nota_final")
+    private PercentisResponse notaFinal;
+
+    @JsonProperty("media_comportamental")
+    private PercentisResponse mediaComportamental;
+
+    @JsonProperty("media_desafios")
+    private PercentisResponse mediaDesafios;
+
+    // Quantidade por nota, de "1" a "5"
+    @JsonProperty("notas_avaliacoes")
+    private Map<String, Long> notasAvaliacoes;
+
+    @JsonProperty("notas_desafios")
+    private Map<String, Long> notasDesafios;
+
+    @Getter
+    @Setter
+    @JsonPropertyOrder({"quantidade", "p10", "p50", "p90"})
+    public static class PercentisResponse {
+        private Long quantidade;
+        private Double p10;
+        private Double p50;
+        private Double p90;
+    }
+}
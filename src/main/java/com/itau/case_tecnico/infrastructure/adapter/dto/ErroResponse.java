@@ -0,0 +1,17 @@
+package com.itau.case_tecnico.infrastructure.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"codigo", "mensagem"})
+public class ErroResponse {
+    private String codigo;
+    private String mensagem;
+}
@@ -0,0 +1,14 @@
+package com.itau.case_tecnico.infrastructure.adapter.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ExportacaoRequest {
+    // notas-finais, colaboradores, avaliacoes ou desafios
+    private String tipo;
+
+    // csv (padrão) ou ndjson
+    private String formato;
+}
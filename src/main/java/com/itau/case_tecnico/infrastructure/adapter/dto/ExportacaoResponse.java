@@ -0,0 +1,37 @@
+package com.itau.case_tecnico.infrastructure.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@JsonPropertyOrder({"exportacao_id", "tipo", "formato", "status", "linhas", "bytes", "erro", "criada_em", "finalizada_em", "arquivo"})
+public class ExportacaoResponse {
+    @JsonProperty("exportacao_id")
+    private String id;
+
+    private String tipo;
+    private String formato;
+    private String status;
+
+    // Progresso: linhas gravadas e bytes já compactados no disco
+    private Long linhas;
+    private Long bytes;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String erro;
+
+    @JsonProperty("criada_em")
+    private String criadaEm;
+
+    @JsonProperty("finalizada_em")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String finalizadaEm;
+
+    // Caminho do download, presente quando a exportação foi concluída
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String arquivo;
+}
@@ -0,0 +1,33 @@
+package com.itau.case_tecnico.infrastructure.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@JsonPropertyOrder({"tipo", "linhas_processadas", "importados", "total_erros", "erros"})
+public class ImportacaoResponse {
+    private String tipo;
+
+    @JsonProperty("linhas_processadas")
+    private Long linhasProcessadas;
+
+    private Long importados;
+
+    @JsonProperty("total_erros")
+    private Long totalErros;
+
+    // Limitado aos primeiros erros; total_erros traz a contagem completa
+    private List<ErroLinhaResponse> erros;
+
+    @Getter
+    @Setter
+    public static class ErroLinhaResponse {
+        private Long linha;
+        private String erro;
+    }
+}
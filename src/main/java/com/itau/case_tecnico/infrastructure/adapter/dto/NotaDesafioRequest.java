@@ -0,0 +1,16 @@
+package com.itau.case_tecnico.infrastructure.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class NotaDesafioRequest {
+    private Integer nota;
+
+    @JsonProperty("pontuacao")
+    public void setPontuacao(Integer pontuacao) {
+        this.nota = pontuacao;
+    }
+}
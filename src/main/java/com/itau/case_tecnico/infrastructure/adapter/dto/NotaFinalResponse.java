@@ -1,5 +1,6 @@
 package com.itau.case_tecnico.infrastructure.adapter.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Getter;
@@ -7,7 +8,7 @@ import lombok.Setter;
 
 @Getter
 @Setter
-@JsonPropertyOrder({"colaborador_id", "nota_final", "media_comportamental", "media_desafios"})
+@JsonPropertyOrder({"colaborador_id", "nota_final", "media_comportamental", "media_desafios", "erro"})
 public class NotaFinalResponse {
     @JsonProperty("colaborador_id")
     private Long colaboradorId;
@@ -20,4 +21,8 @@ public class NotaFinalResponse {
     
     @JsonProperty("media_desafios")
     private Double mediaDesafios;
+
+    // Preenchido apenas no cálculo em lote, quando o colaborador não passa na validação
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String erro;
 }
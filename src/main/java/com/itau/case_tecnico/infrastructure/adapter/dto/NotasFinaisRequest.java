@@ -0,0 +1,16 @@
+package com.itau.case_tecnico.infrastructure.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class NotasFinaisRequest {
+    @JsonProperty("colaborador_ids")
+    private List<Long> colaboradorIds;
+
+    private String cargo;
+}
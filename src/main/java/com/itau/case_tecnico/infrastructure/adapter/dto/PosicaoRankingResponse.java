@@ -0,0 +1,33 @@
+package com.itau.case_tecnico.infrastructure.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@JsonPropertyOrder({"colaborador_id", "cargo", "nota_final", "posicao", "total", "posicao_no_cargo", "total_no_cargo"})
+public class PosicaoRankingResponse {
+    @JsonProperty("colaborador_id")
+    private Long colaboradorId;
+
+    private String cargo;
+
+    @JsonProperty("nota_final")
+    private Double notaFinal;
+
+    private Integer posicao;
+
+    private Integer total;
+
+    // Ausentes quando o colaborador não tem cargo
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("posicao_no_cargo")
+    private Integer posicaoNoCargo;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("total_no_cargo")
+    private Integer totalNoCargo;
+}
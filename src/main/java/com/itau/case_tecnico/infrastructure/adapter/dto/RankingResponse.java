@@ -0,0 +1,21 @@
+package com.itau.case_tecnico.infrastructure.adapter.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@JsonPropertyOrder({"posicao", "colaborador_id", "cargo", "nota_final"})
+public class RankingResponse {
+    private Integer posicao;
+
+    @JsonProperty("colaborador_id")
+    private Long colaboradorId;
+
+    private String cargo;
+
+    @JsonProperty("nota_final")
+    private Double notaFinal;
+}
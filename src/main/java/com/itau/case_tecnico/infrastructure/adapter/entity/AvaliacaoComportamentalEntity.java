@@ -1,5 +1,6 @@
 package com.itau.case_tecnico.infrastructure.adapter.entity;
 
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,19 +8,23 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "avaliacao_comportamental")
+@Table(name = "avaliacao_comportamental", uniqueConstraints = @UniqueConstraint(
+    name = "uk_avaliacao_colaborador_tipo", columnNames = {"colaborador_id", "tipo"}))
 public class AvaliacaoComportamentalEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "avaliacao_comportamental_seq")
+    @SequenceGenerator(name = "avaliacao_comportamental_seq", sequenceName = "avaliacao_comportamental_seq", allocationSize = GeracaoDeIds.TAMANHO_BLOCO)
     @Column(name = "avaliacao_comportamental_id")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "colaborador_id", nullable = false)
     private ColaboradorEntity colaborador;
 
-    @Column(nullable = false, length = 100)
-    private String tipo;
+    // Código do tipo (db/scripts/004_tipo_avaliacao.sql); o índice único impede tipo repetido por colaborador
+    @Convert(converter = TipoAvaliacaoConverter.class)
+    @Column(nullable = false)
+    private TipoAvaliacao tipo;
 
     @Column(nullable = false)
     private Integer nota;
@@ -4,16 +4,21 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "colaborador")
+@Table(name = "colaborador", indexes = {
+    @Index(name = "idx_colaborador_cargo_data_admissao", columnList = "cargo, data_admissao"),
+    @Index(name = "idx_colaborador_data_admissao", columnList = "data_admissao")
+})
 public class ColaboradorEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "colaborador_seq")
+    @SequenceGenerator(name = "colaborador_seq", sequenceName = "colaborador_seq", allocationSize = GeracaoDeIds.TAMANHO_BLOCO)
     @Column(name = "colaborador_id")
     private Long id;
 
@@ -23,8 +28,8 @@ public class ColaboradorEntity {
     @Column(nullable = false, length = 100)
     private String nome;
 
-    @Column(name = "data_admissao", nullable = false, length = 50)
-    private String dataAdmissao;
+    @Column(name = "data_admissao", nullable = false)
+    private LocalDate dataAdmissao;
 
     @Column(nullable = false, length = 50)
     private String cargo;
@@ -7,14 +7,15 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "desafio")
+@Table(name = "desafio", indexes = @Index(name = "idx_desafio_colaborador", columnList = "colaborador_id, desafio_id"))
 public class DesafioEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "desafio_seq")
+    @SequenceGenerator(name = "desafio_seq", sequenceName = "desafio_seq", allocationSize = GeracaoDeIds.TAMANHO_BLOCO)
     @Column(name = "desafio_id")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "colaborador_id", nullable = false)
     private ColaboradorEntity colaborador;
 
@@ -0,0 +1,13 @@
+package com.itau.case_tecnico.infrastructure.adapter.entity;
+
+/**
+ * IDs gerados em blocos pelo otimizador pooled do Hibernate. No MySQL, que não tem sequences,
+ * cada sequence é emulada por uma tabela de uma linha ({@code <tabela>_seq.next_val}); um
+ * único UPDATE reserva {@link #TAMANHO_BLOCO} IDs, e os INSERTs podem ser enviados em lote.
+ * O valor precisa coincidir com o usado em {@code db/scripts/003_sequencias_ids.sql}.
+ */
+public final class GeracaoDeIds {
+    public static final int TAMANHO_BLOCO = 50;
+
+    private GeracaoDeIds() {}
+}
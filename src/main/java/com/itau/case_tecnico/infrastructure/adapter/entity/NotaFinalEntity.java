@@ -0,0 +1,38 @@
+package com.itau.case_tecnico.infrastructure.adapter.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Modelo de leitura da nota final: contagens e somas correntes por colaborador,
+ * mantidas na mesma transação das escritas de avaliações e desafios.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "nota_final")
+public class NotaFinalEntity {
+    @Id
+    @Column(name = "colaborador_id")
+    private Long colaboradorId;
+
+    @Column(name = "quantidade_avaliacoes", nullable = false)
+    private Integer quantidadeAvaliacoes = 0;
+
+    @Column(name = "soma_avaliacoes", nullable = false)
+    private Integer somaAvaliacoes = 0;
+
+    @Column(name = "quantidade_desafios", nullable = false)
+    private Integer quantidadeDesafios = 0;
+
+    @Column(name = "quantidade_desafios_com_nota", nullable = false)
+    private Integer quantidadeDesafiosComNota = 0;
+
+    @Column(name = "soma_desafios", nullable = false)
+    private Integer somaDesafios = 0;
+
+    // Incrementada a cada escrita nos dados do colaborador; usada como ETag das leituras
+    @Column(name = "versao", nullable = false)
+    private Long versao = 0L;
+}
@@ -0,0 +1,20 @@
+package com.itau.case_tecnico.infrastructure.adapter.entity;
+
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Grava o código do tipo (TINYINT) em vez da pergunta completa
+@Converter
+public class TipoAvaliacaoConverter implements AttributeConverter<TipoAvaliacao, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(TipoAvaliacao tipo) {
+        return tipo == null ? null : (byte) tipo.getCodigo();
+    }
+
+    @Override
+    public TipoAvaliacao convertToEntityAttribute(Byte codigo) {
+        return codigo == null ? null : TipoAvaliacao.deCodigo(codigo);
+    }
+}
@@ -0,0 +1,38 @@
+package com.itau.case_tecnico.infrastructure.adapter.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Amostragem dos logs emitidos a cada requisição: eventos com o marcador {@link #POR_REQUISICAO}
+ * passam com probabilidade 1/{@code taxa} e os demais são descartados antes de a mensagem ser
+ * formatada ou o evento alocado. Com o logger em DEBUG (investigação) todos os eventos passam.
+ * Configurado em {@code logback-spring.xml} ({@code app.log.amostragem}).
+ */
+public class AmostragemTurboFilter extends TurboFilter {
+    public static final Marker POR_REQUISICAO = MarkerFactory.getMarker("POR_REQUISICAO");
+
+    private int taxa = 100;
+
+    public void setTaxa(int taxa) {
+        this.taxa = taxa;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || !marker.contains(POR_REQUISICAO) || !isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+        if (taxa <= 1 || logger.getEffectiveLevel().toInt() <= Level.DEBUG_INT) {
+            return FilterReply.NEUTRAL;
+        }
+        // Sorteio por thread em vez de contador compartilhado: sem contenção entre as threads de requisição
+        return ThreadLocalRandom.current().nextInt(taxa) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
@@ -0,0 +1,42 @@
+package com.itau.case_tecnico.infrastructure.adapter.metricas;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual, entre {@link #iniciar()} e
+ * {@link #encerrar()}. Fora desse intervalo (inicialização, threads de streaming) nada é contado.
+ * Registra-se como {@code hibernate.session_factory.statement_inspector}; o SQL não é alterado.
+ */
+@Component
+class ContadorDeStatements implements StatementInspector, HibernatePropertiesCustomizer {
+    private final ThreadLocal<long[]> contagem = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> propriedades) {
+        propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] atual = contagem.get();
+        if (atual != null) {
+            atual[0]++;
+        }
+        return sql;
+    }
+
+    void iniciar() {
+        contagem.set(new long[1]);
+    }
+
+    long encerrar() {
+        long[] atual = contagem.get();
+        contagem.remove();
+        return atual == null ? 0 : atual[0];
+    }
+}
@@ -0,0 +1,92 @@
+package com.itau.case_tecnico.infrastructure.adapter.metricas;
+
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timers do Micrometer em volta dos casos de uso, das portas de repositório e dos endpoints.
+ * Cada timer é marcado com classe, método e resultado: {@code sucesso}, {@code validacao}
+ * ({@link ValidacaoException}) ou {@code erro} (qualquer outra exceção, ou resposta 5xx).
+ * A contagem de chamadas por resultado vem do próprio timer ({@code _count}). Os timers ficam guardados
+ * por chamada e resultado, para não montar e registrar um builder a cada execução.
+ */
+@Aspect
+@Component
+class MetricasAspect {
+    static final String CASO_DE_USO = "app.caso.uso";
+    static final String REPOSITORIO = "app.repositorio";
+    static final String ENDPOINT = "app.endpoint";
+
+    static final String SUCESSO = "sucesso";
+    static final String VALIDACAO = "validacao";
+    static final String ERRO = "erro";
+
+    private final MeterRegistry registry;
+    private final Map<Chave, Timer> timers = new ConcurrentHashMap<>();
+
+    public MetricasAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.itau.case_tecnico.application.usecase..*.*(..))"
+        + " && @within(org.springframework.stereotype.Service)")
+    public Object medirCasoDeUso(ProceedingJoinPoint chamada) throws Throwable {
+        return medir(CASO_DE_USO, chamada);
+    }
+
+    // O decorador com cache e o adaptador JPA são medidos separadamente (tag classe): a diferença é o ganho do cache
+    @Around("execution(* com.itau.case_tecnico.domain.port.*RepositoryPort.*(..))")
+    public Object medirRepositorio(ProceedingJoinPoint chamada) throws Throwable {
+        return medir(REPOSITORIO, chamada);
+    }
+
+    @Around("execution(public * com.itau.case_tecnico.infrastructure.adapter.controller..*.*(..))"
+        + " && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object medirEndpoint(ProceedingJoinPoint chamada) throws Throwable {
+        return medir(ENDPOINT, chamada);
+    }
+
+    private Object medir(String nome, ProceedingJoinPoint chamada) throws Throwable {
+        Timer.Sample amostra = Timer.start(registry);
+        String resultado = ERRO;
+        try {
+            Object retorno = chamada.proceed();
+            resultado = resultadoDe(retorno);
+            return retorno;
+        } catch (ValidacaoException e) {
+            resultado = VALIDACAO;
+            throw e;
+        } finally {
+            amostra.stop(timer(new Chave(nome, chamada.getTarget().getClass(), chamada.getSignature().getName(), resultado)));
+        }
+    }
+
+    private Timer timer(Chave chave) {
+        return timers.computeIfAbsent(chave, c -> Timer.builder(c.nome())
+            .tag("classe", ClassUtils.getUserClass(c.classe()).getSimpleName())
+            .tag("metodo", c.metodo())
+            .tag("resultado", c.resultado())
+            .register(registry));
+    }
+
+    // As validações chegam aqui como exceção (o TratadorDeErros responde depois); só um 5xx devolvido pelo controller é erro
+    private static String resultadoDe(Object retorno) {
+        if (retorno instanceof ResponseEntity<?> resposta && resposta.getStatusCode().is5xxServerError()) {
+            return ERRO;
+        }
+        return SUCESSO;
+    }
+
+    private record Chave(String nome, Class<?> classe, String metodo, String resultado) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.itau.case_tecnico.infrastructure.adapter.metricas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Registra quantos comandos SQL cada requisição executou ({@code app.hibernate.statements}),
+ * por método HTTP e padrão de URI. Um aumento na média de um endpoint indica N+1 novo.
+ * O corpo das listagens com {@code ?stream=true} é escrito em outra thread e não entra na contagem.
+ */
+@Component
+class StatementsPorRequisicaoFilter extends OncePerRequestFilter {
+    static final String STATEMENTS = "app.hibernate.statements";
+    private static final String URI_DESCONHECIDA = "UNKNOWN";
+
+    private final ContadorDeStatements contador;
+    private final MeterRegistry registry;
+
+    public StatementsPorRequisicaoFilter(ContadorDeStatements contador, MeterRegistry registry) {
+        this.contador = contador;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        contador.iniciar();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long statements = contador.encerrar();
+            // Sem padrão (404, recursos estáticos) a URI crua explodiria a cardinalidade das tags
+            Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(STATEMENTS)
+                .description("Comandos SQL executados pelo Hibernate por requisição")
+                .tag("metodo", request.getMethod())
+                .tag("uri", padrao == null ? URI_DESCONHECIDA : padrao.toString())
+                .register(registry)
+                .record(statements);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.itau.case_tecnico.infrastructure.adapter.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.FiltroColaboradores;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Decorador de {@link ColaboradorRepositoryPort} que mantém em memória os colaboradores
+ * buscados por ID (verificações de existência nos casos de uso de avaliação e desafio).
+ * Apenas resultados encontrados são guardados; {@code salvar} invalida a entrada do colaborador.
+ * Colaborador ainda sem data de admissão (aguardando a conversão, que roda em outro processo) não é
+ * guardado: depois da conversão a leitura precisa vir do banco junto com o ETag novo.
+ * Acertos, faltas, despejos e tamanho são publicados no Micrometer como {@code cache_*{cache="colaboradores"}}.
+ */
+@Primary
+@Component
+class ColaboradorRepositoryCache implements ColaboradorRepositoryPort {
+    private static final Logger log = LoggerFactory.getLogger(ColaboradorRepositoryCache.class);
+    private final ColaboradorRepositoryPort delegate;
+    private final Cache<Long, Colaborador> porId;
+
+    public ColaboradorRepositoryCache(SpringColaboradorRepositoryAdapter delegate,
+                                      @Value("${app.cache.colaborador.tamanho-maximo:10000}") long tamanhoMaximo,
+                                      @Value("${app.cache.colaborador.ttl:5m}") Duration ttl,
+                                      MeterRegistry registry) {
+        this.delegate = delegate;
+        this.porId = Caffeine.newBuilder()
+            .maximumSize(tamanhoMaximo)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, porId, "colaboradores");
+        log.info("Cache de colaboradores por ID configurado: tamanho máximo {}, TTL {}", tamanhoMaximo, ttl);
+    }
+
+    @Override
+    public Optional<Colaborador> buscarPorId(Long id) {
+        Colaborador emCache = porId.getIfPresent(id);
+        if (emCache != null) {
+            log.debug("Colaborador ID {} servido pelo cache", id);
+            return Optional.of(copiar(emCache));
+        }
+        Optional<Colaborador> colaborador = delegate.buscarPorId(id);
+        colaborador.filter(c -> c.getDataAdmissao() != null).ifPresent(c -> porId.put(id, copiar(c)));
+        return colaborador;
+    }
+
+    @Override
+    public Colaborador salvar(Colaborador colaborador) {
+        Colaborador salvo = delegate.salvar(colaborador);
+        porId.invalidate(salvo.getId());
+        log.debug("Entrada do colaborador ID {} invalidada no cache", salvo.getId());
+        return salvo;
+    }
+
+    @Override
+    public List<Colaborador> salvarTodos(List<Colaborador> colaboradores) {
+        List<Colaborador> salvos = delegate.salvarTodos(colaboradores);
+        salvos.forEach(salvo -> porId.invalidate(salvo.getId()));
+        return salvos;
+    }
+
+    @Override
+    public List<Colaborador> listarTodos() {
+        return delegate.listarTodos();
+    }
+
+    @Override
+    public List<Colaborador> listarPagina(Long aposId, int limite) {
+        return delegate.listarPagina(aposId, limite);
+    }
+
+    @Override
+    public List<Colaborador> listarPagina(FiltroColaboradores filtro, Long aposId, int limite) {
+        return delegate.listarPagina(filtro, aposId, limite);
+    }
+
+    @Override
+    public void percorrerTodos(Consumer<Colaborador> consumidor) {
+        delegate.percorrerTodos(consumidor);
+    }
+
+    @Override
+    public Optional<Colaborador> buscarPorMatricula(String matricula) {
+        return delegate.buscarPorMatricula(matricula);
+    }
+
+    @Override
+    public boolean existePorMatricula(String matricula) {
+        return delegate.existePorMatricula(matricula);
+    }
+
+    @Override
+    public Set<String> existemPorMatriculas(Collection<String> matriculas) {
+        return delegate.existemPorMatriculas(matriculas);
+    }
+
+    @Override
+    public Map<Long, String> buscarDatasAdmissaoEmTexto(Long aposId, int limite) {
+        return delegate.buscarDatasAdmissaoEmTexto(aposId, limite);
+    }
+
+    @Override
+    public int gravarDatasAdmissao(Map<Long, LocalDate> datas) {
+        int atualizados = delegate.gravarDatasAdmissao(datas);
+        porId.invalidateAll(datas.keySet());
+        return atualizados;
+    }
+
+    // Colaborador é mutável: quem recebe uma instância do cache não pode alterar a entrada guardada
+    private static Colaborador copiar(Colaborador origem) {
+        Colaborador copia = new Colaborador(origem.getMatricula(), origem.getNome(), origem.getDataAdmissao(), origem.getCargo());
+        copia.setId(origem.getId());
+        return copia;
+    }
+}
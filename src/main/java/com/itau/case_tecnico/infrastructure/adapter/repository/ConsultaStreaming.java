@@ -0,0 +1,48 @@
+package com.itau.case_tecnico.infrastructure.adapter.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Percorre o resultado de uma consulta por cursor forward-only, desanexando cada entidade
+ * do contexto de persistência logo após o uso para que o consumo de memória não cresça com a tabela.
+ * No MySQL Connector/J, o fetch size padrão {@code Integer.MIN_VALUE} faz o driver ler linha a linha.
+ */
+@Component
+class ConsultaStreaming {
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public ConsultaStreaming(EntityManager entityManager,
+                             @Value("${app.consulta.streaming.fetch-size:-2147483648}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    <T> void percorrer(String jpql, Class<T> tipo, Consumer<T> consumidor) {
+        try (Stream<T> resultado = entityManager.createQuery(jpql, tipo)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            resultado.forEach(entity -> {
+                entityManager.detach(entity);
+                consumidor.accept(entity);
+            });
+        }
+    }
+
+    // Projeções escalares não entram no contexto de persistência: não há o que desanexar
+    void percorrerValores(String jpql, Consumer<Object[]> consumidor) {
+        try (Stream<Object[]> resultado = entityManager.createQuery(jpql, Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            resultado.forEach(consumidor);
+        }
+    }
+}
@@ -1,38 +1,148 @@
 package com.itau.case_tecnico.infrastructure.adapter.repository;
 
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.ColaboradoresSalvos;
+import com.itau.case_tecnico.domain.model.FiltroColaboradores;
+import com.itau.case_tecnico.domain.model.OrdemColaboradores;
 import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
 import com.itau.case_tecnico.infrastructure.adapter.entity.ColaboradorEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+interface DataAdmissaoTextoProjection {
+    Number getColaboradorId();
+    String getTexto();
+}
+
 interface ColaboradorJpaRepository extends JpaRepository<ColaboradorEntity, Long> {
     Optional<ColaboradorEntity> findByMatricula(String matricula);
     boolean existsByMatricula(String matricula);
+
+    @Query("select c.matricula from ColaboradorEntity c where c.matricula in :matriculas")
+    List<String> findMatriculasExistentes(@Param("matriculas") Collection<String> matriculas);
+    List<ColaboradorEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select c.dataAdmissao from ColaboradorEntity c where c.id = :id")
+    Optional<LocalDate> findDataAdmissaoById(@Param("id") Long id);
+
+    // data_admissao_texto é a coluna VARCHAR original, mantida até o fim da conversão (script 006)
+    @Query(value = """
+        SELECT colaborador_id AS colaboradorId, data_admissao_texto AS texto
+        FROM colaborador
+        WHERE colaborador_id > :aposId AND data_admissao IS NULL
+        ORDER BY colaborador_id
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<DataAdmissaoTextoProjection> findDatasAdmissaoEmTexto(@Param("aposId") Long aposId, @Param("limite") int limite);
+
+    @Modifying
+    @Query(value = "UPDATE colaborador SET data_admissao = :data WHERE colaborador_id IN (:ids) AND data_admissao IS NULL",
+           nativeQuery = true)
+    int atualizarDataAdmissao(@Param("data") LocalDate data, @Param("ids") Collection<Long> ids);
 }
 
 @Component
 class SpringColaboradorRepositoryAdapter implements ColaboradorRepositoryPort {
     private static final Logger log = LoggerFactory.getLogger(SpringColaboradorRepositoryAdapter.class);
+    static final int TAMANHO_LOTE_MATRICULAS = 500;
+    private static final ValidacaoException MATRICULA_DUPLICADA_NO_LOTE =
+        new ValidacaoException(CodigoErro.MATRICULA_DUPLICADA, "Matrícula já cadastrada por outra requisição");
     private final ColaboradorJpaRepository jpaRepository;
+    private final ConsultaStreaming consultaStreaming;
+    private final NotaFinalIncremental notaFinalIncremental;
+    private final ApplicationEventPublisher eventos;
+    private final EntityManager entityManager;
 
-    public SpringColaboradorRepositoryAdapter(ColaboradorJpaRepository jpaRepository) {
+    public SpringColaboradorRepositoryAdapter(ColaboradorJpaRepository jpaRepository,
+                                              ConsultaStreaming consultaStreaming,
+                                              NotaFinalIncremental notaFinalIncremental,
+                                              ApplicationEventPublisher eventos,
+                                              EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.consultaStreaming = consultaStreaming;
+        this.notaFinalIncremental = notaFinalIncremental;
+        this.eventos = eventos;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public Colaborador salvar(Colaborador colaborador) {
         log.debug("Salvando colaborador no banco de dados: matrícula {}", colaborador.getMatricula());
         ColaboradorEntity entity = toEntity(colaborador);
-        ColaboradorEntity saved = jpaRepository.save(entity);
+        // Com IDs em blocos o INSERT fica pendente até o flush; a linha precisa existir antes da nota_final
+        ColaboradorEntity saved;
+        try {
+            saved = jpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            // A restrição única de matrícula é a fonte da verdade: sem consulta prévia e sem corrida entre requisições
+            if (ViolacaoDeRestricao.chaveUnica(e)) {
+                log.debug("Matrícula já cadastrada ao gravar colaborador: {}", colaborador.getMatricula());
+                throw new ValidacaoException(CodigoErro.MATRICULA_DUPLICADA, "Matrícula já cadastrada: " + colaborador.getMatricula());
+            }
+            throw e;
+        }
+        if (colaborador.getId() == null) {
+            notaFinalIncremental.registrarColaborador(saved.getId());
+        }
         log.debug("Colaborador salvo com sucesso no banco: ID {}", saved.getId());
-        return toDomain(saved);
+        Colaborador salvo = toDomain(saved);
+        eventos.publishEvent(new ColaboradoresSalvos(List.of(salvo)));
+        return salvo;
+    }
+
+    @Override
+    @Transactional
+    public List<Colaborador> salvarTodos(List<Colaborador> colaboradores) {
+        log.debug("Salvando lote de {} colaboradores no banco de dados", colaboradores.size());
+        List<ColaboradorEntity> entities = colaboradores.stream()
+            .map(this::toEntity)
+            .collect(Collectors.toList());
+        List<ColaboradorEntity> salvos;
+        try {
+            salvos = jpaRepository.saveAll(entities);
+            jpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (ViolacaoDeRestricao.chaveUnica(e)) {
+                log.debug("Matrícula já cadastrada ao gravar lote de colaboradores");
+                throw MATRICULA_DUPLICADA_NO_LOTE;
+            }
+            throw e;
+        }
+        notaFinalIncremental.registrarColaboradores(salvos.stream().map(ColaboradorEntity::getId).collect(Collectors.toList()));
+        log.debug("Lote de {} colaboradores salvo com sucesso no banco", salvos.size());
+        List<Colaborador> resultado = salvos.stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        eventos.publishEvent(new ColaboradoresSalvos(resultado));
+        return resultado;
     }
 
     @Override
@@ -59,6 +169,19 @@ class SpringColaboradorRepositoryAdapter implements ColaboradorRepositoryPort {
         return exists;
     }
 
+    @Override
+    public Set<String> existemPorMatriculas(Collection<String> matriculas) {
+        List<String> distintas = new ArrayList<>(new LinkedHashSet<>(matriculas));
+        log.debug("Verificando existência de {} matrículas no banco em lotes de {}", distintas.size(), TAMANHO_LOTE_MATRICULAS);
+        Set<String> existentes = new HashSet<>();
+        for (int inicio = 0; inicio < distintas.size(); inicio += TAMANHO_LOTE_MATRICULAS) {
+            existentes.addAll(jpaRepository.findMatriculasExistentes(
+                distintas.subList(inicio, Math.min(inicio + TAMANHO_LOTE_MATRICULAS, distintas.size()))));
+        }
+        log.debug("Matrículas já cadastradas: {}", existentes.size());
+        return existentes;
+    }
+
     @Override
     public List<Colaborador> listarTodos() {
         log.debug("Listando todos os colaboradores do banco de dados");
@@ -69,7 +192,120 @@ class SpringColaboradorRepositoryAdapter implements ColaboradorRepositoryPort {
         return colaboradores;
     }
 
-    private ColaboradorEntity toEntity(Colaborador colaborador) {
+    @Override
+    public List<Colaborador> listarPagina(Long aposId, int limite) {
+        log.debug("Listando página de colaboradores do banco: após ID {}, limite {}", aposId, limite);
+        List<Colaborador> colaboradores = jpaRepository.findByIdGreaterThanOrderByIdAsc(aposId, Limit.of(limite)).stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Total de colaboradores na página: {}", colaboradores.size());
+        return colaboradores;
+    }
+
+    /**
+     * Página filtrada por cargo e intervalo de admissão, nas condições que os índices (cargo, data_admissao)
+     * e (data_admissao) atendem sem ordenar em memória. Na ordem por data o cursor continua sendo o ID:
+     * a data do último colaborador da página anterior é lida pela chave primária.
+     */
+    @Override
+    public List<Colaborador> listarPagina(FiltroColaboradores filtro, Long aposId, int limite) {
+        if (filtro.isSemFiltro()) {
+            return listarPagina(aposId, limite);
+        }
+        log.debug("Listando página filtrada de colaboradores do banco: cargo {}, admitidos de {} até {}, ordem {}, após ID {}, limite {}",
+                  filtro.getCargo(), filtro.getAdmitidoDe(), filtro.getAdmitidoAte(), filtro.getOrdem(), aposId, limite);
+        LocalDate dataCursor = null;
+        if (filtro.getOrdem() == OrdemColaboradores.DATA_ADMISSAO && aposId > 0) {
+            dataCursor = jpaRepository.findDataAdmissaoById(aposId).orElseThrow(() -> new ValidacaoException(
+                CodigoErro.PAGINACAO_INVALIDA, "Cursor inválido: colaborador " + aposId + " não encontrado"));
+        }
+        TypedQuery<ColaboradorEntity> consulta = entityManager.createQuery(consultaFiltrada(filtro, dataCursor != null),
+            ColaboradorEntity.class).setMaxResults(limite);
+        if (filtro.getCargo() != null) {
+            consulta.setParameter("cargo", filtro.getCargo());
+        }
+        if (filtro.getAdmitidoDe() != null) {
+            consulta.setParameter("admitidoDe", filtro.getAdmitidoDe());
+        }
+        if (filtro.getAdmitidoAte() != null) {
+            consulta.setParameter("admitidoAte", filtro.getAdmitidoAte());
+        }
+        if (filtro.getOrdem() == OrdemColaboradores.ID || dataCursor != null) {
+            consulta.setParameter("aposId", aposId);
+        }
+        if (dataCursor != null) {
+            consulta.setParameter("dataCursor", dataCursor);
+        }
+        List<Colaborador> colaboradores = consulta.getResultList().stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Total de colaboradores na página filtrada: {}", colaboradores.size());
+        return colaboradores;
+    }
+
+    // Só entram as condições dos filtros informados: um "(:cargo is null or ...)" impediria o uso do índice
+    static String consultaFiltrada(FiltroColaboradores filtro, boolean comCursorDeData) {
+        List<String> condicoes = new ArrayList<>();
+        if (filtro.getCargo() != null) {
+            condicoes.add("c.cargo = :cargo");
+        }
+        if (filtro.getAdmitidoDe() != null) {
+            condicoes.add("c.dataAdmissao >= :admitidoDe");
+        }
+        if (filtro.getAdmitidoAte() != null) {
+            condicoes.add("c.dataAdmissao <= :admitidoAte");
+        }
+        String ordem;
+        if (filtro.getOrdem() == OrdemColaboradores.DATA_ADMISSAO) {
+            if (comCursorDeData) {
+                condicoes.add("(c.dataAdmissao > :dataCursor or (c.dataAdmissao = :dataCursor and c.id > :aposId))");
+            }
+            ordem = " order by c.dataAdmissao, c.id";
+        } else {
+            condicoes.add("c.id > :aposId");
+            ordem = " order by c.id";
+        }
+        return "select c from ColaboradorEntity c"
+            + (condicoes.isEmpty() ? "" : " where " + String.join(" and ", condicoes))
+            + ordem;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, String> buscarDatasAdmissaoEmTexto(Long aposId, int limite) {
+        log.debug("Buscando datas de admissão em texto no banco: após ID {}, limite {}", aposId, limite);
+        Map<Long, String> textos = new LinkedHashMap<>();
+        for (DataAdmissaoTextoProjection linha : jpaRepository.findDatasAdmissaoEmTexto(aposId, limite)) {
+            textos.put(linha.getColaboradorId().longValue(), linha.getTexto());
+        }
+        return textos;
+    }
+
+    // Um UPDATE por data distinta do lote; as admissões se concentram em poucas datas. A versão da nota_final
+    // sobe na mesma transação, para o ETag de GET /api/colaboradores/{id} não manter a resposta sem data
+    @Override
+    @Transactional
+    public int gravarDatasAdmissao(Map<Long, LocalDate> datas) {
+        Map<LocalDate, List<Long>> idsPorData = new HashMap<>();
+        datas.forEach((id, data) -> idsPorData.computeIfAbsent(data, d -> new ArrayList<>()).add(id));
+        int atualizados = 0;
+        for (Map.Entry<LocalDate, List<Long>> entrada : idsPorData.entrySet()) {
+            atualizados += jpaRepository.atualizarDataAdmissao(entrada.getKey(), entrada.getValue());
+        }
+        notaFinalIncremental.registrarAlteracoes(datas.keySet());
+        log.debug("Datas de admissão gravadas: {} colaboradores em {} comandos", atualizados, idsPorData.size());
+        return atualizados;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Colaborador> consumidor) {
+        log.debug("Percorrendo colaboradores do banco via cursor");
+        consultaStreaming.percorrer("select c from ColaboradorEntity c order by c.id", ColaboradorEntity.class,
+            entity -> consumidor.accept(toDomain(entity)));
+    }
+
+    ColaboradorEntity toEntity(Colaborador colaborador) {
         ColaboradorEntity entity = new ColaboradorEntity();
         entity.setId(colaborador.getId());
         entity.setMatricula(colaborador.getMatricula());
@@ -79,7 +315,7 @@ class SpringColaboradorRepositoryAdapter implements ColaboradorRepositoryPort {
         return entity;
     }
 
-    private Colaborador toDomain(ColaboradorEntity entity) {
+    Colaborador toDomain(ColaboradorEntity entity) {
         Colaborador colaborador = new Colaborador();
         colaborador.setId(entity.getId());
         colaborador.setMatricula(entity.getMatricula());
@@ -1,44 +1,142 @@
 package com.itau.case_tecnico.infrastructure.adapter.repository;
 
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
 import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
 import com.itau.case_tecnico.infrastructure.adapter.entity.AvaliacaoComportamentalEntity;
-import com.itau.case_tecnico.infrastructure.adapter.entity.ColaboradorEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 interface AvaliacaoJpaRepository extends JpaRepository<AvaliacaoComportamentalEntity, Long> {
     List<AvaliacaoComportamentalEntity> findByColaboradorId(Long colaboradorId);
+    List<AvaliacaoComportamentalEntity> findByColaboradorIdIn(Collection<Long> colaboradorIds);
+    List<AvaliacaoComportamentalEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Partindo do colaborador: nenhuma linha = colaborador inexistente; uma linha nula = colaborador sem avaliações
+    @Query("select a from ColaboradorEntity c left join c.avaliacoes a where c.id = :colaboradorId order by a.id")
+    List<AvaliacaoComportamentalEntity> findByColaboradorIdViaColaborador(@Param("colaboradorId") Long colaboradorId);
+
+    @Query("select a.nota from AvaliacaoComportamentalEntity a where a.id = :id")
+    Optional<Integer> findNotaById(@Param("id") Long id);
 }
 
 @Component
 class AvaliacaoRepositoryAdapter implements AvaliacaoRepositoryPort {
     private static final Logger log = LoggerFactory.getLogger(AvaliacaoRepositoryAdapter.class);
+    static final String AVALIACOES_EM_VALORES =
+        "select a.id, a.colaborador.id, a.tipo, a.nota from AvaliacaoComportamentalEntity a order by a.id";
+    private static final ValidacaoException AVALIACAO_DUPLICADA_NO_LOTE = new ValidacaoException(
+        CodigoErro.AVALIACAO_DUPLICADA, "Já existe avaliação do mesmo tipo gravada por outra requisição");
     private final AvaliacaoJpaRepository jpaRepository;
     private final ColaboradorJpaRepository colaboradorJpaRepository;
+    private final ConsultaStreaming consultaStreaming;
+    private final NotaFinalIncremental notaFinalIncremental;
 
     public AvaliacaoRepositoryAdapter(AvaliacaoJpaRepository jpaRepository,
-                                      ColaboradorJpaRepository colaboradorJpaRepository) {
+                                      ColaboradorJpaRepository colaboradorJpaRepository,
+                                      ConsultaStreaming consultaStreaming,
+                                      NotaFinalIncremental notaFinalIncremental) {
         this.jpaRepository = jpaRepository;
         this.colaboradorJpaRepository = colaboradorJpaRepository;
+        this.consultaStreaming = consultaStreaming;
+        this.notaFinalIncremental = notaFinalIncremental;
     }
 
     @Override
+    @Transactional
     public AvaliacaoComportamental salvar(AvaliacaoComportamental avaliacao) {
         log.debug("Salvando avaliação comportamental no banco: colaborador ID {}, tipo {}", 
                   avaliacao.getColaboradorId(), avaliacao.getTipo());
+        Optional<Integer> notaAnterior = avaliacao.getId() == null
+            ? Optional.empty()
+            : jpaRepository.findNotaById(avaliacao.getId());
         AvaliacaoComportamentalEntity entity = toEntity(avaliacao);
-        AvaliacaoComportamentalEntity saved = jpaRepository.save(entity);
+        AvaliacaoComportamentalEntity saved;
+        try {
+            saved = jpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (ViolacaoDeRestricao.chaveEstrangeira(e)) {
+                log.debug("Colaborador ID {} inexistente ao gravar avaliação", avaliacao.getColaboradorId());
+                throw ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
+            }
+            if (ViolacaoDeRestricao.chaveUnica(e)) {
+                log.debug("Colaborador ID {} já possui avaliação do tipo {}", avaliacao.getColaboradorId(), avaliacao.getTipo());
+                throw new ValidacaoException(CodigoErro.AVALIACAO_DUPLICADA,
+                    "Já existe avaliação do tipo: " + avaliacao.getTipo().getDescricao());
+            }
+            throw e;
+        }
+        if (notaAnterior.isPresent()) {
+            notaFinalIncremental.registrarNotaAvaliacao(avaliacao.getColaboradorId(), notaAnterior.get(), saved.getNota());
+        } else {
+            notaFinalIncremental.registrarAvaliacao(avaliacao.getColaboradorId(), saved.getNota());
+        }
         log.debug("Avaliação comportamental salva com sucesso no banco: ID {}", saved.getId());
         return toDomain(saved);
     }
 
+    @Override
+    @Transactional
+    public List<AvaliacaoComportamental> salvarTodas(List<AvaliacaoComportamental> avaliacoes) {
+        log.debug("Salvando lote de {} avaliações comportamentais no banco", avaliacoes.size());
+        List<AvaliacaoComportamentalEntity> entities = avaliacoes.stream()
+            .map(this::toEntity)
+            .collect(Collectors.toList());
+        List<AvaliacaoComportamentalEntity> salvas;
+        try {
+            salvas = jpaRepository.saveAll(entities);
+            jpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (ViolacaoDeRestricao.chaveEstrangeira(e)) {
+                log.debug("Colaborador inexistente ao gravar lote de avaliações");
+                throw ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
+            }
+            if (ViolacaoDeRestricao.chaveUnica(e)) {
+                log.debug("Tipo de avaliação repetido ao gravar lote de avaliações");
+                throw AVALIACAO_DUPLICADA_NO_LOTE;
+            }
+            throw e;
+        }
+        // Um UPDATE na nota_final por colaborador do lote, não por avaliação
+        Map<Long, List<AvaliacaoComportamentalEntity>> porColaborador = salvas.stream()
+            .collect(Collectors.groupingBy(a -> a.getColaborador().getId()));
+        porColaborador.forEach((colaboradorId, doColaborador) -> notaFinalIncremental.registrarAvaliacoes(
+            colaboradorId,
+            doColaborador.size(),
+            doColaborador.stream().mapToInt(AvaliacaoComportamentalEntity::getNota).sum()));
+        log.debug("Lote de {} avaliações comportamentais salvo com sucesso no banco", salvas.size());
+        return salvas.stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AvaliacaoComportamental> buscarPorColaboradorIds(Collection<Long> colaboradorIds) {
+        log.debug("Buscando avaliações comportamentais no banco para {} colaboradores", colaboradorIds.size());
+        List<AvaliacaoComportamental> avaliacoes = jpaRepository.findByColaboradorIdIn(colaboradorIds).stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Total de avaliações encontradas: {}", avaliacoes.size());
+        return avaliacoes;
+    }
+
     @Override
     public List<AvaliacaoComportamental> buscarPorColaboradorId(Long colaboradorId) {
         log.debug("Buscando avaliações comportamentais no banco para colaborador ID: {}", colaboradorId);
@@ -49,6 +147,22 @@ class AvaliacaoRepositoryAdapter implements AvaliacaoRepositoryPort {
         return avaliacoes;
     }
 
+    @Override
+    public Optional<List<AvaliacaoComportamental>> listarPorColaborador(Long colaboradorId) {
+        log.debug("Listando avaliações do colaborador ID {} com verificação de existência na mesma consulta", colaboradorId);
+        List<AvaliacaoComportamentalEntity> linhas = jpaRepository.findByColaboradorIdViaColaborador(colaboradorId);
+        if (linhas.isEmpty()) {
+            log.debug("Colaborador ID {} não encontrado no banco", colaboradorId);
+            return Optional.empty();
+        }
+        List<AvaliacaoComportamental> avaliacoes = linhas.stream()
+            .filter(Objects::nonNull)
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Total de avaliações encontradas para colaborador ID {}: {}", colaboradorId, avaliacoes.size());
+        return Optional.of(avaliacoes);
+    }
+
     @Override
     public List<AvaliacaoComportamental> listarTodas() {
         log.debug("Listando todas as avaliações comportamentais do banco de dados");
@@ -59,6 +173,31 @@ class AvaliacaoRepositoryAdapter implements AvaliacaoRepositoryPort {
         return avaliacoes;
     }
 
+    @Override
+    public List<AvaliacaoComportamental> listarPagina(Long aposId, int limite) {
+        log.debug("Listando página de avaliações comportamentais do banco: após ID {}, limite {}", aposId, limite);
+        List<AvaliacaoComportamental> avaliacoes = jpaRepository.findByIdGreaterThanOrderByIdAsc(aposId, Limit.of(limite)).stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Total de avaliações na página: {}", avaliacoes.size());
+        return avaliacoes;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerTodas(Consumer<AvaliacaoComportamental> consumidor) {
+        log.debug("Percorrendo avaliações comportamentais do banco via cursor");
+        // Projeção escalar: a entidade traria um proxy do colaborador por colaborador_id distinto para o contexto
+        consultaStreaming.percorrerValores(AVALIACOES_EM_VALORES, linha -> {
+            AvaliacaoComportamental avaliacao = new AvaliacaoComportamental();
+            avaliacao.setId(((Number) linha[0]).longValue());
+            avaliacao.setColaboradorId(((Number) linha[1]).longValue());
+            avaliacao.setTipo((TipoAvaliacao) linha[2]);
+            avaliacao.setNota((Integer) linha[3]);
+            consumidor.accept(avaliacao);
+        });
+    }
+
     @Override
     public Optional<AvaliacaoComportamental> buscarPorId(Long id) {
         log.debug("Buscando avaliação comportamental no banco por ID: {}", id);
@@ -68,22 +207,21 @@ class AvaliacaoRepositoryAdapter implements AvaliacaoRepositoryPort {
         return result;
     }
 
-    private AvaliacaoComportamentalEntity toEntity(AvaliacaoComportamental avaliacao) {
+    AvaliacaoComportamentalEntity toEntity(AvaliacaoComportamental avaliacao) {
         AvaliacaoComportamentalEntity entity = new AvaliacaoComportamentalEntity();
         if (avaliacao.getId() != null) {
             entity.setId(avaliacao.getId());
         }
         
-        ColaboradorEntity colaborador = colaboradorJpaRepository.findById(avaliacao.getColaboradorId())
-            .orElseThrow(() -> new RuntimeException("Colaborador não encontrado"));
-        entity.setColaborador(colaborador);
+        // Referência sem SELECT: a existência do colaborador é garantida pela chave estrangeira no INSERT
+        entity.setColaborador(colaboradorJpaRepository.getReferenceById(avaliacao.getColaboradorId()));
         
         entity.setTipo(avaliacao.getTipo());
         entity.setNota(avaliacao.getNota());
         return entity;
     }
 
-    private AvaliacaoComportamental toDomain(AvaliacaoComportamentalEntity entity) {
+    AvaliacaoComportamental toDomain(AvaliacaoComportamentalEntity entity) {
         AvaliacaoComportamental avaliacao = new AvaliacaoComportamental();
         avaliacao.setId(entity.getId());
         avaliacao.setColaboradorId(entity.getColaborador().getId());
@@ -1,44 +1,140 @@
 package com.itau.case_tecnico.infrastructure.adapter.repository;
 
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.Desafio;
 import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
-import com.itau.case_tecnico.infrastructure.adapter.entity.ColaboradorEntity;
 import com.itau.case_tecnico.infrastructure.adapter.entity.DesafioEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+interface NotaDesafioProjection {
+    Number getColaboradorId();
+    Number getNota();
+}
+
 interface DesafioJpaRepository extends JpaRepository<DesafioEntity, Long> {
     List<DesafioEntity> findByColaboradorId(Long colaboradorId);
     int countByColaboradorId(Long colaboradorId);
+    List<DesafioEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Partindo do colaborador: nenhuma linha = colaborador inexistente; uma linha nula = colaborador sem desafios
+    @Query("select d from ColaboradorEntity c left join c.desafios d where c.id = :colaboradorId order by d.id")
+    List<DesafioEntity> findByColaboradorIdViaColaborador(@Param("colaboradorId") Long colaboradorId);
+
+    // Projeção e não a nota direto: a nota é opcional, e Optional<Integer> vazio confundiria nota nula com desafio inexistente
+    @Query("select d.colaborador.id as colaboradorId, d.nota as nota from DesafioEntity d where d.id = :id")
+    Optional<NotaDesafioProjection> findNotaById(@Param("id") Long id);
+
+    // Só o necessário para ajustar a nota final; a linha fica travada até o commit para que
+    // avaliações concorrentes do mesmo desafio calculem a diferença sobre a nota já gravada
+    @Query(value = "SELECT colaborador_id AS colaboradorId, nota FROM desafio WHERE desafio_id = :id FOR UPDATE", nativeQuery = true)
+    Optional<NotaDesafioProjection> travarNotaPorId(@Param("id") Long id);
+
+    @Modifying
+    @Query("update DesafioEntity d set d.nota = :nota where d.id = :id")
+    int atualizarNota(@Param("id") Long id, @Param("nota") Integer nota);
 }
 
 @Component
 class DesafioRepositoryAdapter implements DesafioRepositoryPort {
     private static final Logger log = LoggerFactory.getLogger(DesafioRepositoryAdapter.class);
+    static final String DESAFIOS_EM_VALORES =
+        "select d.id, d.colaborador.id, d.descricao, d.nota from DesafioEntity d order by d.id";
     private final DesafioJpaRepository jpaRepository;
     private final ColaboradorJpaRepository colaboradorJpaRepository;
+    private final ConsultaStreaming consultaStreaming;
+    private final NotaFinalIncremental notaFinalIncremental;
 
     public DesafioRepositoryAdapter(DesafioJpaRepository jpaRepository,
-                                    ColaboradorJpaRepository colaboradorJpaRepository) {
+                                    ColaboradorJpaRepository colaboradorJpaRepository,
+                                    ConsultaStreaming consultaStreaming,
+                                    NotaFinalIncremental notaFinalIncremental) {
         this.jpaRepository = jpaRepository;
         this.colaboradorJpaRepository = colaboradorJpaRepository;
+        this.consultaStreaming = consultaStreaming;
+        this.notaFinalIncremental = notaFinalIncremental;
     }
 
     @Override
+    @Transactional
     public Desafio salvar(Desafio desafio) {
         log.debug("Salvando desafio no banco: colaborador ID {}", desafio.getColaboradorId());
+        Optional<NotaDesafioProjection> anterior = desafio.getId() == null
+            ? Optional.empty()
+            : jpaRepository.findNotaById(desafio.getId());
+        if (anterior.isEmpty()) {
+            // Vaga reservada antes do INSERT, sem contar os desafios existentes
+            notaFinalIncremental.reservarDesafio(desafio.getColaboradorId(), desafio.getNota());
+        }
         DesafioEntity entity = toEntity(desafio);
-        DesafioEntity saved = jpaRepository.save(entity);
+        DesafioEntity saved;
+        try {
+            saved = jpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (ViolacaoDeRestricao.chaveEstrangeira(e)) {
+                log.debug("Colaborador ID {} inexistente ao gravar desafio", desafio.getColaboradorId());
+                throw ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
+            }
+            throw e;
+        }
+        if (anterior.isPresent()) {
+            Number notaAnterior = anterior.get().getNota();
+            notaFinalIncremental.registrarNotaDesafio(desafio.getColaboradorId(),
+                notaAnterior == null ? null : notaAnterior.intValue(), saved.getNota());
+        }
         log.debug("Desafio salvo com sucesso no banco: ID {}", saved.getId());
         return toDomain(saved);
     }
 
+    @Override
+    @Transactional
+    public List<Desafio> salvarTodos(List<Desafio> desafios) {
+        log.debug("Salvando lote de {} desafios no banco", desafios.size());
+        // Um UPDATE na nota_final por colaborador do lote, não por desafio, em ordem de ID para que
+        // lotes concorrentes travem as linhas na mesma ordem
+        Map<Long, List<Desafio>> porColaborador = desafios.stream()
+            .collect(Collectors.groupingBy(Desafio::getColaboradorId, TreeMap::new, Collectors.toList()));
+        porColaborador.forEach((colaboradorId, doColaborador) -> notaFinalIncremental.reservarDesafios(
+            colaboradorId,
+            doColaborador.size(),
+            (int) doColaborador.stream().filter(d -> d.getNota() != null).count(),
+            doColaborador.stream().filter(d -> d.getNota() != null).mapToInt(Desafio::getNota).sum()));
+        List<DesafioEntity> entities = desafios.stream()
+            .map(this::toEntity)
+            .collect(Collectors.toList());
+        List<DesafioEntity> salvos;
+        try {
+            salvos = jpaRepository.saveAll(entities);
+            jpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (ViolacaoDeRestricao.chaveEstrangeira(e)) {
+                log.debug("Colaborador inexistente ao gravar lote de desafios");
+                throw ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
+            }
+            throw e;
+        }
+        log.debug("Lote de {} desafios salvo com sucesso no banco", salvos.size());
+        return salvos.stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public List<Desafio> buscarPorColaboradorId(Long colaboradorId) {
         log.debug("Buscando desafios no banco para colaborador ID: {}", colaboradorId);
@@ -49,6 +145,22 @@ class DesafioRepositoryAdapter implements DesafioRepositoryPort {
         return desafios;
     }
 
+    @Override
+    public Optional<List<Desafio>> listarPorColaborador(Long colaboradorId) {
+        log.debug("Listando desafios do colaborador ID {} com verificação de existência na mesma consulta", colaboradorId);
+        List<DesafioEntity> linhas = jpaRepository.findByColaboradorIdViaColaborador(colaboradorId);
+        if (linhas.isEmpty()) {
+            log.debug("Colaborador ID {} não encontrado no banco", colaboradorId);
+            return Optional.empty();
+        }
+        List<Desafio> desafios = linhas.stream()
+            .filter(Objects::nonNull)
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Total de desafios encontrados para colaborador ID {}: {}", colaboradorId, desafios.size());
+        return Optional.of(desafios);
+    }
+
     @Override
     public int contarPorColaboradorId(Long colaboradorId) {
         log.debug("Contando desafios no banco para colaborador ID: {}", colaboradorId);
@@ -66,6 +178,28 @@ class DesafioRepositoryAdapter implements DesafioRepositoryPort {
         return result;
     }
 
+    @Override
+    @Transactional
+    public Optional<Desafio> atualizarNota(Long desafioId, Integer nota) {
+        log.debug("Atualizando nota do desafio ID {} no banco: {}", desafioId, nota);
+        Optional<NotaDesafioProjection> atual = jpaRepository.travarNotaPorId(desafioId);
+        if (atual.isEmpty()) {
+            log.debug("Desafio ID {} não encontrado no banco", desafioId);
+            return Optional.empty();
+        }
+        Long colaboradorId = atual.get().getColaboradorId().longValue();
+        Integer notaAnterior = atual.get().getNota() == null ? null : atual.get().getNota().intValue();
+        jpaRepository.atualizarNota(desafioId, nota);
+        notaFinalIncremental.registrarNotaDesafio(colaboradorId, notaAnterior, nota);
+
+        Desafio desafio = new Desafio();
+        desafio.setId(desafioId);
+        desafio.setColaboradorId(colaboradorId);
+        desafio.setNota(nota);
+        log.debug("Nota do desafio ID {} atualizada: {} -> {}", desafioId, notaAnterior, nota);
+        return Optional.of(desafio);
+    }
+
     @Override
     public List<Desafio> listarTodos() {
         log.debug("Listando todos os desafios do banco de dados");
@@ -76,20 +210,44 @@ class DesafioRepositoryAdapter implements DesafioRepositoryPort {
         return desafios;
     }
 
-    private DesafioEntity toEntity(Desafio desafio) {
+    @Override
+    public List<Desafio> listarPagina(Long aposId, int limite) {
+        log.debug("Listando página de desafios do banco: após ID {}, limite {}", aposId, limite);
+        List<Desafio> desafios = jpaRepository.findByIdGreaterThanOrderByIdAsc(aposId, Limit.of(limite)).stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Total de desafios na página: {}", desafios.size());
+        return desafios;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Desafio> consumidor) {
+        log.debug("Percorrendo desafios do banco via cursor");
+        // Projeção escalar: a entidade traria um proxy do colaborador por colaborador_id distinto para o contexto
+        consultaStreaming.percorrerValores(DESAFIOS_EM_VALORES, linha -> {
+            Desafio desafio = new Desafio();
+            desafio.setId(((Number) linha[0]).longValue());
+            desafio.setColaboradorId(((Number) linha[1]).longValue());
+            desafio.setDescricao((String) linha[2]);
+            desafio.setNota((Integer) linha[3]);
+            consumidor.accept(desafio);
+        });
+    }
+
+    DesafioEntity toEntity(Desafio desafio) {
         DesafioEntity entity = new DesafioEntity();
         entity.setId(desafio.getId());
         
-        ColaboradorEntity colaborador = colaboradorJpaRepository.findById(desafio.getColaboradorId())
-            .orElseThrow(() -> new RuntimeException("Colaborador não encontrado"));
-        entity.setColaborador(colaborador);
+        // Referência sem SELECT: a existência do colaborador é garantida pela chave estrangeira no INSERT
+        entity.setColaborador(colaboradorJpaRepository.getReferenceById(desafio.getColaboradorId()));
         
         entity.setDescricao(desafio.getDescricao());
         entity.setNota(desafio.getNota());
         return entity;
     }
 
-    private Desafio toDomain(DesafioEntity entity) {
+    Desafio toDomain(DesafioEntity entity) {
         Desafio desafio = new Desafio();
         desafio.setId(entity.getId());
         desafio.setColaboradorId(entity.getColaborador().getId());
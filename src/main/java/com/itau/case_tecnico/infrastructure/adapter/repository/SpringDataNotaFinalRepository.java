@@ -0,0 +1,604 @@
+package com.itau.case_tecnico.infrastructure.adapter.repository;
+
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.DistribuicaoNotas;
+import com.itau.case_tecnico.domain.model.NotasDoColaborador;
+import com.itau.case_tecnico.domain.model.NotasFinaisAlteradas;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import com.itau.case_tecnico.infrastructure.adapter.entity.NotaFinalEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+interface ResumoNotasProjection {
+    Number getColaboradorId();
+    Number getQuantidadeAvaliacoes();
+    Number getSomaAvaliacoes();
+    Number getQuantidadeDesafios();
+    Number getQuantidadeDesafiosComNota();
+    Number getSomaDesafios();
+}
+
+interface RankingProjection extends ResumoNotasProjection {
+    String getCargo();
+    Number getVersao();
+}
+
+interface ContagemPorNotaProjection {
+    Number getColaboradorId();
+    Number getNota();
+    Number getQuantidade();
+}
+
+interface NotaFinalJpaRepository extends JpaRepository<NotaFinalEntity, Long> {
+    String COLUNAS = "colaborador_id, quantidade_avaliacoes, soma_avaliacoes, quantidade_desafios, quantidade_desafios_com_nota, soma_desafios, versao";
+
+    // Contagens e somas recalculadas a partir das tabelas de origem, para todos os colaboradores
+    String AGREGACAO_FONTE = """
+        SELECT c.colaborador_id AS colaboradorId,
+               COALESCE(a.quantidade, 0) AS quantidadeAvaliacoes,
+               COALESCE(a.soma, 0) AS somaAvaliacoes,
+               COALESCE(d.quantidade, 0) AS quantidadeDesafios,
+               COALESCE(d.quantidade_com_nota, 0) AS quantidadeDesafiosComNota,
+               COALESCE(d.soma, 0) AS somaDesafios
+        FROM colaborador c
+        LEFT JOIN (SELECT colaborador_id, COUNT(*) AS quantidade, SUM(nota) AS soma
+                   FROM avaliacao_comportamental
+                   GROUP BY colaborador_id) a ON a.colaborador_id = c.colaborador_id
+        LEFT JOIN (SELECT colaborador_id, COUNT(*) AS quantidade, COUNT(nota) AS quantidade_com_nota, SUM(nota) AS soma
+                   FROM desafio
+                   GROUP BY colaborador_id) d ON d.colaborador_id = c.colaborador_id
+        """;
+
+    // Mesma agregação restrita a um colaborador, usada quando a linha materializada ainda não existe
+    // (versão 0: sem a linha, nenhum ETag foi emitido para o colaborador)
+    String AGREGACAO_FONTE_POR_COLABORADOR = """
+        SELECT c.colaborador_id,
+               COALESCE(a.quantidade, 0),
+               COALESCE(a.soma, 0),
+               COALESCE(d.quantidade, 0),
+               COALESCE(d.quantidade_com_nota, 0),
+               COALESCE(d.soma, 0),
+               0
+        FROM colaborador c
+        LEFT JOIN (SELECT colaborador_id, COUNT(*) AS quantidade, SUM(nota) AS soma
+                   FROM avaliacao_comportamental
+                   WHERE colaborador_id = :colaboradorId
+                   GROUP BY colaborador_id) a ON a.colaborador_id = c.colaborador_id
+        LEFT JOIN (SELECT colaborador_id, COUNT(*) AS quantidade, COUNT(nota) AS quantidade_com_nota, SUM(nota) AS soma
+                   FROM desafio
+                   WHERE colaborador_id = :colaboradorId
+                   GROUP BY colaborador_id) d ON d.colaborador_id = c.colaborador_id
+        WHERE c.colaborador_id = :colaboradorId
+        """;
+
+    @Query("select n from NotaFinalEntity n where n.colaboradorId in " +
+           "(select c.id from ColaboradorEntity c where c.cargo = :cargo) order by n.colaboradorId")
+    List<NotaFinalEntity> findByCargo(@Param("cargo") String cargo);
+
+    String RANKING = """
+        SELECT n.colaborador_id AS colaboradorId,
+               n.quantidade_avaliacoes AS quantidadeAvaliacoes,
+               n.soma_avaliacoes AS somaAvaliacoes,
+               n.quantidade_desafios AS quantidadeDesafios,
+               n.quantidade_desafios_com_nota AS quantidadeDesafiosComNota,
+               n.soma_desafios AS somaDesafios,
+               n.versao AS versao,
+               c.cargo AS cargo
+        FROM nota_final n
+        JOIN colaborador c ON c.colaborador_id = n.colaborador_id
+        """;
+
+    @Query(value = RANKING, nativeQuery = true)
+    List<RankingProjection> listarParaRanking();
+
+    @Query(value = RANKING + "WHERE n.colaborador_id IN (:colaboradorIds)", nativeQuery = true)
+    List<RankingProjection> buscarParaRanking(@Param("colaboradorIds") Collection<Long> colaboradorIds);
+
+    @Query(value = """
+        SELECT colaborador_id AS colaboradorId, nota AS nota, COUNT(*) AS quantidade
+        FROM avaliacao_comportamental
+        GROUP BY colaborador_id, nota
+        """, nativeQuery = true)
+    List<ContagemPorNotaProjection> contarAvaliacoesPorNota();
+
+    @Query(value = """
+        SELECT colaborador_id AS colaboradorId, nota AS nota, COUNT(*) AS quantidade
+        FROM avaliacao_comportamental
+        WHERE colaborador_id IN (:colaboradorIds)
+        GROUP BY colaborador_id, nota
+        """, nativeQuery = true)
+    List<ContagemPorNotaProjection> contarAvaliacoesPorNota(@Param("colaboradorIds") Collection<Long> colaboradorIds);
+
+    @Query(value = """
+        SELECT colaborador_id AS colaboradorId, nota AS nota, COUNT(*) AS quantidade
+        FROM desafio
+        WHERE nota IS NOT NULL
+        GROUP BY colaborador_id, nota
+        """, nativeQuery = true)
+    List<ContagemPorNotaProjection> contarDesafiosPorNota();
+
+    @Query(value = """
+        SELECT colaborador_id AS colaboradorId, nota AS nota, COUNT(*) AS quantidade
+        FROM desafio
+        WHERE colaborador_id IN (:colaboradorIds) AND nota IS NOT NULL
+        GROUP BY colaborador_id, nota
+        """, nativeQuery = true)
+    List<ContagemPorNotaProjection> contarDesafiosPorNota(@Param("colaboradorIds") Collection<Long> colaboradorIds);
+
+    @Query("select n.versao from NotaFinalEntity n where n.colaboradorId = :colaboradorId")
+    Optional<Long> findVersaoById(@Param("colaboradorId") Long colaboradorId);
+
+    @Query("select coalesce(max(n.versao), 0) from NotaFinalEntity n")
+    long findMaiorVersao();
+
+    @Modifying
+    @Query(value = "INSERT INTO nota_final (" + COLUNAS + ") VALUES (:colaboradorId, 0, 0, 0, 0, 0, 0)", nativeQuery = true)
+    int inserirVazia(@Param("colaboradorId") Long colaboradorId);
+
+    @Modifying
+    @Query(value = "INSERT INTO nota_final (" + COLUNAS + ") " +
+                   "SELECT colaborador_id, 0, 0, 0, 0, 0, 0 FROM colaborador WHERE colaborador_id IN (:colaboradorIds)", nativeQuery = true)
+    int inserirVazias(@Param("colaboradorIds") Collection<Long> colaboradorIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO nota_final (" + COLUNAS + ") " + AGREGACAO_FONTE_POR_COLABORADOR, nativeQuery = true)
+    int inserirAPartirDaFonte(@Param("colaboradorId") Long colaboradorId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE nota_final
+        SET quantidade_avaliacoes = quantidade_avaliacoes + :quantidade,
+            soma_avaliacoes = soma_avaliacoes + :soma,
+            versao = versao + 1
+        WHERE colaborador_id = :colaboradorId
+        """, nativeQuery = true)
+    int somarAvaliacoes(@Param("colaboradorId") Long colaboradorId, @Param("quantidade") int quantidade, @Param("soma") int soma);
+
+    @Modifying
+    @Query(value = """
+        UPDATE nota_final
+        SET soma_avaliacoes = soma_avaliacoes + :deltaSoma,
+            versao = versao + 1
+        WHERE colaborador_id = :colaboradorId
+        """, nativeQuery = true)
+    int ajustarNotaAvaliacao(@Param("colaboradorId") Long colaboradorId, @Param("deltaSoma") int deltaSoma);
+
+    // Só soma se couber no máximo: a verificação e o incremento acontecem sob o mesmo lock de linha
+    @Modifying
+    @Query(value = """
+        UPDATE nota_final
+        SET quantidade_desafios = quantidade_desafios + :quantidade,
+            quantidade_desafios_com_nota = quantidade_desafios_com_nota + :comNota,
+            soma_desafios = soma_desafios + :soma,
+            versao = versao + 1
+        WHERE colaborador_id = :colaboradorId
+          AND quantidade_desafios + :quantidade <= :maximo
+        """, nativeQuery = true)
+    int somarDesafiosAteMaximo(@Param("colaboradorId") Long colaboradorId, @Param("quantidade") int quantidade,
+                               @Param("comNota") int comNota, @Param("soma") int soma, @Param("maximo") int maximo);
+
+    @Modifying
+    @Query(value = """
+        UPDATE nota_final
+        SET quantidade_desafios_com_nota = quantidade_desafios_com_nota + :deltaComNota,
+            soma_desafios = soma_desafios + :deltaSoma,
+            versao = versao + 1
+        WHERE colaborador_id = :colaboradorId
+        """, nativeQuery = true)
+    int ajustarNotaDesafio(@Param("colaboradorId") Long colaboradorId,
+                           @Param("deltaComNota") int deltaComNota,
+                           @Param("deltaSoma") int deltaSoma);
+
+    // Escrita que não altera contagens nem somas (nota regravada com o mesmo valor, descrição ou tipo alterados)
+    @Modifying
+    @Query(value = "UPDATE nota_final SET versao = versao + 1 WHERE colaborador_id = :colaboradorId", nativeQuery = true)
+    int incrementarVersao(@Param("colaboradorId") Long colaboradorId);
+
+    @Modifying
+    @Query(value = "UPDATE nota_final SET versao = versao + 1 WHERE colaborador_id IN (:colaboradorIds)", nativeQuery = true)
+    int incrementarVersoes(@Param("colaboradorIds") Collection<Long> colaboradorIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM nota_final", nativeQuery = true)
+    int excluirTodas();
+
+    @Modifying
+    @Query(value = "INSERT INTO nota_final (" + COLUNAS + ") SELECT s.*, :versao FROM (" + AGREGACAO_FONTE + ") s", nativeQuery = true)
+    int inserirTodasAPartirDaFonte(@Param("versao") long versao);
+
+    @Query(value = "SELECT s.* FROM (" + AGREGACAO_FONTE + """
+        ) s
+        LEFT JOIN nota_final n ON n.colaborador_id = s.colaboradorId
+        WHERE n.colaborador_id IS NULL
+           OR n.quantidade_avaliacoes <> s.quantidadeAvaliacoes
+           OR n.soma_avaliacoes <> s.somaAvaliacoes
+           OR n.quantidade_desafios <> s.quantidadeDesafios
+           OR n.quantidade_desafios_com_nota <> s.quantidadeDesafiosComNota
+           OR n.soma_desafios <> s.somaDesafios
+        ORDER BY s.colaboradorId
+        """, nativeQuery = true)
+    List<ResumoNotasProjection> listarDivergencias();
+}
+
+/**
+ * Atualiza a tabela nota_final por incremento atômico. Só deve ser chamado de dentro
+ * da transação que grava a avaliação ou o desafio, para que ambos confirmem juntos.
+ * Cada alteração publica {@link NotasFinaisAlteradas} para o ranking em memória.
+ */
+@Component
+class NotaFinalIncremental {
+    private static final Logger log = LoggerFactory.getLogger(NotaFinalIncremental.class);
+    private final NotaFinalJpaRepository jpaRepository;
+    private final ApplicationEventPublisher eventos;
+
+    public NotaFinalIncremental(NotaFinalJpaRepository jpaRepository, ApplicationEventPublisher eventos) {
+        this.jpaRepository = jpaRepository;
+        this.eventos = eventos;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarColaborador(Long colaboradorId) {
+        log.debug("Criando linha de nota final para colaborador ID: {}", colaboradorId);
+        jpaRepository.inserirVazia(colaboradorId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarColaboradores(Collection<Long> colaboradorIds) {
+        log.debug("Criando linhas de nota final para {} colaboradores", colaboradorIds.size());
+        jpaRepository.inserirVazias(colaboradorIds);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarAvaliacao(Long colaboradorId, Integer nota) {
+        registrarAvaliacoes(colaboradorId, 1, valor(nota));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarAvaliacoes(Long colaboradorId, int quantidade, int soma) {
+        log.debug("Somando {} avaliações na nota final do colaborador ID {}: soma {}", quantidade, colaboradorId, soma);
+        if (jpaRepository.somarAvaliacoes(colaboradorId, quantidade, soma) == 0) {
+            recalcular(colaboradorId);
+        }
+        eventos.publishEvent(NotasFinaisAlteradas.doColaborador(colaboradorId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarNotaAvaliacao(Long colaboradorId, Integer notaAnterior, Integer notaNova) {
+        int deltaSoma = valor(notaNova) - valor(notaAnterior);
+        if (deltaSoma == 0) {
+            registrarAlteracao(colaboradorId);
+            return;
+        }
+        log.debug("Ajustando nota de avaliação na nota final do colaborador ID {}: {} -> {}", colaboradorId, notaAnterior, notaNova);
+        if (jpaRepository.ajustarNotaAvaliacao(colaboradorId, deltaSoma) == 0) {
+            recalcular(colaboradorId);
+        }
+        eventos.publishEvent(NotasFinaisAlteradas.doColaborador(colaboradorId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservarDesafio(Long colaboradorId, Integer nota) {
+        reservarDesafios(colaboradorId, 1, nota == null ? 0 : 1, valor(nota));
+    }
+
+    /**
+     * Soma os desafios na nota final antes do INSERT, recusando se passarem do máximo por colaborador.
+     * O UPDATE condicional trava a linha do colaborador até o fim da transação, então gravações
+     * concorrentes para o mesmo colaborador são serializadas e a contagem nunca passa do limite.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservarDesafios(Long colaboradorId, int quantidade, int quantidadeComNota, int soma) {
+        log.debug("Reservando {} desafios na nota final do colaborador ID {}: soma {}", quantidade, colaboradorId, soma);
+        if (somarDesafiosAteMaximo(colaboradorId, quantidade, quantidadeComNota, soma)) {
+            eventos.publishEvent(NotasFinaisAlteradas.doColaborador(colaboradorId));
+            return;
+        }
+        if (!jpaRepository.existsById(colaboradorId)) {
+            // Colaborador anterior à tabela nota_final: cria a linha a partir das tabelas de origem e tenta de novo
+            log.warn("Linha de nota final ausente para colaborador ID {}; recalculando a partir das tabelas de origem", colaboradorId);
+            if (jpaRepository.inserirAPartirDaFonte(colaboradorId) == 0) {
+                throw ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
+            }
+            if (somarDesafiosAteMaximo(colaboradorId, quantidade, quantidadeComNota, soma)) {
+                eventos.publishEvent(NotasFinaisAlteradas.doColaborador(colaboradorId));
+                return;
+            }
+        }
+        log.debug("Colaborador ID {} sem vagas para {} desafios (máximo: {})", colaboradorId, quantidade, Desafio.MAXIMO_POR_COLABORADOR);
+        throw ValidacaoException.LIMITE_DESAFIOS_ATINGIDO;
+    }
+
+    private boolean somarDesafiosAteMaximo(Long colaboradorId, int quantidade, int quantidadeComNota, int soma) {
+        return jpaRepository.somarDesafiosAteMaximo(colaboradorId, quantidade, quantidadeComNota, soma,
+            Desafio.MAXIMO_POR_COLABORADOR) > 0;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarNotaDesafio(Long colaboradorId, Integer notaAnterior, Integer notaNova) {
+        int deltaComNota = (notaNova == null ? 0 : 1) - (notaAnterior == null ? 0 : 1);
+        int deltaSoma = valor(notaNova) - valor(notaAnterior);
+        if (deltaComNota == 0 && deltaSoma == 0) {
+            registrarAlteracao(colaboradorId);
+            return;
+        }
+        log.debug("Ajustando nota de desafio na nota final do colaborador ID {}: {} -> {}", colaboradorId, notaAnterior, notaNova);
+        if (jpaRepository.ajustarNotaDesafio(colaboradorId, deltaComNota, deltaSoma) == 0) {
+            recalcular(colaboradorId);
+        }
+        eventos.publishEvent(NotasFinaisAlteradas.doColaborador(colaboradorId));
+    }
+
+    /**
+     * Só incrementa a versão do colaborador: a escrita mudou dados lidos pelos GETs (e portanto o ETag)
+     * sem alterar contagens nem somas. Os demais métodos já incrementam a versão no próprio UPDATE.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarAlteracao(Long colaboradorId) {
+        log.debug("Incrementando versão da nota final do colaborador ID {}", colaboradorId);
+        if (jpaRepository.incrementarVersao(colaboradorId) == 0) {
+            recalcular(colaboradorId);
+        }
+        eventos.publishEvent(NotasFinaisAlteradas.doColaborador(colaboradorId));
+    }
+
+    /**
+     * Versão de vários colaboradores de uma vez, para escritas em lote fora dos endpoints (conversão da data
+     * de admissão). Notas não mudam, então não há evento; colaborador sem linha não tem ETag a invalidar.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarAlteracoes(Collection<Long> colaboradorIds) {
+        int atualizadas = jpaRepository.incrementarVersoes(colaboradorIds);
+        log.debug("Versão da nota final incrementada para {} de {} colaboradores", atualizadas, colaboradorIds.size());
+    }
+
+    // Colaborador anterior à tabela nota_final: a linha é criada a partir das tabelas de origem,
+    // que já contêm a escrita corrente depois do flush
+    private void recalcular(Long colaboradorId) {
+        log.warn("Linha de nota final ausente para colaborador ID {}; recalculando a partir das tabelas de origem", colaboradorId);
+        jpaRepository.flush();
+        jpaRepository.inserirAPartirDaFonte(colaboradorId);
+    }
+
+    private static int valor(Integer nota) {
+        return nota == null ? 0 : nota;
+    }
+}
+
+@Component
+class NotaFinalRepositoryAdapter implements NotaFinalRepositoryPort {
+    private static final Logger log = LoggerFactory.getLogger(NotaFinalRepositoryAdapter.class);
+    // Mantém a lista do IN abaixo de limites de parâmetros do driver e reaproveita o plano em lotes cheios
+    static final int TAMANHO_LOTE_IDS = 500;
+    // Projeção escalar: as linhas não entram no contexto de persistência durante o cursor
+    static final String NOTAS_COM_COLABORADOR = """
+        select c.id, c.matricula, c.nome, c.dataAdmissao, c.cargo,
+               n.quantidadeAvaliacoes, n.somaAvaliacoes, n.quantidadeDesafios, n.quantidadeDesafiosComNota,
+               n.somaDesafios, n.versao
+        from ColaboradorEntity c left join NotaFinalEntity n on n.colaboradorId = c.id
+        order by c.id
+        """;
+    private final NotaFinalJpaRepository jpaRepository;
+    private final ConsultaStreaming consultaStreaming;
+    private final ApplicationEventPublisher eventos;
+
+    public NotaFinalRepositoryAdapter(NotaFinalJpaRepository jpaRepository, ConsultaStreaming consultaStreaming,
+                                      ApplicationEventPublisher eventos) {
+        this.jpaRepository = jpaRepository;
+        this.consultaStreaming = consultaStreaming;
+        this.eventos = eventos;
+    }
+
+    @Override
+    public Optional<ResumoNotas> buscarResumoPorColaboradorId(Long colaboradorId) {
+        log.debug("Buscando nota final materializada para colaborador ID: {}", colaboradorId);
+        Optional<ResumoNotas> resumo = jpaRepository.findById(colaboradorId).map(this::toDomain);
+        log.debug("Resultado da busca de nota final do colaborador ID {}: {}", colaboradorId, resumo.isPresent() ? "encontrado" : "não encontrado");
+        return resumo;
+    }
+
+    @Override
+    public Optional<Long> buscarVersao(Long colaboradorId) {
+        log.debug("Buscando versão da nota final do colaborador ID: {}", colaboradorId);
+        return jpaRepository.findVersaoById(colaboradorId);
+    }
+
+    @Override
+    public List<ResumoNotas> buscarResumosPorColaboradorIds(Collection<Long> colaboradorIds) {
+        List<Long> ids = new ArrayList<>(colaboradorIds);
+        log.debug("Buscando notas finais materializadas para {} colaboradores em lotes de {}", ids.size(), TAMANHO_LOTE_IDS);
+        List<ResumoNotas> resumos = new ArrayList<>(ids.size());
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE_IDS) {
+            List<Long> lote = ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE_IDS, ids.size()));
+            jpaRepository.findAllById(lote).forEach(entity -> resumos.add(toDomain(entity)));
+        }
+        log.debug("Encontradas {} de {} notas finais solicitadas", resumos.size(), ids.size());
+        return resumos;
+    }
+
+    @Override
+    public List<ResumoNotas> buscarResumosPorCargo(String cargo) {
+        log.debug("Buscando notas finais materializadas para colaboradores do cargo: {}", cargo);
+        List<ResumoNotas> resumos = jpaRepository.findByCargo(cargo).stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Encontradas {} notas finais do cargo {}", resumos.size(), cargo);
+        return resumos;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumoNotas> listarParaRanking() {
+        log.debug("Lendo notas finais materializadas para o ranking");
+        List<ResumoNotas> resumos = jpaRepository.listarParaRanking().stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Total de notas finais lidas para o ranking: {}", resumos.size());
+        return resumos;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumoNotas> buscarParaRanking(Collection<Long> colaboradorIds) {
+        List<Long> ids = new ArrayList<>(colaboradorIds);
+        log.debug("Lendo notas finais de {} colaboradores para o ranking em lotes de {}", ids.size(), TAMANHO_LOTE_IDS);
+        List<ResumoNotas> resumos = new ArrayList<>(ids.size());
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE_IDS) {
+            List<Long> lote = ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE_IDS, ids.size()));
+            jpaRepository.buscarParaRanking(lote).forEach(projection -> resumos.add(toDomain(projection)));
+        }
+        return resumos;
+    }
+
+    // A nota_final é lida antes das contagens: as contagens nunca ficam mais antigas que a versão,
+    // e uma escrita entre as duas leituras chega depois com versão maior e substitui o resultado
+    @Override
+    @Transactional(readOnly = true)
+    public List<NotasDoColaborador> listarNotasPorColaborador() {
+        log.debug("Lendo notas finais e contagens por nota de todos os colaboradores");
+        List<RankingProjection> resumos = jpaRepository.listarParaRanking();
+        List<NotasDoColaborador> notas = comContagens(resumos,
+            jpaRepository.contarAvaliacoesPorNota(), jpaRepository.contarDesafiosPorNota());
+        log.debug("Total de colaboradores lidos com contagens por nota: {}", notas.size());
+        return notas;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NotasDoColaborador> buscarNotasPorColaborador(Collection<Long> colaboradorIds) {
+        List<Long> ids = new ArrayList<>(colaboradorIds);
+        log.debug("Lendo notas finais e contagens por nota de {} colaboradores em lotes de {}", ids.size(), TAMANHO_LOTE_IDS);
+        List<NotasDoColaborador> notas = new ArrayList<>(ids.size());
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE_IDS) {
+            List<Long> lote = ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE_IDS, ids.size()));
+            List<RankingProjection> resumos = jpaRepository.buscarParaRanking(lote);
+            notas.addAll(comContagens(resumos,
+                jpaRepository.contarAvaliacoesPorNota(lote), jpaRepository.contarDesafiosPorNota(lote)));
+        }
+        return notas;
+    }
+
+    private List<NotasDoColaborador> comContagens(List<RankingProjection> resumos,
+                                                  List<ContagemPorNotaProjection> avaliacoes,
+                                                  List<ContagemPorNotaProjection> desafios) {
+        Map<Long, long[]> avaliacoesPorColaborador = porNota(avaliacoes);
+        Map<Long, long[]> desafiosPorColaborador = porNota(desafios);
+        List<NotasDoColaborador> notas = new ArrayList<>(resumos.size());
+        for (RankingProjection projection : resumos) {
+            Long colaboradorId = projection.getColaboradorId().longValue();
+            notas.add(new NotasDoColaborador(toDomain(projection),
+                avaliacoesPorColaborador.getOrDefault(colaboradorId, new long[DistribuicaoNotas.NOTA_MAXIMA]),
+                desafiosPorColaborador.getOrDefault(colaboradorId, new long[DistribuicaoNotas.NOTA_MAXIMA])));
+        }
+        return notas;
+    }
+
+    private static Map<Long, long[]> porNota(List<ContagemPorNotaProjection> contagens) {
+        Map<Long, long[]> porColaborador = new HashMap<>();
+        for (ContagemPorNotaProjection contagem : contagens) {
+            int nota = contagem.getNota().intValue();
+            if (nota < DistribuicaoNotas.NOTA_MINIMA || nota > DistribuicaoNotas.NOTA_MAXIMA) {
+                continue;
+            }
+            porColaborador.computeIfAbsent(contagem.getColaboradorId().longValue(), id -> new long[DistribuicaoNotas.NOTA_MAXIMA])
+                [nota - 1] += contagem.getQuantidade().longValue();
+        }
+        return porColaborador;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerComColaborador(BiConsumer<Colaborador, ResumoNotas> consumidor) {
+        log.debug("Percorrendo colaboradores com as notas finais materializadas via cursor");
+        consultaStreaming.percorrerValores(NOTAS_COM_COLABORADOR, linha -> {
+            Colaborador colaborador = new Colaborador((String) linha[1], (String) linha[2], (LocalDate) linha[3], (String) linha[4]);
+            colaborador.setId(((Number) linha[0]).longValue());
+            consumidor.accept(colaborador, new ResumoNotas(colaborador.getId(), numero(linha[5]), numero(linha[6]),
+                numero(linha[7]), numero(linha[8]), numero(linha[9]), colaborador.getCargo(), numero(linha[10])));
+        });
+    }
+
+    // Colunas da nota_final vêm nulas no left join quando o colaborador ainda não tem linha
+    private static long numero(Object valor) {
+        return valor == null ? 0 : ((Number) valor).longValue();
+    }
+
+    @Override
+    @Transactional
+    public int reconstruirTodos() {
+        log.debug("Reconstruindo tabela nota_final a partir das tabelas de origem");
+        // Todas as linhas recriadas ficam acima da maior versão anterior: nenhum ETag já emitido volta a coincidir
+        long versao = jpaRepository.findMaiorVersao() + 1;
+        int removidas = jpaRepository.excluirTodas();
+        int inseridas = jpaRepository.inserirTodasAPartirDaFonte(versao);
+        eventos.publishEvent(NotasFinaisAlteradas.todas());
+        log.debug("Tabela nota_final reconstruída: {} linhas removidas, {} inseridas", removidas, inseridas);
+        return inseridas;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumoNotas> listarDivergencias() {
+        log.debug("Comparando tabela nota_final com as tabelas de origem");
+        List<ResumoNotas> divergencias = jpaRepository.listarDivergencias().stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+        log.debug("Total de divergências encontradas: {}", divergencias.size());
+        return divergencias;
+    }
+
+    private ResumoNotas toDomain(NotaFinalEntity entity) {
+        return new ResumoNotas(
+            entity.getColaboradorId(),
+            entity.getQuantidadeAvaliacoes(),
+            entity.getSomaAvaliacoes(),
+            entity.getQuantidadeDesafios(),
+            entity.getQuantidadeDesafiosComNota(),
+            entity.getSomaDesafios()
+        );
+    }
+
+    private ResumoNotas toDomain(ResumoNotasProjection projection) {
+        return new ResumoNotas(
+            projection.getColaboradorId().longValue(),
+            projection.getQuantidadeAvaliacoes().longValue(),
+            projection.getSomaAvaliacoes().longValue(),
+            projection.getQuantidadeDesafios().longValue(),
+            projection.getQuantidadeDesafiosComNota().longValue(),
+            projection.getSomaDesafios().longValue()
+        );
+    }
+
+    private ResumoNotas toDomain(RankingProjection projection) {
+        return new ResumoNotas(
+            projection.getColaboradorId().longValue(),
+            projection.getQuantidadeAvaliacoes().longValue(),
+            projection.getSomaAvaliacoes().longValue(),
+            projection.getQuantidadeDesafios().longValue(),
+            projection.getQuantidadeDesafiosComNota().longValue(),
+            projection.getSomaDesafios().longValue(),
+            projection.getCargo(),
+            projection.getVersao().longValue()
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.itau.case_tecnico.infrastructure.adapter.repository;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Identifica a restrição violada a partir da exceção do driver, para que os adaptadores
+ * possam traduzir o erro do banco em {@code ValidacaoException} em vez de consultar antes de gravar.
+ */
+final class ViolacaoDeRestricao {
+    // MySQL: 1452/1216 (linha pai inexistente); SQLState padrão 23503 e H2 23506
+    private static final Set<Integer> CODIGOS_CHAVE_ESTRANGEIRA = Set.of(1452, 1216);
+    private static final Set<String> ESTADOS_CHAVE_ESTRANGEIRA = Set.of("23503", "23506");
+    // MySQL: 1062/1586 (entrada duplicada); SQLState padrão 23505, também usado pelo H2
+    private static final Set<Integer> CODIGOS_CHAVE_UNICA = Set.of(1062, 1586);
+    private static final Set<String> ESTADOS_CHAVE_UNICA = Set.of("23505");
+
+    private ViolacaoDeRestricao() {}
+
+    static boolean chaveEstrangeira(DataIntegrityViolationException e) {
+        return violou(e, CODIGOS_CHAVE_ESTRANGEIRA, ESTADOS_CHAVE_ESTRANGEIRA);
+    }
+
+    static boolean chaveUnica(DataIntegrityViolationException e) {
+        return violou(e, CODIGOS_CHAVE_UNICA, ESTADOS_CHAVE_UNICA);
+    }
+
+    private static boolean violou(DataIntegrityViolationException e, Set<Integer> codigos, Set<String> estados) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException sql
+                && (codigos.contains(sql.getErrorCode()) || estados.contains(sql.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,3 @@
+-- Listagem de desafios por colaborador (GET /api/desafios/colaboradores/{colaborador_id})
+-- Índice composto para buscar e ordenar os desafios de um colaborador sem varrer a tabela.
+CREATE INDEX idx_desafio_colaborador ON desafio (colaborador_id, desafio_id);
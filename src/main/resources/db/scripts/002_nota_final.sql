@@ -0,0 +1,28 @@
+-- Modelo de leitura da nota final (GET /api/colaboradores/{colaborador_id}/nota-final)
+-- Contagens e somas por colaborador, atualizadas na mesma transação de cada avaliação ou desafio.
+CREATE TABLE nota_final (
+    colaborador_id BIGINT NOT NULL,
+    quantidade_avaliacoes INT NOT NULL DEFAULT 0,
+    soma_avaliacoes INT NOT NULL DEFAULT 0,
+    quantidade_desafios INT NOT NULL DEFAULT 0,
+    quantidade_desafios_com_nota INT NOT NULL DEFAULT 0,
+    soma_desafios INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (colaborador_id),
+    CONSTRAINT fk_nota_final_colaborador FOREIGN KEY (colaborador_id) REFERENCES colaborador (colaborador_id)
+);
+
+-- Carga inicial a partir dos dados existentes (equivalente a --nota-final.reconstruir)
+INSERT INTO nota_final (colaborador_id, quantidade_avaliacoes, soma_avaliacoes, quantidade_desafios, quantidade_desafios_com_nota, soma_desafios)
+SELECT c.colaborador_id,
+       COALESCE(a.quantidade, 0),
+       COALESCE(a.soma, 0),
+       COALESCE(d.quantidade, 0),
+       COALESCE(d.quantidade_com_nota, 0),
+       COALESCE(d.soma, 0)
+FROM colaborador c
+LEFT JOIN (SELECT colaborador_id, COUNT(*) AS quantidade, SUM(nota) AS soma
+           FROM avaliacao_comportamental
+           GROUP BY colaborador_id) a ON a.colaborador_id = c.colaborador_id
+LEFT JOIN (SELECT colaborador_id, COUNT(*) AS quantidade, COUNT(nota) AS quantidade_com_nota, SUM(nota) AS soma
+           FROM desafio
+           GROUP BY colaborador_id) d ON d.colaborador_id = c.colaborador_id;
@@ -0,0 +1,18 @@
+-- Geração de IDs em blocos (GenerationType.SEQUENCE com otimizador pooled, allocationSize = 50)
+-- O MySQL não tem sequences: o Hibernate emula cada uma com uma tabela de uma linha e coluna next_val.
+-- O valor inicial é MAX(id) + 50, de modo que o primeiro bloco entregue (next_val - 49 .. next_val)
+-- comece acima dos IDs já existentes. Os IDs atuais não são alterados.
+-- As colunas continuam AUTO_INCREMENT, o que permite voltar para IDENTITY sem nova migração.
+-- Aplicar com a aplicação parada, para que nenhum INSERT ocorra entre o cálculo do MAX e o deploy.
+
+CREATE TABLE colaborador_seq (next_val BIGINT NOT NULL);
+INSERT INTO colaborador_seq (next_val)
+SELECT COALESCE(MAX(colaborador_id), 0) + 50 FROM colaborador;
+
+CREATE TABLE avaliacao_comportamental_seq (next_val BIGINT NOT NULL);
+INSERT INTO avaliacao_comportamental_seq (next_val)
+SELECT COALESCE(MAX(avaliacao_comportamental_id), 0) + 50 FROM avaliacao_comportamental;
+
+CREATE TABLE desafio_seq (next_val BIGINT NOT NULL);
+INSERT INTO desafio_seq (next_val)
+SELECT COALESCE(MAX(desafio_id), 0) + 50 FROM desafio;
@@ -0,0 +1,22 @@
+-- Tipo da avaliação comportamental gravado como código (TipoAvaliacao) em vez da pergunta completa,
+-- com índice único por colaborador: tipo repetido passa a ser barrado pelo banco no INSERT.
+-- Aplicar com a aplicação parada: versões anteriores gravam o texto na coluna tipo.
+-- Antes de aplicar, conferir se há tipo repetido para o mesmo colaborador (o índice único não seria criado):
+--   SELECT colaborador_id, tipo, COUNT(*) FROM avaliacao_comportamental GROUP BY colaborador_id, tipo HAVING COUNT(*) > 1;
+
+ALTER TABLE avaliacao_comportamental ADD COLUMN tipo_codigo TINYINT NULL;
+
+UPDATE avaliacao_comportamental
+SET tipo_codigo = CASE tipo
+    WHEN 'Você promove um ambiente colaborativo?' THEN 1
+    WHEN 'Você se atualiza e aprende o tempo todo?' THEN 2
+    WHEN 'Você utiliza dados para tomar decisões?' THEN 3
+    WHEN 'Você trabalha com autonomia?' THEN 4
+END;
+
+-- Falha aqui se restar algum texto fora dos quatro tipos (tipo_codigo nulo)
+ALTER TABLE avaliacao_comportamental MODIFY tipo_codigo TINYINT NOT NULL;
+ALTER TABLE avaliacao_comportamental DROP COLUMN tipo;
+ALTER TABLE avaliacao_comportamental RENAME COLUMN tipo_codigo TO tipo;
+
+CREATE UNIQUE INDEX uk_avaliacao_colaborador_tipo ON avaliacao_comportamental (colaborador_id, tipo);
@@ -0,0 +1,6 @@
+-- Versão por colaborador para GETs condicionais (ETag / If-None-Match)
+-- Incrementada no mesmo UPDATE da nota_final que acompanha cada escrita de avaliação ou desafio;
+-- o ETag das leituras do colaborador é essa versão, lida pela chave primária sem tocar nas tabelas de detalhe.
+-- Pode ser aplicado com a aplicação no ar: versões anteriores não gravam a coluna e o DEFAULT a preenche.
+
+ALTER TABLE nota_final ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,19 @@
+-- Data de admissão como DATE (antes VARCHAR(50) com texto livre), com índices para filtrar e ordenar
+-- a listagem por cargo e período de admissão (GET /api/colaboradores?cargo=&admitidoDe=&admitidoAte=&ordenarPor=).
+-- O texto original fica em data_admissao_texto até a conversão terminar:
+--   1. aplicar este script com a aplicação parada (versões anteriores gravam a data como texto);
+--   2. subir a nova versão e converter as linhas existentes em lotes de 500, pela chave primária:
+--        java -jar app.jar --data-admissao.converter --spring.main.web-application-type=none
+--      textos fora dos formatos aceitos ficam no log com o ID do colaborador, para correção manual,
+--      e o comando pode ser repetido (só lê as linhas ainda sem data);
+--   3. aplicar 007_data_admissao_obrigatoria.sql.
+
+ALTER TABLE colaborador RENAME COLUMN data_admissao TO data_admissao_texto;
+ALTER TABLE colaborador MODIFY data_admissao_texto VARCHAR(50) NULL;
+ALTER TABLE colaborador ADD COLUMN data_admissao DATE NULL;
+
+-- (cargo, data_admissao) atende cargo com ou sem período; (data_admissao) atende período e ordem sem cargo.
+-- O InnoDB anexa a chave primária aos índices secundários, então a ordem (data_admissao, colaborador_id)
+-- da paginação sai do próprio índice.
+CREATE INDEX idx_colaborador_cargo_data_admissao ON colaborador (cargo, data_admissao);
+CREATE INDEX idx_colaborador_data_admissao ON colaborador (data_admissao);
@@ -0,0 +1,6 @@
+-- Fim da conversão da data de admissão (ver 006_data_admissao.sql).
+-- Falha aqui se restar linha sem data; conferir antes:
+--   SELECT colaborador_id, data_admissao_texto FROM colaborador WHERE data_admissao IS NULL;
+
+ALTER TABLE colaborador MODIFY data_admissao DATE NOT NULL;
+ALTER TABLE colaborador DROP COLUMN data_admissao_texto;
@@ -0,0 +1,111 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.NotasFinaisAlteradas;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtualizacaoPorPendentesTest {
+
+    private final List<List<Long>> consultasPorIds = new ArrayList<>();
+    private final List<Long> aplicados = new ArrayList<>();
+    private int cargasCompletas;
+    private boolean falharConsulta;
+    private AtualizacaoPorPendentes<Long> atualizacao;
+
+    @BeforeEach
+    void setUp() {
+        atualizacao = new AtualizacaoPorPendentes<>("teste", this::listarTodos, this::buscarPorIds, this::aplicar);
+    }
+
+    @Test
+    void deveCarregarUmaVezEAplicarPendentesNumaUnicaConsulta() {
+        atualizacao.garantirCarregado();
+        atualizacao.garantirCarregado();
+        atualizacao.marcar(NotasFinaisAlteradas.doColaborador(7L));
+        atualizacao.marcar(NotasFinaisAlteradas.doColaborador(8L));
+
+        atualizacao.aplicarPendentes();
+        atualizacao.aplicarPendentes();
+
+        assertEquals(1, cargasCompletas);
+        assertEquals(1, consultasPorIds.size());
+        assertEquals(Set.of(7L, 8L), Set.copyOf(consultasPorIds.get(0)));
+    }
+
+    @Test
+    void deveDescartarPendentesEIgnorarRessincronizacaoAntesDaCarga() {
+        atualizacao.marcar(NotasFinaisAlteradas.doColaborador(7L));
+        atualizacao.marcar(NotasFinaisAlteradas.todas());
+
+        atualizacao.aplicarPendentes();
+        atualizacao.ressincronizar();
+
+        assertEquals(0, cargasCompletas);
+        assertTrue(consultasPorIds.isEmpty());
+        assertTrue(aplicados.isEmpty());
+    }
+
+    @Test
+    void deveRecarregarTudoQuandoMarcadasTodas() {
+        atualizacao.garantirCarregado();
+        atualizacao.marcar(NotasFinaisAlteradas.doColaborador(7L));
+        atualizacao.marcar(NotasFinaisAlteradas.todas());
+
+        atualizacao.aplicarPendentes();
+
+        assertEquals(2, cargasCompletas);
+        assertTrue(consultasPorIds.isEmpty());
+    }
+
+    @Test
+    void deveManterPendentesQuandoConsultaFalhar() {
+        atualizacao.garantirCarregado();
+        atualizacao.marcar(NotasFinaisAlteradas.doColaborador(7L));
+        falharConsulta = true;
+
+        assertThrows(IllegalStateException.class, atualizacao::aplicarPendentes);
+        falharConsulta = false;
+        atualizacao.aplicarPendentes();
+
+        assertEquals(List.of(List.of(7L), List.of(7L)), consultasPorIds);
+        assertTrue(aplicados.contains(7L));
+    }
+
+    @Test
+    void deveTentarCarregarDeNovoQuandoCargaFalhar() {
+        falharConsulta = true;
+        assertThrows(IllegalStateException.class, atualizacao::garantirCarregado);
+
+        falharConsulta = false;
+        atualizacao.garantirCarregado();
+
+        assertEquals(1, cargasCompletas);
+    }
+
+    private List<Long> listarTodos() {
+        if (falharConsulta) {
+            throw new IllegalStateException("banco indisponível");
+        }
+        cargasCompletas++;
+        return List.of(1L, 2L);
+    }
+
+    private List<Long> buscarPorIds(List<Long> ids) {
+        consultasPorIds.add(List.copyOf(ids));
+        if (falharConsulta) {
+            throw new IllegalStateException("banco indisponível");
+        }
+        return ids;
+    }
+
+    private int aplicar(List<Long> registros) {
+        aplicados.addAll(registros);
+        return registros.size();
+    }
+}
@@ -2,6 +2,7 @@ package com.itau.case_tecnico.application.usecase;
 
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
 import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
 import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
 import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +36,7 @@ class AvaliarComportamentoUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        avaliacao = new AvaliacaoComportamental(1L, "Você trabalha com autonomia?", 4);
+        avaliacao = new AvaliacaoComportamental(1L, TipoAvaliacao.AUTONOMIA, 4);
         
         colaborador = new Colaborador();
         colaborador.setId(1L);
@@ -46,7 +47,7 @@ class AvaliarComportamentoUseCaseTest {
     void deveCriarAvaliacaoComSucesso() {
         when(colaboradorRepository.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
         
-        AvaliacaoComportamental avaliacaoComId = new AvaliacaoComportamental(1L, "Você trabalha com autonomia?", 4);
+        AvaliacaoComportamental avaliacaoComId = new AvaliacaoComportamental(1L, TipoAvaliacao.AUTONOMIA, 4);
         avaliacaoComId.setId(1L);
         when(avaliacaoRepository.salvar(any(AvaliacaoComportamental.class))).thenReturn(avaliacaoComId);
 
@@ -57,6 +58,7 @@ class AvaliarComportamentoUseCaseTest {
         assertEquals(4, resultado.getNota());
         verify(colaboradorRepository, times(1)).buscarPorId(1L);
         verify(avaliacaoRepository, times(1)).salvar(any(AvaliacaoComportamental.class));
+        verify(avaliacaoRepository, never()).buscarPorColaboradorId(anyLong());
     }
 
     @Test
@@ -69,7 +71,7 @@ class AvaliarComportamentoUseCaseTest {
 
     @Test
     void deveLancarExcecaoQuandoNotaForMaiorQue10() {
-        avaliacao = new AvaliacaoComportamental(1L, "Tipo", 11);
+        avaliacao = new AvaliacaoComportamental(1L, TipoAvaliacao.AUTONOMIA, 11);
 
         assertThrows(ValidacaoException.class, () -> useCase.executar(avaliacao));
         verify(avaliacaoRepository, never()).salvar(any(AvaliacaoComportamental.class));
@@ -77,9 +79,43 @@ class AvaliarComportamentoUseCaseTest {
 
     @Test
     void deveLancarExcecaoQuandoNotaForMenorQue1() {
-        avaliacao = new AvaliacaoComportamental(1L, "Tipo", 0);
+        avaliacao = new AvaliacaoComportamental(1L, TipoAvaliacao.AUTONOMIA, 0);
 
         assertThrows(ValidacaoException.class, () -> useCase.executar(avaliacao));
         verify(avaliacaoRepository, never()).salvar(any(AvaliacaoComportamental.class));
     }
+
+    @Test
+    void deveLancarExcecaoQuandoTipoNaoForInformado() {
+        when(colaboradorRepository.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
+        avaliacao = new AvaliacaoComportamental(1L, null, 4);
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executar(avaliacao));
+        assertEquals(CodigoErro.CAMPO_OBRIGATORIO, exception.getCodigo());
+        verify(avaliacaoRepository, never()).salvar(any(AvaliacaoComportamental.class));
+    }
+
+    @Test
+    void deveConverterTipoPelaPerguntaCodigoOuNome() {
+        assertEquals(TipoAvaliacao.AUTONOMIA, AvaliarComportamentoUseCase.converterTipo("Você trabalha com autonomia?"));
+        assertEquals(TipoAvaliacao.AUTONOMIA, AvaliarComportamentoUseCase.converterTipo(" 4 "));
+        assertEquals(TipoAvaliacao.AUTONOMIA, AvaliarComportamentoUseCase.converterTipo("AUTONOMIA"));
+    }
+
+    @Test
+    void deveRejeitarTipoInexistenteNaConversao() {
+        ValidacaoException exception = assertThrows(ValidacaoException.class,
+            () -> AvaliarComportamentoUseCase.converterTipo("Trabalho em equipe"));
+
+        assertEquals(CodigoErro.TIPO_AVALIACAO_INVALIDO, exception.getCodigo());
+        assertTrue(exception.getMessage().contains("4 - Você trabalha com autonomia?"));
+    }
+
+    @Test
+    void deveRejeitarTipoEmBrancoNaConversao() {
+        ValidacaoException exception = assertThrows(ValidacaoException.class,
+            () -> AvaliarComportamentoUseCase.converterTipo("  "));
+
+        assertEquals(CodigoErro.CAMPO_OBRIGATORIO, exception.getCodigo());
+    }
 }
@@ -0,0 +1,60 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvaliarDesafioUseCaseTest {
+
+    @Mock
+    private DesafioRepositoryPort desafioRepository;
+
+    @InjectMocks
+    private AvaliarDesafioUseCase useCase;
+
+    @Test
+    void deveAtualizarNotaPeloIdDoDesafio() {
+        Desafio atualizado = new Desafio();
+        atualizado.setId(10L);
+        atualizado.setColaboradorId(1L);
+        atualizado.setNota(5);
+        when(desafioRepository.atualizarNota(10L, 5)).thenReturn(Optional.of(atualizado));
+
+        Desafio resultado = useCase.executar(10L, 5);
+
+        assertEquals(10L, resultado.getId());
+        assertEquals(5, resultado.getNota());
+        verify(desafioRepository, never()).buscarPorColaboradorId(anyLong());
+        verify(desafioRepository, never()).salvar(any(Desafio.class));
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoDesafioNaoExistir() {
+        when(desafioRepository.atualizarNota(99L, 4)).thenReturn(Optional.empty());
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executar(99L, 4));
+
+        assertEquals(CodigoErro.DESAFIO_NAO_ENCONTRADO, exception.getCodigo());
+    }
+
+    @Test
+    void deveRejeitarNotaForaDoIntervaloSemAcessarOBanco() {
+        assertThrows(ValidacaoException.class, () -> useCase.executar(10L, 0));
+        assertThrows(ValidacaoException.class, () -> useCase.executar(10L, 6));
+        assertThrows(ValidacaoException.class, () -> useCase.executar(10L, null));
+
+        verifyNoInteractions(desafioRepository);
+    }
+}
@@ -0,0 +1,132 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.ColaboradoresSalvos;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuscarColaboradoresUseCaseTest {
+
+    @Mock
+    private ColaboradorRepositoryPort colaboradorRepository;
+
+    private BuscarColaboradoresUseCase useCase;
+    private final List<Colaborador> tabela = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        useCase = new BuscarColaboradoresUseCase(colaboradorRepository);
+        tabela.add(colaborador(1L, "Ana Souza", "Desenvolvedor"));
+        tabela.add(colaborador(2L, "Bruno Alves", "Analista"));
+        lenient().doAnswer(invocation -> {
+            tabela.forEach(invocation.<Consumer<Colaborador>>getArgument(0));
+            return null;
+        }).when(colaboradorRepository).percorrerTodos(any(Consumer.class));
+    }
+
+    private static Colaborador colaborador(Long id, String nome, String cargo) {
+        Colaborador colaborador = new Colaborador("M" + id, nome, LocalDate.parse("2024-01-01"), cargo);
+        colaborador.setId(id);
+        return colaborador;
+    }
+
+    private static List<Long> ids(List<Colaborador> colaboradores) {
+        return colaboradores.stream().map(Colaborador::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveCarregarNaInicializacaoEBuscarSemConsultarOBanco() {
+        useCase.carregarNaInicializacao();
+
+        assertEquals(List.of(1L), ids(useCase.buscar("ána", null, null, null)));
+        assertEquals(List.of(2L), ids(useCase.buscar(null, "Analista", null, 10)));
+        verify(colaboradorRepository, times(1)).percorrerTodos(any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveCarregarNaPrimeiraBuscaQuandoInicializacaoFalhar() {
+        doThrow(new RuntimeException("Falha no banco"))
+            .doAnswer(invocation -> {
+                tabela.forEach(invocation.<Consumer<Colaborador>>getArgument(0));
+                return null;
+            })
+            .when(colaboradorRepository).percorrerTodos(any(Consumer.class));
+
+        useCase.carregarNaInicializacao();
+
+        assertEquals(List.of(2L), ids(useCase.buscar("bru", null, null, null)));
+    }
+
+    @Test
+    void deveEncontrarColaboradorSalvoDepoisDaCarga() {
+        useCase.carregarNaInicializacao();
+
+        useCase.aoSalvarColaboradores(new ColaboradoresSalvos(List.of(colaborador(3L, "Bruna Dias", "Analista"))));
+
+        assertEquals(List.of(2L, 3L), ids(useCase.buscar("brun", null, null, null)));
+    }
+
+    @Test
+    void deveContinuarEncontrandoPendentesDepoisDaCompactacao() {
+        useCase.carregarNaInicializacao();
+        List<Colaborador> novos = new ArrayList<>();
+        for (long id = 10; id < 10 + BuscarColaboradoresUseCase.MAXIMO_PENDENTES; id++) {
+            novos.add(colaborador(id, "Carlos " + id, "Analista"));
+        }
+        useCase.aoSalvarColaboradores(new ColaboradoresSalvos(novos));
+
+        useCase.compactar();
+
+        List<Colaborador> pagina = useCase.buscar("carlos", null, 500L, 2);
+        assertEquals(List.of(501L, 502L), ids(pagina));
+        assertEquals(List.of(1009L), ids(useCase.buscar("carlos 1009", "analista", null, null)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRessincronizarComATabela() {
+        useCase.carregarNaInicializacao();
+        tabela.add(colaborador(4L, "Ana Beatriz", "Analista"));
+
+        useCase.ressincronizar();
+
+        assertEquals(List.of(1L, 4L), ids(useCase.buscar("ana", null, null, null)));
+        verify(colaboradorRepository, times(2)).percorrerTodos(any(Consumer.class));
+    }
+
+    @Test
+    void deveExigirTermoOuCargo() {
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.buscar(" - ", " ", null, null));
+
+        assertEquals(CodigoErro.BUSCA_INVALIDA, exception.getCodigo());
+        verifyNoInteractions(colaboradorRepository);
+    }
+
+    @Test
+    void deveRejeitarLimiteForaDaFaixa() {
+        ValidacaoException zero = assertThrows(ValidacaoException.class, () -> useCase.buscar("ana", null, null, 0));
+        ValidacaoException acima = assertThrows(ValidacaoException.class,
+            () -> useCase.buscar("ana", null, null, ListarTodosUseCase.LIMITE_MAXIMO + 1));
+
+        assertEquals(CodigoErro.PAGINACAO_INVALIDA, zero.getCodigo());
+        assertEquals(CodigoErro.PAGINACAO_INVALIDA, acima.getCodigo());
+    }
+}
@@ -3,9 +3,11 @@ package com.itau.case_tecnico.application.usecase;
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
 import com.itau.case_tecnico.domain.model.Colaborador;
 import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
 import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
 import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
 import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -29,6 +31,9 @@ class BuscarPorIdUseCaseTest {
     @Mock
     private DesafioRepositoryPort desafioRepository;
 
+    @Mock
+    private NotaFinalRepositoryPort notaFinalRepository;
+
     @InjectMocks
     private BuscarPorIdUseCase useCase;
 
@@ -48,7 +53,7 @@ class BuscarPorIdUseCaseTest {
 
     @Test
     void deveBuscarAvaliacaoPorId() {
-        AvaliacaoComportamental avaliacao = new AvaliacaoComportamental(1L, "Tipo", 8);
+        AvaliacaoComportamental avaliacao = new AvaliacaoComportamental(1L, TipoAvaliacao.AUTONOMIA, 8);
         avaliacao.setId(1L);
         
         when(avaliacaoRepository.buscarPorId(1L)).thenReturn(Optional.of(avaliacao));
@@ -73,4 +78,12 @@ class BuscarPorIdUseCaseTest {
         assertEquals(1L, resultado.get().getId());
         verify(desafioRepository, times(1)).buscarPorId(1L);
     }
+
+    @Test
+    void deveBuscarVersaoSemConsultarColaborador() {
+        when(notaFinalRepository.buscarVersao(1L)).thenReturn(Optional.of(3L));
+
+        assertEquals(Optional.of(3L), useCase.buscarVersaoDoColaborador(1L));
+        verify(colaboradorRepository, never()).buscarPorId(anyLong());
+    }
 }
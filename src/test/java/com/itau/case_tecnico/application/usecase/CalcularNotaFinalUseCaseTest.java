@@ -1,12 +1,7 @@
 package com.itau.case_tecnico.application.usecase;
 
-import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
-import com.itau.case_tecnico.domain.model.Colaborador;
-import com.itau.case_tecnico.domain.model.Desafio;
-import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
-import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
-import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
-import org.junit.jupiter.api.BeforeEach;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -14,112 +9,146 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CalcularNotaFinalUseCaseTest {
 
     @Mock
-    private ColaboradorRepositoryPort colaboradorRepository;
-
-    @Mock
-    private AvaliacaoRepositoryPort avaliacaoRepository;
-
-    @Mock
-    private DesafioRepositoryPort desafioRepository;
+    private NotaFinalRepositoryPort notaFinalRepository;
 
     @InjectMocks
     private CalcularNotaFinalUseCase useCase;
 
-    private Colaborador colaborador;
-
-    @BeforeEach
-    void setUp() {
-        colaborador = new Colaborador();
-        colaborador.setId(1L);
-        colaborador.setMatricula("MAT001");
-        colaborador.setNome("João Silva");
-        colaborador.setDataAdmissao("2020-01-01");
-        colaborador.setCargo("Desenvolvedor");
-    }
-
     @Test
     void deveCalcularNotaFinalComSucesso() {
-        when(colaboradorRepository.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
-        
-        // O sistema exige exatamente 4 avaliações comportamentais com tipos específicos e notas entre 1-5
-        List<AvaliacaoComportamental> avaliacoes = Arrays.asList(
-            criarAvaliacao(1L, "Você promove um ambiente colaborativo?", 4),
-            criarAvaliacao(1L, "Você se atualiza e aprende o tempo todo?", 5),
-            criarAvaliacao(1L, "Você utiliza dados para tomar decisões?", 3),
-            criarAvaliacao(1L, "Você trabalha com autonomia?", 4)
-        );
-        when(avaliacaoRepository.buscarPorColaboradorId(1L)).thenReturn(avaliacoes);
-        
-        // Notas dos desafios devem ser entre 1 e 5
-        List<Desafio> desafios = Arrays.asList(
-            criarDesafio(1L, "Descrição 1", 3),
-            criarDesafio(1L, "Descrição 2", 4)
-        );
-        when(desafioRepository.buscarPorColaboradorId(1L)).thenReturn(desafios);
+        // 4 avaliações (4 + 5 + 3 + 4) e 2 desafios (3 + 4)
+        when(notaFinalRepository.buscarResumoPorColaboradorId(1L))
+            .thenReturn(Optional.of(new ResumoNotas(1L, 4, 16, 2, 2, 7)));
 
         CalcularNotaFinalUseCase.NotaFinalDTO resultado = useCase.executar(1L);
 
         assertNotNull(resultado);
         assertEquals(1L, resultado.getColaboradorId());
-        assertTrue(resultado.getNotaFinal() > 0);
-        assertTrue(resultado.getMediaComportamental() > 0);
-        assertTrue(resultado.getMediaDesafios() > 0);
-        verify(colaboradorRepository, times(1)).buscarPorId(1L);
-        verify(avaliacaoRepository, times(1)).buscarPorColaboradorId(1L);
-        verify(desafioRepository, times(1)).buscarPorColaboradorId(1L);
+        assertEquals(4.0, resultado.getMediaComportamental());
+        assertEquals(3.5, resultado.getMediaDesafios());
+        assertEquals(3.75, resultado.getNotaFinal());
+        verify(notaFinalRepository, times(1)).buscarResumoPorColaboradorId(1L);
     }
 
     @Test
     void deveLancarExcecaoQuandoColaboradorNaoExistir() {
-        when(colaboradorRepository.buscarPorId(999L)).thenReturn(Optional.empty());
+        when(notaFinalRepository.buscarResumoPorColaboradorId(999L)).thenReturn(Optional.empty());
 
-        assertThrows(ValidacaoException.class, () -> useCase.executar(999L));
-        verify(colaboradorRepository, times(1)).buscarPorId(999L);
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executar(999L));
+        assertEquals("Colaborador não encontrado", exception.getMessage());
+        verify(notaFinalRepository, times(1)).buscarResumoPorColaboradorId(999L);
     }
 
     @Test
     void deveLancarExcecaoQuandoNaoHouverAvaliacoesSuficientes() {
-        when(colaboradorRepository.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
-        
-        // Menos de 4 avaliações
-        List<AvaliacaoComportamental> avaliacoes = Arrays.asList(
-            criarAvaliacao(1L, "Você trabalha com autonomia?", 4),
-            criarAvaliacao(1L, "Você promove um ambiente colaborativo?", 5)
-        );
-        when(avaliacaoRepository.buscarPorColaboradorId(1L)).thenReturn(avaliacoes);
-        when(desafioRepository.buscarPorColaboradorId(1L)).thenReturn(Arrays.asList());
+        when(notaFinalRepository.buscarResumoPorColaboradorId(1L))
+            .thenReturn(Optional.of(new ResumoNotas(1L, 2, 9, 0, 0, 0)));
 
-        assertThrows(ValidacaoException.class, () -> useCase.executar(1L));
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executar(1L));
+        assertEquals("Colaborador deve ter exatamente 4 avaliações comportamentais", exception.getMessage());
     }
 
     @Test
     void deveLancarExcecaoQuandoNaoHouverAvaliacoes() {
-        when(colaboradorRepository.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
-        when(avaliacaoRepository.buscarPorColaboradorId(1L)).thenReturn(Arrays.asList());
-        when(desafioRepository.buscarPorColaboradorId(1L)).thenReturn(Arrays.asList());
+        when(notaFinalRepository.buscarResumoPorColaboradorId(1L))
+            .thenReturn(Optional.of(new ResumoNotas(1L, 0, 0, 0, 0, 0)));
 
         assertThrows(ValidacaoException.class, () -> useCase.executar(1L));
     }
 
-    private AvaliacaoComportamental criarAvaliacao(Long colaboradorId, String tipo, int nota) {
-        AvaliacaoComportamental avaliacao = new AvaliacaoComportamental(colaboradorId, tipo, nota);
-        avaliacao.setId(1L);
-        return avaliacao;
+    @Test
+    void deveLancarExcecaoQuandoQuantidadeDeDesafiosForaDoIntervalo() {
+        when(notaFinalRepository.buscarResumoPorColaboradorId(1L))
+            .thenReturn(Optional.of(new ResumoNotas(1L, 4, 16, 1, 1, 5)));
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executar(1L));
+        assertEquals("Colaborador deve ter entre 2 e 4 desafios", exception.getMessage());
+    }
+
+    @Test
+    void deveIgnorarDesafiosSemNotaNaMedia() {
+        when(notaFinalRepository.buscarResumoPorColaboradorId(1L))
+            .thenReturn(Optional.of(new ResumoNotas(1L, 4, 20, 3, 2, 8)));
+
+        CalcularNotaFinalUseCase.NotaFinalDTO resultado = useCase.executar(1L);
+
+        assertEquals(4.0, resultado.getMediaDesafios());
+        assertEquals(4.5, resultado.getNotaFinal());
+    }
+
+    @Test
+    void deveCalcularNotasFinaisEmLoteReportandoErrosPorColaborador() {
+        when(notaFinalRepository.buscarResumosPorColaboradorIds(anyCollection())).thenReturn(Arrays.asList(
+            new ResumoNotas(1L, 4, 16, 2, 2, 7),
+            new ResumoNotas(2L, 3, 12, 2, 2, 8)
+        ));
+
+        List<CalcularNotaFinalUseCase.ResultadoNotaFinal> resultados = useCase.executarPorIds(Arrays.asList(2L, 1L, 3L, 1L));
+
+        assertEquals(3, resultados.size());
+        assertEquals(2L, resultados.get(0).getColaboradorId());
+        assertFalse(resultados.get(0).isSucesso());
+        assertEquals("Colaborador deve ter exatamente 4 avaliações comportamentais", resultados.get(0).getErro());
+        assertTrue(resultados.get(1).isSucesso());
+        assertEquals(3.75, resultados.get(1).getNotaFinal().getNotaFinal());
+        assertEquals(3L, resultados.get(2).getColaboradorId());
+        assertEquals("Colaborador não encontrado", resultados.get(2).getErro());
+        verify(notaFinalRepository, times(1)).buscarResumosPorColaboradorIds(anyCollection());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoLoteVazio() {
+        assertThrows(ValidacaoException.class, () -> useCase.executarPorIds(Collections.emptyList()));
+        verifyNoInteractions(notaFinalRepository);
     }
 
-    private Desafio criarDesafio(Long colaboradorId, String descricao, int nota) {
-        Desafio desafio = new Desafio(colaboradorId, descricao, nota);
-        desafio.setId(1L);
-        return desafio;
+    @Test
+    void deveLancarExcecaoQuandoLoteContiverIdNulo() {
+        assertThrows(ValidacaoException.class, () -> useCase.executarPorIds(Arrays.asList(1L, null)));
+        verifyNoInteractions(notaFinalRepository);
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoLoteExcederMaximo() {
+        List<Long> ids = new java.util.ArrayList<>();
+        for (long i = 1; i <= CalcularNotaFinalUseCase.MAXIMO_IDS_POR_LOTE + 1; i++) {
+            ids.add(i);
+        }
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executarPorIds(ids));
+        assertEquals("Máximo de 1000 colaboradores por requisição", exception.getMessage());
+        verifyNoInteractions(notaFinalRepository);
+    }
+
+    @Test
+    void deveCalcularNotasFinaisPorCargo() {
+        when(notaFinalRepository.buscarResumosPorCargo("Desenvolvedor")).thenReturn(Arrays.asList(
+            new ResumoNotas(1L, 4, 16, 2, 2, 7),
+            new ResumoNotas(2L, 4, 16, 1, 1, 4)
+        ));
+
+        List<CalcularNotaFinalUseCase.ResultadoNotaFinal> resultados = useCase.executarPorCargo("Desenvolvedor");
+
+        assertEquals(2, resultados.size());
+        assertTrue(resultados.get(0).isSucesso());
+        assertEquals("Colaborador deve ter entre 2 e 4 desafios", resultados.get(1).getErro());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoCargoVazio() {
+        assertThrows(ValidacaoException.class, () -> useCase.executarPorCargo(" "));
+        verifyNoInteractions(notaFinalRepository);
     }
 }
@@ -0,0 +1,67 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConverterDataAdmissaoUseCaseTest {
+
+    @Mock
+    private ColaboradorRepositoryPort colaboradorRepository;
+
+    @InjectMocks
+    private ConverterDataAdmissaoUseCase useCase;
+
+    private static Map<Long, String> lote(Object... idsETextos) {
+        Map<Long, String> lote = new LinkedHashMap<>();
+        for (int i = 0; i < idsETextos.length; i += 2) {
+            lote.put((Long) idsETextos[i], (String) idsETextos[i + 1]);
+        }
+        return lote;
+    }
+
+    @Test
+    void deveConverterEmLotesAvancandoPelaChave() {
+        when(colaboradorRepository.buscarDatasAdmissaoEmTexto(0L, ConverterDataAdmissaoUseCase.TAMANHO_LOTE))
+            .thenReturn(lote(1L, "2020-01-01", 4L, "15/03/2021"));
+        when(colaboradorRepository.buscarDatasAdmissaoEmTexto(4L, ConverterDataAdmissaoUseCase.TAMANHO_LOTE))
+            .thenReturn(lote(7L, "01.02.2019"));
+        when(colaboradorRepository.buscarDatasAdmissaoEmTexto(7L, ConverterDataAdmissaoUseCase.TAMANHO_LOTE))
+            .thenReturn(Map.of());
+        when(colaboradorRepository.gravarDatasAdmissao(any())).thenAnswer(invocation -> invocation.<Map<?, ?>>getArgument(0).size());
+
+        ConverterDataAdmissaoUseCase.Resultado resultado = useCase.converter();
+
+        assertEquals(3, resultado.convertidas());
+        assertEquals(0, resultado.naoReconhecidas());
+        verify(colaboradorRepository, times(1)).gravarDatasAdmissao(
+            Map.of(1L, LocalDate.of(2020, 1, 1), 4L, LocalDate.of(2021, 3, 15)));
+        verify(colaboradorRepository, times(1)).gravarDatasAdmissao(Map.of(7L, LocalDate.of(2019, 2, 1)));
+    }
+
+    @Test
+    void devePularTextoNaoReconhecidoSemRepetiLo() {
+        when(colaboradorRepository.buscarDatasAdmissaoEmTexto(0L, ConverterDataAdmissaoUseCase.TAMANHO_LOTE))
+            .thenReturn(lote(2L, "janeiro/2020", 3L, "31/02/2024"));
+        when(colaboradorRepository.buscarDatasAdmissaoEmTexto(3L, ConverterDataAdmissaoUseCase.TAMANHO_LOTE))
+            .thenReturn(Map.of());
+
+        ConverterDataAdmissaoUseCase.Resultado resultado = useCase.converter();
+
+        assertEquals(0, resultado.convertidas());
+        assertEquals(2, resultado.naoReconhecidas());
+        verify(colaboradorRepository, never()).gravarDatasAdmissao(any());
+    }
+}
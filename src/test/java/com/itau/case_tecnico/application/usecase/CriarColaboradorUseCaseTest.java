@@ -9,6 +9,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -29,7 +31,7 @@ class CriarColaboradorUseCaseTest {
         colaborador = new Colaborador();
         colaborador.setMatricula("MAT001");
         colaborador.setNome("João Silva");
-        colaborador.setDataAdmissao("2020-01-01");
+        colaborador.setDataAdmissao(LocalDate.parse("2020-01-01"));
         colaborador.setCargo("Desenvolvedor");
     }
 
@@ -39,7 +41,7 @@ class CriarColaboradorUseCaseTest {
         colaboradorComId.setId(1L);
         colaboradorComId.setMatricula("MAT001");
         colaboradorComId.setNome("João Silva");
-        colaboradorComId.setDataAdmissao("2020-01-01");
+        colaboradorComId.setDataAdmissao(LocalDate.parse("2020-01-01"));
         colaboradorComId.setCargo("Desenvolvedor");
         
         when(repositorio.salvar(any(Colaborador.class))).thenReturn(colaboradorComId);
@@ -84,4 +86,59 @@ class CriarColaboradorUseCaseTest {
         assertThrows(ValidacaoException.class, () -> useCase.executar(colaborador));
         verify(repositorio, never()).salvar(any(Colaborador.class));
     }
+
+    @Test
+    void deveLancarExcecaoQuandoDataDeAdmissaoForNula() {
+        colaborador.setDataAdmissao(null);
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executar(colaborador));
+
+        assertEquals(CodigoErro.CAMPO_OBRIGATORIO, exception.getCodigo());
+        verify(repositorio, never()).salvar(any(Colaborador.class));
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoCargoForNulo() {
+        colaborador.setCargo(null);
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executar(colaborador));
+
+        assertEquals(CodigoErro.CAMPO_OBRIGATORIO, exception.getCodigo());
+        verify(repositorio, never()).salvar(any(Colaborador.class));
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoCargoForVazio() {
+        colaborador.setCargo(" ");
+
+        assertThrows(ValidacaoException.class, () -> useCase.executar(colaborador));
+        verify(repositorio, never()).salvar(any(Colaborador.class));
+    }
+
+    @Test
+    void deveDelegarDeteccaoDeMatriculaDuplicadaAoRepositorio() {
+        when(repositorio.salvar(any(Colaborador.class)))
+            .thenThrow(new ValidacaoException("Matrícula já cadastrada: MAT001"));
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executar(colaborador));
+
+        assertEquals("Matrícula já cadastrada: MAT001", exception.getMessage());
+        verify(repositorio, never()).existePorMatricula(any());
+    }
+
+    @Test
+    void deveConverterDataDeAdmissaoNosFormatosAceitos() {
+        assertEquals(LocalDate.of(2021, 3, 15), CriarColaboradorUseCase.converterDataAdmissao("2021-03-15"));
+        assertEquals(LocalDate.of(2021, 3, 15), CriarColaboradorUseCase.converterDataAdmissao("15/03/2021"));
+        assertEquals(LocalDate.of(2021, 3, 15), CriarColaboradorUseCase.converterDataAdmissao("2021-03-15T08:00:00"));
+        assertNull(CriarColaboradorUseCase.converterDataAdmissao(" "));
+    }
+
+    @Test
+    void deveRejeitarDataDeAdmissaoInvalida() {
+        ValidacaoException exception = assertThrows(ValidacaoException.class,
+            () -> CriarColaboradorUseCase.converterDataAdmissao("31/02/2024"));
+
+        assertEquals(CodigoErro.DATA_ADMISSAO_INVALIDA, exception.getCodigo());
+    }
 }
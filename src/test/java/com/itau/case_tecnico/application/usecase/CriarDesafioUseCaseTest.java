@@ -57,6 +57,17 @@ class CriarDesafioUseCaseTest {
         assertEquals(4, resultado.getNota());
         verify(colaboradorRepository, times(1)).buscarPorId(1L);
         verify(desafioRepository, times(1)).salvar(any(Desafio.class));
+        verify(desafioRepository, never()).contarPorColaboradorId(anyLong());
+    }
+
+    @Test
+    void devePropagarLimiteAplicadoNaGravacao() {
+        when(colaboradorRepository.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
+        when(desafioRepository.salvar(any(Desafio.class))).thenThrow(ValidacaoException.LIMITE_DESAFIOS_ATINGIDO);
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> useCase.executar(desafio));
+
+        assertEquals(CodigoErro.LIMITE_DESAFIOS_ATINGIDO, exception.getCodigo());
     }
 
     @Test
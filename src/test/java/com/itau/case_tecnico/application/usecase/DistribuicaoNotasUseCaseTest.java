@@ -0,0 +1,112 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.Distribuicao;
+import com.itau.case_tecnico.domain.model.NotasDoColaborador;
+import com.itau.case_tecnico.domain.model.NotasFinaisAlteradas;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DistribuicaoNotasUseCaseTest {
+
+    @Mock
+    private NotaFinalRepositoryPort notaFinalRepository;
+
+    private DistribuicaoNotasUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DistribuicaoNotasUseCase(notaFinalRepository, new CalcularNotaFinalUseCase(notaFinalRepository));
+    }
+
+    // 4 avaliações com a mesma nota e 2 desafios com a mesma nota
+    private NotasDoColaborador notas(Long id, String cargo, long versao, int avaliacao, int desafio) {
+        long[] avaliacoes = new long[5];
+        avaliacoes[avaliacao - 1] = 4;
+        long[] desafios = new long[5];
+        desafios[desafio - 1] = 2;
+        return new NotasDoColaborador(new ResumoNotas(id, 4, 4L * avaliacao, 2, 2, 2L * desafio, cargo, versao),
+            avaliacoes, desafios);
+    }
+
+    @Test
+    void deveCarregarNaInicializacaoECalcularMedias() {
+        when(notaFinalRepository.listarNotasPorColaborador()).thenReturn(List.of(
+            notas(1L, "Dev", 1, 4, 2),
+            notas(2L, "Dev", 1, 5, 5),
+            new NotasDoColaborador(new ResumoNotas(3L, 1, 3, 0, 0, 0, "Dev", 1), new long[]{0, 0, 1, 0, 0}, new long[5])
+        ));
+
+        useCase.carregarNaInicializacao();
+        Distribuicao distribuicao = useCase.consultar("Dev");
+
+        assertEquals(2, distribuicao.getNotaFinal().getQuantidade());
+        assertEquals(3.0, distribuicao.getNotaFinal().percentil(0.5));
+        assertEquals(5.0, distribuicao.getMediaComportamental().percentil(0.9));
+        assertArrayEquals(new long[]{0, 0, 1, 4, 4}, distribuicao.getAvaliacoesPorNota());
+        verify(notaFinalRepository, times(1)).listarNotasPorColaborador();
+    }
+
+    @Test
+    void deveCarregarNaPrimeiraConsultaQuandoInicializacaoFalhar() {
+        when(notaFinalRepository.listarNotasPorColaborador())
+            .thenThrow(new RuntimeException("Falha no banco"))
+            .thenReturn(List.of(notas(1L, "Dev", 1, 4, 2)));
+
+        useCase.carregarNaInicializacao();
+
+        assertEquals(1, useCase.consultar(" ").getNotaFinal().getQuantidade());
+    }
+
+    @Test
+    void deveAplicarAlteracoesPendentesEmLote() {
+        when(notaFinalRepository.listarNotasPorColaborador()).thenReturn(List.of(notas(1L, "Dev", 1, 4, 2)));
+        useCase.carregarNaInicializacao();
+        when(notaFinalRepository.buscarNotasPorColaborador(any())).thenReturn(List.of(notas(1L, "Dev", 2, 4, 4)));
+
+        useCase.aoAlterarNotasFinais(NotasFinaisAlteradas.doColaborador(1L));
+        useCase.aplicarPendentes();
+        useCase.aplicarPendentes();
+
+        assertEquals(4.0, useCase.consultar("Dev").getNotaFinal().percentil(0.5));
+        verify(notaFinalRepository, times(1)).buscarNotasPorColaborador(List.of(1L));
+    }
+
+    @Test
+    void deveRecarregarTudoDepoisDeReconstrucao() {
+        when(notaFinalRepository.listarNotasPorColaborador())
+            .thenReturn(List.of(notas(1L, "Dev", 1, 4, 2)))
+            .thenReturn(List.of(notas(1L, "Dev", 5, 5, 5)));
+        useCase.carregarNaInicializacao();
+
+        useCase.aoAlterarNotasFinais(NotasFinaisAlteradas.todas());
+        useCase.aplicarPendentes();
+
+        assertEquals(5.0, useCase.consultar(null).getNotaFinal().percentil(0.5));
+        verify(notaFinalRepository, never()).buscarNotasPorColaborador(any());
+    }
+
+    @Test
+    void deveDescartarPendentesEnquantoNaoCarregado() {
+        when(notaFinalRepository.listarNotasPorColaborador()).thenThrow(new RuntimeException("Falha no banco"));
+        useCase.carregarNaInicializacao();
+        useCase.aoAlterarNotasFinais(NotasFinaisAlteradas.doColaborador(1L));
+
+        useCase.aplicarPendentes();
+        useCase.ressincronizar();
+
+        verify(notaFinalRepository, never()).buscarNotasPorColaborador(any());
+        verify(notaFinalRepository, times(1)).listarNotasPorColaborador();
+    }
+}
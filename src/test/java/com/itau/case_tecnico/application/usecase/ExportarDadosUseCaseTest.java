@@ -0,0 +1,234 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.Exportacao;
+import com.itau.case_tecnico.domain.model.FormatoExportacao;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.model.StatusExportacao;
+import com.itau.case_tecnico.domain.model.TipoExportacao;
+import com.itau.case_tecnico.domain.port.ArquivoExportacaoPort;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportarDadosUseCaseTest {
+
+    @Mock
+    private ColaboradorRepositoryPort colaboradorRepository;
+
+    @Mock
+    private AvaliacaoRepositoryPort avaliacaoRepository;
+
+    @Mock
+    private DesafioRepositoryPort desafioRepository;
+
+    @Mock
+    private NotaFinalRepositoryPort notaFinalRepository;
+
+    @Mock
+    private ArquivoExportacaoPort arquivos;
+
+    @Mock
+    private ArquivoExportacaoPort.Escritor escritor;
+
+    private ExportarDadosUseCase useCase;
+    private final List<List<?>> linhas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportarDadosUseCase(colaboradorRepository, avaliacaoRepository, desafioRepository,
+            notaFinalRepository, new CalcularNotaFinalUseCase(notaFinalRepository), arquivos, 1, 1, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.encerrar();
+    }
+
+    private void registrarLinhas() {
+        lenient().doAnswer(invocation -> linhas.add(invocation.getArgument(0))).when(escritor).escrever(any());
+    }
+
+    private Exportacao aguardar(Exportacao exportacao) throws InterruptedException {
+        for (int tentativa = 0; tentativa < 500 && !exportacao.getStatus().isFinalizada(); tentativa++) {
+            Thread.sleep(10);
+        }
+        assertTrue(exportacao.getStatus().isFinalizada(), "Exportação não terminou a tempo");
+        return exportacao;
+    }
+
+    private Colaborador colaborador(Long id) {
+        Colaborador colaborador = new Colaborador("M" + id, "Nome " + id, LocalDate.parse("2024-01-01"), "Dev");
+        colaborador.setId(id);
+        return colaborador;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveExportarNotasFinaisCalculadasDuranteOCursor() throws InterruptedException {
+        when(arquivos.criar(any(), eq(ExportarDadosUseCase.COLUNAS_NOTAS_FINAIS))).thenReturn(escritor);
+        when(escritor.getBytesEscritos()).thenReturn(42L);
+        registrarLinhas();
+        doAnswer(invocation -> {
+            BiConsumer<Colaborador, ResumoNotas> consumidor = invocation.getArgument(0);
+            consumidor.accept(colaborador(1L), new ResumoNotas(1L, 4, 16, 2, 2, 6, "Dev", 3));
+            consumidor.accept(colaborador(2L), new ResumoNotas(2L, 1, 5, 0, 0, 0, "Dev", 1));
+            return null;
+        }).when(notaFinalRepository).percorrerComColaborador(any(BiConsumer.class));
+
+        Exportacao exportacao = aguardar(useCase.iniciar("notas-finais", null));
+
+        assertEquals(StatusExportacao.CONCLUIDA, exportacao.getStatus());
+        assertEquals(FormatoExportacao.CSV, exportacao.getFormato());
+        assertEquals(2, exportacao.getLinhas());
+        assertEquals(42, exportacao.getBytes());
+        assertEquals(Arrays.asList(1L, "M1", "Nome 1", "Dev", 3.5, 4.0, 3.0, null), linhas.get(0));
+        assertEquals(Arrays.asList(2L, "M2", "Nome 2", "Dev", null, null, null,
+            "Colaborador deve ter exatamente 4 avaliações comportamentais"), linhas.get(1));
+        verify(escritor, times(1)).concluir();
+        verify(escritor, timeout(1000).times(1)).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveExportarDesafiosEmNdjson() throws InterruptedException {
+        when(arquivos.criar(any(), eq(ExportarDadosUseCase.COLUNAS_DESAFIOS))).thenReturn(escritor);
+        registrarLinhas();
+        Desafio desafio = new Desafio(7L, "Entrega", 4);
+        desafio.setId(70L);
+        doAnswer(invocation -> {
+            ((Consumer<Desafio>) invocation.getArgument(0)).accept(desafio);
+            return null;
+        }).when(desafioRepository).percorrerTodos(any(Consumer.class));
+
+        Exportacao exportacao = aguardar(useCase.iniciar("DESAFIOS", "ndjson"));
+
+        assertEquals(StatusExportacao.CONCLUIDA, exportacao.getStatus());
+        assertEquals(TipoExportacao.DESAFIOS, exportacao.getTipo());
+        assertEquals(FormatoExportacao.NDJSON, exportacao.getFormato());
+        assertEquals(List.of(List.of(70L, 7L, "Entrega", 4)), linhas);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveMarcarFalhaSemConcluirOArquivo() throws InterruptedException {
+        when(arquivos.criar(any(), any())).thenReturn(escritor);
+        doThrow(new IllegalStateException("conexão perdida")).when(colaboradorRepository).percorrerTodos(any(Consumer.class));
+
+        Exportacao exportacao = aguardar(useCase.iniciar("colaboradores", "csv"));
+
+        assertEquals(StatusExportacao.FALHOU, exportacao.getStatus());
+        assertEquals(ExportarDadosUseCase.FALHA_NA_GERACAO, exportacao.getErro());
+        assertNotNull(exportacao.getFinalizadaEm());
+        verify(escritor, never()).concluir();
+        verify(escritor, times(1)).close();
+    }
+
+    @Test
+    void deveRejeitarTipoOuFormatoInvalido() {
+        ValidacaoException tipo = assertThrows(ValidacaoException.class, () -> useCase.iniciar("salarios", "csv"));
+        ValidacaoException formato = assertThrows(ValidacaoException.class, () -> useCase.iniciar("desafios", "xlsx"));
+
+        assertEquals(CodigoErro.EXPORTACAO_INVALIDA, tipo.getCodigo());
+        assertEquals(CodigoErro.EXPORTACAO_INVALIDA, formato.getCodigo());
+        verifyNoInteractions(arquivos);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveLiberarArquivoSoDepoisDaConclusao() throws InterruptedException {
+        when(arquivos.criar(any(), any())).thenReturn(escritor);
+        Exportacao exportacao = aguardar(useCase.iniciar("avaliacoes", null));
+        when(arquivos.buscar(exportacao)).thenReturn(Optional.of(Path.of("avaliacoes.csv.gz")));
+
+        assertEquals(Optional.of(Path.of("avaliacoes.csv.gz")), useCase.buscarArquivo(exportacao.getId()));
+        assertEquals(Optional.empty(), useCase.buscarArquivo("inexistente"));
+        verify(avaliacaoRepository, times(1)).percorrerTodas(any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRecusarDownloadDeExportacaoEmAndamento() throws InterruptedException {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch percorrendo = new CountDownLatch(1);
+        when(arquivos.criar(any(), any())).thenReturn(escritor);
+        doAnswer(invocation -> {
+            percorrendo.countDown();
+            liberar.await();
+            return null;
+        }).when(colaboradorRepository).percorrerTodos(any(Consumer.class));
+
+        Exportacao exportacao = useCase.iniciar("colaboradores", null);
+        percorrendo.await();
+
+        assertEquals(StatusExportacao.EM_ANDAMENTO, exportacao.getStatus());
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> useCase.buscarArquivo(exportacao.getId()));
+        assertEquals(CodigoErro.EXPORTACAO_NAO_CONCLUIDA, erro.getCodigo());
+        liberar.countDown();
+        assertEquals(StatusExportacao.CONCLUIDA, aguardar(exportacao).getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRecusarExportacaoComFilaDePendentesCheia() throws InterruptedException {
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(arquivos.criar(any(), any())).thenReturn(escritor);
+        doAnswer(invocation -> {
+            liberar.await();
+            return null;
+        }).when(colaboradorRepository).percorrerTodos(any(Consumer.class));
+
+        // Uma em andamento e uma pendente ocupam a capacidade (1 simultânea, 1 pendente)
+        Exportacao emAndamento = useCase.iniciar("colaboradores", null);
+        Exportacao pendente = useCase.iniciar("colaboradores", null);
+        CapacidadeEsgotadaException erro = assertThrows(CapacidadeEsgotadaException.class,
+            () -> useCase.iniciar("colaboradores", null));
+
+        assertEquals(CodigoErro.LIMITE_EXPORTACOES_ATINGIDO, erro.getCodigo());
+        liberar.countDown();
+        assertEquals(StatusExportacao.CONCLUIDA, aguardar(emAndamento).getStatus());
+        assertEquals(StatusExportacao.CONCLUIDA, aguardar(pendente).getStatus());
+        verify(colaboradorRepository, times(2)).percorrerTodos(any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRemoverExportacoesFinalizadasAposARetencao() throws InterruptedException {
+        useCase.encerrar();
+        useCase = new ExportarDadosUseCase(colaboradorRepository, avaliacaoRepository, desafioRepository,
+            notaFinalRepository, new CalcularNotaFinalUseCase(notaFinalRepository), arquivos, 1, 1, Duration.ZERO);
+        when(arquivos.criar(any(), any())).thenReturn(escritor);
+        Exportacao exportacao = aguardar(useCase.iniciar("colaboradores", null));
+        Thread.sleep(5);
+
+        useCase.removerExpiradas();
+
+        assertEquals(Optional.empty(), useCase.buscar(exportacao.getId()));
+        verify(arquivos, times(1)).excluirAnterioresA(any());
+    }
+}
@@ -0,0 +1,214 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.application.usecase.ImportarRegistrosUseCase.Linha;
+import com.itau.case_tecnico.application.usecase.ImportarRegistrosUseCase.ResultadoImportacao;
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportarRegistrosUseCaseTest {
+
+    private static final TipoAvaliacao TIPO_COLABORATIVO = TipoAvaliacao.AMBIENTE_COLABORATIVO;
+    private static final TipoAvaliacao TIPO_APRENDIZADO = TipoAvaliacao.APRENDIZADO_CONTINUO;
+
+    @Mock
+    private ColaboradorRepositoryPort colaboradorRepository;
+
+    @Mock
+    private DesafioRepositoryPort desafioRepository;
+
+    @Mock
+    private AvaliacaoRepositoryPort avaliacaoRepository;
+
+    @Mock
+    private NotaFinalRepositoryPort notaFinalRepository;
+
+    @InjectMocks
+    private ImportarRegistrosUseCase useCase;
+
+    @Test
+    void deveImportarColaboradoresValidosEReportarErrosPorLinha() {
+        when(colaboradorRepository.existemPorMatriculas(anyCollection())).thenReturn(Set.of("MAT002"));
+        when(colaboradorRepository.salvarTodos(anyList())).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        List<Linha<Colaborador>> linhas = List.of(
+            Linha.registro(2, new Colaborador("MAT001", "João", LocalDate.parse("2020-01-01"), "Dev")),
+            Linha.registro(3, new Colaborador("MAT002", "Maria", LocalDate.parse("2020-01-01"), "Dev")),
+            Linha.registro(4, new Colaborador("MAT001", "Pedro", LocalDate.parse("2020-01-01"), "Dev")),
+            Linha.registro(5, new Colaborador("MAT003", null, LocalDate.parse("2020-01-01"), "Dev")),
+            Linha.registro(6, new Colaborador("MAT004", "Ana", LocalDate.parse("2020-01-01"), null)),
+            Linha.erro(7, "Linha inválida: JSON malformado")
+        );
+
+        ResultadoImportacao resultado = useCase.importarColaboradores(linhas.iterator());
+
+        assertEquals(6, resultado.getLinhasProcessadas());
+        assertEquals(1, resultado.getImportados());
+        assertEquals(5, resultado.getTotalErros());
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L), resultado.getErros().stream().map(e -> e.getLinha()).toList());
+        assertEquals("Matrícula já cadastrada: MAT002", resultado.getErros().get(0).getMensagem());
+        assertEquals("Matrícula duplicada no arquivo: MAT001", resultado.getErros().get(1).getMensagem());
+        assertEquals("Nome é obrigatório", resultado.getErros().get(2).getMensagem());
+        assertEquals("Cargo é obrigatório", resultado.getErros().get(3).getMensagem());
+        assertEquals("Linha inválida: JSON malformado", resultado.getErros().get(4).getMensagem());
+        verify(colaboradorRepository, times(1)).existemPorMatriculas(anyCollection());
+        verify(colaboradorRepository, never()).existePorMatricula(any());
+    }
+
+    @Test
+    void deveValidarEGravarEmLotes() {
+        when(colaboradorRepository.existemPorMatriculas(anyCollection())).thenReturn(Set.of());
+        when(colaboradorRepository.salvarTodos(anyList())).thenAnswer(invocacao -> invocacao.getArgument(0));
+        int total = ImportarRegistrosUseCase.TAMANHO_LOTE * 2 + 1;
+        List<Linha<Colaborador>> linhas = IntStream.rangeClosed(1, total)
+            .mapToObj(i -> Linha.registro(i, new Colaborador("MAT" + i, "Nome " + i, LocalDate.parse("2020-01-01"), "Dev")))
+            .toList();
+
+        ResultadoImportacao resultado = useCase.importarColaboradores(linhas.iterator());
+
+        assertEquals(total, resultado.getImportados());
+        assertEquals(0, resultado.getTotalErros());
+        verify(colaboradorRepository, times(3)).existemPorMatriculas(anyCollection());
+        verify(colaboradorRepository, times(3)).salvarTodos(anyList());
+    }
+
+    @Test
+    void deveReportarTodasAsLinhasDoLoteQuandoGravacaoFalhar() {
+        when(colaboradorRepository.existemPorMatriculas(anyCollection())).thenReturn(Set.of());
+        when(colaboradorRepository.salvarTodos(anyList()))
+            .thenThrow(new RuntimeException("could not execute statement [Data truncation] [insert into colaborador ...]"));
+        List<Linha<Colaborador>> linhas = List.of(
+            Linha.registro(1, new Colaborador("MAT001", "João", LocalDate.parse("2020-01-01"), "Dev")),
+            Linha.registro(2, new Colaborador("MAT002", "Maria", LocalDate.parse("2020-01-01"), "Dev"))
+        );
+
+        ResultadoImportacao resultado = useCase.importarColaboradores(linhas.iterator());
+
+        assertEquals(0, resultado.getImportados());
+        assertEquals(2, resultado.getTotalErros());
+        assertEquals(ImportarRegistrosUseCase.FALHA_NA_GRAVACAO, resultado.getErros().get(0).getMensagem());
+        assertEquals(ImportarRegistrosUseCase.FALHA_NA_GRAVACAO, resultado.getErros().get(1).getMensagem());
+    }
+
+    @Test
+    void deveReportarCodigoDaRegraQuandoBancoRecusarLote() {
+        when(colaboradorRepository.existemPorMatriculas(anyCollection())).thenReturn(Set.of());
+        when(colaboradorRepository.salvarTodos(anyList()))
+            .thenThrow(new ValidacaoException(CodigoErro.MATRICULA_DUPLICADA, "Matrícula já cadastrada"));
+        List<Linha<Colaborador>> linhas = List.of(
+            Linha.registro(1, new Colaborador("MAT001", "João", LocalDate.parse("2020-01-01"), "Dev")));
+
+        ResultadoImportacao resultado = useCase.importarColaboradores(linhas.iterator());
+
+        assertEquals(0, resultado.getImportados());
+        assertEquals("Matrícula já cadastrada", resultado.getErros().get(0).getMensagem());
+    }
+
+    @Test
+    void deveAceitarLinhaCorrigidaDepoisDeLinhaRecusadaComMesmaMatricula() {
+        when(colaboradorRepository.existemPorMatriculas(anyCollection())).thenReturn(Set.of());
+        when(colaboradorRepository.salvarTodos(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<Linha<Colaborador>> linhas = List.of(
+            Linha.registro(1, new Colaborador("MAT001", "João", null, "Dev")),
+            Linha.registro(2, new Colaborador("MAT001", "João", LocalDate.parse("2020-01-01"), "Dev")));
+
+        ResultadoImportacao resultado = useCase.importarColaboradores(linhas.iterator());
+
+        assertEquals(1, resultado.getImportados());
+        assertEquals(1, resultado.getTotalErros());
+        assertEquals(1, resultado.getErros().get(0).getLinha());
+        assertEquals("Data de admissão é obrigatória", resultado.getErros().get(0).getMensagem());
+    }
+
+    @Test
+    void deveLimitarQuantidadeDeErrosReportados() {
+        int total = ImportarRegistrosUseCase.MAXIMO_ERROS_REPORTADOS + 10;
+        List<Linha<Colaborador>> linhas = IntStream.rangeClosed(1, total)
+            .mapToObj(i -> Linha.<Colaborador>erro(i, "Linha inválida"))
+            .toList();
+
+        ResultadoImportacao resultado = useCase.importarColaboradores(linhas.iterator());
+
+        assertEquals(total, resultado.getTotalErros());
+        assertEquals(ImportarRegistrosUseCase.MAXIMO_ERROS_REPORTADOS, resultado.getErros().size());
+        verifyNoInteractions(colaboradorRepository);
+    }
+
+    @Test
+    void deveImportarDesafiosRespeitandoLimitePorColaborador() {
+        when(notaFinalRepository.buscarResumosPorColaboradorIds(anyCollection()))
+            .thenReturn(List.of(new ResumoNotas(1L, 0, 0, 3, 3, 12)));
+        when(desafioRepository.salvarTodos(anyList())).thenAnswer(invocacao -> invocacao.getArgument(0));
+        List<Linha<Desafio>> linhas = List.of(
+            Linha.registro(1, new Desafio(1L, "Desafio A", 4)),
+            Linha.registro(2, new Desafio(1L, "Desafio B", 5)),
+            Linha.registro(3, new Desafio(99L, "Desafio C", 3)),
+            Linha.registro(4, new Desafio(null, "Desafio D", 3))
+        );
+
+        ResultadoImportacao resultado = useCase.importarDesafios(linhas.iterator());
+
+        assertEquals(1, resultado.getImportados());
+        assertEquals("Colaborador já possui 4 desafios (máximo permitido)", resultado.getErros().get(0).getMensagem());
+        assertEquals("Colaborador não encontrado", resultado.getErros().get(1).getMensagem());
+        assertEquals("Colaborador não encontrado", resultado.getErros().get(2).getMensagem());
+        verify(notaFinalRepository, times(1)).buscarResumosPorColaboradorIds(anyCollection());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveImportarAvaliacoesRejeitandoTipoRepetido() {
+        when(notaFinalRepository.buscarResumosPorColaboradorIds(anyCollection()))
+            .thenReturn(List.of(new ResumoNotas(1L, 1, 4, 0, 0, 0), new ResumoNotas(2L, 0, 0, 0, 0, 0)));
+        when(avaliacaoRepository.buscarPorColaboradorIds(anyCollection()))
+            .thenReturn(List.of(new AvaliacaoComportamental(1L, TIPO_COLABORATIVO, 4)));
+        when(avaliacaoRepository.salvarTodas(anyList())).thenAnswer(invocacao -> invocacao.getArgument(0));
+        List<Linha<AvaliacaoComportamental>> linhas = List.of(
+            Linha.registro(1, new AvaliacaoComportamental(1L, TIPO_COLABORATIVO, 5)),
+            Linha.registro(2, new AvaliacaoComportamental(1L, TIPO_APRENDIZADO, 5)),
+            Linha.registro(3, new AvaliacaoComportamental(2L, TIPO_APRENDIZADO, 3)),
+            Linha.registro(4, new AvaliacaoComportamental(2L, TIPO_APRENDIZADO, 2)),
+            Linha.registro(5, new AvaliacaoComportamental(2L, null, 2))
+        );
+
+        ResultadoImportacao resultado = useCase.importarAvaliacoes(linhas.iterator());
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(List.of(1L, 4L, 5L), resultado.getErros().stream().map(e -> e.getLinha()).toList());
+        assertEquals("Já existe avaliação do tipo: " + TIPO_COLABORATIVO.getDescricao(), resultado.getErros().get(0).getMensagem());
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(avaliacaoRepository).buscarPorColaboradorIds(ids.capture());
+        assertEquals(Set.of(1L), new HashSet<>(ids.getValue()));
+        ArgumentCaptor<List<AvaliacaoComportamental>> gravadas = ArgumentCaptor.forClass(List.class);
+        verify(avaliacaoRepository).salvarTodas(gravadas.capture());
+        assertEquals(new ArrayList<>(List.of(1L, 2L)),
+                     gravadas.getValue().stream().map(AvaliacaoComportamental::getColaboradorId).toList());
+    }
+}
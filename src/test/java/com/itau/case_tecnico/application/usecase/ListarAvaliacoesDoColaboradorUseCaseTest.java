@@ -0,0 +1,51 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ListarAvaliacoesDoColaboradorUseCaseTest {
+
+    @Mock
+    private AvaliacaoRepositoryPort avaliacaoRepository;
+
+    @InjectMocks
+    private ListarAvaliacoesDoColaboradorUseCase useCase;
+
+    @Test
+    void deveListarSomenteAvaliacoesDoColaborador() {
+        AvaliacaoComportamental avaliacao = new AvaliacaoComportamental(1L, TipoAvaliacao.AUTONOMIA, 4);
+        avaliacao.setId(1L);
+        when(avaliacaoRepository.listarPorColaborador(1L)).thenReturn(Optional.of(Arrays.asList(avaliacao)));
+
+        Optional<List<AvaliacaoComportamental>> resultado = useCase.executar(1L);
+
+        assertTrue(resultado.isPresent());
+        assertEquals(1, resultado.get().size());
+        verify(avaliacaoRepository, times(1)).listarPorColaborador(1L);
+        verify(avaliacaoRepository, never()).listarTodas();
+    }
+
+    @Test
+    void deveRetornarVazioQuandoColaboradorNaoExistir() {
+        when(avaliacaoRepository.listarPorColaborador(999L)).thenReturn(Optional.empty());
+
+        Optional<List<AvaliacaoComportamental>> resultado = useCase.executar(999L);
+
+        assertTrue(resultado.isEmpty());
+        verify(avaliacaoRepository, never()).listarTodas();
+    }
+}
@@ -0,0 +1,50 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ListarDesafiosDoColaboradorUseCaseTest {
+
+    @Mock
+    private DesafioRepositoryPort desafioRepository;
+
+    @InjectMocks
+    private ListarDesafiosDoColaboradorUseCase useCase;
+
+    @Test
+    void deveListarSomenteDesafiosDoColaborador() {
+        Desafio desafio = new Desafio(1L, "Implementar API REST", 4);
+        desafio.setId(1L);
+        when(desafioRepository.listarPorColaborador(1L)).thenReturn(Optional.of(Arrays.asList(desafio)));
+
+        Optional<List<Desafio>> resultado = useCase.executar(1L);
+
+        assertTrue(resultado.isPresent());
+        assertEquals(1, resultado.get().size());
+        verify(desafioRepository, times(1)).listarPorColaborador(1L);
+        verify(desafioRepository, never()).listarTodos();
+    }
+
+    @Test
+    void deveRetornarVazioQuandoColaboradorNaoExistir() {
+        when(desafioRepository.listarPorColaborador(999L)).thenReturn(Optional.empty());
+
+        Optional<List<Desafio>> resultado = useCase.executar(999L);
+
+        assertTrue(resultado.isEmpty());
+        verify(desafioRepository, never()).listarTodos();
+    }
+}
@@ -3,12 +3,19 @@ package com.itau.case_tecnico.application.usecase;
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
 import com.itau.case_tecnico.domain.model.Colaborador;
 import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.FiltroColaboradores;
+import com.itau.case_tecnico.domain.model.OrdemColaboradores;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -22,6 +29,15 @@ class ListarTodosUseCaseTest {
     @Mock
     private ListarTodosUseCase useCase;
 
+    @Mock
+    private ColaboradorRepositoryPort colaboradorRepository;
+
+    @Mock
+    private AvaliacaoRepositoryPort avaliacaoRepository;
+
+    @Mock
+    private DesafioRepositoryPort desafioRepository;
+
     @Test
     void deveListarTodosColaboradores() {
         Colaborador colaborador = new Colaborador();
@@ -41,7 +57,7 @@ class ListarTodosUseCaseTest {
 
     @Test
     void deveListarTodasAvaliacoes() {
-        AvaliacaoComportamental avaliacao = new AvaliacaoComportamental(1L, "Trabalho em equipe", 8);
+        AvaliacaoComportamental avaliacao = new AvaliacaoComportamental(1L, TipoAvaliacao.AUTONOMIA, 8);
         avaliacao.setId(1L);
         List<AvaliacaoComportamental> avaliacoes = Arrays.asList(avaliacao);
         
@@ -51,7 +67,7 @@ class ListarTodosUseCaseTest {
 
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        assertEquals("Trabalho em equipe", resultado.get(0).getTipo());
+        assertEquals(TipoAvaliacao.AUTONOMIA, resultado.get(0).getTipo());
         verify(useCase, times(1)).listarAvaliacoes();
     }
 
@@ -80,4 +96,94 @@ class ListarTodosUseCaseTest {
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
     }
+
+    @Test
+    void deveListarPaginaComCursorELimitePadrao() {
+        ListarTodosUseCase listarTodos = new ListarTodosUseCase(colaboradorRepository, avaliacaoRepository, desafioRepository);
+        when(colaboradorRepository.listarPagina(0L, ListarTodosUseCase.LIMITE_PADRAO)).thenReturn(Collections.emptyList());
+
+        List<Colaborador> resultado = listarTodos.listarColaboradores(null, null);
+
+        assertTrue(resultado.isEmpty());
+        verify(colaboradorRepository, times(1)).listarPagina(0L, ListarTodosUseCase.LIMITE_PADRAO);
+        verify(colaboradorRepository, never()).listarTodos();
+    }
+
+    @Test
+    void deveRepassarCursorDaPaginaAnterior() {
+        ListarTodosUseCase listarTodos = new ListarTodosUseCase(colaboradorRepository, avaliacaoRepository, desafioRepository);
+        Desafio desafio = new Desafio(1L, "Implementar feature X", 4);
+        desafio.setId(43L);
+        when(desafioRepository.listarPagina(42L, 10)).thenReturn(Arrays.asList(desafio));
+
+        List<Desafio> resultado = listarTodos.listarDesafios(42L, 10);
+
+        assertEquals(1, resultado.size());
+        verify(desafioRepository, times(1)).listarPagina(42L, 10);
+    }
+
+    @Test
+    void deveRejeitarLimiteForaDoIntervalo() {
+        ListarTodosUseCase listarTodos = new ListarTodosUseCase(colaboradorRepository, avaliacaoRepository, desafioRepository);
+
+        assertThrows(ValidacaoException.class, () -> listarTodos.listarAvaliacoes(null, 0));
+        assertThrows(ValidacaoException.class, () -> listarTodos.listarAvaliacoes(null, ListarTodosUseCase.LIMITE_MAXIMO + 1));
+        verifyNoInteractions(avaliacaoRepository);
+    }
+
+    @Test
+    void deveListarPaginaFiltradaComCursor() {
+        ListarTodosUseCase listarTodos = new ListarTodosUseCase(colaboradorRepository, avaliacaoRepository, desafioRepository);
+        FiltroColaboradores filtro = ListarTodosUseCase.filtroDeColaboradores("Dev", "2020-01-01", null, "data_admissao");
+        when(colaboradorRepository.listarPagina(filtro, 42L, 10)).thenReturn(Collections.emptyList());
+
+        List<Colaborador> resultado = listarTodos.listarColaboradores(filtro, 42L, 10);
+
+        assertTrue(resultado.isEmpty());
+        verify(colaboradorRepository, times(1)).listarPagina(filtro, 42L, 10);
+    }
+
+    @Test
+    void deveMontarFiltroAceitandoFormatosDeData() {
+        FiltroColaboradores filtro = ListarTodosUseCase.filtroDeColaboradores(" Dev ", "01/02/2020", "2020-12-31", "DATA_ADMISSAO");
+
+        assertEquals("Dev", filtro.getCargo());
+        assertEquals(LocalDate.of(2020, 2, 1), filtro.getAdmitidoDe());
+        assertEquals(LocalDate.of(2020, 12, 31), filtro.getAdmitidoAte());
+        assertEquals(OrdemColaboradores.DATA_ADMISSAO, filtro.getOrdem());
+        assertFalse(filtro.isSemFiltro());
+        assertTrue(ListarTodosUseCase.filtroDeColaboradores(" ", null, "", null).isSemFiltro());
+    }
+
+    @Test
+    void deveRejeitarStreamComCursorLimiteOuFiltro() {
+        FiltroColaboradores porCargo = ListarTodosUseCase.filtroDeColaboradores("Dev", null, null, null);
+
+        ValidacaoException cursor = assertThrows(ValidacaoException.class, () -> ListarTodosUseCase.validarStream(42L, null));
+        ValidacaoException limite = assertThrows(ValidacaoException.class, () -> ListarTodosUseCase.validarStream(null, 10));
+        ValidacaoException filtro = assertThrows(ValidacaoException.class,
+            () -> ListarTodosUseCase.validarStream(null, null, porCargo));
+
+        assertEquals(CodigoErro.PAGINACAO_INVALIDA, cursor.getCodigo());
+        assertEquals(CodigoErro.PAGINACAO_INVALIDA, limite.getCodigo());
+        assertEquals(CodigoErro.PAGINACAO_INVALIDA, filtro.getCodigo());
+        assertDoesNotThrow(() -> ListarTodosUseCase.validarStream(null, null,
+            ListarTodosUseCase.filtroDeColaboradores(null, null, null, "id")));
+    }
+
+    @Test
+    void deveRejeitarFiltroInvalido() {
+        ValidacaoException ordem = assertThrows(ValidacaoException.class,
+            () -> ListarTodosUseCase.filtroDeColaboradores(null, null, null, "nome"));
+        ValidacaoException data = assertThrows(ValidacaoException.class,
+            () -> ListarTodosUseCase.filtroDeColaboradores(null, "31/02/2024", null, null));
+        ValidacaoException intervalo = assertThrows(ValidacaoException.class,
+            () -> ListarTodosUseCase.filtroDeColaboradores(null, "2024-02-01", "2024-01-01", null));
+
+        assertEquals(CodigoErro.FILTRO_INVALIDO, ordem.getCodigo());
+        assertEquals("Ordenação inválida: nome. Valores aceitos: id, data_admissao", ordem.getMessage());
+        assertEquals(CodigoErro.FILTRO_INVALIDO, data.getCodigo());
+        assertEquals("Data inválida em admitidoDe: 31/02/2024", data.getMessage());
+        assertEquals(CodigoErro.FILTRO_INVALIDO, intervalo.getCodigo());
+    }
 }
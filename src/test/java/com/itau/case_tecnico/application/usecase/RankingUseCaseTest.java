@@ -0,0 +1,150 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.NotasFinaisAlteradas;
+import com.itau.case_tecnico.domain.model.PosicaoRanking;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankingUseCaseTest {
+
+    @Mock
+    private NotaFinalRepositoryPort notaFinalRepository;
+
+    private RankingUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RankingUseCase(notaFinalRepository, new CalcularNotaFinalUseCase(notaFinalRepository));
+    }
+
+    // 4 avaliações com soma 4 * comportamental e 2 desafios com soma 2 * desafios
+    private ResumoNotas resumo(Long id, String cargo, long versao, int comportamental, int desafios) {
+        return new ResumoNotas(id, 4, 4L * comportamental, 2, 2, 2L * desafios, cargo, versao);
+    }
+
+    @Test
+    void deveCarregarRankingNaPrimeiraConsultaESoUmaVez() {
+        when(notaFinalRepository.listarParaRanking()).thenReturn(Arrays.asList(
+            resumo(1L, "Dev", 1, 6, 6),
+            resumo(2L, "Dev", 1, 10, 8),
+            new ResumoNotas(3L, 2, 8, 0, 0, 0, "Dev", 1)
+        ));
+
+        List<PosicaoRanking> ranking = useCase.listar(null, null);
+        useCase.listar("Dev", 10);
+
+        assertEquals(2, ranking.size());
+        assertEquals(2L, ranking.get(0).getColaboradorId());
+        assertEquals(9.0, ranking.get(0).getNotaFinal());
+        assertTrue(useCase.posicaoGeral(3L).isEmpty());
+        verify(notaFinalRepository, times(1)).listarParaRanking();
+    }
+
+    @Test
+    void deveTratarCargoEmBrancoComoRankingGeral() {
+        when(notaFinalRepository.listarParaRanking()).thenReturn(Arrays.asList(
+            resumo(1L, "Dev", 1, 6, 6),
+            resumo(2L, "QA", 1, 10, 8)
+        ));
+
+        assertEquals(2, useCase.listar(" ", null).size());
+        assertEquals(1, useCase.listar("QA", null).size());
+    }
+
+    @Test
+    void deveAplicarAlteracoesPendentesNumaUnicaConsulta() {
+        when(notaFinalRepository.listarParaRanking()).thenReturn(Arrays.asList(
+            resumo(1L, "Dev", 1, 6, 6),
+            resumo(2L, "Dev", 1, 10, 8)
+        ));
+        useCase.listar(null, null);
+        when(notaFinalRepository.buscarParaRanking(any())).thenReturn(List.of(resumo(1L, "Dev", 2, 10, 10)));
+
+        useCase.aoAlterarNotasFinais(NotasFinaisAlteradas.doColaborador(1L));
+        useCase.aoAlterarNotasFinais(NotasFinaisAlteradas.doColaborador(1L));
+        useCase.aplicarPendentes();
+        useCase.aplicarPendentes();
+
+        assertEquals(1, useCase.posicaoGeral(1L).get().getPosicao());
+        verify(notaFinalRepository, times(1)).buscarParaRanking(List.of(1L));
+    }
+
+    @Test
+    void deveDescartarPendentesAntesDaPrimeiraCarga() {
+        useCase.aoAlterarNotasFinais(NotasFinaisAlteradas.doColaborador(1L));
+
+        useCase.aplicarPendentes();
+
+        verifyNoInteractions(notaFinalRepository);
+    }
+
+    @Test
+    void deveRecarregarTudoDepoisDeReconstrucao() {
+        when(notaFinalRepository.listarParaRanking())
+            .thenReturn(List.of(resumo(1L, "Dev", 1, 6, 6)))
+            .thenReturn(List.of(resumo(1L, "Dev", 7, 10, 10)));
+        useCase.listar(null, null);
+
+        useCase.aoAlterarNotasFinais(NotasFinaisAlteradas.todas());
+        useCase.aplicarPendentes();
+
+        assertEquals(10.0, useCase.posicaoGeral(1L).get().getNotaFinal());
+        verify(notaFinalRepository, times(2)).listarParaRanking();
+        verify(notaFinalRepository, never()).buscarParaRanking(any());
+    }
+
+    @Test
+    void deveManterPendentesQuandoConsultaFalhar() {
+        when(notaFinalRepository.listarParaRanking()).thenReturn(List.of());
+        useCase.listar(null, null);
+        when(notaFinalRepository.buscarParaRanking(any()))
+            .thenThrow(new RuntimeException("Falha no banco"))
+            .thenReturn(List.of(resumo(1L, "Dev", 2, 8, 8)));
+        useCase.aoAlterarNotasFinais(NotasFinaisAlteradas.doColaborador(1L));
+
+        assertThrows(RuntimeException.class, () -> useCase.aplicarPendentes());
+        useCase.aplicarPendentes();
+
+        assertTrue(useCase.posicaoGeral(1L).isPresent());
+    }
+
+    @Test
+    void naoDeveRessincronizarAntesDaPrimeiraCarga() {
+        useCase.ressincronizar();
+
+        verifyNoInteractions(notaFinalRepository);
+    }
+
+    @Test
+    void deveLancarValidacaoQuandoLimiteForaDoIntervalo() {
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> useCase.listar(null, RankingUseCase.LIMITE_MAXIMO + 1));
+
+        assertEquals(CodigoErro.PAGINACAO_INVALIDA, erro.getCodigo());
+        assertThrows(ValidacaoException.class, () -> useCase.listar(null, 0));
+        verifyNoInteractions(notaFinalRepository);
+    }
+
+    @Test
+    void deveTentarCarregarDeNovoQuandoPrimeiraCargaFalhar() {
+        when(notaFinalRepository.listarParaRanking())
+            .thenThrow(new RuntimeException("Falha no banco"))
+            .thenReturn(List.of(resumo(1L, "Dev", 1, 8, 8)));
+
+        assertThrows(RuntimeException.class, () -> useCase.listar(null, null));
+
+        assertEquals(1, useCase.listar(null, null).size());
+    }
+}
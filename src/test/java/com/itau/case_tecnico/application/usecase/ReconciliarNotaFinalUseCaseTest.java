@@ -0,0 +1,53 @@
+package com.itau.case_tecnico.application.usecase;
+
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.domain.port.NotaFinalRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliarNotaFinalUseCaseTest {
+
+    @Mock
+    private NotaFinalRepositoryPort notaFinalRepository;
+
+    @InjectMocks
+    private ReconciliarNotaFinalUseCase useCase;
+
+    @Test
+    void deveReconstruirNotaFinal() {
+        when(notaFinalRepository.reconstruirTodos()).thenReturn(10);
+
+        assertEquals(10, useCase.reconstruir());
+        verify(notaFinalRepository, times(1)).reconstruirTodos();
+    }
+
+    @Test
+    void deveReportarDivergencias() {
+        when(notaFinalRepository.listarDivergencias())
+            .thenReturn(Arrays.asList(new ResumoNotas(1L, 4, 16, 2, 2, 7)));
+
+        List<ResumoNotas> divergencias = useCase.verificar();
+
+        assertEquals(1, divergencias.size());
+        assertEquals(1L, divergencias.get(0).getColaboradorId());
+        verify(notaFinalRepository, never()).reconstruirTodos();
+    }
+
+    @Test
+    void deveRetornarVazioQuandoNaoHaDivergencias() {
+        when(notaFinalRepository.listarDivergencias()).thenReturn(Collections.emptyList());
+
+        assertTrue(useCase.verificar().isEmpty());
+    }
+}
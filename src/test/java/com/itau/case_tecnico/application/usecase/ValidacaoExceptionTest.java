@@ -0,0 +1,34 @@
+package com.itau.case_tecnico.application.usecase;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidacaoExceptionTest {
+
+    @Test
+    void naoDeveCapturarStackTrace() {
+        ValidacaoException e = new ValidacaoException(CodigoErro.NOTA_INVALIDA, "Nota deve estar entre 1 e 5");
+
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals(CodigoErro.NOTA_INVALIDA, e.getCodigo());
+    }
+
+    @Test
+    void deveUsarCodigoGenericoQuandoNaoInformado() {
+        assertEquals(CodigoErro.REQUISICAO_INVALIDA, new ValidacaoException("Inválido").getCodigo());
+    }
+
+    @Test
+    void instanciaPreAlocadaDevePermanecerInalteradaAposUso() {
+        ValidacaoException e = ValidacaoException.COLABORADOR_NAO_ENCONTRADO;
+
+        e.addSuppressed(new RuntimeException("suprimida"));
+        e.fillInStackTrace();
+
+        assertEquals(0, e.getSuppressed().length);
+        assertEquals(0, e.getStackTrace().length);
+        assertThrows(IllegalStateException.class, () -> e.initCause(new RuntimeException("causa")));
+        assertNull(e.getCause());
+    }
+}
@@ -2,6 +2,8 @@ package com.itau.case_tecnico.domain.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ColaboradorTest {
@@ -12,13 +14,13 @@ class ColaboradorTest {
         colaborador.setId(1L);
         colaborador.setMatricula("12345");
         colaborador.setNome("João Silva");
-        colaborador.setDataAdmissao("2024-01-01");
+        colaborador.setDataAdmissao(LocalDate.parse("2024-01-01"));
         colaborador.setCargo("Desenvolvedor");
 
         assertEquals(1L, colaborador.getId());
         assertEquals("12345", colaborador.getMatricula());
         assertEquals("João Silva", colaborador.getNome());
-        assertEquals("2024-01-01", colaborador.getDataAdmissao());
+        assertEquals(LocalDate.parse("2024-01-01"), colaborador.getDataAdmissao());
         assertEquals("Desenvolvedor", colaborador.getCargo());
     }
 
@@ -27,7 +29,7 @@ class ColaboradorTest {
         Colaborador colaborador = new Colaborador();
         colaborador.setMatricula("11111");
         colaborador.setNome("Maria");
-        colaborador.setDataAdmissao("2024-02-15");
+        colaborador.setDataAdmissao(LocalDate.parse("2024-02-15"));
         colaborador.setCargo("Analista");
         
         colaborador.setId(5L);
@@ -46,7 +48,7 @@ class ColaboradorTest {
         Colaborador colaborador = new Colaborador();
         colaborador.setMatricula("12345");
         colaborador.setNome("João");
-        colaborador.setDataAdmissao("2024-03-20");
+        colaborador.setDataAdmissao(LocalDate.parse("2024-03-20"));
         colaborador.setCargo("Dev");
 
         assertNull(colaborador.getId());
@@ -61,14 +63,14 @@ class ColaboradorTest {
         colaborador.setId(10L);
         colaborador.setMatricula("99999");
         colaborador.setNome("Pedro Oliveira");
-        colaborador.setDataAdmissao("2024-06-15");
+        colaborador.setDataAdmissao(LocalDate.parse("2024-06-15"));
         colaborador.setCargo("Tech Lead");
 
         assertAll(
             () -> assertEquals(10L, colaborador.getId()),
             () -> assertEquals("99999", colaborador.getMatricula()),
             () -> assertEquals("Pedro Oliveira", colaborador.getNome()),
-            () -> assertEquals("2024-06-15", colaborador.getDataAdmissao()),
+            () -> assertEquals(LocalDate.parse("2024-06-15"), colaborador.getDataAdmissao()),
             () -> assertEquals("Tech Lead", colaborador.getCargo())
         );
     }
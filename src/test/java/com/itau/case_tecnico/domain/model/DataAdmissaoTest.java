@@ -0,0 +1,40 @@
+package com.itau.case_tecnico.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataAdmissaoTest {
+
+    @Test
+    void deveAceitarFormatosDaDataEmTexto() {
+        LocalDate esperada = LocalDate.of(2021, 3, 5);
+
+        assertEquals(Optional.of(esperada), DataAdmissao.deTexto("2021-03-05"));
+        assertEquals(Optional.of(esperada), DataAdmissao.deTexto("05/03/2021"));
+        assertEquals(Optional.of(esperada), DataAdmissao.deTexto("5/3/2021"));
+        assertEquals(Optional.of(esperada), DataAdmissao.deTexto("05-03-2021"));
+        assertEquals(Optional.of(esperada), DataAdmissao.deTexto("05.03.2021"));
+        assertEquals(Optional.of(esperada), DataAdmissao.deTexto("2021/03/05"));
+        assertEquals(Optional.of(esperada), DataAdmissao.deTexto(" 2021-03-05 "));
+    }
+
+    @Test
+    void deveIgnorarHorario() {
+        assertEquals(Optional.of(LocalDate.of(2024, 1, 15)), DataAdmissao.deTexto("2024-01-15T09:30:00"));
+        assertEquals(Optional.of(LocalDate.of(2024, 1, 15)), DataAdmissao.deTexto("2024-01-15 09:30:00"));
+    }
+
+    @Test
+    void deveRejeitarDataInexistenteOuFormatoDesconhecido() {
+        assertEquals(Optional.empty(), DataAdmissao.deTexto("31/02/2024"));
+        assertEquals(Optional.empty(), DataAdmissao.deTexto("2024-13-01"));
+        assertEquals(Optional.empty(), DataAdmissao.deTexto("15 de janeiro de 2024"));
+        assertEquals(Optional.empty(), DataAdmissao.deTexto("2024-01-15X"));
+        assertEquals(Optional.empty(), DataAdmissao.deTexto(" "));
+        assertEquals(Optional.empty(), DataAdmissao.deTexto(null));
+    }
+}
@@ -0,0 +1,67 @@
+package com.itau.case_tecnico.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistribuicaoNotasTest {
+
+    private NotasDoColaborador notas(Long id, String cargo, long versao, long[] avaliacoes, long[] desafios) {
+        return new NotasDoColaborador(new ResumoNotas(id, 0, 0, 0, 0, 0, cargo, versao), avaliacoes, desafios);
+    }
+
+    @Test
+    void deveSepararPorCargoECombinarNaDistribuicaoGeral() {
+        DistribuicaoNotas distribuicao = new DistribuicaoNotas();
+        distribuicao.atualizar(notas(1L, "Dev", 1, new long[]{0, 0, 0, 4, 0}, new long[]{0, 0, 2, 0, 0}), 3.5, 4.0, 3.0);
+        distribuicao.atualizar(notas(2L, "QA", 1, new long[]{0, 0, 0, 0, 4}, new long[]{0, 0, 0, 0, 2}), 5.0, 5.0, 5.0);
+
+        Distribuicao dev = distribuicao.consultar("Dev");
+        Distribuicao geral = distribuicao.consultar(null);
+
+        assertEquals(1, dev.getNotaFinal().getQuantidade());
+        assertEquals(3.5, dev.getNotaFinal().percentil(0.5));
+        assertArrayEquals(new long[]{0, 0, 0, 4, 0}, dev.getAvaliacoesPorNota());
+        assertEquals(2, geral.getNotaFinal().getQuantidade());
+        assertEquals(5.0, geral.getMediaDesafios().percentil(0.9));
+        assertArrayEquals(new long[]{0, 0, 2, 0, 2}, geral.getDesafiosPorNota());
+    }
+
+    @Test
+    void deveSubstituirContribuicaoQuandoVersaoForMaisNova() {
+        DistribuicaoNotas distribuicao = new DistribuicaoNotas();
+        distribuicao.atualizar(notas(1L, "Dev", 1, new long[]{0, 0, 0, 4, 0}, new long[]{0, 0, 2, 0, 0}), 3.5, 4.0, 3.0);
+
+        assertTrue(distribuicao.atualizar(notas(1L, "Dev", 2, new long[]{0, 0, 0, 4, 0}, new long[]{0, 0, 1, 0, 1}), 4.0, 4.0, 4.0));
+        assertFalse(distribuicao.atualizar(notas(1L, "Dev", 2, new long[]{4, 0, 0, 0, 0}, new long[]{0, 0, 0, 0, 0}), 1.0, 1.0, 1.0));
+
+        Distribuicao dev = distribuicao.consultar("Dev");
+        assertEquals(1, dev.getNotaFinal().getQuantidade());
+        assertEquals(4.0, dev.getNotaFinal().percentil(0.5));
+        assertArrayEquals(new long[]{0, 0, 1, 0, 1}, dev.getDesafiosPorNota());
+    }
+
+    @Test
+    void deveContarNotasDeColaboradorSemNotaFinal() {
+        DistribuicaoNotas distribuicao = new DistribuicaoNotas();
+        distribuicao.atualizar(notas(1L, "Dev", 1, new long[]{0, 2, 0, 0, 0}, new long[]{0, 0, 0, 0, 0}), null, null, null);
+
+        Distribuicao dev = distribuicao.consultar("Dev");
+
+        assertEquals(0, dev.getNotaFinal().getQuantidade());
+        assertNull(dev.getNotaFinal().percentil(0.5));
+        assertArrayEquals(new long[]{0, 2, 0, 0, 0}, dev.getAvaliacoesPorNota());
+    }
+
+    @Test
+    void deveMoverContribuicaoQuandoCargoMudar() {
+        DistribuicaoNotas distribuicao = new DistribuicaoNotas();
+        distribuicao.atualizar(notas(1L, "Dev", 1, new long[]{0, 0, 0, 4, 0}, new long[]{0, 0, 2, 0, 0}), 3.5, 4.0, 3.0);
+
+        distribuicao.atualizar(notas(1L, "QA", 2, new long[]{0, 0, 0, 4, 0}, new long[]{0, 0, 2, 0, 0}), 3.5, 4.0, 3.0);
+
+        assertEquals(0, distribuicao.consultar("Dev").getNotaFinal().getQuantidade());
+        assertEquals(1, distribuicao.consultar("QA").getNotaFinal().getQuantidade());
+        assertEquals(0, distribuicao.consultar("Inexistente").getNotaFinal().getQuantidade());
+    }
+}
@@ -0,0 +1,56 @@
+package com.itau.case_tecnico.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramaTest {
+
+    @Test
+    void deveCalcularPercentisPeloPostoMaisProximo() {
+        Histograma histograma = new Histograma();
+        for (int i = 1; i <= 10; i++) {
+            histograma.adicionar(i);
+        }
+
+        assertEquals(1.0, histograma.percentil(0.10));
+        assertEquals(5.0, histograma.percentil(0.50));
+        assertEquals(9.0, histograma.percentil(0.90));
+        assertEquals(10.0, histograma.percentil(1.0));
+        assertEquals(10, histograma.getQuantidade());
+    }
+
+    @Test
+    void deveRetornarNuloQuandoVazio() {
+        assertNull(new Histograma().percentil(0.5));
+    }
+
+    @Test
+    void deveAgruparValoresQueDiferemSoNoUltimoBit() {
+        Histograma histograma = new Histograma();
+        histograma.adicionar(0.1 + 0.2);
+        histograma.adicionar(0.3);
+
+        histograma.remover(0.3);
+
+        assertEquals(1, histograma.getQuantidade());
+        assertEquals(0.3, histograma.percentil(0.5));
+    }
+
+    @Test
+    void deveMesclarSomandoAsContagens() {
+        Histograma a = new Histograma();
+        a.adicionar(1.0);
+        a.adicionar(2.0);
+        Histograma b = new Histograma();
+        b.adicionar(2.0);
+        b.adicionar(5.0);
+
+        a.mesclar(b);
+
+        assertEquals(4, a.getQuantidade());
+        assertEquals(2.0, a.percentil(0.5));
+        assertEquals(5.0, a.percentil(0.9));
+        assertEquals(2, b.getQuantidade());
+    }
+}
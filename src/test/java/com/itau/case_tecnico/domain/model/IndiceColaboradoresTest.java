@@ -0,0 +1,126 @@
+package com.itau.case_tecnico.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceColaboradoresTest {
+
+    private IndiceColaboradores indice;
+
+    private static Colaborador colaborador(Long id, String matricula, String nome, String cargo) {
+        Colaborador colaborador = new Colaborador(matricula, nome, LocalDate.parse("2024-01-01"), cargo);
+        colaborador.setId(id);
+        return colaborador;
+    }
+
+    private static List<Long> ids(List<Colaborador> colaboradores) {
+        return colaboradores.stream().map(Colaborador::getId).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceColaboradores();
+        indice.recarregar(() -> List.of(
+            colaborador(5L, "M-005", "José Conceição", "Desenvolvedor"),
+            colaborador(1L, "M-001", "Ana Souza", "Desenvolvedor"),
+            colaborador(3L, "M-003", "André Lima", "Analista"),
+            colaborador(9L, "X-900", "Mariana Ângelo", "Desenvolvedor")
+        ));
+    }
+
+    @Test
+    void deveNormalizarAcentosMaiusculasESeparadores() {
+        assertEquals("jose da conceicao", IndiceColaboradores.normalizar("  JOSÉ da Conceição "));
+        assertEquals("m 001", IndiceColaboradores.normalizar("M-001"));
+        assertEquals("", IndiceColaboradores.normalizar(null));
+    }
+
+    @Test
+    void deveBuscarPorPrefixoSemAcentoEmOrdemDeId() {
+        assertEquals(List.of(1L, 3L, 9L), ids(indice.buscar("an", null, null, 10)));
+        assertEquals(List.of(5L), ids(indice.buscar("conce", null, null, 10)));
+        assertEquals(List.of(9L), ids(indice.buscar("ANGE", null, null, 10)));
+        assertEquals(List.of(), ids(indice.buscar("souzaa", null, null, 10)));
+    }
+
+    @Test
+    void deveExigirTodosOsTermosEFiltrarPorCargo() {
+        assertEquals(List.of(3L), ids(indice.buscar("and li", null, null, 10)));
+        assertEquals(List.of(1L, 9L), ids(indice.buscar("an", "desenvolvedor", null, 10)));
+        assertEquals(List.of(1L, 5L, 9L), ids(indice.buscar("", "Desenvolvedor", null, 10)));
+    }
+
+    @Test
+    void deveBuscarPorMatricula() {
+        assertEquals(List.of(1L, 3L, 5L), ids(indice.buscar("m-0", null, null, 10)));
+        assertEquals(List.of(9L), ids(indice.buscar("x-9", null, null, 10)));
+    }
+
+    @Test
+    void devePaginarPorIdComLimite() {
+        assertEquals(List.of(1L, 3L), ids(indice.buscar("an", null, null, 2)));
+        assertEquals(List.of(9L), ids(indice.buscar("an", null, 3L, 2)));
+        assertEquals(List.of(), ids(indice.buscar("an", null, 9L, 2)));
+    }
+
+    @Test
+    void deveIncluirPendentesAntesDaCompactacao() {
+        indice.adicionar(List.of(colaborador(4L, "M-004", "Antônio Reis", "Analista"),
+            colaborador(12L, "M-012", "Anita Prado", "Analista")));
+
+        assertEquals(2, indice.getPendentes());
+        assertEquals(List.of(1L, 3L, 4L, 9L, 12L), ids(indice.buscar("an", null, null, 10)));
+        assertEquals(List.of(4L, 9L), ids(indice.buscar("an", null, 3L, 2)));
+        assertEquals(List.of(3L, 4L, 12L), ids(indice.buscar("", "analista", null, 10)));
+    }
+
+    @Test
+    void devePrevalecerVersaoPendenteDeColaboradorJaIndexado() {
+        indice.adicionar(List.of(colaborador(1L, "M-001", "Beatriz Souza", "Desenvolvedor")));
+
+        assertEquals(List.of(3L, 9L), ids(indice.buscar("an", null, null, 10)));
+        assertEquals("Beatriz Souza", indice.buscar("bea", null, null, 10).get(0).getNome());
+    }
+
+    @Test
+    void deveIncorporarPendentesNaCompactacao() {
+        indice.adicionar(List.of(colaborador(1L, "M-001", "Beatriz Souza", "Desenvolvedor"),
+            colaborador(7L, "M-007", "Antônio Reis", "Analista")));
+
+        indice.compactar();
+
+        assertEquals(0, indice.getPendentes());
+        assertEquals(5, indice.getTamanho());
+        assertEquals(List.of(3L, 7L, 9L), ids(indice.buscar("an", null, null, 10)));
+        assertEquals(List.of(1L), ids(indice.buscar("beatriz", null, null, 10)));
+    }
+
+    @Test
+    void deveManterPendentesQueChegaramDuranteARecarga() {
+        indice.adicionar(List.of(colaborador(7L, "M-007", "Antônio Reis", "Analista")));
+
+        indice.recarregar(() -> {
+            indice.adicionar(List.of(colaborador(8L, "M-008", "Antonela Dias", "Analista")));
+            return List.of(colaborador(7L, "M-007", "Antônio Reis", "Analista"));
+        });
+
+        assertEquals(1, indice.getPendentes());
+        assertEquals(List.of(7L, 8L), ids(indice.buscar("anto", null, null, 10)));
+    }
+
+    @Test
+    void naoDeveAcompanharAlteracoesNoObjetoGravado() {
+        Colaborador colaborador = colaborador(7L, "M-007", "Antônio Reis", "Analista");
+        indice.adicionar(List.of(colaborador));
+
+        colaborador.setNome("Outro Nome");
+
+        assertEquals("Antônio Reis", indice.buscar("reis", null, null, 10).get(0).getNome());
+    }
+}
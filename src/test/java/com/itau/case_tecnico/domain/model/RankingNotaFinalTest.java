@@ -0,0 +1,110 @@
+package com.itau.case_tecnico.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankingNotaFinalTest {
+
+    @Test
+    void deveOrdenarPorNotaDecrescenteComEmpatesNaMesmaPosicao() {
+        RankingNotaFinal ranking = new RankingNotaFinal();
+        ranking.atualizar(1L, "Dev", 1, 7.0);
+        ranking.atualizar(2L, "Dev", 1, 9.0);
+        ranking.atualizar(3L, "QA", 1, 8.0);
+        ranking.atualizar(4L, "Dev", 1, 8.0);
+
+        List<PosicaoRanking> topo = ranking.topo(null, 10);
+
+        assertEquals(List.of(2L, 3L, 4L, 1L), topo.stream().map(PosicaoRanking::getColaboradorId).toList());
+        assertEquals(List.of(1, 2, 2, 4), topo.stream().map(PosicaoRanking::getPosicao).toList());
+        assertEquals(4, topo.get(0).getTotal());
+    }
+
+    @Test
+    void deveConsiderarIguaisNotasQueDiferemSoNoUltimoBit() {
+        RankingNotaFinal ranking = new RankingNotaFinal();
+        ranking.atualizar(1L, "Dev", 1, 0.1 + 0.2);
+        ranking.atualizar(2L, "Dev", 1, 0.3);
+
+        assertEquals(1, ranking.posicao(1L).get().getPosicao());
+        assertEquals(1, ranking.posicao(2L).get().getPosicao());
+    }
+
+    @Test
+    void deveLimitarTopoEFiltrarPorCargo() {
+        RankingNotaFinal ranking = new RankingNotaFinal();
+        ranking.atualizar(1L, "Dev", 1, 7.0);
+        ranking.atualizar(2L, "Dev", 1, 9.0);
+        ranking.atualizar(3L, "QA", 1, 8.0);
+
+        List<PosicaoRanking> topo = ranking.topo("Dev", 1);
+
+        assertEquals(1, topo.size());
+        assertEquals(2L, topo.get(0).getColaboradorId());
+        assertEquals(2, topo.get(0).getTotal());
+        assertTrue(ranking.topo("Inexistente", 10).isEmpty());
+    }
+
+    @Test
+    void deveCalcularPosicaoGeralENoCargo() {
+        RankingNotaFinal ranking = new RankingNotaFinal();
+        ranking.atualizar(1L, "Dev", 1, 7.0);
+        ranking.atualizar(2L, "Dev", 1, 9.0);
+        ranking.atualizar(3L, "QA", 1, 8.0);
+
+        assertEquals(3, ranking.posicao(1L).get().getPosicao());
+        assertEquals(3, ranking.posicao(1L).get().getTotal());
+        assertEquals(2, ranking.posicaoNoCargo(1L).get().getPosicao());
+        assertEquals(2, ranking.posicaoNoCargo(1L).get().getTotal());
+        assertTrue(ranking.posicao(99L).isEmpty());
+    }
+
+    @Test
+    void deveMoverColaboradorQuandoNotaMudar() {
+        RankingNotaFinal ranking = new RankingNotaFinal();
+        ranking.atualizar(1L, "Dev", 1, 7.0);
+        ranking.atualizar(2L, "Dev", 1, 9.0);
+
+        assertTrue(ranking.atualizar(1L, "Dev", 2, 10.0));
+
+        assertEquals(1, ranking.posicao(1L).get().getPosicao());
+        assertEquals(2, ranking.posicao(2L).get().getPosicao());
+        assertEquals(2, ranking.topo(null, 10).size());
+    }
+
+    @Test
+    void deveIgnorarVersaoIgualOuMaisAntiga() {
+        RankingNotaFinal ranking = new RankingNotaFinal();
+        ranking.atualizar(1L, "Dev", 5, 9.0);
+
+        assertFalse(ranking.atualizar(1L, "Dev", 4, 2.0));
+        assertFalse(ranking.atualizar(1L, "Dev", 5, 2.0));
+
+        assertEquals(9.0, ranking.posicao(1L).get().getNotaFinal());
+    }
+
+    @Test
+    void deveRetirarColaboradorSemNotaFinal() {
+        RankingNotaFinal ranking = new RankingNotaFinal();
+        ranking.atualizar(1L, "Dev", 1, 7.0);
+        ranking.atualizar(2L, "Dev", 1, 9.0);
+
+        ranking.atualizar(2L, "Dev", 2, null);
+
+        assertTrue(ranking.posicao(2L).isEmpty());
+        assertEquals(1, ranking.posicaoNoCargo(1L).get().getPosicao());
+        assertEquals(1, ranking.topo("Dev", 10).get(0).getTotal());
+    }
+
+    @Test
+    void deveManterColaboradorSemCargoSoNoRankingGeral() {
+        RankingNotaFinal ranking = new RankingNotaFinal();
+        ranking.atualizar(1L, null, 1, 7.0);
+
+        assertEquals(1, ranking.posicao(1L).get().getPosicao());
+        assertTrue(ranking.posicaoNoCargo(1L).isEmpty());
+    }
+}
@@ -0,0 +1,36 @@
+package com.itau.case_tecnico.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TipoAvaliacaoTest {
+
+    @Test
+    void deveResolverTodosOsTiposPeloCodigo() {
+        for (TipoAvaliacao tipo : TipoAvaliacao.values()) {
+            assertSame(tipo, TipoAvaliacao.deCodigo(tipo.getCodigo()));
+        }
+    }
+
+    @Test
+    void deveRejeitarCodigoInexistente() {
+        assertThrows(IllegalArgumentException.class, () -> TipoAvaliacao.deCodigo(0));
+        assertThrows(IllegalArgumentException.class, () -> TipoAvaliacao.deCodigo(5));
+    }
+
+    @Test
+    void deveResolverPelaPerguntaCodigoOuNome() {
+        assertEquals(Optional.of(TipoAvaliacao.DECISAO_POR_DADOS), TipoAvaliacao.deTexto("Você utiliza dados para tomar decisões?"));
+        assertEquals(Optional.of(TipoAvaliacao.DECISAO_POR_DADOS), TipoAvaliacao.deTexto("3"));
+        assertEquals(Optional.of(TipoAvaliacao.DECISAO_POR_DADOS), TipoAvaliacao.deTexto(" DECISAO_POR_DADOS "));
+    }
+
+    @Test
+    void deveRetornarVazioParaTextoDesconhecido() {
+        assertTrue(TipoAvaliacao.deTexto("Liderança").isEmpty());
+        assertTrue(TipoAvaliacao.deTexto(null).isEmpty());
+    }
+}
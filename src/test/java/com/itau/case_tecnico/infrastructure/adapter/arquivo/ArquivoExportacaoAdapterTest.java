@@ -0,0 +1,119 @@
+package com.itau.case_tecnico.infrastructure.adapter.arquivo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.domain.model.Exportacao;
+import com.itau.case_tecnico.domain.model.FormatoExportacao;
+import com.itau.case_tecnico.domain.model.TipoExportacao;
+import com.itau.case_tecnico.domain.port.ArquivoExportacaoPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArquivoExportacaoAdapterTest {
+
+    @TempDir
+    Path diretorio;
+
+    private ArquivoExportacaoAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ArquivoExportacaoAdapter(diretorio.resolve("exportacoes").toString(), new ObjectMapper());
+    }
+
+    private Exportacao exportacao(FormatoExportacao formato) {
+        return new Exportacao("abc", TipoExportacao.DESAFIOS, formato, Instant.now());
+    }
+
+    private String descompactar(Path arquivo) throws IOException {
+        try (InputStream entrada = new GZIPInputStream(Files.newInputStream(arquivo))) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void deveGravarCsvCompactadoComCabecalhoECamposEscapados() throws IOException {
+        Exportacao exportacao = exportacao(FormatoExportacao.CSV);
+        try (ArquivoExportacaoPort.Escritor escritor = adapter.criar(exportacao, List.of("desafio_id", "descricao", "nota"))) {
+            escritor.escrever(Arrays.asList(1L, "Entrega, \"final\"", 5));
+            escritor.escrever(Arrays.asList(2L, "Simples", null));
+            escritor.concluir();
+            assertTrue(escritor.getBytesEscritos() > 0);
+        }
+
+        Path arquivo = adapter.buscar(exportacao).orElseThrow();
+        assertEquals("desafios-abc.csv.gz", arquivo.getFileName().toString());
+        assertEquals("desafio_id,descricao,nota\r\n1,\"Entrega, \"\"final\"\"\",5\r\n2,Simples,\r\n", descompactar(arquivo));
+    }
+
+    @Test
+    void deveGravarNdjsonComUmObjetoPorLinha() throws IOException {
+        Exportacao exportacao = exportacao(FormatoExportacao.NDJSON);
+        long bytes;
+        try (ArquivoExportacaoPort.Escritor escritor = adapter.criar(exportacao, List.of("desafio_id", "descricao", "nota"))) {
+            escritor.escrever(Arrays.asList(1L, "Entrega", 4.5));
+            escritor.escrever(Arrays.asList(2L, "Outra", null));
+            escritor.concluir();
+            bytes = escritor.getBytesEscritos();
+        }
+
+        Path arquivo = adapter.buscar(exportacao).orElseThrow();
+        assertEquals("{\"desafio_id\":1,\"descricao\":\"Entrega\",\"nota\":4.5}\n{\"desafio_id\":2,\"descricao\":\"Outra\",\"nota\":null}\n",
+            descompactar(arquivo));
+        assertEquals(Files.size(arquivo), bytes);
+    }
+
+    @Test
+    void deveDescartarArquivoParcialSemConclusao() throws IOException {
+        Exportacao exportacao = exportacao(FormatoExportacao.CSV);
+        try (ArquivoExportacaoPort.Escritor escritor = adapter.criar(exportacao, List.of("desafio_id"))) {
+            escritor.escrever(List.of(1L));
+            assertTrue(Files.exists(diretorio.resolve("exportacoes").resolve("desafios-abc.csv.gz.parcial")));
+        }
+
+        assertEquals(Optional.empty(), adapter.buscar(exportacao));
+        try (var arquivos = Files.list(diretorio.resolve("exportacoes"))) {
+            assertEquals(0, arquivos.count());
+        }
+    }
+
+    @Test
+    void deveExcluirSoArquivosAnterioresAoLimite() throws IOException {
+        Path exportacoes = Files.createDirectories(diretorio.resolve("exportacoes"));
+        Path antigo = Files.writeString(exportacoes.resolve("colaboradores-1.csv.gz"), "x");
+        Path abandonado = Files.writeString(exportacoes.resolve("colaboradores-2.csv.gz.parcial"), "x");
+        Path recente = Files.writeString(exportacoes.resolve("colaboradores-3.csv.gz"), "x");
+        Path outro = Files.writeString(exportacoes.resolve("leia-me.txt"), "x");
+        Instant limite = Instant.now().minusSeconds(60);
+        FileTime antes = FileTime.from(limite.minusSeconds(60));
+        Files.setLastModifiedTime(antigo, antes);
+        Files.setLastModifiedTime(abandonado, antes);
+        Files.setLastModifiedTime(outro, antes);
+
+        assertEquals(2, adapter.excluirAnterioresA(limite));
+
+        assertFalse(Files.exists(antigo));
+        assertFalse(Files.exists(abandonado));
+        assertTrue(Files.exists(recente));
+        assertTrue(Files.exists(outro));
+    }
+
+    @Test
+    void naoDeveFalharSemDiretorio() {
+        assertEquals(0, adapter.excluirAnterioresA(Instant.now()));
+    }
+}
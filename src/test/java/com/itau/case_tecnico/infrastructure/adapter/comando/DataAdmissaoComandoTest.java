@@ -0,0 +1,35 @@
+package com.itau.case_tecnico.infrastructure.adapter.comando;
+
+import com.itau.case_tecnico.application.usecase.ConverterDataAdmissaoUseCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataAdmissaoComandoTest {
+
+    @Mock
+    private ConverterDataAdmissaoUseCase converterDataAdmissaoUseCase;
+
+    @InjectMocks
+    private DataAdmissaoComando comando;
+
+    @Test
+    void naoDeveConverterSemAOpcao() {
+        comando.run(new DefaultApplicationArguments("--nota-final.verificar"));
+
+        verifyNoInteractions(converterDataAdmissaoUseCase);
+    }
+
+    @Test
+    void deveConverterQuandoOpcaoInformada() {
+        comando.run(new DefaultApplicationArguments("--data-admissao.converter"));
+
+        verify(converterDataAdmissaoUseCase, times(1)).converter();
+    }
+}
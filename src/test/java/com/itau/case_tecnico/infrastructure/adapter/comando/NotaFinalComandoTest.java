@@ -0,0 +1,44 @@
+package com.itau.case_tecnico.infrastructure.adapter.comando;
+
+import com.itau.case_tecnico.application.usecase.ReconciliarNotaFinalUseCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotaFinalComandoTest {
+
+    @Mock
+    private ReconciliarNotaFinalUseCase reconciliarNotaFinalUseCase;
+
+    @InjectMocks
+    private NotaFinalComando comando;
+
+    @Test
+    void naoDeveFazerNadaSemOpcoes() {
+        comando.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(reconciliarNotaFinalUseCase);
+    }
+
+    @Test
+    void deveReconstruirQuandoOpcaoInformada() {
+        comando.run(new DefaultApplicationArguments("--nota-final.reconstruir"));
+
+        verify(reconciliarNotaFinalUseCase, times(1)).reconstruir();
+        verify(reconciliarNotaFinalUseCase, never()).verificar();
+    }
+
+    @Test
+    void deveVerificarQuandoOpcaoInformada() {
+        comando.run(new DefaultApplicationArguments("--nota-final.verificar"));
+
+        verify(reconciliarNotaFinalUseCase, times(1)).verificar();
+        verify(reconciliarNotaFinalUseCase, never()).reconstruir();
+    }
+}
@@ -2,24 +2,33 @@ package com.itau.case_tecnico.infrastructure.adapter.controller;
 
 import com.itau.case_tecnico.application.usecase.AvaliarComportamentoUseCase;
 import com.itau.case_tecnico.application.usecase.BuscarPorIdUseCase;
+import com.itau.case_tecnico.application.usecase.ListarAvaliacoesDoColaboradorUseCase;
+import com.itau.case_tecnico.application.usecase.CodigoErro;
 import com.itau.case_tecnico.application.usecase.ListarTodosUseCase;
 import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
-import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
 import com.itau.case_tecnico.infrastructure.adapter.dto.AvaliacaoComportamentalRequest;
 import com.itau.case_tecnico.infrastructure.adapter.dto.AvaliacaoComportamentalResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,32 +44,30 @@ class AvaliacaoComportamentalControllerTest {
     @Mock
     private ListarTodosUseCase listarTodosUseCase;
 
+    @Mock
+    private ListarAvaliacoesDoColaboradorUseCase listarAvaliacoesDoColaboradorUseCase;
+
     @Mock
     private BuscarPorIdUseCase buscarPorIdUseCase;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private AvaliacaoComportamentalController controller;
 
     private AvaliacaoComportamental avaliacaoMock;
     private AvaliacaoComportamentalRequest requestMock;
-    private Colaborador colaboradorMock;
 
     @BeforeEach
     void setUp() {
-        avaliacaoMock = new AvaliacaoComportamental(1L, "Trabalho em equipe", 8);
+        avaliacaoMock = new AvaliacaoComportamental(1L, TipoAvaliacao.AUTONOMIA, 4);
         avaliacaoMock.setId(1L);
 
         requestMock = new AvaliacaoComportamentalRequest();
         requestMock.setColaboradorId(1L);
-        requestMock.setTipo("Trabalho em equipe");
-        requestMock.setNota(8);
-
-        colaboradorMock = new Colaborador();
-        colaboradorMock.setId(1L);
-        colaboradorMock.setMatricula("MAT001");
-        colaboradorMock.setNome("João Silva");
-        colaboradorMock.setDataAdmissao("2020-01-01");
-        colaboradorMock.setCargo("Desenvolvedor");
+        requestMock.setTipo("Você trabalha com autonomia?");
+        requestMock.setNota(4);
     }
 
     @Test
@@ -77,25 +84,43 @@ class AvaliacaoComportamentalControllerTest {
     }
 
     @Test
-    void deveRetornarBadRequestQuandoValidacaoFalhar() {
+    void deveAceitarCodigoDoTipoEResponderComAPergunta() {
+        requestMock.setTipo("4");
+        when(avaliarComportamentoUseCase.executar(argThat(avaliacao -> avaliacao.getTipo() == TipoAvaliacao.AUTONOMIA)))
+            .thenReturn(avaliacaoMock);
+
+        ResponseEntity<Object> response = controller.avaliar(requestMock);
+
+        AvaliacaoComportamentalResponse body = (AvaliacaoComportamentalResponse) response.getBody();
+        assertEquals("Você trabalha com autonomia?", body.getTipo());
+    }
+
+    @Test
+    void deveRejeitarTipoInexistenteSemChamarCasoDeUso() {
+        requestMock.setTipo("Trabalho em equipe");
+
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.avaliar(requestMock));
+
+        assertEquals(CodigoErro.TIPO_AVALIACAO_INVALIDO, erro.getCodigo());
+        verifyNoInteractions(avaliarComportamentoUseCase);
+    }
+
+    @Test
+    void devePropagarErroDeValidacao() {
         when(avaliarComportamentoUseCase.executar(any(AvaliacaoComportamental.class)))
             .thenThrow(new ValidacaoException("Nota inválida"));
 
-        ResponseEntity<Object> response = controller.avaliar(requestMock);
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.avaliar(requestMock));
 
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-        assertEquals("Nota inválida", response.getBody());
+        assertEquals("Nota inválida", erro.getMessage());
     }
 
     @Test
-    void deveRetornarErroAoCriarAvaliacao() {
+    void devePropagarErroAoCriarAvaliacao() {
         when(avaliarComportamentoUseCase.executar(any(AvaliacaoComportamental.class)))
             .thenThrow(new RuntimeException("Erro inesperado"));
 
-        ResponseEntity<Object> response = controller.avaliar(requestMock);
-
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao salvar avaliação"));
+        assertThrows(RuntimeException.class, () -> controller.avaliar(requestMock));
     }
 
     @Test
@@ -103,7 +128,7 @@ class AvaliacaoComportamentalControllerTest {
         List<AvaliacaoComportamental> avaliacoes = Arrays.asList(avaliacaoMock);
         when(listarTodosUseCase.listarAvaliacoes()).thenReturn(avaliacoes);
 
-        ResponseEntity<Object> response = controller.listarTodas();
+        ResponseEntity<Object> response = controller.listarTodas(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -112,50 +137,43 @@ class AvaliacaoComportamentalControllerTest {
     }
 
     @Test
-    void deveRetornarErroAoListarAvaliacoes() {
+    void devePropagarErroAoListarAvaliacoes() {
         when(listarTodosUseCase.listarAvaliacoes())
             .thenThrow(new RuntimeException("Erro ao listar"));
 
-        ResponseEntity<Object> response = controller.listarTodas();
-
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao listar avaliações"));
+        assertThrows(RuntimeException.class, () -> controller.listarTodas(null, null));
     }
 
     @Test
     void deveListarAvaliacoesPorColaboradorComSucesso() {
-        when(buscarPorIdUseCase.buscarColaborador(1L)).thenReturn(Optional.of(colaboradorMock));
-        when(listarTodosUseCase.listarAvaliacoes()).thenReturn(Arrays.asList(avaliacaoMock));
+        when(listarAvaliacoesDoColaboradorUseCase.executar(1L)).thenReturn(Optional.of(Arrays.asList(avaliacaoMock)));
 
-        ResponseEntity<Object> response = controller.listarPorColaborador(1L);
+        ResponseEntity<Object> response = controller.listarPorColaborador(1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertTrue(response.getBody() instanceof List);
-        verify(buscarPorIdUseCase, times(1)).buscarColaborador(1L);
-        verify(listarTodosUseCase, times(1)).listarAvaliacoes();
+        verify(listarAvaliacoesDoColaboradorUseCase, times(1)).executar(1L);
+        verify(buscarPorIdUseCase, never()).buscarColaborador(anyLong());
+        verify(listarTodosUseCase, never()).listarAvaliacoes();
     }
 
     @Test
     void deveRetornarNotFoundQuandoColaboradorNaoExistir() {
-        when(buscarPorIdUseCase.buscarColaborador(999L)).thenReturn(Optional.empty());
+        when(listarAvaliacoesDoColaboradorUseCase.executar(999L)).thenReturn(Optional.empty());
 
-        ResponseEntity<Object> response = controller.listarPorColaborador(999L);
+        ResponseEntity<Object> response = controller.listarPorColaborador(999L, null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        verify(buscarPorIdUseCase, times(1)).buscarColaborador(999L);
+        verify(listarAvaliacoesDoColaboradorUseCase, times(1)).executar(999L);
         verify(listarTodosUseCase, never()).listarAvaliacoes();
     }
 
     @Test
     void deveRetornarListaVaziaQuandoColaboradorNaoTemAvaliacoes() {
-        AvaliacaoComportamental outraAvaliacao = new AvaliacaoComportamental(2L, "Liderança", 9);
-        outraAvaliacao.setId(2L);
-        
-        when(buscarPorIdUseCase.buscarColaborador(1L)).thenReturn(Optional.of(colaboradorMock));
-        when(listarTodosUseCase.listarAvaliacoes()).thenReturn(Arrays.asList(outraAvaliacao));
+        when(listarAvaliacoesDoColaboradorUseCase.executar(1L)).thenReturn(Optional.of(Collections.emptyList()));
 
-        ResponseEntity<Object> response = controller.listarPorColaborador(1L);
+        ResponseEntity<Object> response = controller.listarPorColaborador(1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         @SuppressWarnings("unchecked")
@@ -164,13 +182,73 @@ class AvaliacaoComportamentalControllerTest {
     }
 
     @Test
-    void deveRetornarErroAoListarAvaliacoesPorColaborador() {
-        when(buscarPorIdUseCase.buscarColaborador(anyLong()))
+    void deveResponderNaoModificadoSemListarAvaliacoesQuandoEtagCoincidir() {
+        when(buscarPorIdUseCase.buscarVersaoDoColaborador(1L)).thenReturn(Optional.of(4L));
+
+        ResponseEntity<Object> response = controller.listarPorColaborador(1L, "\"4\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(listarAvaliacoesDoColaboradorUseCase, never()).executar(anyLong());
+    }
+
+    @Test
+    void devePropagarErroAoListarAvaliacoesPorColaborador() {
+        when(listarAvaliacoesDoColaboradorUseCase.executar(anyLong()))
             .thenThrow(new RuntimeException("Erro ao buscar"));
 
-        ResponseEntity<Object> response = controller.listarPorColaborador(1L);
+        assertThrows(RuntimeException.class, () -> controller.listarPorColaborador(1L, null));
+    }
+
+    @Test
+    void deveListarPaginaComCursorDoProximoRegistro() {
+        when(listarTodosUseCase.listarAvaliacoes(0L, 1)).thenReturn(Arrays.asList(avaliacaoMock));
 
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao buscar avaliações"));
+        ResponseEntity<Object> response = controller.listarTodas(0L, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(Paginacao.CABECALHO_PROXIMO_CURSOR));
+        verify(listarTodosUseCase, times(1)).listarAvaliacoes(0L, 1);
+        verify(listarTodosUseCase, never()).listarAvaliacoes();
+    }
+
+    @Test
+    void naoDeveInformarCursorQuandoPaginaNaoEstiverCheia() {
+        when(listarTodosUseCase.listarAvaliacoes(null, 10)).thenReturn(Arrays.asList(avaliacaoMock));
+
+        ResponseEntity<Object> response = controller.listarTodas(null, 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(Paginacao.CABECALHO_PROXIMO_CURSOR));
+    }
+
+    @Test
+    void deveLancarValidacaoQuandoLimiteForInvalido() {
+        when(listarTodosUseCase.listarAvaliacoes(null, 0))
+            .thenThrow(new ValidacaoException("Limite deve estar entre 1 e 500"));
+
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.listarTodas(null, 0));
+
+        assertEquals("Limite deve estar entre 1 e 500", erro.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveEscreverArrayJsonEmModoStreaming() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AvaliacaoComportamental> consumidor = invocation.getArgument(0);
+            consumidor.accept(avaliacaoMock);
+            consumidor.accept(avaliacaoMock);
+            return null;
+        }).when(listarTodosUseCase).percorrerAvaliacoes(any(Consumer.class));
+
+        ResponseEntity<StreamingResponseBody> response = controller.listarTodasStream(null, null);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        response.getBody().writeTo(saida);
+
+        String json = saida.toString(StandardCharsets.UTF_8);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(json.startsWith("[{"));
+        assertTrue(json.endsWith("}]"));
+        assertTrue(json.contains("\"avaliacao_comportamental_id\":1"));
     }
 }
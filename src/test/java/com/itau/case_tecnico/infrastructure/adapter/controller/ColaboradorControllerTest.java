@@ -1,31 +1,48 @@
 package com.itau.case_tecnico.infrastructure.adapter.controller;
 
 import com.itau.case_tecnico.application.usecase.CalcularNotaFinalUseCase;
+import com.itau.case_tecnico.application.usecase.CodigoErro;
 import com.itau.case_tecnico.application.usecase.CriarColaboradorUseCase;
 import com.itau.case_tecnico.application.usecase.ListarTodosUseCase;
 import com.itau.case_tecnico.application.usecase.BuscarPorIdUseCase;
+import com.itau.case_tecnico.application.usecase.BuscarColaboradoresUseCase;
+import com.itau.case_tecnico.application.usecase.RankingUseCase;
 import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.FiltroColaboradores;
+import com.itau.case_tecnico.domain.model.OrdemColaboradores;
+import com.itau.case_tecnico.domain.model.PosicaoRanking;
 import com.itau.case_tecnico.infrastructure.adapter.dto.ColaboradorRequest;
 import com.itau.case_tecnico.infrastructure.adapter.dto.ColaboradorResponse;
 import com.itau.case_tecnico.infrastructure.adapter.dto.NotaFinalResponse;
+import com.itau.case_tecnico.infrastructure.adapter.dto.NotasFinaisRequest;
+import com.itau.case_tecnico.infrastructure.adapter.dto.PosicaoRankingResponse;
+import com.itau.case_tecnico.infrastructure.adapter.dto.RankingResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +60,15 @@ class ColaboradorControllerTest {
     @Mock
     private BuscarPorIdUseCase buscarPorIdUseCase;
 
+    @Mock
+    private RankingUseCase rankingUseCase;
+
+    @Mock
+    private BuscarColaboradoresUseCase buscarColaboradoresUseCase;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private ColaboradorController controller;
 
@@ -55,7 +81,7 @@ class ColaboradorControllerTest {
         colaboradorMock.setId(1L);
         colaboradorMock.setMatricula("MAT001");
         colaboradorMock.setNome("João Silva");
-        colaboradorMock.setDataAdmissao("2020-01-01");
+        colaboradorMock.setDataAdmissao(LocalDate.parse("2020-01-01"));
         colaboradorMock.setCargo("Desenvolvedor");
 
         requestMock = new ColaboradorRequest();
@@ -78,26 +104,22 @@ class ColaboradorControllerTest {
     }
 
     @Test
-    void deveRetornarBadRequestQuandoValidacaoFalhar() {
+    void devePropagarErroDeValidacao() {
         when(criarColaboradorUseCase.executar(any(Colaborador.class)))
             .thenThrow(new ValidacaoException("Matrícula inválida"));
 
-        ResponseEntity<Object> response = controller.criar(requestMock);
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.criar(requestMock));
 
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-        assertEquals("Matrícula inválida", response.getBody());
+        assertEquals("Matrícula inválida", erro.getMessage());
         verify(criarColaboradorUseCase, times(1)).executar(any(Colaborador.class));
     }
 
     @Test
-    void deveRetornarInternalServerErrorQuandoOcorrerErroInesperado() {
+    void devePropagarErroInesperado() {
         when(criarColaboradorUseCase.executar(any(Colaborador.class)))
             .thenThrow(new RuntimeException("Erro inesperado"));
 
-        ResponseEntity<Object> response = controller.criar(requestMock);
-
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao criar colaborador"));
+        assertThrows(RuntimeException.class, () -> controller.criar(requestMock));
     }
 
     @Test
@@ -105,7 +127,7 @@ class ColaboradorControllerTest {
         List<Colaborador> colaboradores = Arrays.asList(colaboradorMock);
         when(listarTodosUseCase.listarColaboradores()).thenReturn(colaboradores);
 
-        ResponseEntity<Object> response = controller.listarTodos();
+        ResponseEntity<Object> response = controller.listarTodos(null, null, null, null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -114,21 +136,18 @@ class ColaboradorControllerTest {
     }
 
     @Test
-    void deveRetornarErroAoListarColaboradores() {
+    void devePropagarErroAoListarColaboradores() {
         when(listarTodosUseCase.listarColaboradores())
             .thenThrow(new RuntimeException("Erro ao listar"));
 
-        ResponseEntity<Object> response = controller.listarTodos();
-
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao listar colaboradores"));
+        assertThrows(RuntimeException.class, () -> controller.listarTodos(null, null, null, null, null, null));
     }
 
     @Test
     void deveBuscarColaboradorPorIdComSucesso() {
         when(buscarPorIdUseCase.buscarColaborador(1L)).thenReturn(Optional.of(colaboradorMock));
 
-        ResponseEntity<Object> response = controller.buscarPorId(1L);
+        ResponseEntity<Object> response = controller.buscarPorId(1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -140,21 +159,47 @@ class ColaboradorControllerTest {
     void deveRetornarNotFoundQuandoColaboradorNaoExistir() {
         when(buscarPorIdUseCase.buscarColaborador(999L)).thenReturn(Optional.empty());
 
-        ResponseEntity<Object> response = controller.buscarPorId(999L);
+        ResponseEntity<Object> response = controller.buscarPorId(999L, null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         verify(buscarPorIdUseCase, times(1)).buscarColaborador(999L);
     }
 
     @Test
-    void deveRetornarErroAoBuscarColaborador() {
+    void deveResponderNaoModificadoSemBuscarColaboradorQuandoEtagCoincidir() {
+        when(buscarPorIdUseCase.buscarVersaoDoColaborador(1L)).thenReturn(Optional.of(3L));
+
+        ResponseEntity<Object> response = controller.buscarPorId(1L, "\"2\", W/\"3\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+        verify(buscarPorIdUseCase, never()).buscarColaborador(anyLong());
+    }
+
+    @Test
+    void deveDevolverNovoEtagDepoisDaConversaoDaDataDeAdmissao() {
+        Colaborador semData = new Colaborador("MAT001", "João Silva", null, "Desenvolvedor");
+        semData.setId(1L);
+        when(buscarPorIdUseCase.buscarVersaoDoColaborador(1L)).thenReturn(Optional.of(3L), Optional.of(4L));
+        when(buscarPorIdUseCase.buscarColaborador(1L)).thenReturn(Optional.of(semData), Optional.of(colaboradorMock));
+
+        ResponseEntity<Object> antes = controller.buscarPorId(1L, null);
+        ResponseEntity<Object> depois = controller.buscarPorId(1L, antes.getHeaders().getETag());
+
+        assertEquals("\"3\"", antes.getHeaders().getETag());
+        assertNull(((ColaboradorResponse) antes.getBody()).getDataAdmissao());
+        assertEquals(HttpStatus.OK, depois.getStatusCode());
+        assertEquals("\"4\"", depois.getHeaders().getETag());
+        assertEquals("2020-01-01", ((ColaboradorResponse) depois.getBody()).getDataAdmissao());
+    }
+
+    @Test
+    void devePropagarErroAoBuscarColaborador() {
         when(buscarPorIdUseCase.buscarColaborador(anyLong()))
             .thenThrow(new RuntimeException("Erro ao buscar"));
 
-        ResponseEntity<Object> response = controller.buscarPorId(1L);
-
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao buscar colaborador"));
+        assertThrows(RuntimeException.class, () -> controller.buscarPorId(1L, null));
     }
 
     @Test
@@ -164,7 +209,7 @@ class ColaboradorControllerTest {
         );
         when(calcularNotaFinalUseCase.executar(1L)).thenReturn(notaFinalDTO);
 
-        ResponseEntity<Object> response = controller.calcularNotaFinal(1L);
+        ResponseEntity<Object> response = controller.calcularNotaFinal(1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -175,24 +220,264 @@ class ColaboradorControllerTest {
     }
 
     @Test
-    void deveRetornarBadRequestQuandoValidacaoNotaFinalFalhar() {
+    void deveIncluirEtagNaNotaFinalEResponderNaoModificadoNaRevalidacao() {
+        when(buscarPorIdUseCase.buscarVersaoDoColaborador(1L)).thenReturn(Optional.of(12L));
+        when(calcularNotaFinalUseCase.executar(1L)).thenReturn(new CalcularNotaFinalUseCase.NotaFinalDTO(1L, 8.5, 8.0, 9.0));
+
+        ResponseEntity<Object> primeira = controller.calcularNotaFinal(1L, null);
+        ResponseEntity<Object> revalidacao = controller.calcularNotaFinal(1L, primeira.getHeaders().getETag());
+
+        assertEquals(HttpStatus.OK, primeira.getStatusCode());
+        assertEquals("\"12\"", primeira.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidacao.getStatusCode());
+        verify(calcularNotaFinalUseCase, times(1)).executar(1L);
+    }
+
+    @Test
+    void devePropagarErroDeValidacaoDaNotaFinal() {
         when(calcularNotaFinalUseCase.executar(anyLong()))
             .thenThrow(new ValidacaoException("Colaborador sem avaliações"));
 
-        ResponseEntity<Object> response = controller.calcularNotaFinal(1L);
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.calcularNotaFinal(1L, null));
 
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-        assertEquals("Colaborador sem avaliações", response.getBody());
+        assertEquals("Colaborador sem avaliações", erro.getMessage());
     }
 
     @Test
-    void deveRetornarErroAoCalcularNotaFinal() {
+    void devePropagarErroAoCalcularNotaFinal() {
         when(calcularNotaFinalUseCase.executar(anyLong()))
             .thenThrow(new RuntimeException("Erro ao calcular"));
 
-        ResponseEntity<Object> response = controller.calcularNotaFinal(1L);
+        assertThrows(RuntimeException.class, () -> controller.calcularNotaFinal(1L, null));
+    }
+
+    @Test
+    void deveListarPaginaComCursorDoProximoRegistro() {
+        when(listarTodosUseCase.listarColaboradores(0L, 1)).thenReturn(Arrays.asList(colaboradorMock));
+
+        ResponseEntity<Object> response = controller.listarTodos(0L, 1, null, null, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(Paginacao.CABECALHO_PROXIMO_CURSOR));
+        verify(listarTodosUseCase, times(1)).listarColaboradores(0L, 1);
+        verify(listarTodosUseCase, never()).listarColaboradores();
+    }
+
+    @Test
+    void naoDeveInformarCursorQuandoPaginaNaoEstiverCheia() {
+        when(listarTodosUseCase.listarColaboradores(null, 10)).thenReturn(Arrays.asList(colaboradorMock));
+
+        ResponseEntity<Object> response = controller.listarTodos(null, 10, null, null, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(Paginacao.CABECALHO_PROXIMO_CURSOR));
+    }
+
+    @Test
+    void deveLancarValidacaoQuandoLimiteForInvalido() {
+        when(listarTodosUseCase.listarColaboradores(null, 0))
+            .thenThrow(new ValidacaoException("Limite deve estar entre 1 e 500"));
+
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.listarTodos(null, 0, null, null, null, null));
+
+        assertEquals("Limite deve estar entre 1 e 500", erro.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveListarPaginaFiltradaPorCargoEAdmissaoMesmoSemCursor() {
+        when(listarTodosUseCase.listarColaboradores(any(FiltroColaboradores.class), isNull(), isNull()))
+            .thenReturn(Arrays.asList(colaboradorMock));
+
+        ResponseEntity<Object> response = controller.listarTodos(null, null, "Desenvolvedor", "01/01/2020", "2020-12-31", "data_admissao");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ArgumentCaptor<FiltroColaboradores> filtro = ArgumentCaptor.forClass(FiltroColaboradores.class);
+        verify(listarTodosUseCase, times(1)).listarColaboradores(filtro.capture(), isNull(), isNull());
+        assertEquals("Desenvolvedor", filtro.getValue().getCargo());
+        assertEquals(LocalDate.of(2020, 1, 1), filtro.getValue().getAdmitidoDe());
+        assertEquals(LocalDate.of(2020, 12, 31), filtro.getValue().getAdmitidoAte());
+        assertEquals(OrdemColaboradores.DATA_ADMISSAO, filtro.getValue().getOrdem());
+        assertEquals("2020-01-01", ((List<ColaboradorResponse>) response.getBody()).get(0).getDataAdmissao());
+        verify(listarTodosUseCase, never()).listarColaboradores();
+    }
+
+    @Test
+    void deveRejeitarFiltroDeAdmissaoInvalido() {
+        ValidacaoException erro = assertThrows(ValidacaoException.class,
+            () -> controller.listarTodos(null, null, null, "2020-02-30", null, null));
+
+        assertEquals(CodigoErro.FILTRO_INVALIDO, erro.getCodigo());
+        verifyNoInteractions(listarTodosUseCase);
+    }
+
+    @Test
+    void deveRejeitarDataDeAdmissaoInvalidaNaCriacao() {
+        requestMock.setDataAdmissao("2020-13-01");
+
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.criar(requestMock));
+
+        assertEquals(CodigoErro.DATA_ADMISSAO_INVALIDA, erro.getCodigo());
+        verifyNoInteractions(criarColaboradorUseCase);
+    }
 
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao calcular nota final"));
+    @Test
+    void deveRejeitarStreamComFiltroEmVezDeIgnorar() {
+        ValidacaoException erro = assertThrows(ValidacaoException.class,
+            () -> controller.listarTodosStream(null, null, "Desenvolvedor", "2020-01-01", null, null));
+
+        assertEquals(CodigoErro.PAGINACAO_INVALIDA, erro.getCodigo());
+        verifyNoInteractions(listarTodosUseCase);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveEscreverArrayJsonEmModoStreaming() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Colaborador> consumidor = invocation.getArgument(0);
+            consumidor.accept(colaboradorMock);
+            consumidor.accept(colaboradorMock);
+            return null;
+        }).when(listarTodosUseCase).percorrerColaboradores(any(Consumer.class));
+
+        ResponseEntity<StreamingResponseBody> response = controller.listarTodosStream(null, null, null, null, null, null);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        response.getBody().writeTo(saida);
+
+        String json = saida.toString(StandardCharsets.UTF_8);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(json.startsWith("[{"));
+        assertTrue(json.endsWith("}]"));
+        assertTrue(json.contains("\"colaborador_id\":1"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveCalcularNotasFinaisEmLotePorIdsComErrosPorColaborador() {
+        NotasFinaisRequest request = new NotasFinaisRequest();
+        request.setColaboradorIds(Arrays.asList(1L, 2L));
+        when(calcularNotaFinalUseCase.executarPorIds(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(
+            CalcularNotaFinalUseCase.ResultadoNotaFinal.sucesso(new CalcularNotaFinalUseCase.NotaFinalDTO(1L, 8.5, 8.0, 9.0)),
+            CalcularNotaFinalUseCase.ResultadoNotaFinal.erro(2L, "Colaborador não encontrado")
+        ));
+
+        ResponseEntity<Object> response = controller.calcularNotasFinais(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<NotaFinalResponse> body = (List<NotaFinalResponse>) response.getBody();
+        assertEquals(2, body.size());
+        assertEquals(8.5, body.get(0).getNotaFinal());
+        assertNull(body.get(0).getErro());
+        assertEquals(2L, body.get(1).getColaboradorId());
+        assertNull(body.get(1).getNotaFinal());
+        assertEquals("Colaborador não encontrado", body.get(1).getErro());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveCalcularNotasFinaisEmLotePorCargo() {
+        NotasFinaisRequest request = new NotasFinaisRequest();
+        request.setCargo("Desenvolvedor");
+        when(calcularNotaFinalUseCase.executarPorCargo("Desenvolvedor")).thenReturn(Arrays.asList(
+            CalcularNotaFinalUseCase.ResultadoNotaFinal.sucesso(new CalcularNotaFinalUseCase.NotaFinalDTO(1L, 8.5, 8.0, 9.0))
+        ));
+
+        ResponseEntity<Object> response = controller.calcularNotasFinais(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, ((List<NotaFinalResponse>) response.getBody()).size());
+        verify(calcularNotaFinalUseCase, never()).executarPorIds(any());
+    }
+
+    @Test
+    void deveLancarValidacaoQuandoLoteNaoInformarIdsNemCargo() {
+        ValidacaoException erro = assertThrows(ValidacaoException.class,
+            () -> controller.calcularNotasFinais(new NotasFinaisRequest()));
+
+        assertEquals(CodigoErro.LOTE_INVALIDO, erro.getCodigo());
+        assertEquals("Informe colaborador_ids ou cargo", erro.getMessage());
+        verifyNoInteractions(calcularNotaFinalUseCase);
+    }
+
+    @Test
+    void deveLancarValidacaoQuandoLoteInformarIdsECargo() {
+        NotasFinaisRequest request = new NotasFinaisRequest();
+        request.setColaboradorIds(Arrays.asList(1L));
+        request.setCargo("Desenvolvedor");
+
+        assertThrows(ValidacaoException.class, () -> controller.calcularNotasFinais(request));
+        verifyNoInteractions(calcularNotaFinalUseCase);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRetornarRankingDoCargo() {
+        when(rankingUseCase.listar("Desenvolvedor", 2)).thenReturn(Arrays.asList(
+            new PosicaoRanking(3L, "Desenvolvedor", 9.5, 1, 5),
+            new PosicaoRanking(1L, "Desenvolvedor", 8.5, 2, 5)
+        ));
+
+        ResponseEntity<Object> response = controller.ranking("Desenvolvedor", 2);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<RankingResponse> body = (List<RankingResponse>) response.getBody();
+        assertEquals(2, body.size());
+        assertEquals(1, body.get(0).getPosicao());
+        assertEquals(3L, body.get(0).getColaboradorId());
+        assertEquals(9.5, body.get(0).getNotaFinal());
+        assertEquals(2, body.get(1).getPosicao());
+    }
+
+    @Test
+    void deveRetornarPosicaoGeralENoCargo() {
+        when(rankingUseCase.posicaoGeral(1L)).thenReturn(Optional.of(new PosicaoRanking(1L, "Desenvolvedor", 8.5, 4, 10)));
+        when(rankingUseCase.posicaoNoCargo(1L)).thenReturn(Optional.of(new PosicaoRanking(1L, "Desenvolvedor", 8.5, 2, 3)));
+
+        ResponseEntity<Object> response = controller.posicaoNoRanking(1L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        PosicaoRankingResponse body = (PosicaoRankingResponse) response.getBody();
+        assertEquals(4, body.getPosicao());
+        assertEquals(10, body.getTotal());
+        assertEquals(2, body.getPosicaoNoCargo());
+        assertEquals(3, body.getTotalNoCargo());
+    }
+
+    @Test
+    void deveRetornar404QuandoColaboradorForaDoRanking() {
+        when(rankingUseCase.posicaoGeral(2L)).thenReturn(Optional.empty());
+
+        ResponseEntity<Object> response = controller.posicaoNoRanking(2L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(rankingUseCase, never()).posicaoNoCargo(anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRetornarBuscaComCursorQuandoPaginaVemCheia() {
+        Colaborador ana = new Colaborador("111", "Ana Souza", LocalDate.parse("2024-01-01"), "Desenvolvedor");
+        ana.setId(3L);
+        Colaborador andre = new Colaborador("222", "André Lima", LocalDate.parse("2024-01-01"), "Desenvolvedor");
+        andre.setId(8L);
+        when(buscarColaboradoresUseCase.buscar("an", "Desenvolvedor", null, 2)).thenReturn(Arrays.asList(ana, andre));
+
+        ResponseEntity<Object> response = controller.buscar("an", "Desenvolvedor", null, 2);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<ColaboradorResponse> body = (List<ColaboradorResponse>) response.getBody();
+        assertEquals(2, body.size());
+        assertEquals("André Lima", body.get(1).getNome());
+        assertEquals("8", response.getHeaders().getFirst(Paginacao.CABECALHO_PROXIMO_CURSOR));
+    }
+
+    @Test
+    void deveRetornarBuscaSemCursorNaUltimaPagina() {
+        when(buscarColaboradoresUseCase.buscar("zz", null, 5L, null)).thenReturn(List.of());
+
+        ResponseEntity<Object> response = controller.buscar("zz", null, 5L, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(Paginacao.CABECALHO_PROXIMO_CURSOR));
     }
-}
\ No newline at end of file
+}
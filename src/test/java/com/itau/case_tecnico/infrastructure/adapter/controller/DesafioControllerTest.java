@@ -1,25 +1,37 @@
 package com.itau.case_tecnico.infrastructure.adapter.controller;
 
+import com.itau.case_tecnico.application.usecase.AvaliarDesafioUseCase;
 import com.itau.case_tecnico.application.usecase.BuscarPorIdUseCase;
+import com.itau.case_tecnico.application.usecase.CodigoErro;
 import com.itau.case_tecnico.application.usecase.CriarDesafioUseCase;
+import com.itau.case_tecnico.application.usecase.ListarDesafiosDoColaboradorUseCase;
 import com.itau.case_tecnico.application.usecase.ListarTodosUseCase;
 import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.Colaborador;
 import com.itau.case_tecnico.domain.model.Desafio;
 import com.itau.case_tecnico.infrastructure.adapter.dto.DesafioRequest;
 import com.itau.case_tecnico.infrastructure.adapter.dto.DesafioResponse;
+import com.itau.case_tecnico.infrastructure.adapter.dto.NotaDesafioRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,12 +44,21 @@ class DesafioControllerTest {
     @Mock
     private CriarDesafioUseCase criarDesafioUseCase;
 
+    @Mock
+    private AvaliarDesafioUseCase avaliarDesafioUseCase;
+
     @Mock
     private ListarTodosUseCase listarTodosUseCase;
 
+    @Mock
+    private ListarDesafiosDoColaboradorUseCase listarDesafiosDoColaboradorUseCase;
+
     @Mock
     private BuscarPorIdUseCase buscarPorIdUseCase;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private DesafioController controller;
 
@@ -59,7 +80,7 @@ class DesafioControllerTest {
         colaboradorMock.setId(1L);
         colaboradorMock.setMatricula("MAT001");
         colaboradorMock.setNome("João Silva");
-        colaboradorMock.setDataAdmissao("2020-01-01");
+        colaboradorMock.setDataAdmissao(LocalDate.parse("2020-01-01"));
         colaboradorMock.setCargo("Desenvolvedor");
     }
 
@@ -76,25 +97,51 @@ class DesafioControllerTest {
     }
 
     @Test
-    void deveRetornarBadRequestQuandoValidacaoFalhar() {
+    void devePropagarErroDeValidacao() {
         when(criarDesafioUseCase.executar(any(Desafio.class)))
             .thenThrow(new ValidacaoException("Descrição inválida"));
 
-        ResponseEntity<Object> response = controller.criar(requestMock);
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.criar(requestMock));
 
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-        assertEquals("Descrição inválida", response.getBody());
+        assertEquals("Descrição inválida", erro.getMessage());
     }
 
     @Test
-    void deveRetornarErroAoCriarDesafio() {
+    void devePropagarErroAoCriarDesafio() {
         when(criarDesafioUseCase.executar(any(Desafio.class)))
             .thenThrow(new RuntimeException("Erro inesperado"));
 
-        ResponseEntity<Object> response = controller.criar(requestMock);
+        assertThrows(RuntimeException.class, () -> controller.criar(requestMock));
+    }
+
+    @Test
+    void deveAvaliarDesafioRespondendoSemDescricao() {
+        Desafio avaliado = new Desafio();
+        avaliado.setId(7L);
+        avaliado.setColaboradorId(1L);
+        avaliado.setNota(5);
+        when(avaliarDesafioUseCase.executar(7L, 5)).thenReturn(avaliado);
+        NotaDesafioRequest request = new NotaDesafioRequest();
+        request.setNota(5);
+
+        ResponseEntity<Object> response = controller.avaliar(7L, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        DesafioResponse body = (DesafioResponse) response.getBody();
+        assertEquals(7L, body.getId());
+        assertEquals(5, body.getNota());
+        assertNull(body.getDescricao());
+    }
 
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao criar desafio"));
+    @Test
+    void devePropagarErroAoAvaliarDesafio() {
+        when(avaliarDesafioUseCase.executar(7L, 9)).thenThrow(new ValidacaoException("Nota do desafio deve estar entre 1 e 5"));
+        NotaDesafioRequest request = new NotaDesafioRequest();
+        request.setPontuacao(9);
+
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.avaliar(7L, request));
+
+        assertEquals("Nota do desafio deve estar entre 1 e 5", erro.getMessage());
     }
 
     @Test
@@ -102,7 +149,7 @@ class DesafioControllerTest {
         List<Desafio> desafios = Arrays.asList(desafioMock);
         when(listarTodosUseCase.listarDesafios()).thenReturn(desafios);
 
-        ResponseEntity<Object> response = controller.listarTodos();
+        ResponseEntity<Object> response = controller.listarTodos(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -111,50 +158,42 @@ class DesafioControllerTest {
     }
 
     @Test
-    void deveRetornarErroAoListarDesafios() {
+    void devePropagarErroAoListarDesafios() {
         when(listarTodosUseCase.listarDesafios())
             .thenThrow(new RuntimeException("Erro ao listar"));
 
-        ResponseEntity<Object> response = controller.listarTodos();
-
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao listar desafios"));
+        assertThrows(RuntimeException.class, () -> controller.listarTodos(null, null));
     }
 
     @Test
     void deveListarDesafiosPorColaboradorComSucesso() {
-        when(buscarPorIdUseCase.buscarColaborador(1L)).thenReturn(Optional.of(colaboradorMock));
-        when(listarTodosUseCase.listarDesafios()).thenReturn(Arrays.asList(desafioMock));
+        when(listarDesafiosDoColaboradorUseCase.executar(1L)).thenReturn(Optional.of(Arrays.asList(desafioMock)));
 
-        ResponseEntity<Object> response = controller.listarPorColaborador(1L);
+        ResponseEntity<Object> response = controller.listarPorColaborador(1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertTrue(response.getBody() instanceof List);
-        verify(buscarPorIdUseCase, times(1)).buscarColaborador(1L);
-        verify(listarTodosUseCase, times(1)).listarDesafios();
+        verify(listarDesafiosDoColaboradorUseCase, times(1)).executar(1L);
+        verify(listarTodosUseCase, never()).listarDesafios();
     }
 
     @Test
     void deveRetornarNotFoundQuandoColaboradorNaoExistir() {
-        when(buscarPorIdUseCase.buscarColaborador(999L)).thenReturn(Optional.empty());
+        when(listarDesafiosDoColaboradorUseCase.executar(999L)).thenReturn(Optional.empty());
 
-        ResponseEntity<Object> response = controller.listarPorColaborador(999L);
+        ResponseEntity<Object> response = controller.listarPorColaborador(999L, null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        verify(buscarPorIdUseCase, times(1)).buscarColaborador(999L);
+        verify(listarDesafiosDoColaboradorUseCase, times(1)).executar(999L);
         verify(listarTodosUseCase, never()).listarDesafios();
     }
 
     @Test
     void deveRetornarListaVaziaQuandoColaboradorNaoTemDesafios() {
-        Desafio outroDesafio = new Desafio(2L, "Outro desafio", 7);
-        outroDesafio.setId(2L);
-        
-        when(buscarPorIdUseCase.buscarColaborador(1L)).thenReturn(Optional.of(colaboradorMock));
-        when(listarTodosUseCase.listarDesafios()).thenReturn(Arrays.asList(outroDesafio));
+        when(listarDesafiosDoColaboradorUseCase.executar(1L)).thenReturn(Optional.of(Collections.emptyList()));
 
-        ResponseEntity<Object> response = controller.listarPorColaborador(1L);
+        ResponseEntity<Object> response = controller.listarPorColaborador(1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         @SuppressWarnings("unchecked")
@@ -163,13 +202,95 @@ class DesafioControllerTest {
     }
 
     @Test
-    void deveRetornarErroAoListarDesafiosPorColaborador() {
-        when(buscarPorIdUseCase.buscarColaborador(anyLong()))
+    void deveIncluirEtagDaVersaoDoColaboradorNaListagem() {
+        when(buscarPorIdUseCase.buscarVersaoDoColaborador(1L)).thenReturn(Optional.of(7L));
+        when(listarDesafiosDoColaboradorUseCase.executar(1L)).thenReturn(Optional.of(Arrays.asList(desafioMock)));
+
+        ResponseEntity<Object> response = controller.listarPorColaborador(1L, "\"6\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"7\"", response.getHeaders().getETag());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void deveResponderNaoModificadoSemListarDesafiosQuandoEtagCoincidir() {
+        when(buscarPorIdUseCase.buscarVersaoDoColaborador(1L)).thenReturn(Optional.of(7L));
+
+        ResponseEntity<Object> response = controller.listarPorColaborador(1L, "\"7\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"7\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(listarDesafiosDoColaboradorUseCase, never()).executar(anyLong());
+    }
+
+    @Test
+    void devePropagarErroAoListarDesafiosPorColaborador() {
+        when(listarDesafiosDoColaboradorUseCase.executar(anyLong()))
             .thenThrow(new RuntimeException("Erro ao buscar"));
 
-        ResponseEntity<Object> response = controller.listarPorColaborador(1L);
+        assertThrows(RuntimeException.class, () -> controller.listarPorColaborador(1L, null));
+    }
+
+    @Test
+    void deveListarPaginaComCursorDoProximoRegistro() {
+        when(listarTodosUseCase.listarDesafios(0L, 1)).thenReturn(Arrays.asList(desafioMock));
+
+        ResponseEntity<Object> response = controller.listarTodos(0L, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(Paginacao.CABECALHO_PROXIMO_CURSOR));
+        verify(listarTodosUseCase, times(1)).listarDesafios(0L, 1);
+        verify(listarTodosUseCase, never()).listarDesafios();
+    }
+
+    @Test
+    void naoDeveInformarCursorQuandoPaginaNaoEstiverCheia() {
+        when(listarTodosUseCase.listarDesafios(null, 10)).thenReturn(Arrays.asList(desafioMock));
+
+        ResponseEntity<Object> response = controller.listarTodos(null, 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(Paginacao.CABECALHO_PROXIMO_CURSOR));
+    }
+
+    @Test
+    void deveLancarValidacaoQuandoLimiteForInvalido() {
+        when(listarTodosUseCase.listarDesafios(null, 0))
+            .thenThrow(new ValidacaoException("Limite deve estar entre 1 e 500"));
+
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.listarTodos(null, 0));
+
+        assertEquals("Limite deve estar entre 1 e 500", erro.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveEscreverArrayJsonEmModoStreaming() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Desafio> consumidor = invocation.getArgument(0);
+            consumidor.accept(desafioMock);
+            consumidor.accept(desafioMock);
+            return null;
+        }).when(listarTodosUseCase).percorrerDesafios(any(Consumer.class));
+
+        ResponseEntity<StreamingResponseBody> response = controller.listarTodosStream(null, null);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        response.getBody().writeTo(saida);
+
+        String json = saida.toString(StandardCharsets.UTF_8);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(json.startsWith("[{"));
+        assertTrue(json.endsWith("}]"));
+        assertTrue(json.contains("\"desafio_id\":1"));
+    }
+
+    @Test
+    void deveRejeitarStreamComCursorOuLimite() {
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.listarTodosStream(10L, 50));
 
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().toString().contains("Erro ao buscar desafios"));
+        assertEquals(CodigoErro.PAGINACAO_INVALIDA, erro.getCodigo());
+        verifyNoInteractions(listarTodosUseCase);
     }
 }
@@ -0,0 +1,69 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.itau.case_tecnico.application.usecase.DistribuicaoNotasUseCase;
+import com.itau.case_tecnico.domain.model.Distribuicao;
+import com.itau.case_tecnico.domain.model.Histograma;
+import com.itau.case_tecnico.infrastructure.adapter.dto.DistribuicaoResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstatisticasControllerTest {
+
+    @Mock
+    private DistribuicaoNotasUseCase distribuicaoNotasUseCase;
+
+    @InjectMocks
+    private EstatisticasController controller;
+
+    private Histograma histograma(double... valores) {
+        Histograma histograma = new Histograma();
+        for (double valor : valores) {
+            histograma.adicionar(valor);
+        }
+        return histograma;
+    }
+
+    @Test
+    void deveRetornarPercentisEContagensPorNota() {
+        when(distribuicaoNotasUseCase.consultar("Dev")).thenReturn(new Distribuicao("Dev",
+            histograma(3.0, 3.5, 4.5), histograma(4.0, 4.0, 5.0), histograma(2.0, 3.0, 4.0),
+            new long[]{0, 0, 0, 8, 4}, new long[]{1, 0, 2, 1, 2}));
+
+        ResponseEntity<Object> response = controller.distribuicao("Dev");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        DistribuicaoResponse body = (DistribuicaoResponse) response.getBody();
+        assertEquals("Dev", body.getCargo());
+        assertEquals(3L, body.getNotaFinal().getQuantidade());
+        assertEquals(3.0, body.getNotaFinal().getP10());
+        assertEquals(3.5, body.getNotaFinal().getP50());
+        assertEquals(4.5, body.getNotaFinal().getP90());
+        assertEquals(4.0, body.getMediaComportamental().getP50());
+        assertEquals(List.of("1", "2", "3", "4", "5"), List.copyOf(body.getNotasAvaliacoes().keySet()));
+        assertEquals(Map.of("1", 1L, "2", 0L, "3", 2L, "4", 1L, "5", 2L), body.getNotasDesafios());
+    }
+
+    @Test
+    void deveRetornarPercentisNulosSemColaboradores() {
+        when(distribuicaoNotasUseCase.consultar(null)).thenReturn(new Distribuicao(null,
+            new Histograma(), new Histograma(), new Histograma(), new long[5], new long[5]));
+
+        DistribuicaoResponse body = (DistribuicaoResponse) controller.distribuicao(null).getBody();
+
+        assertEquals(0L, body.getNotaFinal().getQuantidade());
+        assertNull(body.getNotaFinal().getP50());
+        assertEquals(0L, body.getNotasAvaliacoes().get("5"));
+    }
+}
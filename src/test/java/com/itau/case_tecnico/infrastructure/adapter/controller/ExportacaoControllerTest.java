@@ -0,0 +1,112 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.ExportarDadosUseCase;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import com.itau.case_tecnico.domain.model.Exportacao;
+import com.itau.case_tecnico.domain.model.FormatoExportacao;
+import com.itau.case_tecnico.domain.model.TipoExportacao;
+import com.itau.case_tecnico.infrastructure.adapter.dto.ExportacaoRequest;
+import com.itau.case_tecnico.infrastructure.adapter.dto.ExportacaoResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportacaoControllerTest {
+
+    @Mock
+    private ExportarDadosUseCase exportarDadosUseCase;
+
+    @InjectMocks
+    private ExportacaoController controller;
+
+    private Exportacao exportacao() {
+        return new Exportacao("abc", TipoExportacao.NOTAS_FINAIS, FormatoExportacao.CSV, Instant.parse("2024-01-01T10:00:00Z"));
+    }
+
+    @Test
+    void deveIniciarExportacaoComAcceptedELocation() {
+        ExportacaoRequest request = new ExportacaoRequest();
+        request.setTipo("notas-finais");
+        when(exportarDadosUseCase.iniciar("notas-finais", null)).thenReturn(exportacao());
+
+        ResponseEntity<Object> response = controller.iniciar(request);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(URI.create("/api/exportacoes/abc"), response.getHeaders().getLocation());
+        ExportacaoResponse body = (ExportacaoResponse) response.getBody();
+        assertEquals("abc", body.getId());
+        assertEquals("notas-finais", body.getTipo());
+        assertEquals("csv", body.getFormato());
+        assertEquals("PENDENTE", body.getStatus());
+        assertEquals("2024-01-01T10:00:00Z", body.getCriadaEm());
+        assertNull(body.getArquivo());
+    }
+
+    @Test
+    void deveRetornarProgressoEArquivoQuandoConcluida() {
+        Exportacao exportacao = exportacao();
+        exportacao.iniciar();
+        exportacao.registrarProgresso(10, 300);
+        exportacao.concluir(320, Instant.parse("2024-01-01T10:00:05Z"));
+        when(exportarDadosUseCase.buscar("abc")).thenReturn(Optional.of(exportacao));
+
+        ResponseEntity<Object> response = controller.buscar("abc");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ExportacaoResponse body = (ExportacaoResponse) response.getBody();
+        assertEquals("CONCLUIDA", body.getStatus());
+        assertEquals(10L, body.getLinhas());
+        assertEquals(320L, body.getBytes());
+        assertEquals("2024-01-01T10:00:05Z", body.getFinalizadaEm());
+        assertEquals("/api/exportacoes/abc/arquivo", body.getArquivo());
+    }
+
+    @Test
+    void deveRetornarNotFoundParaExportacaoInexistente() {
+        when(exportarDadosUseCase.buscar("x")).thenReturn(Optional.empty());
+        when(exportarDadosUseCase.buscarArquivo("x")).thenReturn(Optional.empty());
+
+        assertEquals(HttpStatus.NOT_FOUND, controller.buscar("x").getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, controller.baixar("x").getStatusCode());
+    }
+
+    @Test
+    void deveServirArquivoCompactadoComoAnexo() {
+        when(exportarDadosUseCase.buscarArquivo("abc")).thenReturn(Optional.of(Path.of("notas-finais-abc.csv.gz")));
+
+        ResponseEntity<Resource> response = controller.baixar("abc");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ExportacaoController.APPLICATION_GZIP, response.getHeaders().getContentType());
+        assertEquals("\"abc\"", response.getHeaders().getETag());
+        assertEquals("attachment; filename=\"notas-finais-abc.csv.gz\"",
+            response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        assertEquals("notas-finais-abc.csv.gz", response.getBody().getFilename());
+    }
+
+    @Test
+    void devePropagarExportacaoNaoConcluida() {
+        when(exportarDadosUseCase.buscarArquivo("abc"))
+            .thenThrow(new ValidacaoException(CodigoErro.EXPORTACAO_NAO_CONCLUIDA, "Exportação abc ainda não foi concluída"));
+
+        ValidacaoException erro = assertThrows(ValidacaoException.class, () -> controller.baixar("abc"));
+
+        assertEquals(CodigoErro.EXPORTACAO_NAO_CONCLUIDA, erro.getCodigo());
+    }
+}
@@ -0,0 +1,108 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.ImportarRegistrosUseCase;
+import com.itau.case_tecnico.application.usecase.ImportarRegistrosUseCase.Linha;
+import com.itau.case_tecnico.application.usecase.ImportarRegistrosUseCase.ResultadoImportacao;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import com.itau.case_tecnico.infrastructure.adapter.dto.ImportacaoResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportacaoControllerTest {
+
+    @Mock
+    private ImportarRegistrosUseCase importarRegistrosUseCase;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ImportacaoController controller;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveImportarColaboradoresEmNdjson() {
+        List<Linha<Colaborador>> lidas = new ArrayList<>();
+        when(importarRegistrosUseCase.importarColaboradores(any())).thenAnswer(invocacao -> {
+            ((Iterator<Linha<Colaborador>>) invocacao.getArgument(0)).forEachRemaining(lidas::add);
+            return new ResultadoImportacao();
+        });
+        String corpo = "{\"matricula\":\"MAT001\",\"nome\":\"João\",\"data_admissao\":\"2020-01-01\",\"cargo\":\"Dev\"}\n";
+
+        ResponseEntity<Object> response = controller.importar("colaboradores", "application/x-ndjson",
+            corpo(corpo, StandardCharsets.UTF_8));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ImportacaoResponse body = (ImportacaoResponse) response.getBody();
+        assertEquals("colaboradores", body.getTipo());
+        assertEquals(1, lidas.size());
+        assertEquals("João", lidas.get(0).getRegistro().getNome());
+        assertEquals(LocalDate.parse("2020-01-01"), lidas.get(0).getRegistro().getDataAdmissao());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveImportarAvaliacoesEmCsvRespeitandoCharset() {
+        List<Linha<AvaliacaoComportamental>> lidas = new ArrayList<>();
+        when(importarRegistrosUseCase.importarAvaliacoes(any())).thenAnswer(invocacao -> {
+            ((Iterator<Linha<AvaliacaoComportamental>>) invocacao.getArgument(0)).forEachRemaining(lidas::add);
+            return new ResultadoImportacao();
+        });
+        String corpo = "colaborador_id,tipo,nota\n1,Você trabalha com autonomia?,5\n";
+
+        ResponseEntity<Object> response = controller.importar("avaliacoes", "text/csv; charset=ISO-8859-1",
+            corpo(corpo, StandardCharsets.ISO_8859_1));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, lidas.size());
+        assertEquals(2, lidas.get(0).getNumero());
+        assertEquals(TipoAvaliacao.AUTONOMIA, lidas.get(0).getRegistro().getTipo());
+    }
+
+    @Test
+    void deveLancarValidacaoParaTipoInvalido() {
+        ValidacaoException erro = assertThrows(ValidacaoException.class,
+            () -> controller.importar("outros", "application/x-ndjson", corpo("", StandardCharsets.UTF_8)));
+
+        assertEquals(CodigoErro.IMPORTACAO_INVALIDA, erro.getCodigo());
+        assertTrue(erro.getMessage().startsWith("Tipo de importação inválido: outros"));
+        verifyNoInteractions(importarRegistrosUseCase);
+    }
+
+    @Test
+    void devePropagarErroQuandoImportacaoFalhar() {
+        when(importarRegistrosUseCase.importarDesafios(any())).thenThrow(new RuntimeException("Falha"));
+
+        assertThrows(RuntimeException.class, () -> controller.importar("desafios", "application/x-ndjson",
+            corpo("", StandardCharsets.UTF_8)));
+    }
+
+    private InputStream corpo(String conteudo, Charset charset) {
+        return new ByteArrayInputStream(conteudo.getBytes(charset));
+    }
+}
@@ -0,0 +1,92 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.application.usecase.ImportarRegistrosUseCase.Linha;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.infrastructure.adapter.dto.DesafioRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeitorImportacaoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void deveLerNdjsonComNumeroDaLinhaFisica() {
+        String corpo = "{\"colaborador_id\":1,\"descricao\":\"Desafio A\",\"nota\":4}\n"
+            + "\n"
+            + "{\"colaborador_id\":2,\"descricao\":\"Desafio B\",\"pontuacao\":5}\n";
+
+        List<Linha<Desafio>> linhas = ler(corpo, LeitorImportacao.Formato.NDJSON);
+
+        assertEquals(2, linhas.size());
+        assertEquals(1, linhas.get(0).getNumero());
+        assertEquals("Desafio A", linhas.get(0).getRegistro().getDescricao());
+        assertEquals(3, linhas.get(1).getNumero());
+        assertEquals(5, linhas.get(1).getRegistro().getNota());
+    }
+
+    @Test
+    void deveConverterLinhaMalformadaEmErro() {
+        String corpo = "{\"colaborador_id\":1,\"descricao\":\"Desafio A\",\"nota\":4}\n"
+            + "{\"colaborador_id\": \n"
+            + "{\"colaborador_id\":\"abc\",\"descricao\":\"Desafio C\",\"nota\":4}\n";
+
+        List<Linha<Desafio>> linhas = ler(corpo, LeitorImportacao.Formato.NDJSON);
+
+        assertEquals(3, linhas.size());
+        assertNull(linhas.get(0).getErro());
+        assertEquals(2, linhas.get(1).getNumero());
+        assertTrue(linhas.get(1).getErro().startsWith("Linha inválida"));
+        assertTrue(linhas.get(2).getErro().startsWith("Linha inválida"));
+    }
+
+    @Test
+    void deveLerCsvUsandoCabecalho() {
+        String corpo = "\uFEFFcolaborador_id,descricao,nota\n"
+            + "1,\"Desafio, com vírgula\",4\n"
+            + "2,Desafio B,\n"
+            + "3,Desafio C\n";
+
+        List<Linha<Desafio>> linhas = ler(corpo, LeitorImportacao.Formato.CSV);
+
+        assertEquals(3, linhas.size());
+        assertEquals(2, linhas.get(0).getNumero());
+        assertEquals(1L, linhas.get(0).getRegistro().getColaboradorId());
+        assertEquals("Desafio, com vírgula", linhas.get(0).getRegistro().getDescricao());
+        assertNull(linhas.get(1).getRegistro().getNota());
+        assertEquals(4, linhas.get(2).getNumero());
+        assertEquals("Linha inválida: esperadas 3 colunas, encontradas 2", linhas.get(2).getErro());
+    }
+
+    @Test
+    void deveRejeitarCabecalhoCsvInvalido() {
+        LeitorImportacao<DesafioRequest, Desafio> leitor = leitor("\"colaborador_id,descricao\n", LeitorImportacao.Formato.CSV);
+
+        assertThrows(ValidacaoException.class, leitor::hasNext);
+    }
+
+    @Test
+    void deveDividirCsvRespeitandoAspas() {
+        assertEquals(List.of("a", "b \"c\"", ""), LeitorImportacao.dividirCsv("a,\"b \"\"c\"\"\","));
+    }
+
+    private List<Linha<Desafio>> ler(String corpo, LeitorImportacao.Formato formato) {
+        List<Linha<Desafio>> linhas = new ArrayList<>();
+        leitor(corpo, formato).forEachRemaining(linhas::add);
+        return linhas;
+    }
+
+    private LeitorImportacao<DesafioRequest, Desafio> leitor(String corpo, LeitorImportacao.Formato formato) {
+        return new LeitorImportacao<>(new BufferedReader(new StringReader(corpo)), formato, objectMapper,
+            DesafioRequest.class,
+            request -> new Desafio(request.getColaboradorId(), request.getDescricao(), request.getNota()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimiteConcorrenciaFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private LimiteConcorrenciaFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new LimiteConcorrenciaFilter(1, Duration.ZERO, registry);
+    }
+
+    @Test
+    void deveRecusarComServicoIndisponivelQuandoLimiteEsgotado() throws Exception {
+        MockHttpServletResponse recusada = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/colaboradores"), new MockHttpServletResponse(),
+            (req, res) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/desafios"), recusada,
+                (req2, res2) -> fail("Segunda requisição não deveria ser processada")));
+
+        assertEquals(503, recusada.getStatus());
+        assertEquals("1", recusada.getHeader("Retry-After"));
+        assertEquals(1, registry.find(LimiteConcorrenciaFilter.REJEITADAS).counter().count());
+    }
+
+    @Test
+    void deveLiberarPermissaoAoFimDaRequisicao() throws Exception {
+        AtomicInteger processadas = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/colaboradores"), new MockHttpServletResponse(),
+                (req, res) -> processadas.incrementAndGet());
+        }
+
+        assertEquals(3, processadas.get());
+        assertEquals(0, registry.find(LimiteConcorrenciaFilter.REJEITADAS).counter().count());
+    }
+
+    @Test
+    void deveManterPermissaoEnquantoCorpoDoStreamEstiverSendoEscrito() throws Exception {
+        MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/api/desafios");
+        stream.setAsyncSupported(true);
+        filter.doFilter(stream, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        MockHttpServletResponse duranteStream = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/colaboradores"), duranteStream,
+            (req, res) -> fail("Permissão deveria estar com o stream"));
+        assertEquals(503, duranteStream.getStatus());
+
+        stream.getAsyncContext().complete();
+        AtomicInteger processadas = new AtomicInteger();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/colaboradores"), new MockHttpServletResponse(),
+            (req, res) -> processadas.incrementAndGet());
+        assertEquals(1, processadas.get());
+    }
+
+    @Test
+    void naoDeveLimitarEndpointsForaDaApi() throws Exception {
+        MockHttpServletResponse resposta = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/colaboradores"), new MockHttpServletResponse(),
+            (req, res) -> filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), resposta,
+                (req2, res2) -> ((HttpServletResponse) res2).setStatus(200)));
+
+        assertEquals(200, resposta.getStatus());
+    }
+}
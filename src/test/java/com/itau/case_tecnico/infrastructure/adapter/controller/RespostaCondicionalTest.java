@@ -0,0 +1,40 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RespostaCondicionalTest {
+
+    @Test
+    void deveCompararEtagsDoIfNoneMatch() {
+        assertTrue(RespostaCondicional.corresponde("\"3\"", "\"3\""));
+        assertTrue(RespostaCondicional.corresponde("W/\"3\"", "\"3\""));
+        assertTrue(RespostaCondicional.corresponde("\"1\", \"3\"", "\"3\""));
+        assertTrue(RespostaCondicional.corresponde("*", "\"3\""));
+        assertFalse(RespostaCondicional.corresponde("\"31\"", "\"3\""));
+        assertFalse(RespostaCondicional.corresponde("3", "\"3\""));
+        assertFalse(RespostaCondicional.corresponde(null, "\"3\""));
+    }
+
+    @Test
+    void naoDeveIncluirEtagSemVersao() {
+        ResponseEntity<Object> response = RespostaCondicional.versionada(Optional.empty(), "*", () -> ResponseEntity.ok("corpo"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+        assertNull(response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void naoDeveIncluirEtagEmRespostaDeErro() {
+        ResponseEntity<Object> response = RespostaCondicional.versionada(Optional.of(1L), null, () -> ResponseEntity.notFound().build());
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+    }
+}
@@ -0,0 +1,107 @@
+package com.itau.case_tecnico.infrastructure.adapter.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.application.usecase.AvaliarDesafioUseCase;
+import com.itau.case_tecnico.application.usecase.BuscarPorIdUseCase;
+import com.itau.case_tecnico.application.usecase.CapacidadeEsgotadaException;
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.CriarDesafioUseCase;
+import com.itau.case_tecnico.application.usecase.ListarDesafiosDoColaboradorUseCase;
+import com.itau.case_tecnico.application.usecase.ListarTodosUseCase;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import com.itau.case_tecnico.domain.model.Desafio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TratadorDeErrosTest {
+
+    @Mock
+    private CriarDesafioUseCase criarDesafioUseCase;
+
+    @Mock
+    private AvaliarDesafioUseCase avaliarDesafioUseCase;
+
+    @Mock
+    private ListarTodosUseCase listarTodosUseCase;
+
+    @Mock
+    private ListarDesafiosDoColaboradorUseCase listarDesafiosDoColaboradorUseCase;
+
+    @Mock
+    private BuscarPorIdUseCase buscarPorIdUseCase;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        DesafioController controller = new DesafioController(criarDesafioUseCase, avaliarDesafioUseCase, listarTodosUseCase,
+            listarDesafiosDoColaboradorUseCase, buscarPorIdUseCase, new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new TratadorDeErros())
+            .build();
+    }
+
+    @Test
+    void deveConverterValidacaoEmBadRequestComCodigo() throws Exception {
+        when(criarDesafioUseCase.executar(any(Desafio.class))).thenThrow(ValidacaoException.LIMITE_DESAFIOS_ATINGIDO);
+
+        mockMvc.perform(post("/api/desafios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"colaborador_id\": 1, \"descricao\": \"Desafio\", \"nota\": 4}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.codigo").value("LIMITE_DESAFIOS_ATINGIDO"))
+            .andExpect(jsonPath("$.mensagem").value("Colaborador já possui 4 desafios (máximo permitido)"));
+    }
+
+    @Test
+    void deveConverterCapacidadeEsgotadaEmServicoIndisponivelComRetryAfter() throws Exception {
+        when(listarTodosUseCase.listarDesafios())
+            .thenThrow(new CapacidadeEsgotadaException(CodigoErro.LIMITE_EXPORTACOES_ATINGIDO, "Tente mais tarde"));
+
+        mockMvc.perform(get("/api/desafios"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", TratadorDeErros.ESPERA_CAPACIDADE_ESGOTADA))
+            .andExpect(jsonPath("$.codigo").value("LIMITE_EXPORTACOES_ATINGIDO"))
+            .andExpect(jsonPath("$.mensagem").value("Tente mais tarde"));
+    }
+
+    @Test
+    void deveConverterErroInesperadoEmErroInterno() throws Exception {
+        when(listarTodosUseCase.listarDesafios()).thenThrow(new IllegalStateException("Falha no banco"));
+
+        mockMvc.perform(get("/api/desafios"))
+            .andExpect(status().isInternalServerError())
+            .andExpect(jsonPath("$.codigo").value("ERRO_INTERNO"))
+            .andExpect(jsonPath("$.mensagem").value(TratadorDeErros.MENSAGEM_ERRO_INTERNO));
+    }
+
+    @Test
+    void deveManterStatusDosErrosDoSpringMvcComCorpoEstruturado() throws Exception {
+        mockMvc.perform(post("/api/desafios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{json inválido"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.codigo").value("REQUISICAO_INVALIDA"))
+            .andExpect(jsonPath("$.mensagem").exists());
+
+        mockMvc.perform(delete("/api/desafios"))
+            .andExpect(status().isMethodNotAllowed())
+            .andExpect(jsonPath("$.codigo").value("REQUISICAO_INVALIDA"));
+    }
+}
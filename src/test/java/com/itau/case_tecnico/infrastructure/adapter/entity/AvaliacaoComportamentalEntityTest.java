@@ -1,7 +1,10 @@
 package com.itau.case_tecnico.infrastructure.adapter.entity;
 
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class AvaliacaoComportamentalEntityTest {
@@ -43,10 +46,10 @@ class AvaliacaoComportamentalEntityTest {
     @Test
     void devePermitirSetarTipoENota() {
         AvaliacaoComportamentalEntity entity = new AvaliacaoComportamentalEntity();
-        entity.setTipo("Ambiente colaborativo");
+        entity.setTipo(TipoAvaliacao.AMBIENTE_COLABORATIVO);
         entity.setNota(5);
 
-        assertEquals("Ambiente colaborativo", entity.getTipo());
+        assertEquals(TipoAvaliacao.AMBIENTE_COLABORATIVO, entity.getTipo());
         assertEquals(5, entity.getNota());
     }
 
@@ -56,20 +59,20 @@ class AvaliacaoComportamentalEntityTest {
         colaborador.setId(1L);
         colaborador.setMatricula("12345");
         colaborador.setNome("Maria Santos");
-        colaborador.setDataAdmissao("2024-01-15");
+        colaborador.setDataAdmissao(LocalDate.parse("2024-01-15"));
         colaborador.setCargo("Desenvolvedora");
 
         AvaliacaoComportamentalEntity entity = new AvaliacaoComportamentalEntity();
         entity.setId(10L);
         entity.setColaborador(colaborador);
-        entity.setTipo("Aprende o tempo todo");
+        entity.setTipo(TipoAvaliacao.APRENDIZADO_CONTINUO);
         entity.setNota(4);
 
         assertAll(
             () -> assertEquals(10L, entity.getId()),
             () -> assertNotNull(entity.getColaborador()),
             () -> assertEquals("Maria Santos", entity.getColaborador().getNome()),
-            () -> assertEquals("Aprende o tempo todo", entity.getTipo()),
+            () -> assertEquals(TipoAvaliacao.APRENDIZADO_CONTINUO, entity.getTipo()),
             () -> assertEquals(4, entity.getNota())
         );
     }
@@ -77,7 +80,7 @@ class AvaliacaoComportamentalEntityTest {
     @Test
     void devePermitirNotaMinima() {
         AvaliacaoComportamentalEntity entity = new AvaliacaoComportamentalEntity();
-        entity.setTipo("Usa dados para decisões");
+        entity.setTipo(TipoAvaliacao.DECISAO_POR_DADOS);
         entity.setNota(1);
 
         assertEquals(1, entity.getNota());
@@ -86,7 +89,7 @@ class AvaliacaoComportamentalEntityTest {
     @Test
     void devePermitirNotaMaxima() {
         AvaliacaoComportamentalEntity entity = new AvaliacaoComportamentalEntity();
-        entity.setTipo("Entrega resultados sustentáveis");
+        entity.setTipo(TipoAvaliacao.AUTONOMIA);
         entity.setNota(5);
 
         assertEquals(5, entity.getNota());
@@ -94,14 +97,7 @@ class AvaliacaoComportamentalEntityTest {
 
     @Test
     void deveValidarTodosOsTiposDeAvaliacao() {
-        String[] tipos = {
-            "Ambiente colaborativo",
-            "Aprende o tempo todo",
-            "Usa dados para decisões",
-            "Entrega resultados sustentáveis"
-        };
-
-        for (String tipo : tipos) {
+        for (TipoAvaliacao tipo : TipoAvaliacao.values()) {
             AvaliacaoComportamentalEntity entity = new AvaliacaoComportamentalEntity();
             entity.setTipo(tipo);
             entity.setNota(5);
@@ -2,6 +2,8 @@ package com.itau.case_tecnico.infrastructure.adapter.entity;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ColaboradorEntityTest {
@@ -12,13 +14,13 @@ class ColaboradorEntityTest {
         entity.setId(1L);
         entity.setMatricula("12345");
         entity.setNome("João Silva");
-        entity.setDataAdmissao("2024-01-15");
+        entity.setDataAdmissao(LocalDate.parse("2024-01-15"));
         entity.setCargo("Desenvolvedor");
 
         assertEquals(1L, entity.getId());
         assertEquals("12345", entity.getMatricula());
         assertEquals("João Silva", entity.getNome());
-        assertEquals("2024-01-15", entity.getDataAdmissao());
+        assertEquals(LocalDate.parse("2024-01-15"), entity.getDataAdmissao());
         assertEquals("Desenvolvedor", entity.getCargo());
     }
 
@@ -40,13 +42,13 @@ class ColaboradorEntityTest {
         entity.setId(10L);
         entity.setMatricula("99999");
         entity.setNome("Maria Santos");
-        entity.setDataAdmissao("2024-06-20");
+        entity.setDataAdmissao(LocalDate.parse("2024-06-20"));
         entity.setCargo("Analista");
 
         assertEquals(10L, entity.getId());
         assertEquals("99999", entity.getMatricula());
         assertEquals("Maria Santos", entity.getNome());
-        assertEquals("2024-06-20", entity.getDataAdmissao());
+        assertEquals(LocalDate.parse("2024-06-20"), entity.getDataAdmissao());
         assertEquals("Analista", entity.getCargo());
     }
 }
@@ -2,6 +2,8 @@ package com.itau.case_tecnico.infrastructure.adapter.entity;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DesafioEntityTest {
@@ -12,7 +14,7 @@ class DesafioEntityTest {
         colaborador.setId(1L);
         colaborador.setMatricula("12345");
         colaborador.setNome("João Silva");
-        colaborador.setDataAdmissao("2024-01-15");
+        colaborador.setDataAdmissao(LocalDate.parse("2024-01-15"));
         colaborador.setCargo("Dev");
         
         DesafioEntity entity = new DesafioEntity();
@@ -43,7 +45,7 @@ class DesafioEntityTest {
         colaborador.setId(2L);
         colaborador.setMatricula("67890");
         colaborador.setNome("Maria Santos");
-        colaborador.setDataAdmissao("2024-02-20");
+        colaborador.setDataAdmissao(LocalDate.parse("2024-02-20"));
         colaborador.setCargo("Analista");
         
         DesafioEntity entity = new DesafioEntity();
@@ -79,7 +81,7 @@ class DesafioEntityTest {
         colaborador.setId(3L);
         colaborador.setMatricula("11111");
         colaborador.setNome("Pedro");
-        colaborador.setDataAdmissao("2024-03-10");
+        colaborador.setDataAdmissao(LocalDate.parse("2024-03-10"));
         colaborador.setCargo("Tech Lead");
         
         DesafioEntity entity = new DesafioEntity();
@@ -0,0 +1,23 @@
+package com.itau.case_tecnico.infrastructure.adapter.entity;
+
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TipoAvaliacaoConverterTest {
+
+    private final TipoAvaliacaoConverter converter = new TipoAvaliacaoConverter();
+
+    @Test
+    void deveGravarApenasOCodigoDoTipo() {
+        assertEquals((byte) 2, converter.convertToDatabaseColumn(TipoAvaliacao.APRENDIZADO_CONTINUO));
+        assertEquals(TipoAvaliacao.APRENDIZADO_CONTINUO, converter.convertToEntityAttribute((byte) 2));
+    }
+
+    @Test
+    void deveManterNulo() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
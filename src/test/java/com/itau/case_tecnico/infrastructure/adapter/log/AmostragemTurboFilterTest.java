@@ -0,0 +1,65 @@
+package com.itau.case_tecnico.infrastructure.adapter.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmostragemTurboFilterTest {
+
+    private AmostragemTurboFilter filtro;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = new LoggerContext().getLogger("com.itau.case_tecnico.Teste");
+        logger.setLevel(Level.INFO);
+        filtro = new AmostragemTurboFilter();
+        filtro.setTaxa(100);
+        filtro.start();
+    }
+
+    @Test
+    void deveAmostrarEventosPorRequisicao() {
+        long aceitos = IntStream.range(0, 10_000)
+            .mapToObj(i -> decidir(AmostragemTurboFilter.POR_REQUISICAO))
+            .filter(resposta -> resposta == FilterReply.NEUTRAL)
+            .count();
+
+        assertTrue(aceitos > 30 && aceitos < 300, "aceitos: " + aceitos);
+    }
+
+    @Test
+    void naoDeveInterferirEmEventosSemMarcador() {
+        assertEquals(FilterReply.NEUTRAL, decidir(null));
+        assertEquals(FilterReply.NEUTRAL, decidir(MarkerFactory.getMarker("OUTRO")));
+    }
+
+    @Test
+    void deveAceitarTodosComLoggerEmDebug() {
+        logger.setLevel(Level.DEBUG);
+
+        assertTrue(IntStream.range(0, 100)
+            .allMatch(i -> decidir(AmostragemTurboFilter.POR_REQUISICAO) == FilterReply.NEUTRAL));
+    }
+
+    @Test
+    void deveAceitarTodosComTaxaUm() {
+        filtro.setTaxa(1);
+
+        assertTrue(IntStream.range(0, 100)
+            .allMatch(i -> decidir(AmostragemTurboFilter.POR_REQUISICAO) == FilterReply.NEUTRAL));
+    }
+
+    private FilterReply decidir(Marker marcador) {
+        return filtro.decide(marcador, logger, Level.INFO, "mensagem {}", new Object[] {1}, null);
+    }
+}
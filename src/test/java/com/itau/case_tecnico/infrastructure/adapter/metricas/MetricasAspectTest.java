@@ -0,0 +1,102 @@
+package com.itau.case_tecnico.infrastructure.adapter.metricas;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.case_tecnico.application.usecase.BuscarColaboradoresUseCase;
+import com.itau.case_tecnico.application.usecase.BuscarPorIdUseCase;
+import com.itau.case_tecnico.application.usecase.CalcularNotaFinalUseCase;
+import com.itau.case_tecnico.application.usecase.CriarColaboradorUseCase;
+import com.itau.case_tecnico.application.usecase.ListarTodosUseCase;
+import com.itau.case_tecnico.application.usecase.RankingUseCase;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.infrastructure.adapter.controller.ColaboradorController;
+import com.itau.case_tecnico.infrastructure.adapter.dto.ColaboradorRequest;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MetricasAspectTest {
+
+    @Mock
+    private ColaboradorRepositoryPort colaboradorRepository;
+
+    @Mock
+    private CriarColaboradorUseCase criarColaboradorUseCase;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void deveMedirCasoDeUsoPorResultado() {
+        CriarColaboradorUseCase useCase = proxy(new CriarColaboradorUseCase(colaboradorRepository));
+        when(colaboradorRepository.salvar(any())).thenAnswer(invocacao -> invocacao.getArgument(0))
+            .thenThrow(new RuntimeException("Falha no banco"));
+
+        useCase.executar(new Colaborador("MAT001", "João", LocalDate.parse("2020-01-01"), "Dev"));
+        assertThrows(ValidacaoException.class, () -> useCase.executar(new Colaborador("MAT002", null, LocalDate.parse("2020-01-01"), "Dev")));
+        assertThrows(RuntimeException.class, () -> useCase.executar(new Colaborador("MAT003", "Ana", LocalDate.parse("2020-01-01"), "Dev")));
+
+        assertEquals(1, timer(MetricasAspect.CASO_DE_USO, "CriarColaboradorUseCase", MetricasAspect.SUCESSO).count());
+        assertEquals(1, timer(MetricasAspect.CASO_DE_USO, "CriarColaboradorUseCase", MetricasAspect.VALIDACAO).count());
+        assertEquals(1, timer(MetricasAspect.CASO_DE_USO, "CriarColaboradorUseCase", MetricasAspect.ERRO).count());
+    }
+
+    @Test
+    void deveClassificarEndpointPelaExcecaoPropagadaAoTratadorDeErros() {
+        ColaboradorController controller = proxy(new ColaboradorController(criarColaboradorUseCase,
+            mock(CalcularNotaFinalUseCase.class), mock(ListarTodosUseCase.class), mock(BuscarPorIdUseCase.class),
+            mock(RankingUseCase.class), mock(BuscarColaboradoresUseCase.class), new ObjectMapper()));
+        when(criarColaboradorUseCase.executar(any()))
+            .thenThrow(new ValidacaoException("Nome é obrigatório"))
+            .thenThrow(new RuntimeException("Falha no banco"));
+
+        assertThrows(ValidacaoException.class, () -> controller.criar(new ColaboradorRequest()));
+        assertThrows(RuntimeException.class, () -> controller.criar(new ColaboradorRequest()));
+
+        assertEquals(1, timer(MetricasAspect.ENDPOINT, "ColaboradorController", MetricasAspect.VALIDACAO).count());
+        assertEquals(1, timer(MetricasAspect.ENDPOINT, "ColaboradorController", MetricasAspect.ERRO).count());
+    }
+
+    @Test
+    void deveAcumularChamadasRepetidasNoMesmoTimer() {
+        CriarColaboradorUseCase useCase = proxy(new CriarColaboradorUseCase(colaboradorRepository));
+        when(colaboradorRepository.salvar(any())).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        for (int i = 0; i < 3; i++) {
+            useCase.executar(new Colaborador("MAT00" + i, "João", LocalDate.parse("2020-01-01"), "Dev"));
+        }
+
+        assertEquals(1, registry.find(MetricasAspect.CASO_DE_USO).timers().size());
+        assertEquals(3, timer(MetricasAspect.CASO_DE_USO, "CriarColaboradorUseCase", MetricasAspect.SUCESSO).count());
+    }
+
+    private <T> T proxy(T alvo) {
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(alvo);
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(new MetricasAspect(registry));
+        return fabrica.getProxy();
+    }
+
+    private Timer timer(String nome, String classe, String resultado) {
+        Timer timer = registry.find(nome).tag("classe", classe).tag("resultado", resultado).timer();
+        assertNotNull(timer, nome + " " + classe + " " + resultado);
+        return timer;
+    }
+}
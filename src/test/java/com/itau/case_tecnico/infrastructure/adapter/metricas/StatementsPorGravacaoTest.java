@@ -0,0 +1,71 @@
+package com.itau.case_tecnico.infrastructure.adapter.metricas;
+
+import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.Desafio;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
+import com.itau.case_tecnico.domain.port.AvaliacaoRepositoryPort;
+import com.itau.case_tecnico.domain.port.ColaboradorRepositoryPort;
+import com.itau.case_tecnico.domain.port.DesafioRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comandos SQL por gravação de desafio e de avaliação sobre H2, contados como em app.hibernate.statements:
+ * o INSERT e o UPDATE da nota final, sem SELECT do colaborador (entra por referência). Antes de medir, cada
+ * teste grava duas vezes para o otimizador pooled reservar o primeiro bloco de IDs; em regime, a sequência
+ * só é lida uma vez por bloco.
+ */
+@SpringBootTest
+@ActiveProfiles("teste")
+class StatementsPorGravacaoTest {
+
+    @Autowired
+    private ContadorDeStatements contador;
+
+    @Autowired
+    private ColaboradorRepositoryPort colaboradores;
+
+    @Autowired
+    private DesafioRepositoryPort desafios;
+
+    @Autowired
+    private AvaliacaoRepositoryPort avaliacoes;
+
+    private Long colaboradorId;
+
+    @BeforeEach
+    void setUp() {
+        colaboradorId = colaboradores.salvar(
+            new Colaborador("STMT-" + System.nanoTime(), "Contagem", LocalDate.parse("2020-01-01"), "Desenvolvedor")).getId();
+    }
+
+    @Test
+    void deveGravarDesafioComDoisComandos() {
+        desafios.salvar(new Desafio(colaboradorId, "Aquecimento 1", 3));
+        desafios.salvar(new Desafio(colaboradorId, "Aquecimento 2", 3));
+
+        contador.iniciar();
+        desafios.salvar(new Desafio(colaboradorId, "Desafio", 4));
+
+        assertEquals(2, contador.encerrar());
+    }
+
+    @Test
+    void deveGravarAvaliacaoComDoisComandos() {
+        avaliacoes.salvar(new AvaliacaoComportamental(colaboradorId, TipoAvaliacao.values()[0], 3));
+        avaliacoes.salvar(new AvaliacaoComportamental(colaboradorId, TipoAvaliacao.values()[1], 3));
+
+        contador.iniciar();
+        avaliacoes.salvar(new AvaliacaoComportamental(colaboradorId, TipoAvaliacao.values()[2], 4));
+
+        assertEquals(2, contador.encerrar());
+    }
+}
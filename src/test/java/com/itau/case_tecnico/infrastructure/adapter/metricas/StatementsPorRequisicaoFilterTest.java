@@ -0,0 +1,60 @@
+package com.itau.case_tecnico.infrastructure.adapter.metricas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementsPorRequisicaoFilterTest {
+
+    private ContadorDeStatements contador;
+    private SimpleMeterRegistry registry;
+    private StatementsPorRequisicaoFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        contador = new ContadorDeStatements();
+        registry = new SimpleMeterRegistry();
+        filter = new StatementsPorRequisicaoFilter(contador, registry);
+    }
+
+    @Test
+    void deveRegistrarStatementsDaRequisicaoPorPadraoDeUri() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/colaboradores/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/colaboradores/{colaborador_id}");
+            contador.inspect("select 1");
+            contador.inspect("select 2");
+        });
+
+        DistributionSummary resumo = registry.find(StatementsPorRequisicaoFilter.STATEMENTS)
+            .tag("metodo", "GET")
+            .tag("uri", "/api/colaboradores/{colaborador_id}")
+            .summary();
+        assertNotNull(resumo);
+        assertEquals(1, resumo.count());
+        assertEquals(2, resumo.totalAmount());
+    }
+
+    @Test
+    void deveAgruparRequisicoesSemPadraoDeUri() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/inexistente/123"), new MockHttpServletResponse(),
+            (req, res) -> contador.inspect("select 1"));
+
+        assertNotNull(registry.find(StatementsPorRequisicaoFilter.STATEMENTS).tag("uri", "UNKNOWN").summary());
+    }
+
+    @Test
+    void naoDeveContarStatementsForaDeRequisicao() {
+        assertEquals("select 1", contador.inspect("select 1"));
+
+        contador.iniciar();
+        assertEquals(0, contador.encerrar());
+    }
+}
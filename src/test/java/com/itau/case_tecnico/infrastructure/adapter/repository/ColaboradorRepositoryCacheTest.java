@@ -0,0 +1,131 @@
+package com.itau.case_tecnico.infrastructure.adapter.repository;
+
+import com.itau.case_tecnico.domain.model.Colaborador;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ColaboradorRepositoryCacheTest {
+
+    @Mock
+    private SpringColaboradorRepositoryAdapter delegate;
+
+    private SimpleMeterRegistry registry;
+    private ColaboradorRepositoryCache cache;
+    private Colaborador colaborador;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new ColaboradorRepositoryCache(delegate, 100, Duration.ofMinutes(5), registry);
+
+        colaborador = new Colaborador("12345", "João Silva", LocalDate.parse("2024-01-15"), "Desenvolvedor");
+        colaborador.setId(1L);
+    }
+
+    @Test
+    void deveServirSegundaBuscaPeloCache() {
+        when(delegate.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
+
+        assertTrue(cache.buscarPorId(1L).isPresent());
+        Optional<Colaborador> resultado = cache.buscarPorId(1L);
+
+        assertTrue(resultado.isPresent());
+        assertEquals("João Silva", resultado.get().getNome());
+        verify(delegate, times(1)).buscarPorId(1L);
+        assertEquals(1, consultas("hit"));
+        assertEquals(1, consultas("miss"));
+    }
+
+    @Test
+    void naoDeveGuardarColaboradorInexistente() {
+        when(delegate.buscarPorId(999L)).thenReturn(Optional.empty());
+
+        assertTrue(cache.buscarPorId(999L).isEmpty());
+        assertTrue(cache.buscarPorId(999L).isEmpty());
+
+        verify(delegate, times(2)).buscarPorId(999L);
+        assertEquals(0, registry.get("cache.size").tag("cache", "colaboradores").gauge().value());
+    }
+
+    @Test
+    void naoDeveGuardarColaboradorAguardandoConversaoDaDataDeAdmissao() {
+        Colaborador semData = new Colaborador("12345", "João Silva", null, "Desenvolvedor");
+        semData.setId(1L);
+        when(delegate.buscarPorId(1L)).thenReturn(Optional.of(semData), Optional.of(colaborador));
+
+        assertNull(cache.buscarPorId(1L).get().getDataAdmissao());
+        assertEquals(LocalDate.parse("2024-01-15"), cache.buscarPorId(1L).get().getDataAdmissao());
+
+        verify(delegate, times(2)).buscarPorId(1L);
+    }
+
+    @Test
+    void deveInvalidarEntradaAoSalvar() {
+        when(delegate.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
+        when(delegate.salvar(any(Colaborador.class))).thenReturn(colaborador);
+
+        cache.buscarPorId(1L);
+        cache.salvar(colaborador);
+        cache.buscarPorId(1L);
+
+        verify(delegate, times(2)).buscarPorId(1L);
+        verify(delegate, times(1)).salvar(colaborador);
+    }
+
+    @Test
+    void naoDeveExporInstanciaGuardadaNoCache() {
+        when(delegate.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
+
+        cache.buscarPorId(1L).get().setNome("Alterado");
+        colaborador.setNome("Alterado na origem");
+
+        assertEquals("João Silva", cache.buscarPorId(1L).get().getNome());
+    }
+
+    @Test
+    void deveDelegarConsultasNaoCacheadas() {
+        when(delegate.existePorMatricula("12345")).thenReturn(true);
+        when(delegate.buscarPorMatricula("12345")).thenReturn(Optional.of(colaborador));
+
+        assertTrue(cache.existePorMatricula("12345"));
+        assertTrue(cache.buscarPorMatricula("12345").isPresent());
+        cache.listarTodos();
+        cache.listarPagina(0L, 10);
+
+        verify(delegate, times(1)).existePorMatricula("12345");
+        verify(delegate, times(1)).buscarPorMatricula("12345");
+        verify(delegate, times(1)).listarTodos();
+        verify(delegate, times(1)).listarPagina(0L, 10);
+    }
+
+    @Test
+    void deveInvalidarEntradasAoSalvarEmLote() {
+        when(delegate.buscarPorId(1L)).thenReturn(Optional.of(colaborador));
+        when(delegate.salvarTodos(anyList())).thenReturn(List.of(colaborador));
+
+        cache.buscarPorId(1L);
+        cache.salvarTodos(List.of(colaborador));
+        cache.buscarPorId(1L);
+
+        verify(delegate, times(2)).buscarPorId(1L);
+    }
+
+    private double consultas(String resultado) {
+        return registry.get("cache.gets").tag("cache", "colaboradores").tag("result", resultado).functionCounter().count();
+    }
+}
@@ -0,0 +1,69 @@
+package com.itau.case_tecnico.infrastructure.adapter.repository;
+
+import com.itau.case_tecnico.infrastructure.adapter.entity.ColaboradorEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultaStreamingTest {
+
+    private static final String JPQL = "select c from ColaboradorEntity c order by c.id";
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<ColaboradorEntity> query;
+
+    @Test
+    void devePercorrerResultadoComFetchSizeConfiguradoEDesanexarCadaEntidade() {
+        ColaboradorEntity primeiro = new ColaboradorEntity();
+        primeiro.setId(1L);
+        ColaboradorEntity segundo = new ColaboradorEntity();
+        segundo.setId(2L);
+        when(entityManager.createQuery(JPQL, ColaboradorEntity.class)).thenReturn(query);
+        when(query.setHint(anyString(), any())).thenReturn(query);
+        when(query.getResultStream()).thenReturn(Stream.of(primeiro, segundo));
+        List<ColaboradorEntity> recebidos = new ArrayList<>();
+
+        new ConsultaStreaming(entityManager, Integer.MIN_VALUE).percorrer(JPQL, ColaboradorEntity.class, recebidos::add);
+
+        assertEquals(List.of(primeiro, segundo), recebidos);
+        verify(query, times(1)).setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE);
+        verify(query, times(1)).setHint(HibernateHints.HINT_READ_ONLY, true);
+        verify(entityManager, times(1)).detach(primeiro);
+        verify(entityManager, times(1)).detach(segundo);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void devePercorrerProjecaoEscalarSemDesanexar() {
+        TypedQuery<Object[]> linhas = mock(TypedQuery.class);
+        Object[] linha = {1L, "12345"};
+        when(entityManager.createQuery("select c.id, c.matricula from ColaboradorEntity c", Object[].class)).thenReturn(linhas);
+        when(linhas.setHint(anyString(), any())).thenReturn(linhas);
+        when(linhas.getResultStream()).thenReturn(Stream.<Object[]>of(linha));
+        List<Object[]> recebidas = new ArrayList<>();
+
+        new ConsultaStreaming(entityManager, 500).percorrerValores("select c.id, c.matricula from ColaboradorEntity c", recebidas::add);
+
+        assertEquals(1, recebidas.size());
+        assertSame(linha, recebidas.get(0));
+        verify(linhas, times(1)).setHint(HibernateHints.HINT_FETCH_SIZE, 500);
+        verify(entityManager, never()).detach(any());
+    }
+}
@@ -1,6 +1,9 @@
 package com.itau.case_tecnico.infrastructure.adapter.repository;
 
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.AvaliacaoComportamental;
+import com.itau.case_tecnico.domain.model.TipoAvaliacao;
 import com.itau.case_tecnico.infrastructure.adapter.entity.AvaliacaoComportamentalEntity;
 import com.itau.case_tecnico.infrastructure.adapter.entity.ColaboradorEntity;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,13 +12,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +41,12 @@ class SpringDataAvaliacaoComportamentalRepositoryTest {
     @Mock
     private ColaboradorJpaRepository jpaColaboradorRepository;
 
+    @Mock
+    private ConsultaStreaming consultaStreaming;
+
+    @Mock
+    private NotaFinalIncremental notaFinalIncremental;
+
     @InjectMocks
     private AvaliacaoRepositoryAdapter repository;
 
@@ -40,42 +60,82 @@ class SpringDataAvaliacaoComportamentalRepositoryTest {
         colaboradorEntity.setId(1L);
         colaboradorEntity.setMatricula("12345");
         colaboradorEntity.setNome("João Silva");
-        colaboradorEntity.setDataAdmissao("2024-01-15");
+        colaboradorEntity.setDataAdmissao(LocalDate.parse("2024-01-15"));
         colaboradorEntity.setCargo("Dev");
 
         avaliacao = new AvaliacaoComportamental();
         avaliacao.setColaboradorId(1L);
-        avaliacao.setTipo("Ambiente colaborativo");
+        avaliacao.setTipo(TipoAvaliacao.AMBIENTE_COLABORATIVO);
         avaliacao.setNota(5);
 
         entity = new AvaliacaoComportamentalEntity();
         entity.setId(1L);
         entity.setColaborador(colaboradorEntity);
-        entity.setTipo("Ambiente colaborativo");
+        entity.setTipo(TipoAvaliacao.AMBIENTE_COLABORATIVO);
         entity.setNota(5);
     }
 
     @Test
     void deveSalvarAvaliacaoComSucesso() {
-        when(jpaColaboradorRepository.findById(1L)).thenReturn(Optional.of(colaboradorEntity));
-        when(jpaRepository.save(any(AvaliacaoComportamentalEntity.class))).thenReturn(entity);
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAndFlush(any(AvaliacaoComportamentalEntity.class))).thenReturn(entity);
 
         AvaliacaoComportamental resultado = repository.salvar(avaliacao);
 
         assertNotNull(resultado);
-        assertEquals("Ambiente colaborativo", resultado.getTipo());
+        assertEquals(TipoAvaliacao.AMBIENTE_COLABORATIVO, resultado.getTipo());
         assertEquals(5, resultado.getNota());
-        verify(jpaRepository, times(1)).save(any(AvaliacaoComportamentalEntity.class));
+        verify(jpaRepository, times(1)).saveAndFlush(any(AvaliacaoComportamentalEntity.class));
+        verify(jpaColaboradorRepository, never()).findById(anyLong());
+        verify(notaFinalIncremental, times(1)).registrarAvaliacao(1L, 5);
+    }
+
+    @Test
+    void deveAjustarNotaFinalQuandoAvaliacaoExistenteForAlterada() {
+        avaliacao.setId(1L);
+        when(jpaRepository.findNotaById(1L)).thenReturn(Optional.of(3));
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAndFlush(any(AvaliacaoComportamentalEntity.class))).thenReturn(entity);
+
+        repository.salvar(avaliacao);
+
+        verify(notaFinalIncremental, times(1)).registrarNotaAvaliacao(1L, 3, 5);
+        verify(notaFinalIncremental, never()).registrarAvaliacao(anyLong(), any());
     }
 
     @Test
     void deveLancarExcecaoQuandoColaboradorNaoExiste() {
-        when(jpaColaboradorRepository.findById(999L)).thenReturn(Optional.empty());
-        
+        when(jpaColaboradorRepository.getReferenceById(999L)).thenReturn(new ColaboradorEntity());
+        when(jpaRepository.saveAndFlush(any(AvaliacaoComportamentalEntity.class))).thenThrow(new DataIntegrityViolationException("fk",
+            new SQLIntegrityConstraintViolationException("Cannot add or update a child row", "23000", 1452)));
+
         avaliacao.setColaboradorId(999L);
 
-        assertThrows(RuntimeException.class, () -> repository.salvar(avaliacao));
-        verify(jpaRepository, never()).save(any());
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> repository.salvar(avaliacao));
+        assertEquals("Colaborador não encontrado", exception.getMessage());
+        verifyNoInteractions(notaFinalIncremental);
+    }
+
+    @Test
+    void deveTraduzirTipoRepetidoDoColaboradorEmValidacao() {
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAndFlush(any(AvaliacaoComportamentalEntity.class))).thenThrow(new DataIntegrityViolationException("unique",
+            new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062)));
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> repository.salvar(avaliacao));
+        assertEquals(CodigoErro.AVALIACAO_DUPLICADA, exception.getCodigo());
+        assertEquals("Já existe avaliação do tipo: Você promove um ambiente colaborativo?", exception.getMessage());
+        verifyNoInteractions(notaFinalIncremental);
+    }
+
+    @Test
+    void devePropagarOutrasViolacoesDeIntegridade() {
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAndFlush(any(AvaliacaoComportamentalEntity.class))).thenThrow(new DataIntegrityViolationException("not null",
+            new SQLIntegrityConstraintViolationException("Column 'nota' cannot be null", "23000", 1048)));
+
+        assertThrows(DataIntegrityViolationException.class, () -> repository.salvar(avaliacao));
+        verifyNoInteractions(notaFinalIncremental);
     }
 
     @Test
@@ -86,7 +146,7 @@ class SpringDataAvaliacaoComportamentalRepositoryTest {
 
         assertFalse(resultado.isEmpty());
         assertEquals(1, resultado.size());
-        assertEquals("Ambiente colaborativo", resultado.get(0).getTipo());
+        assertEquals(TipoAvaliacao.AMBIENTE_COLABORATIVO, resultado.get(0).getTipo());
         verify(jpaRepository, times(1)).findByColaboradorId(1L);
     }
 
@@ -99,12 +159,43 @@ class SpringDataAvaliacaoComportamentalRepositoryTest {
         assertTrue(resultado.isEmpty());
     }
 
+    @Test
+    void deveListarAvaliacoesDoColaboradorEmUmaUnicaConsulta() {
+        when(jpaRepository.findByColaboradorIdViaColaborador(1L)).thenReturn(Arrays.asList(entity));
+
+        Optional<List<AvaliacaoComportamental>> resultado = repository.listarPorColaborador(1L);
+
+        assertTrue(resultado.isPresent());
+        assertEquals(1, resultado.get().size());
+        verify(jpaRepository, times(1)).findByColaboradorIdViaColaborador(1L);
+        verifyNoInteractions(jpaColaboradorRepository);
+    }
+
+    @Test
+    void deveRetornarListaVaziaQuandoColaboradorExisteSemAvaliacoes() {
+        when(jpaRepository.findByColaboradorIdViaColaborador(1L)).thenReturn(Collections.singletonList(null));
+
+        Optional<List<AvaliacaoComportamental>> resultado = repository.listarPorColaborador(1L);
+
+        assertTrue(resultado.isPresent());
+        assertTrue(resultado.get().isEmpty());
+    }
+
+    @Test
+    void deveRetornarVazioQuandoColaboradorDaListagemNaoExiste() {
+        when(jpaRepository.findByColaboradorIdViaColaborador(999L)).thenReturn(Collections.emptyList());
+
+        Optional<List<AvaliacaoComportamental>> resultado = repository.listarPorColaborador(999L);
+
+        assertTrue(resultado.isEmpty());
+    }
+
     @Test
     void deveListarTodasAvaliacoes() {
         AvaliacaoComportamentalEntity entity2 = new AvaliacaoComportamentalEntity();
         entity2.setId(2L);
         entity2.setColaborador(colaboradorEntity);
-        entity2.setTipo("Aprende o tempo todo");
+        entity2.setTipo(TipoAvaliacao.APRENDIZADO_CONTINUO);
         entity2.setNota(4);
 
         when(jpaRepository.findAll()).thenReturn(Arrays.asList(entity, entity2));
@@ -122,7 +213,67 @@ class SpringDataAvaliacaoComportamentalRepositoryTest {
         Optional<AvaliacaoComportamental> resultado = repository.buscarPorId(1L);
 
         assertTrue(resultado.isPresent());
-        assertEquals("Ambiente colaborativo", resultado.get().getTipo());
+        assertEquals(TipoAvaliacao.AMBIENTE_COLABORATIVO, resultado.get().getTipo());
         verify(jpaRepository, times(1)).findById(1L);
     }
+
+    @Test
+    void deveListarPaginaAposCursor() {
+        when(jpaRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(50))).thenReturn(Arrays.asList(entity));
+
+        List<AvaliacaoComportamental> resultado = repository.listarPagina(0L, 50);
+
+        assertEquals(1, resultado.size());
+        assertEquals(1L, resultado.get(0).getId());
+        verify(jpaRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(50));
+        verify(jpaRepository, never()).findAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void devePercorrerTodosViaCursor() {
+        doAnswer(invocation -> {
+            Consumer<Object[]> consumidor = invocation.getArgument(1);
+            consumidor.accept(new Object[]{1L, 2L, TipoAvaliacao.values()[0], 4});
+            return null;
+        }).when(consultaStreaming).percorrerValores(eq(AvaliacaoRepositoryAdapter.AVALIACOES_EM_VALORES), any(Consumer.class));
+        List<AvaliacaoComportamental> avaliacoes = new ArrayList<>();
+
+        repository.percorrerTodas(avaliacoes::add);
+
+        assertEquals(1, avaliacoes.size());
+        assertEquals(2L, avaliacoes.get(0).getColaboradorId());
+        assertEquals(TipoAvaliacao.values()[0], avaliacoes.get(0).getTipo());
+        assertEquals(4, avaliacoes.get(0).getNota());
+        verify(consultaStreaming, never()).percorrer(anyString(), any(), any(Consumer.class));
+        verify(jpaRepository, never()).findAll();
+    }
+
+    @Test
+    void deveSalvarLoteAtualizandoNotaFinalUmaVezPorColaborador() {
+        AvaliacaoComportamentalEntity outra = new AvaliacaoComportamentalEntity();
+        outra.setId(2L);
+        outra.setColaborador(colaboradorEntity);
+        outra.setTipo(TipoAvaliacao.AUTONOMIA);
+        outra.setNota(3);
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAll(anyList())).thenReturn(List.of(entity, outra));
+
+        List<AvaliacaoComportamental> resultado = repository.salvarTodas(
+            List.of(avaliacao, new AvaliacaoComportamental(1L, TipoAvaliacao.AUTONOMIA, 3)));
+
+        assertEquals(2, resultado.size());
+        verify(jpaRepository, times(1)).flush();
+        verify(notaFinalIncremental, times(1)).registrarAvaliacoes(1L, 2, 8);
+    }
+
+    @Test
+    void deveBuscarAvaliacoesDeVariosColaboradoresEmUmaConsulta() {
+        when(jpaRepository.findByColaboradorIdIn(List.of(1L, 2L))).thenReturn(List.of(entity));
+
+        List<AvaliacaoComportamental> resultado = repository.buscarPorColaboradorIds(List.of(1L, 2L));
+
+        assertEquals(1, resultado.size());
+        assertEquals(1L, resultado.get(0).getColaboradorId());
+    }
 }
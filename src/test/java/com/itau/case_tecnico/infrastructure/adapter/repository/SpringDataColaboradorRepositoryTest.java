@@ -1,20 +1,41 @@
 package com.itau.case_tecnico.infrastructure.adapter.repository;
 
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.ColaboradoresSalvos;
+import com.itau.case_tecnico.domain.model.FiltroColaboradores;
+import com.itau.case_tecnico.domain.model.OrdemColaboradores;
 import com.itau.case_tecnico.infrastructure.adapter.entity.ColaboradorEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +44,21 @@ class SpringDataColaboradorRepositoryTest {
     @Mock
     private ColaboradorJpaRepository jpaRepository;
 
+    @Mock
+    private ConsultaStreaming consultaStreaming;
+
+    @Mock
+    private NotaFinalIncremental notaFinalIncremental;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<ColaboradorEntity> consulta;
+
     @InjectMocks
     private SpringColaboradorRepositoryAdapter repository;
 
@@ -34,27 +70,41 @@ class SpringDataColaboradorRepositoryTest {
         colaborador = new Colaborador();
         colaborador.setMatricula("12345");
         colaborador.setNome("João Silva");
-        colaborador.setDataAdmissao("2024-01-15");
+        colaborador.setDataAdmissao(LocalDate.parse("2024-01-15"));
         colaborador.setCargo("Desenvolvedor");
 
         entity = new ColaboradorEntity();
         entity.setId(1L);
         entity.setMatricula("12345");
         entity.setNome("João Silva");
-        entity.setDataAdmissao("2024-01-15");
+        entity.setDataAdmissao(LocalDate.parse("2024-01-15"));
         entity.setCargo("Desenvolvedor");
     }
 
     @Test
     void deveSalvarColaboradorComSucesso() {
-        when(jpaRepository.save(any(ColaboradorEntity.class))).thenReturn(entity);
+        when(jpaRepository.saveAndFlush(any(ColaboradorEntity.class))).thenReturn(entity);
 
         Colaborador resultado = repository.salvar(colaborador);
 
         assertNotNull(resultado);
         assertEquals("João Silva", resultado.getNome());
         assertEquals("12345", resultado.getMatricula());
-        verify(jpaRepository, times(1)).save(any(ColaboradorEntity.class));
+        verify(jpaRepository, times(1)).saveAndFlush(any(ColaboradorEntity.class));
+        verify(notaFinalIncremental, times(1)).registrarColaborador(1L);
+        ArgumentCaptor<ColaboradoresSalvos> evento = ArgumentCaptor.forClass(ColaboradoresSalvos.class);
+        verify(eventos, times(1)).publishEvent(evento.capture());
+        assertEquals(1L, evento.getValue().getColaboradores().get(0).getId());
+    }
+
+    @Test
+    void naoDeveCriarNotaFinalAoAtualizarColaboradorExistente() {
+        colaborador.setId(1L);
+        when(jpaRepository.saveAndFlush(any(ColaboradorEntity.class))).thenReturn(entity);
+
+        repository.salvar(colaborador);
+
+        verifyNoInteractions(notaFinalIncremental);
     }
 
     @Test
@@ -84,7 +134,7 @@ class SpringDataColaboradorRepositoryTest {
         entity2.setId(2L);
         entity2.setMatricula("67890");
         entity2.setNome("Maria Santos");
-        entity2.setDataAdmissao("2024-02-20");
+        entity2.setDataAdmissao(LocalDate.parse("2024-02-20"));
         entity2.setCargo("Analista");
         
         when(jpaRepository.findAll()).thenReturn(Arrays.asList(entity, entity2));
@@ -137,4 +187,176 @@ class SpringDataColaboradorRepositoryTest {
         assertEquals("João Silva", resultado.get().getNome());
         verify(jpaRepository, times(1)).findByMatricula("12345");
     }
+
+    @Test
+    void deveListarPaginaAposCursor() {
+        when(jpaRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(50))).thenReturn(Arrays.asList(entity));
+
+        List<Colaborador> resultado = repository.listarPagina(0L, 50);
+
+        assertEquals(1, resultado.size());
+        assertEquals(1L, resultado.get(0).getId());
+        verify(jpaRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(50));
+        verify(jpaRepository, never()).findAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void devePercorrerTodosViaCursor() {
+        doAnswer(invocation -> {
+            Consumer<ColaboradorEntity> consumidor = invocation.getArgument(2);
+            consumidor.accept(entity);
+            return null;
+        }).when(consultaStreaming).percorrer(anyString(), eq(ColaboradorEntity.class), any(Consumer.class));
+        List<Colaborador> colaboradores = new ArrayList<>();
+
+        repository.percorrerTodos(colaboradores::add);
+
+        assertEquals(1, colaboradores.size());
+        verify(consultaStreaming, times(1)).percorrer(anyString(), eq(ColaboradorEntity.class), any(Consumer.class));
+        verify(jpaRepository, never()).findAll();
+    }
+
+    @Test
+    void deveSalvarLoteERegistrarNotaFinalDeTodos() {
+        ColaboradorEntity outra = new ColaboradorEntity();
+        outra.setId(2L);
+        outra.setMatricula("67890");
+        when(jpaRepository.saveAll(anyList())).thenReturn(List.of(entity, outra));
+
+        List<Colaborador> resultado = repository.salvarTodos(List.of(colaborador, new Colaborador("67890", "Maria", LocalDate.parse("2024-01-15"), "Dev")));
+
+        assertEquals(2, resultado.size());
+        verify(jpaRepository, times(1)).flush();
+        verify(notaFinalIncremental, times(1)).registrarColaboradores(List.of(1L, 2L));
+        ArgumentCaptor<ColaboradoresSalvos> evento = ArgumentCaptor.forClass(ColaboradoresSalvos.class);
+        verify(eventos, times(1)).publishEvent(evento.capture());
+        assertEquals(resultado, evento.getValue().getColaboradores());
+    }
+
+    @Test
+    void deveBuscarMatriculasExistentesEmUmaConsulta() {
+        when(jpaRepository.findMatriculasExistentes(List.of("12345", "67890"))).thenReturn(List.of("12345"));
+
+        Set<String> existentes = repository.existemPorMatriculas(List.of("12345", "67890"));
+
+        assertEquals(Set.of("12345"), existentes);
+        verify(jpaRepository, never()).existsByMatricula(anyString());
+    }
+
+    @Test
+    void deveTraduzirViolacaoDeMatriculaUnicaEmValidacao() {
+        when(jpaRepository.saveAndFlush(any(ColaboradorEntity.class))).thenThrow(new DataIntegrityViolationException("unique",
+            new SQLIntegrityConstraintViolationException("Duplicate entry '12345'", "23000", 1062)));
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> repository.salvar(colaborador));
+
+        assertEquals("Matrícula já cadastrada: 12345", exception.getMessage());
+        verifyNoInteractions(notaFinalIncremental);
+    }
+
+    @Test
+    void devePropagarOutrasViolacoesDeIntegridade() {
+        when(jpaRepository.saveAndFlush(any(ColaboradorEntity.class))).thenThrow(new DataIntegrityViolationException("not null",
+            new SQLIntegrityConstraintViolationException("Column 'cargo' cannot be null", "23000", 1048)));
+
+        assertThrows(DataIntegrityViolationException.class, () -> repository.salvar(colaborador));
+        verifyNoInteractions(notaFinalIncremental);
+    }
+
+    @Test
+    void deveTraduzirViolacaoDeMatriculaUnicaNoLote() {
+        when(jpaRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("unique",
+            new SQLIntegrityConstraintViolationException("Duplicate entry '12345'", "23505", 0)));
+
+        assertThrows(ValidacaoException.class, () -> repository.salvarTodos(List.of(colaborador)));
+        verifyNoInteractions(notaFinalIncremental);
+    }
+
+    @Test
+    void deveVerificarMatriculasEmLotes() {
+        List<String> matriculas = new ArrayList<>();
+        for (int i = 0; i < SpringColaboradorRepositoryAdapter.TAMANHO_LOTE_MATRICULAS + 1; i++) {
+            matriculas.add("M" + i);
+        }
+        matriculas.add("M0");
+        when(jpaRepository.findMatriculasExistentes(anyList())).thenReturn(List.of("M0"), List.of());
+
+        Set<String> existentes = repository.existemPorMatriculas(matriculas);
+
+        assertEquals(Set.of("M0"), existentes);
+        verify(jpaRepository, times(2)).findMatriculasExistentes(anyList());
+    }
+
+    @Test
+    void deveMontarConsultaSoComOsFiltrosInformados() {
+        LocalDate de = LocalDate.of(2020, 1, 1);
+
+        assertEquals("select c from ColaboradorEntity c where c.cargo = :cargo and c.id > :aposId order by c.id",
+            SpringColaboradorRepositoryAdapter.consultaFiltrada(
+                new FiltroColaboradores("Dev", null, null, OrdemColaboradores.ID), false));
+        assertEquals("select c from ColaboradorEntity c where c.dataAdmissao >= :admitidoDe and c.dataAdmissao <= :admitidoAte"
+                + " order by c.dataAdmissao, c.id",
+            SpringColaboradorRepositoryAdapter.consultaFiltrada(
+                new FiltroColaboradores(null, de, de, OrdemColaboradores.DATA_ADMISSAO), false));
+        assertEquals("select c from ColaboradorEntity c where c.cargo = :cargo and (c.dataAdmissao > :dataCursor"
+                + " or (c.dataAdmissao = :dataCursor and c.id > :aposId)) order by c.dataAdmissao, c.id",
+            SpringColaboradorRepositoryAdapter.consultaFiltrada(
+                new FiltroColaboradores("Dev", null, null, OrdemColaboradores.DATA_ADMISSAO), true));
+    }
+
+    @Test
+    void deveListarPaginaSemFiltroPeloCursorDeId() {
+        when(jpaRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(10))).thenReturn(List.of(entity));
+
+        List<Colaborador> resultado = repository.listarPagina(FiltroColaboradores.TODOS, 5L, 10);
+
+        assertEquals(1, resultado.size());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void deveListarPaginaPorDataContinuandoDaDataDoCursor() {
+        FiltroColaboradores filtro = new FiltroColaboradores("Desenvolvedor", LocalDate.of(2024, 1, 1), null,
+            OrdemColaboradores.DATA_ADMISSAO);
+        when(jpaRepository.findDataAdmissaoById(7L)).thenReturn(Optional.of(LocalDate.of(2024, 1, 10)));
+        when(entityManager.createQuery(SpringColaboradorRepositoryAdapter.consultaFiltrada(filtro, true), ColaboradorEntity.class))
+            .thenReturn(consulta);
+        when(consulta.setMaxResults(20)).thenReturn(consulta);
+        when(consulta.getResultList()).thenReturn(List.of(entity));
+
+        List<Colaborador> resultado = repository.listarPagina(filtro, 7L, 20);
+
+        assertEquals(LocalDate.parse("2024-01-15"), resultado.get(0).getDataAdmissao());
+        verify(consulta).setParameter("cargo", "Desenvolvedor");
+        verify(consulta).setParameter("admitidoDe", LocalDate.of(2024, 1, 1));
+        verify(consulta).setParameter("dataCursor", LocalDate.of(2024, 1, 10));
+        verify(consulta).setParameter("aposId", 7L);
+        verify(consulta, never()).setParameter(eq("admitidoAte"), any());
+    }
+
+    @Test
+    void deveRejeitarCursorDeColaboradorInexistenteNaOrdemPorData() {
+        FiltroColaboradores filtro = new FiltroColaboradores(null, null, null, OrdemColaboradores.DATA_ADMISSAO);
+        when(jpaRepository.findDataAdmissaoById(99L)).thenReturn(Optional.empty());
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> repository.listarPagina(filtro, 99L, 20));
+
+        assertEquals(CodigoErro.PAGINACAO_INVALIDA, exception.getCodigo());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void deveGravarDatasDeAdmissaoComUmComandoPorData() {
+        LocalDate janeiro = LocalDate.of(2020, 1, 1);
+        LocalDate marco = LocalDate.of(2021, 3, 15);
+        when(jpaRepository.atualizarDataAdmissao(janeiro, List.of(1L, 3L))).thenReturn(2);
+        when(jpaRepository.atualizarDataAdmissao(marco, List.of(2L))).thenReturn(1);
+
+        int atualizados = repository.gravarDatasAdmissao(new TreeMap<>(Map.of(1L, janeiro, 2L, marco, 3L, janeiro)));
+
+        assertEquals(3, atualizados);
+        verify(jpaRepository, times(2)).atualizarDataAdmissao(any(), anyList());
+        verify(notaFinalIncremental, times(1)).registrarAlteracoes(Set.of(1L, 2L, 3L));
+    }
 }
@@ -1,21 +1,34 @@
 package com.itau.case_tecnico.infrastructure.adapter.repository;
 
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
 import com.itau.case_tecnico.domain.model.Desafio;
 import com.itau.case_tecnico.infrastructure.adapter.entity.ColaboradorEntity;
 import com.itau.case_tecnico.infrastructure.adapter.entity.DesafioEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +40,12 @@ class SpringDataDesafioRepositoryTest {
     @Mock
     private ColaboradorJpaRepository jpaColaboradorRepository;
 
+    @Mock
+    private ConsultaStreaming consultaStreaming;
+
+    @Mock
+    private NotaFinalIncremental notaFinalIncremental;
+
     @InjectMocks
     private DesafioRepositoryAdapter repository;
 
@@ -40,7 +59,7 @@ class SpringDataDesafioRepositoryTest {
         colaboradorEntity.setId(1L);
         colaboradorEntity.setMatricula("12345");
         colaboradorEntity.setNome("João Silva");
-        colaboradorEntity.setDataAdmissao("2024-01-15");
+        colaboradorEntity.setDataAdmissao(LocalDate.parse("2024-01-15"));
         colaboradorEntity.setCargo("Dev");
 
         desafio = new Desafio();
@@ -57,25 +76,113 @@ class SpringDataDesafioRepositoryTest {
 
     @Test
     void deveSalvarDesafioComSucesso() {
-        when(jpaColaboradorRepository.findById(1L)).thenReturn(Optional.of(colaboradorEntity));
-        when(jpaRepository.save(any(DesafioEntity.class))).thenReturn(entity);
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAndFlush(any(DesafioEntity.class))).thenReturn(entity);
 
         Desafio resultado = repository.salvar(desafio);
 
         assertNotNull(resultado);
         assertEquals("Implementar API REST", resultado.getDescricao());
         assertEquals(85, resultado.getNota());
-        verify(jpaRepository, times(1)).save(any(DesafioEntity.class));
+        verify(jpaRepository, times(1)).saveAndFlush(any(DesafioEntity.class));
+        verify(jpaColaboradorRepository, never()).findById(anyLong());
+        verify(jpaRepository, never()).countByColaboradorId(anyLong());
+        InOrder ordem = inOrder(notaFinalIncremental, jpaRepository);
+        ordem.verify(notaFinalIncremental).reservarDesafio(1L, 85);
+        ordem.verify(jpaRepository).saveAndFlush(any(DesafioEntity.class));
+    }
+
+    @Test
+    void naoDeveInserirQuandoColaboradorJaTiverOMaximoDeDesafios() {
+        doThrow(ValidacaoException.LIMITE_DESAFIOS_ATINGIDO).when(notaFinalIncremental).reservarDesafio(1L, 85);
+
+        assertSame(ValidacaoException.LIMITE_DESAFIOS_ATINGIDO,
+            assertThrows(ValidacaoException.class, () -> repository.salvar(desafio)));
+        verify(jpaRepository, never()).saveAndFlush(any(DesafioEntity.class));
+    }
+
+    @Test
+    void deveAjustarNotaFinalQuandoDesafioExistenteForAvaliado() {
+        desafio.setId(1L);
+        NotaDesafioProjection anterior = mock(NotaDesafioProjection.class);
+        when(anterior.getNota()).thenReturn(3);
+        when(jpaRepository.findNotaById(1L)).thenReturn(Optional.of(anterior));
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAndFlush(any(DesafioEntity.class))).thenReturn(entity);
+
+        repository.salvar(desafio);
+
+        verify(notaFinalIncremental, times(1)).registrarNotaDesafio(1L, 3, 85);
+        verify(notaFinalIncremental, never()).reservarDesafio(anyLong(), any());
+    }
+
+    @Test
+    void naoDeveReservarVagaAoRegravarDesafioExistenteSemNota() {
+        desafio.setId(1L);
+        NotaDesafioProjection anterior = mock(NotaDesafioProjection.class);
+        when(anterior.getNota()).thenReturn(null);
+        when(jpaRepository.findNotaById(1L)).thenReturn(Optional.of(anterior));
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAndFlush(any(DesafioEntity.class))).thenReturn(entity);
+
+        repository.salvar(desafio);
+
+        verify(notaFinalIncremental, times(1)).registrarNotaDesafio(1L, null, 85);
+        verify(notaFinalIncremental, never()).reservarDesafio(anyLong(), any());
     }
 
     @Test
     void deveLancarExcecaoQuandoColaboradorNaoExiste() {
-        when(jpaColaboradorRepository.findById(999L)).thenReturn(Optional.empty());
-        
+        when(jpaColaboradorRepository.getReferenceById(999L)).thenReturn(new ColaboradorEntity());
+        when(jpaRepository.saveAndFlush(any(DesafioEntity.class))).thenThrow(new DataIntegrityViolationException("fk",
+            new SQLIntegrityConstraintViolationException("Cannot add or update a child row", "23000", 1452)));
+
         desafio.setColaboradorId(999L);
 
-        assertThrows(RuntimeException.class, () -> repository.salvar(desafio));
-        verify(jpaRepository, never()).save(any());
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> repository.salvar(desafio));
+        assertEquals("Colaborador não encontrado", exception.getMessage());
+        verify(notaFinalIncremental).reservarDesafio(999L, 85);
+        verifyNoMoreInteractions(notaFinalIncremental);
+    }
+
+    @Test
+    void devePropagarOutrasViolacoesDeIntegridade() {
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAndFlush(any(DesafioEntity.class))).thenThrow(new DataIntegrityViolationException("unique",
+            new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062)));
+
+        assertThrows(DataIntegrityViolationException.class, () -> repository.salvar(desafio));
+        verify(notaFinalIncremental).reservarDesafio(1L, 85);
+        verifyNoMoreInteractions(notaFinalIncremental);
+    }
+
+    @Test
+    void deveAtualizarSomenteANotaAjustandoNotaFinal() {
+        NotaDesafioProjection atual = mock(NotaDesafioProjection.class);
+        when(atual.getColaboradorId()).thenReturn(1L);
+        when(atual.getNota()).thenReturn(3);
+        when(jpaRepository.travarNotaPorId(10L)).thenReturn(Optional.of(atual));
+
+        Optional<Desafio> resultado = repository.atualizarNota(10L, 5);
+
+        assertTrue(resultado.isPresent());
+        assertEquals(10L, resultado.get().getId());
+        assertEquals(1L, resultado.get().getColaboradorId());
+        assertEquals(5, resultado.get().getNota());
+        assertNull(resultado.get().getDescricao());
+        verify(jpaRepository, times(1)).atualizarNota(10L, 5);
+        verify(notaFinalIncremental, times(1)).registrarNotaDesafio(1L, 3, 5);
+        verify(jpaRepository, never()).findById(anyLong());
+        verifyNoInteractions(jpaColaboradorRepository);
+    }
+
+    @Test
+    void deveRetornarVazioAoAtualizarNotaDeDesafioInexistente() {
+        when(jpaRepository.travarNotaPorId(99L)).thenReturn(Optional.empty());
+
+        assertTrue(repository.atualizarNota(99L, 5).isEmpty());
+        verify(jpaRepository, never()).atualizarNota(anyLong(), any());
+        verifyNoInteractions(notaFinalIncremental);
     }
 
     @Test
@@ -135,4 +242,115 @@ class SpringDataDesafioRepositoryTest {
         assertEquals("Implementar API REST", resultado.get().getDescricao());
         verify(jpaRepository, times(1)).findById(1L);
     }
+
+    @Test
+    void deveListarPaginaAposCursor() {
+        when(jpaRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(50))).thenReturn(Arrays.asList(entity));
+
+        List<Desafio> resultado = repository.listarPagina(0L, 50);
+
+        assertEquals(1, resultado.size());
+        assertEquals(1L, resultado.get(0).getId());
+        verify(jpaRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(50));
+        verify(jpaRepository, never()).findAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void devePercorrerTodosViaCursor() {
+        doAnswer(invocation -> {
+            Consumer<Object[]> consumidor = invocation.getArgument(1);
+            consumidor.accept(new Object[]{1L, 2L, "Desafio", null});
+            return null;
+        }).when(consultaStreaming).percorrerValores(eq(DesafioRepositoryAdapter.DESAFIOS_EM_VALORES), any(Consumer.class));
+        List<Desafio> desafios = new ArrayList<>();
+
+        repository.percorrerTodos(desafios::add);
+
+        assertEquals(1, desafios.size());
+        assertEquals(2L, desafios.get(0).getColaboradorId());
+        assertEquals("Desafio", desafios.get(0).getDescricao());
+        assertNull(desafios.get(0).getNota());
+        verify(consultaStreaming, never()).percorrer(anyString(), any(), any(Consumer.class));
+        verify(jpaRepository, never()).findAll();
+    }
+
+    @Test
+    void deveListarDesafiosDoColaboradorEmUmaUnicaConsulta() {
+        when(jpaRepository.findByColaboradorIdViaColaborador(1L)).thenReturn(Arrays.asList(entity));
+
+        Optional<List<Desafio>> resultado = repository.listarPorColaborador(1L);
+
+        assertTrue(resultado.isPresent());
+        assertEquals(1, resultado.get().size());
+        verify(jpaRepository, times(1)).findByColaboradorIdViaColaborador(1L);
+        verifyNoInteractions(jpaColaboradorRepository);
+    }
+
+    @Test
+    void deveRetornarListaVaziaQuandoColaboradorExisteSemDesafios() {
+        when(jpaRepository.findByColaboradorIdViaColaborador(1L)).thenReturn(Collections.singletonList(null));
+
+        Optional<List<Desafio>> resultado = repository.listarPorColaborador(1L);
+
+        assertTrue(resultado.isPresent());
+        assertTrue(resultado.get().isEmpty());
+    }
+
+    @Test
+    void deveRetornarVazioQuandoColaboradorNaoExiste() {
+        when(jpaRepository.findByColaboradorIdViaColaborador(999L)).thenReturn(Collections.emptyList());
+
+        Optional<List<Desafio>> resultado = repository.listarPorColaborador(999L);
+
+        assertTrue(resultado.isEmpty());
+        verifyNoInteractions(jpaColaboradorRepository);
+    }
+
+    @Test
+    void deveSalvarLoteAtualizandoNotaFinalUmaVezPorColaborador() {
+        DesafioEntity semNota = new DesafioEntity();
+        semNota.setId(2L);
+        semNota.setColaborador(colaboradorEntity);
+        semNota.setDescricao("Documentar API");
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAll(anyList())).thenReturn(List.of(entity, semNota));
+
+        List<Desafio> resultado = repository.salvarTodos(List.of(desafio, new Desafio(1L, "Documentar API", null)));
+
+        assertEquals(2, resultado.size());
+        verify(jpaRepository, times(1)).flush();
+        InOrder ordem = inOrder(notaFinalIncremental, jpaRepository);
+        ordem.verify(notaFinalIncremental, times(1)).reservarDesafios(1L, 2, 1, 85);
+        ordem.verify(jpaRepository).saveAll(anyList());
+    }
+
+    @Test
+    void deveReservarVagasDoLoteEmOrdemDeColaborador() {
+        ColaboradorEntity outro = new ColaboradorEntity();
+        outro.setId(7L);
+        DesafioEntity doOutro = new DesafioEntity();
+        doOutro.setColaborador(outro);
+        when(jpaColaboradorRepository.getReferenceById(anyLong())).thenAnswer(invocacao ->
+            invocacao.getArgument(0).equals(7L) ? outro : colaboradorEntity);
+        when(jpaRepository.saveAll(anyList())).thenReturn(List.of(doOutro, entity));
+
+        repository.salvarTodos(List.of(new Desafio(7L, "Desafio", 4), desafio));
+
+        InOrder ordem = inOrder(notaFinalIncremental);
+        ordem.verify(notaFinalIncremental).reservarDesafios(1L, 1, 1, 85);
+        ordem.verify(notaFinalIncremental).reservarDesafios(7L, 1, 1, 4);
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoColaboradorDoLoteNaoExiste() {
+        when(jpaColaboradorRepository.getReferenceById(1L)).thenReturn(colaboradorEntity);
+        when(jpaRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("fk",
+            new SQLIntegrityConstraintViolationException("Cannot add or update a child row", "23000", 1452)));
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> repository.salvarTodos(List.of(desafio)));
+        assertEquals("Colaborador não encontrado", exception.getMessage());
+        verify(notaFinalIncremental).reservarDesafios(1L, 1, 1, 85);
+        verifyNoMoreInteractions(notaFinalIncremental);
+    }
 }
@@ -0,0 +1,396 @@
+package com.itau.case_tecnico.infrastructure.adapter.repository;
+
+import com.itau.case_tecnico.application.usecase.CodigoErro;
+import com.itau.case_tecnico.application.usecase.ValidacaoException;
+import com.itau.case_tecnico.domain.model.Colaborador;
+import com.itau.case_tecnico.domain.model.NotasDoColaborador;
+import com.itau.case_tecnico.domain.model.NotasFinaisAlteradas;
+import com.itau.case_tecnico.domain.model.ResumoNotas;
+import com.itau.case_tecnico.infrastructure.adapter.entity.NotaFinalEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpringDataNotaFinalRepositoryTest {
+
+    @Mock
+    private NotaFinalJpaRepository jpaRepository;
+
+    @Mock
+    private ResumoNotasProjection projection;
+
+    @Mock
+    private RankingProjection rankingProjection;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @Mock
+    private ConsultaStreaming consultaStreaming;
+
+    @InjectMocks
+    private NotaFinalRepositoryAdapter repository;
+
+    @InjectMocks
+    private NotaFinalIncremental incremental;
+
+    private NotaFinalEntity notaFinal(Long colaboradorId) {
+        NotaFinalEntity entity = new NotaFinalEntity();
+        entity.setColaboradorId(colaboradorId);
+        entity.setQuantidadeAvaliacoes(4);
+        entity.setSomaAvaliacoes(16);
+        entity.setQuantidadeDesafios(2);
+        entity.setQuantidadeDesafiosComNota(2);
+        entity.setSomaDesafios(7);
+        return entity;
+    }
+
+    @Test
+    void deveBuscarNotaFinalMaterializadaPorChavePrimaria() {
+        when(jpaRepository.findById(1L)).thenReturn(Optional.of(notaFinal(1L)));
+
+        Optional<ResumoNotas> resultado = repository.buscarResumoPorColaboradorId(1L);
+
+        assertTrue(resultado.isPresent());
+        assertEquals(1L, resultado.get().getColaboradorId());
+        assertEquals(4, resultado.get().getQuantidadeAvaliacoes());
+        assertEquals(16, resultado.get().getSomaAvaliacoes());
+        assertEquals(2, resultado.get().getQuantidadeDesafios());
+        assertEquals(7, resultado.get().getSomaDesafios());
+        verify(jpaRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void deveRetornarVazioQuandoColaboradorNaoExiste() {
+        when(jpaRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertTrue(repository.buscarResumoPorColaboradorId(999L).isEmpty());
+    }
+
+    @Test
+    void deveDividirIdsEmLotesNaBusca() {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= NotaFinalRepositoryAdapter.TAMANHO_LOTE_IDS + 1; i++) {
+            ids.add(i);
+        }
+        when(jpaRepository.findAllById(anyIterable())).thenReturn(List.of());
+
+        repository.buscarResumosPorColaboradorIds(ids);
+
+        verify(jpaRepository, times(1)).findAllById(ids.subList(0, NotaFinalRepositoryAdapter.TAMANHO_LOTE_IDS));
+        verify(jpaRepository, times(1)).findAllById(List.of((long) NotaFinalRepositoryAdapter.TAMANHO_LOTE_IDS + 1));
+    }
+
+    @Test
+    void deveBuscarResumosPorCargo() {
+        when(jpaRepository.findByCargo("Desenvolvedor")).thenReturn(Arrays.asList(notaFinal(1L)));
+
+        List<ResumoNotas> resultado = repository.buscarResumosPorCargo("Desenvolvedor");
+
+        assertEquals(1, resultado.size());
+        assertEquals(1L, resultado.get(0).getColaboradorId());
+    }
+
+    @Test
+    void deveReconstruirTabelaInteira() {
+        when(jpaRepository.findMaiorVersao()).thenReturn(41L);
+        when(jpaRepository.excluirTodas()).thenReturn(2);
+        when(jpaRepository.inserirTodasAPartirDaFonte(42L)).thenReturn(3);
+
+        assertEquals(3, repository.reconstruirTodos());
+
+        verify(jpaRepository, times(1)).excluirTodas();
+        verify(jpaRepository, times(1)).inserirTodasAPartirDaFonte(42L);
+        verify(eventos, times(1)).publishEvent(NotasFinaisAlteradas.todas());
+    }
+
+    @Test
+    void deveConverterResumosDoRankingComCargoEVersao() {
+        when(rankingProjection.getColaboradorId()).thenReturn(1L);
+        when(rankingProjection.getQuantidadeAvaliacoes()).thenReturn(4L);
+        when(rankingProjection.getSomaAvaliacoes()).thenReturn(new BigDecimal("16"));
+        when(rankingProjection.getQuantidadeDesafios()).thenReturn(2L);
+        when(rankingProjection.getQuantidadeDesafiosComNota()).thenReturn(2L);
+        when(rankingProjection.getSomaDesafios()).thenReturn(new BigDecimal("7"));
+        when(rankingProjection.getCargo()).thenReturn("Desenvolvedor");
+        when(rankingProjection.getVersao()).thenReturn(9L);
+        when(jpaRepository.listarParaRanking()).thenReturn(Arrays.asList(rankingProjection));
+
+        List<ResumoNotas> resultado = repository.listarParaRanking();
+
+        assertEquals(1, resultado.size());
+        assertEquals("Desenvolvedor", resultado.get(0).getCargo());
+        assertEquals(9L, resultado.get(0).getVersao());
+        assertEquals(16, resultado.get(0).getSomaAvaliacoes());
+    }
+
+    @Test
+    void deveCombinarResumosComContagensPorNota() {
+        when(rankingProjection.getColaboradorId()).thenReturn(1L);
+        when(rankingProjection.getQuantidadeAvaliacoes()).thenReturn(4L);
+        when(rankingProjection.getSomaAvaliacoes()).thenReturn(16L);
+        when(rankingProjection.getQuantidadeDesafios()).thenReturn(2L);
+        when(rankingProjection.getQuantidadeDesafiosComNota()).thenReturn(2L);
+        when(rankingProjection.getSomaDesafios()).thenReturn(7L);
+        when(rankingProjection.getVersao()).thenReturn(3L);
+        when(jpaRepository.listarParaRanking()).thenReturn(List.of(rankingProjection));
+        List<ContagemPorNotaProjection> avaliacoes = List.of(contagem(1L, 4, 4L), contagem(2L, 1, 1L));
+        List<ContagemPorNotaProjection> desafios = List.of(contagem(1L, 3, 1L), contagem(1L, 4, 1L), contagem(1L, 0, 9L));
+        when(jpaRepository.contarAvaliacoesPorNota()).thenReturn(avaliacoes);
+        when(jpaRepository.contarDesafiosPorNota()).thenReturn(desafios);
+
+        List<NotasDoColaborador> resultado = repository.listarNotasPorColaborador();
+
+        assertEquals(1, resultado.size());
+        assertEquals(3L, resultado.get(0).getResumo().getVersao());
+        assertArrayEquals(new long[]{0, 0, 0, 4, 0}, resultado.get(0).getAvaliacoesPorNota());
+        assertArrayEquals(new long[]{0, 0, 1, 1, 0}, resultado.get(0).getDesafiosPorNota());
+    }
+
+    @Test
+    void deveBuscarContagensPorNotaSoDosColaboradoresInformados() {
+        when(jpaRepository.buscarParaRanking(List.of(5L))).thenReturn(List.of());
+
+        assertTrue(repository.buscarNotasPorColaborador(List.of(5L)).isEmpty());
+
+        verify(jpaRepository, times(1)).contarAvaliacoesPorNota(List.of(5L));
+        verify(jpaRepository, times(1)).contarDesafiosPorNota(List.of(5L));
+        verify(jpaRepository, never()).contarAvaliacoesPorNota();
+    }
+
+    private ContagemPorNotaProjection contagem(Long colaboradorId, int nota, long quantidade) {
+        ContagemPorNotaProjection contagem = mock(ContagemPorNotaProjection.class);
+        lenient().when(contagem.getColaboradorId()).thenReturn(colaboradorId);
+        lenient().when(contagem.getNota()).thenReturn(nota);
+        lenient().when(contagem.getQuantidade()).thenReturn(quantidade);
+        return contagem;
+    }
+
+    @Test
+    void deveDividirIdsEmLotesNaBuscaParaRanking() {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= NotaFinalRepositoryAdapter.TAMANHO_LOTE_IDS + 1; i++) {
+            ids.add(i);
+        }
+        when(jpaRepository.buscarParaRanking(any())).thenReturn(List.of());
+
+        repository.buscarParaRanking(ids);
+
+        verify(jpaRepository, times(1)).buscarParaRanking(ids.subList(0, NotaFinalRepositoryAdapter.TAMANHO_LOTE_IDS));
+        verify(jpaRepository, times(1)).buscarParaRanking(List.of((long) NotaFinalRepositoryAdapter.TAMANHO_LOTE_IDS + 1));
+    }
+
+    @Test
+    void deveBuscarVersaoPorChavePrimaria() {
+        when(jpaRepository.findVersaoById(1L)).thenReturn(Optional.of(5L));
+
+        assertEquals(Optional.of(5L), repository.buscarVersao(1L));
+        verify(jpaRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void deveConverterDivergenciasParaDominio() {
+        when(projection.getColaboradorId()).thenReturn(1L);
+        when(projection.getQuantidadeAvaliacoes()).thenReturn(4L);
+        when(projection.getSomaAvaliacoes()).thenReturn(new BigDecimal("16"));
+        when(projection.getQuantidadeDesafios()).thenReturn(2L);
+        when(projection.getQuantidadeDesafiosComNota()).thenReturn(2L);
+        when(projection.getSomaDesafios()).thenReturn(new BigDecimal("7"));
+        when(jpaRepository.listarDivergencias()).thenReturn(Arrays.asList(projection));
+
+        List<ResumoNotas> resultado = repository.listarDivergencias();
+
+        assertEquals(1, resultado.size());
+        assertEquals(16, resultado.get(0).getSomaAvaliacoes());
+        assertEquals(7, resultado.get(0).getSomaDesafios());
+    }
+
+    @Test
+    void deveCriarLinhaVaziaParaNovoColaborador() {
+        incremental.registrarColaborador(1L);
+
+        verify(jpaRepository, times(1)).inserirVazia(1L);
+        verifyNoInteractions(eventos);
+    }
+
+    @Test
+    void deveSomarAvaliacaoNaLinhaExistente() {
+        when(jpaRepository.somarAvaliacoes(1L, 1, 4)).thenReturn(1);
+
+        incremental.registrarAvaliacao(1L, 4);
+
+        verify(jpaRepository, never()).inserirAPartirDaFonte(anyLong());
+        verify(eventos, times(1)).publishEvent(argThat((NotasFinaisAlteradas e) -> e.getColaboradorId().equals(1L)));
+    }
+
+    @Test
+    void deveRecalcularLinhaQuandoNaoExistir() {
+        when(jpaRepository.somarAvaliacoes(1L, 1, 4)).thenReturn(0);
+
+        incremental.registrarAvaliacao(1L, 4);
+
+        verify(jpaRepository, times(1)).flush();
+        verify(jpaRepository, times(1)).inserirAPartirDaFonte(1L);
+    }
+
+    @Test
+    void deveReservarDesafioComNotaAteOMaximo() {
+        when(jpaRepository.somarDesafiosAteMaximo(1L, 1, 1, 3, 4)).thenReturn(1);
+
+        incremental.reservarDesafio(1L, 3);
+
+        verify(jpaRepository, times(1)).somarDesafiosAteMaximo(1L, 1, 1, 3, 4);
+        verify(jpaRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void deveRecusarDesafioQuandoColaboradorJaEstiverNoMaximo() {
+        when(jpaRepository.somarDesafiosAteMaximo(1L, 1, 1, 3, 4)).thenReturn(0);
+        when(jpaRepository.existsById(1L)).thenReturn(true);
+
+        ValidacaoException exception = assertThrows(ValidacaoException.class, () -> incremental.reservarDesafio(1L, 3));
+
+        assertEquals(CodigoErro.LIMITE_DESAFIOS_ATINGIDO, exception.getCodigo());
+        verify(jpaRepository, never()).inserirAPartirDaFonte(anyLong());
+        verifyNoInteractions(eventos);
+    }
+
+    @Test
+    void deveRecalcularLinhaAusenteAntesDeReservarDesafio() {
+        when(jpaRepository.somarDesafiosAteMaximo(1L, 1, 0, 0, 4)).thenReturn(0, 1);
+        when(jpaRepository.existsById(1L)).thenReturn(false);
+        when(jpaRepository.inserirAPartirDaFonte(1L)).thenReturn(1);
+
+        incremental.reservarDesafio(1L, null);
+
+        verify(jpaRepository, times(2)).somarDesafiosAteMaximo(1L, 1, 0, 0, 4);
+    }
+
+    @Test
+    void deveRecusarDesafioDeColaboradorInexistente() {
+        when(jpaRepository.somarDesafiosAteMaximo(99L, 1, 1, 3, 4)).thenReturn(0);
+        when(jpaRepository.existsById(99L)).thenReturn(false);
+        when(jpaRepository.inserirAPartirDaFonte(99L)).thenReturn(0);
+
+        assertSame(ValidacaoException.COLABORADOR_NAO_ENCONTRADO,
+            assertThrows(ValidacaoException.class, () -> incremental.reservarDesafio(99L, 3)));
+    }
+
+    @Test
+    void deveAjustarSomaQuandoNotaDoDesafioMudar() {
+        when(jpaRepository.ajustarNotaDesafio(1L, 0, 2)).thenReturn(1);
+
+        incremental.registrarNotaDesafio(1L, 3, 5);
+
+        verify(jpaRepository, times(1)).ajustarNotaDesafio(1L, 0, 2);
+    }
+
+    @Test
+    void deveSoIncrementarVersaoQuandoNotaNaoMudar() {
+        when(jpaRepository.incrementarVersao(1L)).thenReturn(1);
+
+        incremental.registrarNotaDesafio(1L, 3, 3);
+        incremental.registrarNotaAvaliacao(1L, 4, 4);
+
+        verify(jpaRepository, never()).ajustarNotaDesafio(anyLong(), anyInt(), anyInt());
+        verify(jpaRepository, never()).ajustarNotaAvaliacao(anyLong(), anyInt());
+        verify(jpaRepository, times(2)).incrementarVersao(1L);
+        verify(eventos, times(2)).publishEvent(any(NotasFinaisAlteradas.class));
+    }
+
+    @Test
+    void deveRecalcularQuandoLinhaAusenteAoIncrementarVersao() {
+        when(jpaRepository.incrementarVersao(1L)).thenReturn(0);
+
+        incremental.registrarAlteracao(1L);
+
+        verify(jpaRepository, times(1)).inserirAPartirDaFonte(1L);
+    }
+
+    @Test
+    void deveAjustarSomaQuandoNotaDaAvaliacaoMudar() {
+        when(jpaRepository.ajustarNotaAvaliacao(1L, -1)).thenReturn(1);
+
+        incremental.registrarNotaAvaliacao(1L, 5, 4);
+
+        verify(jpaRepository, times(1)).ajustarNotaAvaliacao(1L, -1);
+    }
+
+    @Test
+    void deveCriarLinhasVaziasEmUmaUnicaInstrucao() {
+        incremental.registrarColaboradores(Arrays.asList(1L, 2L, 3L));
+
+        verify(jpaRepository, times(1)).inserirVazias(Arrays.asList(1L, 2L, 3L));
+    }
+
+    @Test
+    void deveIncrementarVersoesEmUmaUnicaInstrucaoSemPublicarEvento() {
+        when(jpaRepository.incrementarVersoes(Arrays.asList(1L, 2L))).thenReturn(2);
+
+        incremental.registrarAlteracoes(Arrays.asList(1L, 2L));
+
+        verify(jpaRepository, times(1)).incrementarVersoes(Arrays.asList(1L, 2L));
+        verify(jpaRepository, never()).incrementarVersao(anyLong());
+        verifyNoInteractions(eventos);
+    }
+
+    @Test
+    void deveReservarVariosDesafiosDoMesmoColaboradorDeUmaVez() {
+        when(jpaRepository.somarDesafiosAteMaximo(1L, 3, 3, 12, 4)).thenReturn(1);
+
+        incremental.reservarDesafios(1L, 3, 3, 12);
+
+        verify(jpaRepository, never()).inserirAPartirDaFonte(anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void devePercorrerColaboradoresComResumoZeradoQuandoNaoHaLinha() {
+        doAnswer(invocation -> {
+            Consumer<Object[]> consumidor = invocation.getArgument(1);
+            consumidor.accept(new Object[]{1L, "111", "Ana", LocalDate.parse("2024-01-01"), "Dev", 4, 16, 2, 2, 7, 5L});
+            consumidor.accept(new Object[]{2L, "222", "Bia", LocalDate.parse("2024-02-01"), "QA", null, null, null, null, null, null});
+            return null;
+        }).when(consultaStreaming).percorrerValores(eq(NotaFinalRepositoryAdapter.NOTAS_COM_COLABORADOR), any(Consumer.class));
+        List<Colaborador> colaboradores = new ArrayList<>();
+        List<ResumoNotas> resumos = new ArrayList<>();
+
+        repository.percorrerComColaborador((colaborador, resumo) -> {
+            colaboradores.add(colaborador);
+            resumos.add(resumo);
+        });
+
+        assertEquals(1L, colaboradores.get(0).getId());
+        assertEquals("Ana", colaboradores.get(0).getNome());
+        assertEquals(LocalDate.parse("2024-01-01"), colaboradores.get(0).getDataAdmissao());
+        assertEquals(16, resumos.get(0).getSomaAvaliacoes());
+        assertEquals(7, resumos.get(0).getSomaDesafios());
+        assertEquals(5, resumos.get(0).getVersao());
+        assertEquals("Dev", resumos.get(0).getCargo());
+        assertEquals(2L, resumos.get(1).getColaboradorId());
+        assertEquals(0, resumos.get(1).getQuantidadeAvaliacoes());
+        assertEquals(0, resumos.get(1).getVersao());
+        assertEquals("QA", colaboradores.get(1).getCargo());
+    }
+}